@@ -0,0 +1,406 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.descriptors.AddressCommand;
+import de.deltaeight.libartnet.descriptors.ArtNet;
+import de.deltaeight.libartnet.descriptors.OpCode;
+import de.deltaeight.libartnet.descriptors.PortAddress;
+import de.deltaeight.libartnet.packets.ArtAddress;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Builds instances of {@link ArtAddress}.
+ * <p>
+ * By default nothing is changed: all addresses are {@link ArtAddress#NO_CHANGE}, names are empty and the command is
+ * {@link AddressCommand#AcNone}.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtAddress
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtAddressBuilder extends ArtNetPacketBuilder<ArtAddress> {
+
+    private static final byte[] OP_CODE_BYTES = OpCode.OpAddress.getBytesLittleEndian();
+
+    private final int[] inputUniverseAddresses;
+    private final int[] outputUniverseAddresses;
+
+    private int netAddress;
+    private int bindIndex;
+    private String shortName;
+    private String longName;
+    private int subnetAddress;
+    private int acnPriority;
+    private AddressCommand command;
+
+    private boolean changed;
+    private ArtAddress artAddress;
+
+    public ArtAddressBuilder() {
+        inputUniverseAddresses = new int[]{ArtAddress.NO_CHANGE, ArtAddress.NO_CHANGE, ArtAddress.NO_CHANGE,
+                ArtAddress.NO_CHANGE};
+        outputUniverseAddresses = inputUniverseAddresses.clone();
+        netAddress = ArtAddress.NO_CHANGE;
+        shortName = "";
+        longName = "";
+        subnetAddress = ArtAddress.NO_CHANGE;
+        acnPriority = ArtAddress.NO_CHANGE;
+        command = AddressCommand.AcNone;
+        changed = true;
+    }
+
+    private static byte encodeSwitch(int value) {
+        if (value == ArtAddress.NO_CHANGE) {
+            return 0x7F;
+        }
+        if (value == ArtAddress.RESET) {
+            return 0x00;
+        }
+        return (byte) (0x80 | value);
+    }
+
+    private static int decodeSwitch(byte value, int mask) {
+        if (value == 0x00) {
+            return ArtAddress.RESET;
+        }
+        if ((value & 0x80) != 0) {
+            return value & mask;
+        }
+        return ArtAddress.NO_CHANGE;
+    }
+
+    private static String decodeString(byte[] input, int from, int to) {
+
+        int end = to;
+        for (int i = from; i < to; i++) {
+            if (input[i] == 0x00) {
+                end = i;
+                break;
+            }
+        }
+
+        return new String(input, from, end - from, StandardCharsets.US_ASCII);
+    }
+
+    private static void validateSwitch(int value, int maximum, String name) {
+        if (value != ArtAddress.NO_CHANGE && value != ArtAddress.RESET && (0 > value || value > maximum)) {
+            throw new IllegalArgumentException("Illegal " + name + "!");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtAddress} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtAddress build() {
+        if (changed) {
+
+            byte[] bytes = new byte[107];
+            System.arraycopy(ArtNet.HEADER.getBytes(), 0, bytes, 0, 8);
+            System.arraycopy(OP_CODE_BYTES, 0, bytes, 8, 2);
+            System.arraycopy(ArtNet.PROTOCOL_REVISION.getBytes(), 0, bytes, 10, 2);
+
+            bytes[12] = encodeSwitch(netAddress);
+            bytes[13] = (byte) bindIndex;
+
+            byte[] shortNameBytes = shortName.getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(shortNameBytes, 0, bytes, 14, shortNameBytes.length);
+
+            byte[] longNameBytes = longName.getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(longNameBytes, 0, bytes, 32, longNameBytes.length);
+
+            for (int i = 0; i < 4; i++) {
+                bytes[96 + i] = encodeSwitch(inputUniverseAddresses[i]);
+                bytes[100 + i] = encodeSwitch(outputUniverseAddresses[i]);
+            }
+
+            bytes[104] = encodeSwitch(subnetAddress);
+            bytes[105] = (byte) (acnPriority == ArtAddress.NO_CHANGE ? 0xFF : acnPriority);
+            bytes[106] = command.getByte();
+
+            artAddress = new ArtAddress(netAddress, bindIndex, shortName, longName, inputUniverseAddresses.clone(),
+                    outputUniverseAddresses.clone(), subnetAddress, acnPriority, command, bytes);
+
+            changed = false;
+        }
+
+        return artAddress;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtAddress} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtAddress buildFromBytes(byte[] packetData) {
+        if (packetData[8] == OP_CODE_BYTES[0] && packetData[9] == OP_CODE_BYTES[1] && packetData.length >= 107) {
+
+            int[] inputUniverseAddresses = new int[4];
+            int[] outputUniverseAddresses = new int[4];
+
+            for (int i = 0; i < 4; i++) {
+                inputUniverseAddresses[i] = decodeSwitch(packetData[96 + i], 0x0F);
+                outputUniverseAddresses[i] = decodeSwitch(packetData[100 + i], 0x0F);
+            }
+
+            int acnPriority = packetData[105] & 0xFF;
+
+            return new ArtAddress(decodeSwitch(packetData[12], 0x7F), packetData[13] & 0xFF,
+                    decodeString(packetData, 14, 31), decodeString(packetData, 32, 95), inputUniverseAddresses,
+                    outputUniverseAddresses, decodeSwitch(packetData[104], 0x0F),
+                    acnPriority > 200 ? ArtAddress.NO_CHANGE : acnPriority,
+                    AddressCommand.getAddressCommand(packetData[106] & 0xFF), Arrays.copyOf(packetData, 107));
+        }
+        return null;
+    }
+
+    public int getNetAddress() {
+        return netAddress;
+    }
+
+    /**
+     * @param netAddress The net address to program ({@code 0-127}), {@link ArtAddress#NO_CHANGE} or
+     *                   {@link ArtAddress#RESET}.
+     */
+    public void setNetAddress(int netAddress) {
+        if (this.netAddress != netAddress) {
+            validateSwitch(netAddress, 127, "net address");
+            this.netAddress = netAddress;
+            changed = true;
+        }
+    }
+
+    public ArtAddressBuilder withNetAddress(int netAddress) {
+        setNetAddress(netAddress);
+        return this;
+    }
+
+    public int getBindIndex() {
+        return bindIndex;
+    }
+
+    public void setBindIndex(int bindIndex) {
+        if (this.bindIndex != bindIndex) {
+            if (0 > bindIndex || bindIndex > 255) {
+                throw new IllegalArgumentException("Illegal bind index!");
+            }
+            this.bindIndex = bindIndex;
+            changed = true;
+        }
+    }
+
+    public ArtAddressBuilder withBindIndex(int bindIndex) {
+        setBindIndex(bindIndex);
+        return this;
+    }
+
+    public String getShortName() {
+        return shortName;
+    }
+
+    /**
+     * @param shortName The short name to program, empty or {@code null} to keep the current one.
+     */
+    public void setShortName(String shortName) {
+        if (shortName == null) {
+            shortName = "";
+        }
+        shortName = shortName.substring(0, Math.min(shortName.length(), 17));
+        if (!this.shortName.equals(shortName)) {
+            this.shortName = shortName;
+            changed = true;
+        }
+    }
+
+    public ArtAddressBuilder withShortName(String shortName) {
+        setShortName(shortName);
+        return this;
+    }
+
+    public String getLongName() {
+        return longName;
+    }
+
+    /**
+     * @param longName The long name to program, empty or {@code null} to keep the current one.
+     */
+    public void setLongName(String longName) {
+        if (longName == null) {
+            longName = "";
+        }
+        longName = longName.substring(0, Math.min(longName.length(), 63));
+        if (!this.longName.equals(longName)) {
+            this.longName = longName;
+            changed = true;
+        }
+    }
+
+    public ArtAddressBuilder withLongName(String longName) {
+        setLongName(longName);
+        return this;
+    }
+
+    public int[] getInputUniverseAddresses() {
+        return inputUniverseAddresses.clone();
+    }
+
+    public int getInputUniverseAddress(int index) {
+        return inputUniverseAddresses[index];
+    }
+
+    /**
+     * @param index                The index of the input port ({@code 0-3}).
+     * @param inputUniverseAddress The universe address to program ({@code 0-15}), {@link ArtAddress#NO_CHANGE} or
+     *                             {@link ArtAddress#RESET}.
+     */
+    public void setInputUniverseAddress(int index, int inputUniverseAddress) {
+        if (inputUniverseAddresses[index] != inputUniverseAddress) {
+            validateSwitch(inputUniverseAddress, 15, "universe address");
+            inputUniverseAddresses[index] = inputUniverseAddress;
+            changed = true;
+        }
+    }
+
+    public ArtAddressBuilder withInputUniverseAddress(int index, int inputUniverseAddress) {
+        setInputUniverseAddress(index, inputUniverseAddress);
+        return this;
+    }
+
+    public int[] getOutputUniverseAddresses() {
+        return outputUniverseAddresses.clone();
+    }
+
+    public int getOutputUniverseAddress(int index) {
+        return outputUniverseAddresses[index];
+    }
+
+    /**
+     * @param index                 The index of the output port ({@code 0-3}).
+     * @param outputUniverseAddress The universe address to program ({@code 0-15}), {@link ArtAddress#NO_CHANGE} or
+     *                              {@link ArtAddress#RESET}.
+     */
+    public void setOutputUniverseAddress(int index, int outputUniverseAddress) {
+        if (outputUniverseAddresses[index] != outputUniverseAddress) {
+            validateSwitch(outputUniverseAddress, 15, "universe address");
+            outputUniverseAddresses[index] = outputUniverseAddress;
+            changed = true;
+        }
+    }
+
+    public ArtAddressBuilder withOutputUniverseAddress(int index, int outputUniverseAddress) {
+        setOutputUniverseAddress(index, outputUniverseAddress);
+        return this;
+    }
+
+    /**
+     * Programs net, subnet and universe address of an output port at once. As net and subnet are shared by all ports
+     * of a node, they are overwritten for every port.
+     *
+     * @param index       The index of the output port ({@code 0-3}).
+     * @param portAddress The 15 bit Port-Address, see {@link PortAddress}.
+     */
+    public void setOutputPortAddress(int index, int portAddress) {
+        if (!PortAddress.isValid(portAddress)) {
+            throw new IllegalArgumentException("Illegal Port-Address!");
+        }
+        setNetAddress(PortAddress.getNetAddress(portAddress));
+        setSubnetAddress(PortAddress.getSubnetAddress(portAddress));
+        setOutputUniverseAddress(index, PortAddress.getUniverseAddress(portAddress));
+    }
+
+    public ArtAddressBuilder withOutputPortAddress(int index, int portAddress) {
+        setOutputPortAddress(index, portAddress);
+        return this;
+    }
+
+    public int getSubnetAddress() {
+        return subnetAddress;
+    }
+
+    /**
+     * @param subnetAddress The subnet address to program ({@code 0-15}), {@link ArtAddress#NO_CHANGE} or
+     *                      {@link ArtAddress#RESET}.
+     */
+    public void setSubnetAddress(int subnetAddress) {
+        if (this.subnetAddress != subnetAddress) {
+            validateSwitch(subnetAddress, 15, "subnet address");
+            this.subnetAddress = subnetAddress;
+            changed = true;
+        }
+    }
+
+    public ArtAddressBuilder withSubnetAddress(int subnetAddress) {
+        setSubnetAddress(subnetAddress);
+        return this;
+    }
+
+    public int getAcnPriority() {
+        return acnPriority;
+    }
+
+    /**
+     * @param acnPriority The sACN priority to program ({@code 0-200}) or {@link ArtAddress#NO_CHANGE}.
+     */
+    public void setAcnPriority(int acnPriority) {
+        if (this.acnPriority != acnPriority) {
+            if (acnPriority != ArtAddress.NO_CHANGE && (0 > acnPriority || acnPriority > 200)) {
+                throw new IllegalArgumentException("Illegal sACN priority!");
+            }
+            this.acnPriority = acnPriority;
+            changed = true;
+        }
+    }
+
+    public ArtAddressBuilder withAcnPriority(int acnPriority) {
+        setAcnPriority(acnPriority);
+        return this;
+    }
+
+    public AddressCommand getCommand() {
+        return command;
+    }
+
+    public void setCommand(AddressCommand command) {
+        if (command == null) {
+            command = AddressCommand.AcNone;
+        }
+        if (this.command != command) {
+            this.command = command;
+            changed = true;
+        }
+    }
+
+    public ArtAddressBuilder withCommand(AddressCommand command) {
+        setCommand(command);
+        return this;
+    }
+}
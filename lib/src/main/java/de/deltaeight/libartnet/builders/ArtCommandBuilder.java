@@ -0,0 +1,170 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.descriptors.ArtNet;
+import de.deltaeight.libartnet.descriptors.OpCode;
+import de.deltaeight.libartnet.packets.ArtCommand;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Builds instances of {@link ArtCommand}.
+ * <p>
+ * Default ESTA manufacturer code is {@link ArtCommand#ESTA_MANUFACTURER_CODE_ALL}, default data is empty.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtCommand
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtCommandBuilder extends ArtNetPacketBuilder<ArtCommand> {
+
+    /**
+     * The maximum length of the commands including their terminating null character ({@code 512}).
+     */
+    public static final int MAX_DATA_LENGTH = 512;
+
+    private static final byte[] OP_CODE_BYTES = OpCode.OpCommand.getBytesLittleEndian();
+
+    private int estaManufacturerCode;
+    private String data;
+
+    private boolean changed;
+    private ArtCommand artCommand;
+
+    public ArtCommandBuilder() {
+        estaManufacturerCode = ArtCommand.ESTA_MANUFACTURER_CODE_ALL;
+        data = "";
+        changed = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtCommand} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtCommand build() {
+        if (changed) {
+
+            byte[] dataBytes = data.getBytes(StandardCharsets.US_ASCII);
+            int length = dataBytes.length + 1;
+
+            byte[] bytes = new byte[16 + length];
+            System.arraycopy(ArtNet.HEADER.getBytes(), 0, bytes, 0, 8);
+            System.arraycopy(OP_CODE_BYTES, 0, bytes, 8, 2);
+            System.arraycopy(ArtNet.PROTOCOL_REVISION.getBytes(), 0, bytes, 10, 2);
+
+            bytes[12] = (byte) (estaManufacturerCode >> 8);
+            bytes[13] = (byte) estaManufacturerCode;
+            bytes[14] = (byte) (length >> 8);
+            bytes[15] = (byte) length;
+            System.arraycopy(dataBytes, 0, bytes, 16, dataBytes.length);
+
+            artCommand = new ArtCommand(estaManufacturerCode, data, bytes);
+
+            changed = false;
+        }
+
+        return artCommand;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtCommand} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtCommand buildFromBytes(byte[] packetData) {
+        if (packetData[8] == OP_CODE_BYTES[0] && packetData[9] == OP_CODE_BYTES[1] && packetData.length >= 16) {
+
+            int length = Math.min(Math.min((packetData[14] & 0xFF) << 8 | packetData[15] & 0xFF, MAX_DATA_LENGTH),
+                    packetData.length - 16);
+
+            int end = 16;
+            while (end < 16 + length && packetData[end] != 0x00) {
+                end++;
+            }
+
+            return new ArtCommand((packetData[12] & 0xFF) << 8 | packetData[13] & 0xFF,
+                    new String(packetData, 16, end - 16, StandardCharsets.US_ASCII),
+                    Arrays.copyOf(packetData, 16 + length));
+        }
+        return null;
+    }
+
+    public int getEstaManufacturerCode() {
+        return estaManufacturerCode;
+    }
+
+    /**
+     * @param estaManufacturerCode The ESTA manufacturer code of the addressed nodes or
+     *                             {@link ArtCommand#ESTA_MANUFACTURER_CODE_ALL}.
+     */
+    public void setEstaManufacturerCode(int estaManufacturerCode) {
+        if (this.estaManufacturerCode != estaManufacturerCode) {
+            if (0 > estaManufacturerCode || estaManufacturerCode > 0xFFFF) {
+                throw new IllegalArgumentException("Illegal ESTA manufacturer code!");
+            }
+            this.estaManufacturerCode = estaManufacturerCode;
+            changed = true;
+        }
+    }
+
+    public ArtCommandBuilder withEstaManufacturerCode(int estaManufacturerCode) {
+        setEstaManufacturerCode(estaManufacturerCode);
+        return this;
+    }
+
+    public String getData() {
+        return data;
+    }
+
+    /**
+     * @param data The ASCII commands, e.g. {@code SwoutText=Playback&}, up to {@code 511} characters without null
+     *             characters.
+     */
+    public void setData(String data) {
+        if (!this.data.equals(data)) {
+            if (data == null || data.length() >= MAX_DATA_LENGTH) {
+                throw new IllegalArgumentException("Illegal data!");
+            }
+            for (int i = 0; i < data.length(); i++) {
+                if (data.charAt(i) == 0 || data.charAt(i) > 0x7F) {
+                    throw new IllegalArgumentException("Illegal data!");
+                }
+            }
+            this.data = data;
+            changed = true;
+        }
+    }
+
+    public ArtCommandBuilder withData(String data) {
+        setData(data);
+        return this;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.descriptors.ArtNet;
+import de.deltaeight.libartnet.descriptors.OpCode;
+import de.deltaeight.libartnet.descriptors.Priority;
+import de.deltaeight.libartnet.packets.ArtDiagData;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Builds instances of {@link ArtDiagData}.
+ * <p>
+ * Default priority is {@link Priority#Low}, default data is an empty message.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtDiagData
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtDiagDataBuilder extends ArtNetPacketBuilder<ArtDiagData> {
+
+    /**
+     * The maximum length of a message including its terminating null character ({@code 512}).
+     */
+    public static final int MAX_DATA_LENGTH = 512;
+
+    private static final byte[] OP_CODE_BYTES = OpCode.OpDiagData.getBytesLittleEndian();
+
+    private Priority priority;
+    private int logicalPort;
+    private String data;
+
+    private boolean changed;
+    private ArtDiagData artDiagData;
+
+    public ArtDiagDataBuilder() {
+        priority = Priority.Low;
+        data = "";
+        changed = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtDiagData} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtDiagData build() {
+        if (changed) {
+
+            byte[] dataBytes = data.getBytes(StandardCharsets.US_ASCII);
+            int length = dataBytes.length + 1;
+
+            byte[] bytes = new byte[18 + length];
+            System.arraycopy(ArtNet.HEADER.getBytes(), 0, bytes, 0, 8);
+            System.arraycopy(OP_CODE_BYTES, 0, bytes, 8, 2);
+            System.arraycopy(ArtNet.PROTOCOL_REVISION.getBytes(), 0, bytes, 10, 2);
+
+            bytes[13] = priority.getValue();
+            bytes[14] = (byte) logicalPort;
+            bytes[16] = (byte) (length >> 8);
+            bytes[17] = (byte) length;
+            System.arraycopy(dataBytes, 0, bytes, 18, dataBytes.length);
+
+            artDiagData = new ArtDiagData(priority, logicalPort, data, bytes);
+
+            changed = false;
+        }
+
+        return artDiagData;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtDiagData} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtDiagData buildFromBytes(byte[] packetData) {
+        if (packetData[8] == OP_CODE_BYTES[0] && packetData[9] == OP_CODE_BYTES[1] && packetData.length >= 18) {
+
+            int length = Math.min(getDataLength(packetData), packetData.length - 18);
+
+            int end = 18;
+            while (end < 18 + length && packetData[end] != 0x00) {
+                end++;
+            }
+
+            return new ArtDiagData(Priority.getPriority(packetData[13]), packetData[14] & 0xFF,
+                    new String(packetData, 18, end - 18, StandardCharsets.US_ASCII),
+                    Arrays.copyOf(packetData, 18 + length));
+        }
+        return null;
+    }
+
+    /**
+     * @param packetData The encoded {@link ArtDiagData} packet.
+     * @return The announced length of the message including its terminating null character, limited to
+     * {@link #MAX_DATA_LENGTH}.
+     */
+    public static int getDataLength(byte[] packetData) {
+        return Math.min((packetData[16] & 0xFF) << 8 | packetData[17] & 0xFF, MAX_DATA_LENGTH);
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        if (this.priority != priority) {
+            if (priority == null) {
+                throw new IllegalArgumentException("Illegal priority!");
+            }
+            this.priority = priority;
+            changed = true;
+        }
+    }
+
+    public ArtDiagDataBuilder withPriority(Priority priority) {
+        setPriority(priority);
+        return this;
+    }
+
+    public int getLogicalPort() {
+        return logicalPort;
+    }
+
+    /**
+     * @param logicalPort The logical port of the node the message relates to ({@code 0-255}).
+     */
+    public void setLogicalPort(int logicalPort) {
+        if (this.logicalPort != logicalPort) {
+            if (0 > logicalPort || logicalPort > 255) {
+                throw new IllegalArgumentException("Illegal logical port!");
+            }
+            this.logicalPort = logicalPort;
+            changed = true;
+        }
+    }
+
+    public ArtDiagDataBuilder withLogicalPort(int logicalPort) {
+        setLogicalPort(logicalPort);
+        return this;
+    }
+
+    public String getData() {
+        return data;
+    }
+
+    /**
+     * @param data The ASCII message, up to {@code 511} characters without null characters.
+     */
+    public void setData(String data) {
+        if (!this.data.equals(data)) {
+            if (data == null || data.length() >= MAX_DATA_LENGTH) {
+                throw new IllegalArgumentException("Illegal data!");
+            }
+            for (int i = 0; i < data.length(); i++) {
+                if (data.charAt(i) == 0 || data.charAt(i) > 0x7F) {
+                    throw new IllegalArgumentException("Illegal data!");
+                }
+            }
+            this.data = data;
+            changed = true;
+        }
+    }
+
+    public ArtDiagDataBuilder withData(String data) {
+        setData(data);
+        return this;
+    }
+}
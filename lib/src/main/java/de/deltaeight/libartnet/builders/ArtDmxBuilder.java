@@ -25,6 +25,7 @@ import java.util.Arrays;
 
 import de.deltaeight.libartnet.descriptors.ArtNet;
 import de.deltaeight.libartnet.descriptors.OpCode;
+import de.deltaeight.libartnet.descriptors.PortAddress;
 import de.deltaeight.libartnet.packets.ArtDmx;
 
 /**
@@ -78,8 +79,7 @@ public class ArtDmxBuilder extends ArtNetPacketBuilder<ArtDmx> {
 
             bytes[12] = (byte) sequence;
             bytes[13] = (byte) physical;
-            bytes[14] = (byte) (subnetAddress << 4 | universeAddress);
-            bytes[15] = (byte) netAddress;
+            PortAddress.write(getPortAddress(), bytes, 14);
             bytes[16] = (byte) (dataSize >> 8);
             bytes[17] = (byte) dataSize;
 
@@ -107,10 +107,11 @@ public class ArtDmxBuilder extends ArtNetPacketBuilder<ArtDmx> {
             byte[] data = new byte[packetData[16] << 8 | packetData[17]];
             System.arraycopy(packetData, 18, data, 0, data.length);
 
-            int subUni = packetData[14];
+            int portAddress = PortAddress.read(packetData, 14);
 
-            return new ArtDmx(packetData[12] & 0xFF, packetData[13] & 0xFF, packetData[15], (subUni & 0xFF) >>> 4,
-                    subUni & 0xF, data.clone(), packetData.clone());
+            return new ArtDmx(packetData[12] & 0xFF, packetData[13] & 0xFF, PortAddress.getNetAddress(portAddress),
+                    PortAddress.getSubnetAddress(portAddress), PortAddress.getUniverseAddress(portAddress),
+                    data.clone(), packetData.clone());
         }
         return null;
     }
@@ -210,6 +211,34 @@ public class ArtDmxBuilder extends ArtNetPacketBuilder<ArtDmx> {
         return this;
     }
 
+    /**
+     * @return The 15 bit Port-Address combining net, subnet and universe address.
+     * @see PortAddress
+     */
+    public int getPortAddress() {
+        return PortAddress.pack(netAddress, subnetAddress, universeAddress);
+    }
+
+    /**
+     * Sets net, subnet and universe address at once.
+     *
+     * @param portAddress The 15 bit Port-Address.
+     * @see PortAddress
+     */
+    public void setPortAddress(int portAddress) {
+        if (!PortAddress.isValid(portAddress)) {
+            throw new IllegalArgumentException("Illegal Port-Address!");
+        }
+        setNetAddress(PortAddress.getNetAddress(portAddress));
+        setSubnetAddress(PortAddress.getSubnetAddress(portAddress));
+        setUniverseAddress(PortAddress.getUniverseAddress(portAddress));
+    }
+
+    public ArtDmxBuilder withPortAddress(int portAddress) {
+        setPortAddress(portAddress);
+        return this;
+    }
+
     public int getDataSize() {
         return dataSize;
     }
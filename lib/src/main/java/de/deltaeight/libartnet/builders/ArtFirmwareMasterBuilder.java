@@ -0,0 +1,209 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.descriptors.ArtNet;
+import de.deltaeight.libartnet.descriptors.FirmwareMasterType;
+import de.deltaeight.libartnet.descriptors.OpCode;
+import de.deltaeight.libartnet.packets.ArtFirmwareMaster;
+
+import java.util.Arrays;
+
+/**
+ * Builds instances of {@link ArtFirmwareMaster}.
+ * <p>
+ * Default type is {@link FirmwareMasterType#FirmFirst}, default data is zeroed.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtFirmwareMaster
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtFirmwareMasterBuilder extends ArtNetPacketBuilder<ArtFirmwareMaster> {
+
+    private static final byte[] OP_CODE_BYTES = OpCode.OpFirmwareMaster.getBytesLittleEndian();
+
+    private final byte[] data;
+
+    private FirmwareMasterType type;
+    private int blockId;
+    private int firmwareLength;
+
+    private boolean changed;
+    private ArtFirmwareMaster artFirmwareMaster;
+
+    public ArtFirmwareMasterBuilder() {
+        data = new byte[ArtFirmwareMaster.BLOCK_SIZE];
+        type = FirmwareMasterType.FirmFirst;
+        changed = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtFirmwareMaster} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtFirmwareMaster build() {
+        if (changed) {
+
+            byte[] bytes = new byte[40 + ArtFirmwareMaster.BLOCK_SIZE];
+            System.arraycopy(ArtNet.HEADER.getBytes(), 0, bytes, 0, 8);
+            System.arraycopy(OP_CODE_BYTES, 0, bytes, 8, 2);
+            System.arraycopy(ArtNet.PROTOCOL_REVISION.getBytes(), 0, bytes, 10, 2);
+
+            bytes[14] = type.getByte();
+            bytes[15] = (byte) blockId;
+            bytes[16] = (byte) (firmwareLength >> 24);
+            bytes[17] = (byte) (firmwareLength >> 16);
+            bytes[18] = (byte) (firmwareLength >> 8);
+            bytes[19] = (byte) firmwareLength;
+            System.arraycopy(data, 0, bytes, 40, data.length);
+
+            artFirmwareMaster = new ArtFirmwareMaster(type, blockId, firmwareLength, data.clone(), bytes);
+
+            changed = false;
+        }
+
+        return artFirmwareMaster;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtFirmwareMaster} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtFirmwareMaster buildFromBytes(byte[] packetData) {
+        if (packetData[8] == OP_CODE_BYTES[0] && packetData[9] == OP_CODE_BYTES[1]
+                && packetData.length >= 40 + ArtFirmwareMaster.BLOCK_SIZE) {
+
+            int firmwareLength = (packetData[16] & 0xFF) << 24 | (packetData[17] & 0xFF) << 16
+                    | (packetData[18] & 0xFF) << 8 | packetData[19] & 0xFF;
+
+            return new ArtFirmwareMaster(FirmwareMasterType.getFirmwareMasterType(packetData[14] & 0xFF),
+                    packetData[15] & 0xFF, firmwareLength,
+                    Arrays.copyOfRange(packetData, 40, 40 + ArtFirmwareMaster.BLOCK_SIZE),
+                    Arrays.copyOf(packetData, 40 + ArtFirmwareMaster.BLOCK_SIZE));
+        }
+        return null;
+    }
+
+    public FirmwareMasterType getType() {
+        return type;
+    }
+
+    public void setType(FirmwareMasterType type) {
+        if (this.type != type) {
+            if (type == null) {
+                throw new IllegalArgumentException("Illegal type!");
+            }
+            this.type = type;
+            changed = true;
+        }
+    }
+
+    public ArtFirmwareMasterBuilder withType(FirmwareMasterType type) {
+        setType(type);
+        return this;
+    }
+
+    public int getBlockId() {
+        return blockId;
+    }
+
+    /**
+     * @param blockId The block counter ({@code 0-255}), starting at {@code 0} for the first block.
+     */
+    public void setBlockId(int blockId) {
+        if (this.blockId != blockId) {
+            if (0 > blockId || blockId > 255) {
+                throw new IllegalArgumentException("Illegal block ID!");
+            }
+            this.blockId = blockId;
+            changed = true;
+        }
+    }
+
+    public ArtFirmwareMasterBuilder withBlockId(int blockId) {
+        setBlockId(blockId);
+        return this;
+    }
+
+    public int getFirmwareLength() {
+        return firmwareLength;
+    }
+
+    /**
+     * @param firmwareLength The total length of the firmware in 16 bit words.
+     */
+    public void setFirmwareLength(int firmwareLength) {
+        if (this.firmwareLength != firmwareLength) {
+            if (firmwareLength < 0) {
+                throw new IllegalArgumentException("Illegal firmware length!");
+            }
+            this.firmwareLength = firmwareLength;
+            changed = true;
+        }
+    }
+
+    public ArtFirmwareMasterBuilder withFirmwareLength(int firmwareLength) {
+        setFirmwareLength(firmwareLength);
+        return this;
+    }
+
+    public byte[] getData() {
+        return data.clone();
+    }
+
+    /**
+     * @param data The bytes of the block, up to {@link ArtFirmwareMaster#BLOCK_SIZE}. Missing bytes are set to
+     *             {@code 0}.
+     */
+    public void setData(byte[] data) {
+        setData(data, 0, data == null ? 0 : data.length);
+    }
+
+    /**
+     * @param data   The buffer containing the bytes of the block.
+     * @param offset The index of the first byte to use.
+     * @param length The amount of bytes to use, up to {@link ArtFirmwareMaster#BLOCK_SIZE}. Missing bytes are set to
+     *               {@code 0}.
+     */
+    public void setData(byte[] data, int offset, int length) {
+        if (data == null || length > ArtFirmwareMaster.BLOCK_SIZE || offset < 0 || length < 0
+                || offset + length > data.length) {
+            throw new IllegalArgumentException("Illegal data!");
+        }
+        System.arraycopy(data, offset, this.data, 0, length);
+        Arrays.fill(this.data, length, this.data.length, (byte) 0);
+        changed = true;
+    }
+
+    public ArtFirmwareMasterBuilder withData(byte[] data) {
+        setData(data);
+        return this;
+    }
+}
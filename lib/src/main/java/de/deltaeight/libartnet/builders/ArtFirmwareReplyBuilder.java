@@ -0,0 +1,114 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.descriptors.ArtNet;
+import de.deltaeight.libartnet.descriptors.FirmwareReplyType;
+import de.deltaeight.libartnet.descriptors.OpCode;
+import de.deltaeight.libartnet.packets.ArtFirmwareReply;
+
+import java.util.Arrays;
+
+/**
+ * Builds instances of {@link ArtFirmwareReply}.
+ * <p>
+ * Default type is {@link FirmwareReplyType#FirmBlockGood}.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtFirmwareReply
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtFirmwareReplyBuilder extends ArtNetPacketBuilder<ArtFirmwareReply> {
+
+    private static final byte[] OP_CODE_BYTES = OpCode.OpFirmwareReply.getBytesLittleEndian();
+
+    private FirmwareReplyType type;
+
+    private boolean changed;
+    private ArtFirmwareReply artFirmwareReply;
+
+    public ArtFirmwareReplyBuilder() {
+        type = FirmwareReplyType.FirmBlockGood;
+        changed = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtFirmwareReply} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtFirmwareReply build() {
+        if (changed) {
+
+            byte[] bytes = new byte[36];
+            System.arraycopy(ArtNet.HEADER.getBytes(), 0, bytes, 0, 8);
+            System.arraycopy(OP_CODE_BYTES, 0, bytes, 8, 2);
+            System.arraycopy(ArtNet.PROTOCOL_REVISION.getBytes(), 0, bytes, 10, 2);
+
+            bytes[14] = type.getByte();
+
+            artFirmwareReply = new ArtFirmwareReply(type, bytes);
+
+            changed = false;
+        }
+
+        return artFirmwareReply;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtFirmwareReply} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtFirmwareReply buildFromBytes(byte[] packetData) {
+        if (packetData[8] == OP_CODE_BYTES[0] && packetData[9] == OP_CODE_BYTES[1] && packetData.length >= 36) {
+            return new ArtFirmwareReply(FirmwareReplyType.getFirmwareReplyType(packetData[14] & 0xFF),
+                    Arrays.copyOf(packetData, 36));
+        }
+        return null;
+    }
+
+    public FirmwareReplyType getType() {
+        return type;
+    }
+
+    public void setType(FirmwareReplyType type) {
+        if (this.type != type) {
+            if (type == null) {
+                throw new IllegalArgumentException("Illegal type!");
+            }
+            this.type = type;
+            changed = true;
+        }
+    }
+
+    public ArtFirmwareReplyBuilder withType(FirmwareReplyType type) {
+        setType(type);
+        return this;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.descriptors.ArtNet;
+import de.deltaeight.libartnet.descriptors.OpCode;
+import de.deltaeight.libartnet.packets.ArtInput;
+
+import java.util.Arrays;
+
+/**
+ * Builds instances of {@link ArtInput}.
+ * <p>
+ * Default number of ports is {@code 4}, all inputs are enabled by default.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtInput
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtInputBuilder extends ArtNetPacketBuilder<ArtInput> {
+
+    private static final byte[] OP_CODE_BYTES = OpCode.OpInput.getBytesLittleEndian();
+
+    private final boolean[] inputsDisabled;
+
+    private int bindIndex;
+    private int numberOfPorts;
+
+    private boolean changed;
+    private ArtInput artInput;
+
+    public ArtInputBuilder() {
+        inputsDisabled = new boolean[4];
+        numberOfPorts = 4;
+        changed = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtInput} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtInput build() {
+        if (changed) {
+
+            byte[] bytes = new byte[20];
+            System.arraycopy(ArtNet.HEADER.getBytes(), 0, bytes, 0, 8);
+            System.arraycopy(OP_CODE_BYTES, 0, bytes, 8, 2);
+            System.arraycopy(ArtNet.PROTOCOL_REVISION.getBytes(), 0, bytes, 10, 2);
+
+            bytes[13] = (byte) bindIndex;
+            bytes[15] = (byte) numberOfPorts;
+
+            for (int i = 0; i < 4; i++) {
+                if (inputsDisabled[i]) {
+                    bytes[16 + i] = 0x01;
+                }
+            }
+
+            artInput = new ArtInput(bindIndex, numberOfPorts, inputsDisabled.clone(), bytes);
+
+            changed = false;
+        }
+
+        return artInput;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtInput} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtInput buildFromBytes(byte[] packetData) {
+        if (packetData[8] == OP_CODE_BYTES[0] && packetData[9] == OP_CODE_BYTES[1] && packetData.length >= 20) {
+
+            boolean[] inputsDisabled = new boolean[4];
+            for (int i = 0; i < 4; i++) {
+                inputsDisabled[i] = (packetData[16 + i] & 0x01) > 0;
+            }
+
+            return new ArtInput(packetData[13] & 0xFF, (packetData[14] & 0xFF) << 8 | packetData[15] & 0xFF,
+                    inputsDisabled, Arrays.copyOf(packetData, 20));
+        }
+        return null;
+    }
+
+    public int getBindIndex() {
+        return bindIndex;
+    }
+
+    public void setBindIndex(int bindIndex) {
+        if (this.bindIndex != bindIndex) {
+            if (0 > bindIndex || bindIndex > 255) {
+                throw new IllegalArgumentException("Illegal bind index!");
+            }
+            this.bindIndex = bindIndex;
+            changed = true;
+        }
+    }
+
+    public ArtInputBuilder withBindIndex(int bindIndex) {
+        setBindIndex(bindIndex);
+        return this;
+    }
+
+    public int getNumberOfPorts() {
+        return numberOfPorts;
+    }
+
+    /**
+     * @param numberOfPorts The number of input ports of the node ({@code 0-4}).
+     */
+    public void setNumberOfPorts(int numberOfPorts) {
+        if (this.numberOfPorts != numberOfPorts) {
+            if (0 > numberOfPorts || numberOfPorts > 4) {
+                throw new IllegalArgumentException("Illegal number of ports!");
+            }
+            this.numberOfPorts = numberOfPorts;
+            changed = true;
+        }
+    }
+
+    public ArtInputBuilder withNumberOfPorts(int numberOfPorts) {
+        setNumberOfPorts(numberOfPorts);
+        return this;
+    }
+
+    public boolean[] getInputsDisabled() {
+        return inputsDisabled.clone();
+    }
+
+    public boolean isInputDisabled(int index) {
+        return inputsDisabled[index];
+    }
+
+    public void setInputDisabled(int index, boolean inputDisabled) {
+        if (inputsDisabled[index] != inputDisabled) {
+            inputsDisabled[index] = inputDisabled;
+            changed = true;
+        }
+    }
+
+    public ArtInputBuilder withInputDisabled(int index, boolean inputDisabled) {
+        setInputDisabled(index, inputDisabled);
+        return this;
+    }
+}
@@ -45,4 +45,16 @@ public abstract class ArtNetPacketBuilder<T extends ArtNetPacket> {
      * @return {@link ArtNetPacket} instance.
      */
     public abstract T buildFromBytes(byte[] packetData);
+
+    /**
+     * Builds and returns an instance of {@link ArtNetPacket} from a payload which may be padded beyond the received
+     * datagram. Builders whose packets depend on the received length override this.
+     *
+     * @param packetData The payload received via {@code UDP}.
+     * @param length     The length of the received datagram.
+     * @return {@link ArtNetPacket} instance.
+     */
+    public T buildFromBytes(byte[] packetData, int length) {
+        return buildFromBytes(packetData);
+    }
 }
@@ -21,7 +21,6 @@
 
 package de.deltaeight.libartnet.builders;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 import de.deltaeight.libartnet.descriptors.ArtNet;
@@ -274,94 +273,21 @@ public class ArtPollReplyBuilder extends ArtNetPacketBuilder<ArtPollReply> {
      */
     @Override
     public ArtPollReply buildFromBytes(byte[] packetData) {
-        if (packetData[8] == OP_CODE_BYTES[0] && packetData[9] == OP_CODE_BYTES[1]) {
-
-            return new ArtPollReply(
-                    Arrays.copyOfRange(packetData, 10, 14),
-                    packetData[16] << 8 | packetData[17] & 0xFF,
-                    packetData[18],
-                    packetData[19],
-                    OemCode.getProductByProductCode(packetData[20] << 8 | packetData[21] & 0xFF),
-                    packetData[22] & 0xFF,
-                    IndicatorState.values()[packetData[23] >> 6 & 0b00000011],
-                    PortAddressingAuthority.values()[packetData[23] >> 4 & 0b00000011],
-                    (packetData[23] & 0b00000100) > 0,
-                    (packetData[23] & 0b00000010) > 0,
-                    (packetData[23] & 0b00000001) > 0,
-                    computeStringWithNullTermination(new byte[]{packetData[25], packetData[24]}),
-                    computeStringWithNullTermination(Arrays.copyOfRange(packetData, 26, 43)),
-                    computeStringWithNullTermination(Arrays.copyOfRange(packetData, 44, 107)),
-                    computeStringWithNullTermination(Arrays.copyOfRange(packetData, 108, 173)),
-                    new PortType[]{
-                            PortType.buildFromByte(packetData[174]),
-                            PortType.buildFromByte(packetData[175]),
-                            PortType.buildFromByte(packetData[176]),
-                            PortType.buildFromByte(packetData[177])
-                    },
-                    new InputStatus[]{
-                            InputStatus.buildFromByte(packetData[178]),
-                            InputStatus.buildFromByte(packetData[179]),
-                            InputStatus.buildFromByte(packetData[180]),
-                            InputStatus.buildFromByte(packetData[181])
-                    },
-                    new OutputStatus[]{
-                            OutputStatus.buildFromByte(packetData[182]),
-                            OutputStatus.buildFromByte(packetData[183]),
-                            OutputStatus.buildFromByte(packetData[184]),
-                            OutputStatus.buildFromByte(packetData[185])
-                    },
-                    new int[]{packetData[186], packetData[187], packetData[188], packetData[189]},
-                    new int[]{packetData[190], packetData[191], packetData[192], packetData[193]},
-                    new boolean[]{
-                            (packetData[195] & 0b00000001) > 0,
-                            (packetData[195] & 0b00000010) > 0,
-                            (packetData[195] & 0b00000100) > 0,
-                            (packetData[195] & 0b00001000) > 0,
-                            (packetData[195] & 0b00010000) > 0,
-                            (packetData[195] & 0b00100000) > 0,
-                            (packetData[195] & 0b01000000) > 0,
-                            (packetData[195] & 0b10000000) > 0
-                    },
-                    new boolean[]{
-                            (packetData[196] & 0b00000001) > 0,
-                            (packetData[196] & 0b00000010) > 0,
-                            (packetData[196] & 0b00000100) > 0,
-                            (packetData[196] & 0b00001000) > 0,
-                            (packetData[196] & 0b00010000) > 0,
-                            (packetData[196] & 0b00100000) > 0,
-                            (packetData[196] & 0b01000000) > 0,
-                            (packetData[196] & 0b10000000) > 0
-                    },
-                    EquipmentStyle.getEquipmentStyle(packetData[200]),
-                    Arrays.copyOfRange(packetData, 201, 207),
-                    Arrays.copyOfRange(packetData, 207, 211),
-                    packetData[211] & 0xFF,
-                    (packetData[212] & 0b00000001) > 0,
-                    (packetData[212] & 0b00000010) > 0,
-                    (packetData[212] & 0b00000100) > 0,
-                    (packetData[212] & 0b00001000) > 0,
-                    (packetData[212] & 0b00010000) > 0,
-                    (packetData[212] & 0b00100000) > 0,
-                    packetData);
-        }
-        return null;
+        return buildFromBytes(packetData, packetData.length);
     }
 
-    private String computeStringWithNullTermination(byte[] input) {
-
-        int nullIndex = -1;
-        for (int i = 0; i < input.length; i++) {
-            if(input[i] == 0x00) {
-                nullIndex = i;
-                break;
-            }
-        }
-
-        if(nullIndex > -1) {
-            return new String(Arrays.copyOfRange(input, 0, nullIndex), StandardCharsets.US_ASCII);
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtPollReply} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtPollReply buildFromBytes(byte[] packetData, int length) {
+        if (packetData[8] == OP_CODE_BYTES[0] && packetData[9] == OP_CODE_BYTES[1]) {
+            return new ArtPollReply(packetData, length);
         }
-
-        return new String(input, StandardCharsets.US_ASCII);
+        return null;
     }
 
     public byte[] getIpAddress() {
@@ -0,0 +1,183 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.descriptors.ArtNet;
+import de.deltaeight.libartnet.descriptors.OpCode;
+import de.deltaeight.libartnet.descriptors.PortAddress;
+import de.deltaeight.libartnet.descriptors.Rdm;
+import de.deltaeight.libartnet.packets.ArtRdm;
+
+import java.util.Arrays;
+
+/**
+ * Builds instances of {@link ArtRdm}.
+ * <p>
+ * The RDM message is set in its encoded form without start code, e.g. written by
+ * {@link Rdm#writeMessage(byte[], int, long, long, int, int, int, int, int, byte[])}. Default command is
+ * {@code ArProcess} ({@code 0x00}).
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtRdm
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtRdmBuilder extends ArtNetPacketBuilder<ArtRdm> {
+
+    private static final byte[] OP_CODE_BYTES = OpCode.OpRdm.getBytesLittleEndian();
+    private static final int RDM_VERSION = 0x01;
+
+    private int portAddress;
+    private int command;
+    private byte[] rdmPacket;
+
+    private boolean changed;
+    private ArtRdm artRdm;
+
+    public ArtRdmBuilder() {
+        rdmPacket = new byte[0];
+        changed = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtRdm} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtRdm build() {
+        if (changed) {
+
+            byte[] bytes = new byte[24 + rdmPacket.length];
+            System.arraycopy(ArtNet.HEADER.getBytes(), 0, bytes, 0, 8);
+            System.arraycopy(OP_CODE_BYTES, 0, bytes, 8, 2);
+            System.arraycopy(ArtNet.PROTOCOL_REVISION.getBytes(), 0, bytes, 10, 2);
+
+            bytes[12] = RDM_VERSION;
+            bytes[21] = (byte) PortAddress.getNetAddress(portAddress);
+            bytes[22] = (byte) command;
+            bytes[23] = (byte) portAddress;
+            System.arraycopy(rdmPacket, 0, bytes, 24, rdmPacket.length);
+
+            artRdm = new ArtRdm(RDM_VERSION, portAddress, command, rdmPacket.clone(), bytes);
+
+            changed = false;
+        }
+
+        return artRdm;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtRdm} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtRdm buildFromBytes(byte[] packetData) {
+        if (packetData[8] == OP_CODE_BYTES[0] && packetData[9] == OP_CODE_BYTES[1] && packetData.length >= 24) {
+
+            int rdmLength = packetData.length > 25
+                    ? Math.min(Rdm.getLength(packetData, 24), packetData.length - 24)
+                    : packetData.length - 24;
+
+            return new ArtRdm(packetData[12] & 0xFF, (packetData[21] & 0x7F) << 8 | packetData[23] & 0xFF,
+                    packetData[22] & 0xFF, Arrays.copyOfRange(packetData, 24, 24 + rdmLength),
+                    Arrays.copyOf(packetData, 24 + rdmLength));
+        }
+        return null;
+    }
+
+    /**
+     * @return The 15 bit Port-Address combining net and address.
+     * @see PortAddress
+     */
+    public int getPortAddress() {
+        return portAddress;
+    }
+
+    public void setPortAddress(int portAddress) {
+        if (this.portAddress != portAddress) {
+            if (!PortAddress.isValid(portAddress)) {
+                throw new IllegalArgumentException("Illegal Port-Address!");
+            }
+            this.portAddress = portAddress;
+            changed = true;
+        }
+    }
+
+    public ArtRdmBuilder withPortAddress(int portAddress) {
+        setPortAddress(portAddress);
+        return this;
+    }
+
+    public int getCommand() {
+        return command;
+    }
+
+    public void setCommand(int command) {
+        if (this.command != command) {
+            if (0 > command || command > 255) {
+                throw new IllegalArgumentException("Illegal command!");
+            }
+            this.command = command;
+            changed = true;
+        }
+    }
+
+    public ArtRdmBuilder withCommand(int command) {
+        setCommand(command);
+        return this;
+    }
+
+    /**
+     * @return The RDM message without start code.
+     */
+    public byte[] getRdmPacket() {
+        return rdmPacket.clone();
+    }
+
+    /**
+     * @param rdmPacket The RDM message without start code, up to {@link Rdm#MAX_LENGTH} bytes.
+     */
+    public void setRdmPacket(byte[] rdmPacket) {
+        if (rdmPacket == null) {
+            rdmPacket = new byte[0];
+        }
+
+        if (rdmPacket.length > Rdm.MAX_LENGTH) {
+            throw new IllegalArgumentException("RDM packet too large!");
+        }
+
+        if (!Arrays.equals(this.rdmPacket, rdmPacket)) {
+            this.rdmPacket = rdmPacket.clone();
+            changed = true;
+        }
+    }
+
+    public ArtRdmBuilder withRdmPacket(byte[] rdmPacket) {
+        setRdmPacket(rdmPacket);
+        return this;
+    }
+}
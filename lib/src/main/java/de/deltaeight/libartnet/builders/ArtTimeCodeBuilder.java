@@ -101,6 +101,79 @@ public class ArtTimeCodeBuilder extends ArtNetPacketBuilder<ArtTimeCode> {
         return null;
     }
 
+    /**
+     * Advances the timecode encoded in {@code buffer} by one frame in place, e.g. to send consecutive frames from a
+     * single buffer without creating any objects.
+     * <p>
+     * Frames, seconds, minutes and hours roll over according to the {@link TimeCodeType} at byte {@code 18}, skipping
+     * frames {@code 0} and {@code 1} at the start of each minute except every tenth for {@link TimeCodeType#DF}. The
+     * timecode following {@code 23:59:59} wraps to midnight.
+     *
+     * @param buffer The encoded {@link ArtTimeCode}, e.g. written by {@link #writeTo(byte[])}.
+     */
+    public static void incrementFrame(byte[] buffer) {
+
+        if (buffer.length < 19) {
+            throw new IllegalArgumentException("Illegal buffer length!");
+        }
+
+        TimeCodeType type = TimeCodeType.getTimeCodeType(buffer[18]);
+
+        int frames = buffer[14] + 1;
+        int seconds = buffer[15];
+        int minutes = buffer[16];
+        int hours = buffer[17];
+
+        if (frames >= type.getFramesPerSecond()) {
+            frames = 0;
+            if (++seconds > 59) {
+                seconds = 0;
+                if (++minutes > 59) {
+                    minutes = 0;
+                    if (++hours > 23) {
+                        hours = 0;
+                    }
+                }
+                if (type.isDropFrame() && minutes % 10 != 0) {
+                    frames = 2;
+                }
+            }
+        }
+
+        buffer[14] = (byte) frames;
+        buffer[15] = (byte) seconds;
+        buffer[16] = (byte) minutes;
+        buffer[17] = (byte) hours;
+    }
+
+    /**
+     * Writes the current values as encoded {@link ArtTimeCode} into {@code buffer} without creating any objects.
+     *
+     * @param buffer The buffer to write to, at least {@code 19} bytes long.
+     * @return {@code buffer}.
+     * @see #incrementFrame(byte[])
+     */
+    public byte[] writeTo(byte[] buffer) {
+
+        if (buffer.length < 19) {
+            throw new IllegalArgumentException("Illegal buffer length!");
+        }
+
+        System.arraycopy(ArtNet.HEADER.getBytes(), 0, buffer, 0, 8);
+        System.arraycopy(OP_CODE_BYTES, 0, buffer, 8, 2);
+        System.arraycopy(ArtNet.PROTOCOL_REVISION.getBytes(), 0, buffer, 10, 2);
+
+        buffer[12] = 0x00;
+        buffer[13] = 0x00;
+        buffer[14] = (byte) frames;
+        buffer[15] = (byte) seconds;
+        buffer[16] = (byte) minutes;
+        buffer[17] = (byte) hours;
+        buffer[18] = type.getByte();
+
+        return buffer;
+    }
+
     public TimeCodeType getType() {
         return type;
     }
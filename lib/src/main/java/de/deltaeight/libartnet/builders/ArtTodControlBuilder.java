@@ -0,0 +1,142 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.descriptors.ArtNet;
+import de.deltaeight.libartnet.descriptors.OpCode;
+import de.deltaeight.libartnet.descriptors.PortAddress;
+import de.deltaeight.libartnet.descriptors.TodControlCommand;
+import de.deltaeight.libartnet.packets.ArtTodControl;
+
+import java.util.Arrays;
+
+/**
+ * Builds instances of {@link ArtTodControl}.
+ * <p>
+ * Default {@link TodControlCommand} is {@link TodControlCommand#AtcNone}.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtTodControl
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtTodControlBuilder extends ArtNetPacketBuilder<ArtTodControl> {
+
+    private static final byte[] OP_CODE_BYTES = OpCode.OpTodControl.getBytesLittleEndian();
+
+    private int portAddress;
+    private TodControlCommand command;
+
+    private boolean changed;
+    private ArtTodControl artTodControl;
+
+    public ArtTodControlBuilder() {
+        command = TodControlCommand.AtcNone;
+        changed = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtTodControl} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtTodControl build() {
+        if (changed) {
+
+            byte[] bytes = new byte[24];
+            System.arraycopy(ArtNet.HEADER.getBytes(), 0, bytes, 0, 8);
+            System.arraycopy(OP_CODE_BYTES, 0, bytes, 8, 2);
+            System.arraycopy(ArtNet.PROTOCOL_REVISION.getBytes(), 0, bytes, 10, 2);
+
+            bytes[21] = (byte) PortAddress.getNetAddress(portAddress);
+            bytes[22] = command.getByte();
+            bytes[23] = (byte) portAddress;
+
+            artTodControl = new ArtTodControl(portAddress, command, bytes);
+
+            changed = false;
+        }
+
+        return artTodControl;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtTodControl} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtTodControl buildFromBytes(byte[] packetData) {
+        if (packetData[8] == OP_CODE_BYTES[0] && packetData[9] == OP_CODE_BYTES[1] && packetData.length >= 24) {
+
+            return new ArtTodControl((packetData[21] & 0x7F) << 8 | packetData[23] & 0xFF,
+                    TodControlCommand.getTodControlCommand(packetData[22]), Arrays.copyOf(packetData, 24));
+        }
+        return null;
+    }
+
+    /**
+     * @return The 15 bit Port-Address combining net and address.
+     * @see PortAddress
+     */
+    public int getPortAddress() {
+        return portAddress;
+    }
+
+    public void setPortAddress(int portAddress) {
+        if (this.portAddress != portAddress) {
+            if (!PortAddress.isValid(portAddress)) {
+                throw new IllegalArgumentException("Illegal Port-Address!");
+            }
+            this.portAddress = portAddress;
+            changed = true;
+        }
+    }
+
+    public ArtTodControlBuilder withPortAddress(int portAddress) {
+        setPortAddress(portAddress);
+        return this;
+    }
+
+    public TodControlCommand getCommand() {
+        return command;
+    }
+
+    public void setCommand(TodControlCommand command) {
+        if (command == null) {
+            command = TodControlCommand.AtcNone;
+        }
+        if (this.command != command) {
+            this.command = command;
+            changed = true;
+        }
+    }
+
+    public ArtTodControlBuilder withCommand(TodControlCommand command) {
+        setCommand(command);
+        return this;
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.descriptors.ArtNet;
+import de.deltaeight.libartnet.descriptors.OpCode;
+import de.deltaeight.libartnet.descriptors.PortAddress;
+import de.deltaeight.libartnet.descriptors.Rdm;
+import de.deltaeight.libartnet.packets.ArtTodData;
+
+import java.util.Arrays;
+
+/**
+ * Builds instances of {@link ArtTodData}.
+ * <p>
+ * Default port is {@code 1}, default command response is {@link ArtTodData#COMMAND_RESPONSE_TOD_FULL}.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtTodData
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtTodDataBuilder extends ArtNetPacketBuilder<ArtTodData> {
+
+    private static final byte[] OP_CODE_BYTES = OpCode.OpTodData.getBytesLittleEndian();
+    private static final int RDM_VERSION = 0x01;
+
+    private int port;
+    private int bindIndex;
+    private int portAddress;
+    private int commandResponse;
+    private int uidTotal;
+    private int blockCount;
+    private long[] uids;
+
+    private boolean changed;
+    private ArtTodData artTodData;
+
+    public ArtTodDataBuilder() {
+        port = 1;
+        uids = new long[0];
+        changed = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtTodData} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtTodData build() {
+        if (changed) {
+
+            byte[] bytes = new byte[28 + 6 * uids.length];
+            System.arraycopy(ArtNet.HEADER.getBytes(), 0, bytes, 0, 8);
+            System.arraycopy(OP_CODE_BYTES, 0, bytes, 8, 2);
+            System.arraycopy(ArtNet.PROTOCOL_REVISION.getBytes(), 0, bytes, 10, 2);
+
+            bytes[12] = RDM_VERSION;
+            bytes[13] = (byte) port;
+            bytes[20] = (byte) bindIndex;
+            bytes[21] = (byte) PortAddress.getNetAddress(portAddress);
+            bytes[22] = (byte) commandResponse;
+            bytes[23] = (byte) portAddress;
+            bytes[24] = (byte) (uidTotal >> 8);
+            bytes[25] = (byte) uidTotal;
+            bytes[26] = (byte) blockCount;
+            bytes[27] = (byte) uids.length;
+
+            for (int i = 0; i < uids.length; i++) {
+                Rdm.writeUid(uids[i], bytes, 28 + 6 * i);
+            }
+
+            artTodData = new ArtTodData(RDM_VERSION, port, bindIndex, portAddress, commandResponse, uidTotal,
+                    blockCount, uids.clone(), bytes);
+
+            changed = false;
+        }
+
+        return artTodData;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtTodData} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtTodData buildFromBytes(byte[] packetData) {
+        if (packetData[8] == OP_CODE_BYTES[0] && packetData[9] == OP_CODE_BYTES[1] && packetData.length >= 28
+                && 28 + 6 * (packetData[27] & 0xFF) <= packetData.length) {
+
+            long[] uids = new long[Math.min(packetData[27] & 0xFF, 200)];
+            for (int i = 0; i < uids.length; i++) {
+                uids[i] = Rdm.readUid(packetData, 28 + 6 * i);
+            }
+
+            return new ArtTodData(packetData[12] & 0xFF, packetData[13] & 0xFF, packetData[20] & 0xFF,
+                    (packetData[21] & 0x7F) << 8 | packetData[23] & 0xFF, packetData[22] & 0xFF,
+                    (packetData[24] & 0xFF) << 8 | packetData[25] & 0xFF, packetData[26] & 0xFF, uids,
+                    Arrays.copyOf(packetData, 28 + 6 * uids.length));
+        }
+        return null;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        if (this.port != port) {
+            if (1 > port || port > 4) {
+                throw new IllegalArgumentException("Illegal port!");
+            }
+            this.port = port;
+            changed = true;
+        }
+    }
+
+    public ArtTodDataBuilder withPort(int port) {
+        setPort(port);
+        return this;
+    }
+
+    public int getBindIndex() {
+        return bindIndex;
+    }
+
+    public void setBindIndex(int bindIndex) {
+        if (this.bindIndex != bindIndex) {
+            if (0 > bindIndex || bindIndex > 255) {
+                throw new IllegalArgumentException("Illegal bind index!");
+            }
+            this.bindIndex = bindIndex;
+            changed = true;
+        }
+    }
+
+    public ArtTodDataBuilder withBindIndex(int bindIndex) {
+        setBindIndex(bindIndex);
+        return this;
+    }
+
+    /**
+     * @return The 15 bit Port-Address combining net and address.
+     * @see PortAddress
+     */
+    public int getPortAddress() {
+        return portAddress;
+    }
+
+    public void setPortAddress(int portAddress) {
+        if (this.portAddress != portAddress) {
+            if (!PortAddress.isValid(portAddress)) {
+                throw new IllegalArgumentException("Illegal Port-Address!");
+            }
+            this.portAddress = portAddress;
+            changed = true;
+        }
+    }
+
+    public ArtTodDataBuilder withPortAddress(int portAddress) {
+        setPortAddress(portAddress);
+        return this;
+    }
+
+    public int getCommandResponse() {
+        return commandResponse;
+    }
+
+    /**
+     * @param commandResponse {@link ArtTodData#COMMAND_RESPONSE_TOD_FULL} or
+     *                        {@link ArtTodData#COMMAND_RESPONSE_TOD_NAK}.
+     */
+    public void setCommandResponse(int commandResponse) {
+        if (this.commandResponse != commandResponse) {
+            if (commandResponse != ArtTodData.COMMAND_RESPONSE_TOD_FULL
+                    && commandResponse != ArtTodData.COMMAND_RESPONSE_TOD_NAK) {
+                throw new IllegalArgumentException("Illegal command response!");
+            }
+            this.commandResponse = commandResponse;
+            changed = true;
+        }
+    }
+
+    public ArtTodDataBuilder withCommandResponse(int commandResponse) {
+        setCommandResponse(commandResponse);
+        return this;
+    }
+
+    public int getUidTotal() {
+        return uidTotal;
+    }
+
+    /**
+     * @param uidTotal The amount of devices in the whole table ({@code 0-65535}).
+     */
+    public void setUidTotal(int uidTotal) {
+        if (this.uidTotal != uidTotal) {
+            if (0 > uidTotal || uidTotal > 0xFFFF) {
+                throw new IllegalArgumentException("Illegal UID total!");
+            }
+            this.uidTotal = uidTotal;
+            changed = true;
+        }
+    }
+
+    public ArtTodDataBuilder withUidTotal(int uidTotal) {
+        setUidTotal(uidTotal);
+        return this;
+    }
+
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    public void setBlockCount(int blockCount) {
+        if (this.blockCount != blockCount) {
+            if (0 > blockCount || blockCount > 255) {
+                throw new IllegalArgumentException("Illegal block count!");
+            }
+            this.blockCount = blockCount;
+            changed = true;
+        }
+    }
+
+    public ArtTodDataBuilder withBlockCount(int blockCount) {
+        setBlockCount(blockCount);
+        return this;
+    }
+
+    public long[] getUids() {
+        return uids.clone();
+    }
+
+    /**
+     * @param uids Up to {@code 200} UIDs, see {@link Rdm}.
+     */
+    public void setUids(long... uids) {
+        if (uids == null) {
+            uids = new long[0];
+        }
+
+        if (uids.length > 200) {
+            throw new IllegalArgumentException("Too many UIDs!");
+        }
+
+        if (!Arrays.equals(this.uids, uids)) {
+            this.uids = uids.clone();
+            changed = true;
+        }
+    }
+
+    public ArtTodDataBuilder withUids(long... uids) {
+        setUids(uids);
+        return this;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.descriptors.ArtNet;
+import de.deltaeight.libartnet.descriptors.OpCode;
+import de.deltaeight.libartnet.descriptors.PortAddress;
+import de.deltaeight.libartnet.packets.ArtTodRequest;
+
+import java.util.Arrays;
+
+/**
+ * Builds instances of {@link ArtTodRequest}.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtTodRequest
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtTodRequestBuilder extends ArtNetPacketBuilder<ArtTodRequest> {
+
+    private static final byte[] OP_CODE_BYTES = OpCode.OpTodRequest.getBytesLittleEndian();
+
+    private int netAddress;
+    private int[] addresses;
+
+    private boolean changed;
+    private ArtTodRequest artTodRequest;
+
+    public ArtTodRequestBuilder() {
+        addresses = new int[0];
+        changed = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtTodRequest} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtTodRequest build() {
+        if (changed) {
+
+            byte[] bytes = new byte[56];
+            System.arraycopy(ArtNet.HEADER.getBytes(), 0, bytes, 0, 8);
+            System.arraycopy(OP_CODE_BYTES, 0, bytes, 8, 2);
+            System.arraycopy(ArtNet.PROTOCOL_REVISION.getBytes(), 0, bytes, 10, 2);
+
+            bytes[21] = (byte) netAddress;
+            bytes[23] = (byte) addresses.length;
+            for (int i = 0; i < addresses.length; i++) {
+                bytes[24 + i] = (byte) addresses[i];
+            }
+
+            artTodRequest = new ArtTodRequest(netAddress, 0x00, addresses.clone(), bytes);
+
+            changed = false;
+        }
+
+        return artTodRequest;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtTodRequest} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtTodRequest buildFromBytes(byte[] packetData) {
+        if (packetData[8] == OP_CODE_BYTES[0] && packetData[9] == OP_CODE_BYTES[1] && packetData.length >= 24) {
+
+            int[] addresses = new int[Math.min(Math.min(packetData[23] & 0xFF, 32), packetData.length - 24)];
+            for (int i = 0; i < addresses.length; i++) {
+                addresses[i] = packetData[24 + i] & 0xFF;
+            }
+
+            return new ArtTodRequest(packetData[21] & 0x7F, packetData[22] & 0xFF, addresses,
+                    Arrays.copyOf(packetData, Math.max(56, 24 + addresses.length)));
+        }
+        return null;
+    }
+
+    public int getNetAddress() {
+        return netAddress;
+    }
+
+    public void setNetAddress(int netAddress) {
+        if (this.netAddress != netAddress) {
+            if (0 > netAddress || netAddress > 127) {
+                throw new IllegalArgumentException("Illegal net address!");
+            }
+            this.netAddress = netAddress;
+            changed = true;
+        }
+    }
+
+    public ArtTodRequestBuilder withNetAddress(int netAddress) {
+        setNetAddress(netAddress);
+        return this;
+    }
+
+    /**
+     * @return The requested addresses, each combining subnet and universe address.
+     */
+    public int[] getAddresses() {
+        return addresses.clone();
+    }
+
+    /**
+     * @param addresses Up to {@code 32} addresses, each combining subnet and universe address ({@code 0-255}).
+     */
+    public void setAddresses(int... addresses) {
+        if (addresses == null) {
+            addresses = new int[0];
+        }
+
+        if (addresses.length > 32) {
+            throw new IllegalArgumentException("Too many addresses!");
+        }
+
+        for (int address : addresses) {
+            if (0 > address || address > 255) {
+                throw new IllegalArgumentException("Illegal address!");
+            }
+        }
+
+        if (!Arrays.equals(this.addresses, addresses)) {
+            this.addresses = addresses.clone();
+            changed = true;
+        }
+    }
+
+    public ArtTodRequestBuilder withAddresses(int... addresses) {
+        setAddresses(addresses);
+        return this;
+    }
+
+    /**
+     * Sets net address and addresses at once.
+     *
+     * @param portAddresses Up to {@code 32} Port-Addresses, which must be within the same net.
+     * @see PortAddress
+     */
+    public void setPortAddresses(int... portAddresses) {
+
+        int[] addresses = new int[portAddresses.length];
+
+        for (int i = 0; i < portAddresses.length; i++) {
+            if (!PortAddress.isValid(portAddresses[i])
+                    || PortAddress.getNetAddress(portAddresses[i]) != PortAddress.getNetAddress(portAddresses[0])) {
+                throw new IllegalArgumentException("Illegal Port-Address!");
+            }
+            addresses[i] = portAddresses[i] & 0xFF;
+        }
+
+        setAddresses(addresses);
+
+        if (portAddresses.length > 0) {
+            setNetAddress(PortAddress.getNetAddress(portAddresses[0]));
+        }
+    }
+
+    public ArtTodRequestBuilder withPortAddresses(int... portAddresses) {
+        setPortAddresses(portAddresses);
+        return this;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.descriptors.ArtNet;
+import de.deltaeight.libartnet.descriptors.OpCode;
+import de.deltaeight.libartnet.packets.ArtTrigger;
+
+import java.util.Arrays;
+
+/**
+ * Builds instances of {@link ArtTrigger}.
+ * <p>
+ * Default OEM code is {@link ArtTrigger#OEM_CODE_ALL}, default key is {@link ArtTrigger#KEY_ASCII}, default payload
+ * is zeroed.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtTrigger
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtTriggerBuilder extends ArtNetPacketBuilder<ArtTrigger> {
+
+    private static final byte[] OP_CODE_BYTES = OpCode.OpTrigger.getBytesLittleEndian();
+
+    private final byte[] data;
+
+    private int oemCode;
+    private int key;
+    private int subKey;
+
+    private boolean changed;
+    private ArtTrigger artTrigger;
+
+    public ArtTriggerBuilder() {
+        data = new byte[512];
+        oemCode = ArtTrigger.OEM_CODE_ALL;
+        key = ArtTrigger.KEY_ASCII;
+        changed = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtTrigger} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtTrigger build() {
+        if (changed) {
+
+            byte[] bytes = new byte[530];
+            System.arraycopy(ArtNet.HEADER.getBytes(), 0, bytes, 0, 8);
+            System.arraycopy(OP_CODE_BYTES, 0, bytes, 8, 2);
+            System.arraycopy(ArtNet.PROTOCOL_REVISION.getBytes(), 0, bytes, 10, 2);
+
+            bytes[14] = (byte) (oemCode >> 8);
+            bytes[15] = (byte) oemCode;
+            bytes[16] = (byte) key;
+            bytes[17] = (byte) subKey;
+            System.arraycopy(data, 0, bytes, 18, 512);
+
+            artTrigger = new ArtTrigger(oemCode, key, subKey, data.clone(), bytes);
+
+            changed = false;
+        }
+
+        return artTrigger;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ArtTrigger} instance.
+     * @see ArtNetPacketBuilder#build()
+     */
+    @Override
+    public ArtTrigger buildFromBytes(byte[] packetData) {
+        if (packetData[8] == OP_CODE_BYTES[0] && packetData[9] == OP_CODE_BYTES[1] && packetData.length >= 530) {
+            return new ArtTrigger((packetData[14] & 0xFF) << 8 | packetData[15] & 0xFF, packetData[16] & 0xFF,
+                    packetData[17] & 0xFF, Arrays.copyOfRange(packetData, 18, 530), Arrays.copyOf(packetData, 530));
+        }
+        return null;
+    }
+
+    public int getOemCode() {
+        return oemCode;
+    }
+
+    /**
+     * @param oemCode The OEM code of the addressed nodes or {@link ArtTrigger#OEM_CODE_ALL}.
+     */
+    public void setOemCode(int oemCode) {
+        if (this.oemCode != oemCode) {
+            if (0 > oemCode || oemCode > 0xFFFF) {
+                throw new IllegalArgumentException("Illegal OEM code!");
+            }
+            this.oemCode = oemCode;
+            changed = true;
+        }
+    }
+
+    public ArtTriggerBuilder withOemCode(int oemCode) {
+        setOemCode(oemCode);
+        return this;
+    }
+
+    public int getKey() {
+        return key;
+    }
+
+    /**
+     * @param key The key ({@code 0-255}), e.g. {@link ArtTrigger#KEY_MACRO}.
+     */
+    public void setKey(int key) {
+        if (this.key != key) {
+            if (0 > key || key > 255) {
+                throw new IllegalArgumentException("Illegal key!");
+            }
+            this.key = key;
+            changed = true;
+        }
+    }
+
+    public ArtTriggerBuilder withKey(int key) {
+        setKey(key);
+        return this;
+    }
+
+    public int getSubKey() {
+        return subKey;
+    }
+
+    /**
+     * @param subKey The sub-key ({@code 0-255}), whose meaning depends on the key.
+     */
+    public void setSubKey(int subKey) {
+        if (this.subKey != subKey) {
+            if (0 > subKey || subKey > 255) {
+                throw new IllegalArgumentException("Illegal sub-key!");
+            }
+            this.subKey = subKey;
+            changed = true;
+        }
+    }
+
+    public ArtTriggerBuilder withSubKey(int subKey) {
+        setSubKey(subKey);
+        return this;
+    }
+
+    public byte[] getData() {
+        return data.clone();
+    }
+
+    /**
+     * @param data The payload, up to {@code 512} bytes. Missing bytes are set to {@code 0}.
+     */
+    public void setData(byte[] data) {
+        if (data == null || data.length > 512) {
+            throw new IllegalArgumentException("Illegal data!");
+        }
+        Arrays.fill(this.data, data.length, 512, (byte) 0);
+        System.arraycopy(data, 0, this.data, 0, data.length);
+        changed = true;
+    }
+
+    public ArtTriggerBuilder withData(byte[] data) {
+        setData(data);
+        return this;
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.collections;
+
+import java.util.Arrays;
+
+/**
+ * Maps primitive {@code int} keys to values without boxing the keys.
+ * <p>
+ * Entries are stored in two arrays using open addressing with linear probing, so lookups neither allocate nor follow
+ * references to key objects. {@code null} values are not supported. Instances are not thread-safe.
+ *
+ * @param <V> The type of the values.
+ * @author Julian Rabe
+ */
+public class IntMap<V> {
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;
+
+    /**
+     * Initializes an empty instance with room for {@code 8} entries before growing.
+     */
+    public IntMap() {
+        this(8);
+    }
+
+    /**
+     * Initializes an empty instance.
+     *
+     * @param expectedSize The amount of entries which can be added before growing.
+     */
+    public IntMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal expected size!");
+        }
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 2) * 2 - 1) << 1;
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int hash(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ hash >>> 16;
+    }
+
+    private int indexOf(int key) {
+        int index = hash(key) & mask;
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = index + 1 & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @param key The key to look up.
+     * @return The value mapped to {@code key}, {@code null} if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int index = indexOf(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    /**
+     * @param key          The key to look up.
+     * @param defaultValue The value to return if {@code key} is not mapped.
+     * @return The value mapped to {@code key}, {@code defaultValue} if there is none.
+     */
+    public V getOrDefault(int key, V defaultValue) {
+        V value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * @param key The key to look up.
+     * @return Whether {@code key} is mapped.
+     */
+    public boolean containsKey(int key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Maps {@code key} to {@code value}.
+     *
+     * @param key   The key.
+     * @param value The value, must not be {@code null}.
+     * @return The value previously mapped to {@code key}, {@code null} if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+
+        if (value == null) {
+            throw new IllegalArgumentException("Illegal value!");
+        }
+
+        int index = hash(key) & mask;
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                V previous = (V) values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = index + 1 & mask;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+
+        if (++size * 2 > values.length) {
+            resize(values.length * 2);
+        }
+
+        return null;
+    }
+
+    /**
+     * Removes the mapping of {@code key}.
+     *
+     * @param key The key.
+     * @return The value previously mapped to {@code key}, {@code null} if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+
+        int index = indexOf(key);
+
+        if (index < 0) {
+            return null;
+        }
+
+        V previous = (V) values[index];
+
+        // Shift following entries of the same probe sequence back so lookups do not stop at the gap
+        int next = index;
+        while (true) {
+            next = next + 1 & mask;
+            if (values[next] == null) {
+                break;
+            }
+            int home = hash(keys[next]) & mask;
+            if (index <= next ? index < home && home <= next : index < home || home <= next) {
+                continue;
+            }
+            keys[index] = keys[next];
+            values[index] = values[next];
+            index = next;
+        }
+
+        values[index] = null;
+        size--;
+
+        return previous;
+    }
+
+    private void resize(int capacity) {
+
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = hash(oldKeys[i]) & mask;
+                while (values[index] != null) {
+                    index = index + 1 & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Calls {@code consumer} for every entry in no particular order.
+     *
+     * @param consumer The {@link IntObjectConsumer} to call.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(IntObjectConsumer<? super V> consumer) {
+        Object[] values = this.values;
+        int[] keys = this.keys;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                consumer.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
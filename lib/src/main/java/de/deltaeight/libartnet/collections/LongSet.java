@@ -0,0 +1,230 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.collections;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Stores primitive {@code long} values without boxing them, e.g. RDM UIDs.
+ * <p>
+ * Values are stored in a single array using open addressing with linear probing, {@code 0} marks free slots and is
+ * tracked separately. Instances are not thread-safe.
+ *
+ * @author Julian Rabe
+ */
+public class LongSet {
+
+    private long[] values;
+    private boolean containsZero;
+    private int size;
+    private int mask;
+
+    /**
+     * Initializes an empty instance with room for {@code 8} values before growing.
+     */
+    public LongSet() {
+        this(8);
+    }
+
+    /**
+     * Initializes an empty instance.
+     *
+     * @param expectedSize The amount of values which can be added before growing.
+     */
+    public LongSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal expected size!");
+        }
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 2) * 2 - 1) << 1;
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int hash(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ hash >>> 32);
+    }
+
+    private int indexOf(long value) {
+        int index = hash(value) & mask;
+        while (values[index] != 0) {
+            if (values[index] == value) {
+                return index;
+            }
+            index = index + 1 & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @param value The value to look up.
+     * @return Whether {@code value} is contained.
+     */
+    public boolean contains(long value) {
+        return value == 0 ? containsZero : indexOf(value) >= 0;
+    }
+
+    /**
+     * Adds {@code value}.
+     *
+     * @param value The value.
+     * @return Whether {@code value} was not contained before.
+     */
+    public boolean add(long value) {
+
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int index = hash(value) & mask;
+        while (values[index] != 0) {
+            if (values[index] == value) {
+                return false;
+            }
+            index = index + 1 & mask;
+        }
+
+        values[index] = value;
+
+        if (++size * 2 > values.length) {
+            resize(values.length * 2);
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes {@code value}.
+     *
+     * @param value The value.
+     * @return Whether {@code value} was contained before.
+     */
+    public boolean remove(long value) {
+
+        if (value == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+
+        int index = indexOf(value);
+
+        if (index < 0) {
+            return false;
+        }
+
+        // Shift following values of the same probe sequence back so lookups do not stop at the gap
+        int next = index;
+        while (true) {
+            next = next + 1 & mask;
+            if (values[next] == 0) {
+                break;
+            }
+            int home = hash(values[next]) & mask;
+            if (index <= next ? index < home && home <= next : index < home || home <= next) {
+                continue;
+            }
+            values[index] = values[next];
+            index = next;
+        }
+
+        values[index] = 0;
+        size--;
+
+        return true;
+    }
+
+    private void resize(int capacity) {
+
+        long[] oldValues = values;
+
+        values = new long[capacity];
+        mask = capacity - 1;
+
+        for (long value : oldValues) {
+            if (value != 0) {
+                int index = hash(value) & mask;
+                while (values[index] != 0) {
+                    index = index + 1 & mask;
+                }
+                values[index] = value;
+            }
+        }
+    }
+
+    /**
+     * Calls {@code consumer} for every value in no particular order.
+     *
+     * @param consumer The {@link LongConsumer} to call.
+     */
+    public void forEach(LongConsumer consumer) {
+        if (containsZero) {
+            consumer.accept(0);
+        }
+        for (long value : values) {
+            if (value != 0) {
+                consumer.accept(value);
+            }
+        }
+    }
+
+    /**
+     * @return All values in ascending order.
+     */
+    public long[] toSortedArray() {
+        long[] result = new long[size];
+        int index = containsZero ? 1 : 0;
+        for (long value : values) {
+            if (value != 0) {
+                result[index++] = value;
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void clear() {
+        Arrays.fill(values, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
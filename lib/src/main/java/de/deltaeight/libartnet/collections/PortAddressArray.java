@@ -0,0 +1,132 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.collections;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+import de.deltaeight.libartnet.descriptors.PortAddress;
+
+/**
+ * Holds one value for each of the {@code 32768} Port-Addresses.
+ * <p>
+ * Lookups are a single array access on the primitive Port-Address, so this is suited for per-packet lookups, e.g. in
+ * a {@link de.deltaeight.libartnet.network.PacketReceiveHandler}. All methods are thread-safe and lock-free.
+ *
+ * @param <V> The type of the values.
+ * @author Julian Rabe
+ * @see PortAddress
+ */
+public class PortAddressArray<V> {
+
+    private final AtomicReferenceArray<V> values;
+
+    public PortAddressArray() {
+        values = new AtomicReferenceArray<>(PortAddress.COUNT);
+    }
+
+    private static void checkPortAddress(int portAddress) {
+        if (!PortAddress.isValid(portAddress)) {
+            throw new IllegalArgumentException("Illegal Port-Address!");
+        }
+    }
+
+    /**
+     * @param portAddress The Port-Address to look up.
+     * @return The value of {@code portAddress}, {@code null} if there is none or {@code portAddress} is invalid.
+     */
+    public V get(int portAddress) {
+        return PortAddress.isValid(portAddress) ? values.get(portAddress) : null;
+    }
+
+    /**
+     * @param portAddress  The Port-Address to look up.
+     * @param defaultValue The value to return if {@code portAddress} has no value.
+     * @return The value of {@code portAddress}, {@code defaultValue} if there is none.
+     */
+    public V getOrDefault(int portAddress, V defaultValue) {
+        V value = get(portAddress);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * @param portAddress The Port-Address.
+     * @param value       The value, {@code null} to remove.
+     * @return The previous value of {@code portAddress}, {@code null} if there was none.
+     */
+    public V set(int portAddress, V value) {
+        checkPortAddress(portAddress);
+        return values.getAndSet(portAddress, value);
+    }
+
+    /**
+     * @param portAddress The Port-Address.
+     * @return The previous value of {@code portAddress}, {@code null} if there was none.
+     */
+    public V remove(int portAddress) {
+        return set(portAddress, null);
+    }
+
+    /**
+     * Returns the value of {@code portAddress} or atomically sets the value created by {@code function} if there is
+     * none. {@code function} may be called more than once under contention.
+     *
+     * @param portAddress The Port-Address.
+     * @param function    Creates the value from the Port-Address.
+     * @return The current value of {@code portAddress}.
+     */
+    public V computeIfAbsent(int portAddress, IntFunction<? extends V> function) {
+        checkPortAddress(portAddress);
+        V value = values.get(portAddress);
+        while (value == null) {
+            V newValue = function.apply(portAddress);
+            if (values.compareAndSet(portAddress, null, newValue)) {
+                return newValue;
+            }
+            value = values.get(portAddress);
+        }
+        return value;
+    }
+
+    /**
+     * Calls {@code consumer} for every Port-Address which has a value, in ascending order.
+     *
+     * @param consumer The {@link IntObjectConsumer} to call.
+     */
+    public void forEach(IntObjectConsumer<? super V> consumer) {
+        for (int i = 0; i < PortAddress.COUNT; i++) {
+            V value = values.get(i);
+            if (value != null) {
+                consumer.accept(i, value);
+            }
+        }
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void clear() {
+        for (int i = 0; i < PortAddress.COUNT; i++) {
+            values.set(i, null);
+        }
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.descriptors;
+
+/**
+ * Commands of {@code ArtAddress} packets.
+ *
+ * @author Julian Rabe
+ * @see de.deltaeight.libartnet.packets.ArtAddress
+ */
+public enum AddressCommand {
+
+    /**
+     * No action.
+     */
+    AcNone(0x00),
+
+    /**
+     * The next {@code ArtDmx} packet cancels merge mode.
+     */
+    AcCancelMerge(0x01),
+
+    /**
+     * The node shows normal status on its front panel indicators.
+     */
+    AcLedNormal(0x02),
+
+    /**
+     * The node disables its front panel indicators.
+     */
+    AcLedMute(0x03),
+
+    /**
+     * The node flashes its front panel indicators to be located.
+     */
+    AcLedLocate(0x04),
+
+    /**
+     * The node resets its receive error flags.
+     */
+    AcResetRxFlags(0x05),
+
+    /**
+     * The node enables analysis and debugging mode.
+     */
+    AcAnalysisOn(0x06),
+
+    /**
+     * The node disables analysis and debugging mode.
+     */
+    AcAnalysisOff(0x07),
+
+    /**
+     * The node holds the last state of all outputs on network data loss.
+     */
+    AcFailHold(0x08),
+
+    /**
+     * The node sets all outputs to zero on network data loss.
+     */
+    AcFailZero(0x09),
+
+    /**
+     * The node sets all outputs to full on network data loss.
+     */
+    AcFailFull(0x0A),
+
+    /**
+     * The node plays back the failsafe scene on network data loss.
+     */
+    AcFailScene(0x0B),
+
+    /**
+     * The node records the current output state as failsafe scene.
+     */
+    AcFailRecord(0x0C),
+
+    /**
+     * The node sets DMX output 0 to LTP merge mode.
+     */
+    AcMergeLtp0(0x10),
+
+    /**
+     * The node sets DMX output 1 to LTP merge mode.
+     */
+    AcMergeLtp1(0x11),
+
+    /**
+     * The node sets DMX output 2 to LTP merge mode.
+     */
+    AcMergeLtp2(0x12),
+
+    /**
+     * The node sets DMX output 3 to LTP merge mode.
+     */
+    AcMergeLtp3(0x13),
+
+    /**
+     * The node sets port 0 to output DMX received from the network.
+     */
+    AcDirectionTx0(0x20),
+
+    /**
+     * The node sets port 1 to output DMX received from the network.
+     */
+    AcDirectionTx1(0x21),
+
+    /**
+     * The node sets port 2 to output DMX received from the network.
+     */
+    AcDirectionTx2(0x22),
+
+    /**
+     * The node sets port 3 to output DMX received from the network.
+     */
+    AcDirectionTx3(0x23),
+
+    /**
+     * The node sets port 0 to input DMX to the network.
+     */
+    AcDirectionRx0(0x30),
+
+    /**
+     * The node sets port 1 to input DMX to the network.
+     */
+    AcDirectionRx1(0x31),
+
+    /**
+     * The node sets port 2 to input DMX to the network.
+     */
+    AcDirectionRx2(0x32),
+
+    /**
+     * The node sets port 3 to input DMX to the network.
+     */
+    AcDirectionRx3(0x33),
+
+    /**
+     * The node sets DMX output 0 to HTP merge mode.
+     */
+    AcMergeHtp0(0x50),
+
+    /**
+     * The node sets DMX output 1 to HTP merge mode.
+     */
+    AcMergeHtp1(0x51),
+
+    /**
+     * The node sets DMX output 2 to HTP merge mode.
+     */
+    AcMergeHtp2(0x52),
+
+    /**
+     * The node sets DMX output 3 to HTP merge mode.
+     */
+    AcMergeHtp3(0x53),
+
+    /**
+     * The node outputs Art-Net on port 0.
+     */
+    AcArtNetSel0(0x60),
+
+    /**
+     * The node outputs Art-Net on port 1.
+     */
+    AcArtNetSel1(0x61),
+
+    /**
+     * The node outputs Art-Net on port 2.
+     */
+    AcArtNetSel2(0x62),
+
+    /**
+     * The node outputs Art-Net on port 3.
+     */
+    AcArtNetSel3(0x63),
+
+    /**
+     * The node outputs sACN on port 0.
+     */
+    AcAcnSel0(0x70),
+
+    /**
+     * The node outputs sACN on port 1.
+     */
+    AcAcnSel1(0x71),
+
+    /**
+     * The node outputs sACN on port 2.
+     */
+    AcAcnSel2(0x72),
+
+    /**
+     * The node outputs sACN on port 3.
+     */
+    AcAcnSel3(0x73),
+
+    /**
+     * The node clears the DMX output buffer of port 0.
+     */
+    AcClearOp0(0x90),
+
+    /**
+     * The node clears the DMX output buffer of port 1.
+     */
+    AcClearOp1(0x91),
+
+    /**
+     * The node clears the DMX output buffer of port 2.
+     */
+    AcClearOp2(0x92),
+
+    /**
+     * The node clears the DMX output buffer of port 3.
+     */
+    AcClearOp3(0x93),
+
+    /**
+     * The node sends DMX on output 0 only when data changes.
+     */
+    AcStyleDelta0(0xA0),
+
+    /**
+     * The node sends DMX on output 1 only when data changes.
+     */
+    AcStyleDelta1(0xA1),
+
+    /**
+     * The node sends DMX on output 2 only when data changes.
+     */
+    AcStyleDelta2(0xA2),
+
+    /**
+     * The node sends DMX on output 3 only when data changes.
+     */
+    AcStyleDelta3(0xA3),
+
+    /**
+     * The node sends DMX on output 0 continuously.
+     */
+    AcStyleConst0(0xB0),
+
+    /**
+     * The node sends DMX on output 1 continuously.
+     */
+    AcStyleConst1(0xB1),
+
+    /**
+     * The node sends DMX on output 2 continuously.
+     */
+    AcStyleConst2(0xB2),
+
+    /**
+     * The node sends DMX on output 3 continuously.
+     */
+    AcStyleConst3(0xB3),
+
+    /**
+     * The node enables RDM on output 0.
+     */
+    AcRdmEnable0(0xC0),
+
+    /**
+     * The node enables RDM on output 1.
+     */
+    AcRdmEnable1(0xC1),
+
+    /**
+     * The node enables RDM on output 2.
+     */
+    AcRdmEnable2(0xC2),
+
+    /**
+     * The node enables RDM on output 3.
+     */
+    AcRdmEnable3(0xC3),
+
+    /**
+     * The node disables RDM on output 0.
+     */
+    AcRdmDisable0(0xD0),
+
+    /**
+     * The node disables RDM on output 1.
+     */
+    AcRdmDisable1(0xD1),
+
+    /**
+     * The node disables RDM on output 2.
+     */
+    AcRdmDisable2(0xD2),
+
+    /**
+     * The node disables RDM on output 3.
+     */
+    AcRdmDisable3(0xD3);
+
+    private static final AddressCommand[] VALUES = new AddressCommand[256];
+
+    static {
+        for (AddressCommand addressCommand : values()) {
+            VALUES[addressCommand.value] = addressCommand;
+        }
+    }
+
+    private final int value;
+
+    AddressCommand(int value) {
+        this.value = value;
+    }
+
+    public static AddressCommand getAddressCommand(int value) {
+        if (value < 0 || value > VALUES.length - 1 || VALUES[value] == null) {
+            return AcNone;
+        }
+        return VALUES[value];
+    }
+
+    public byte getByte() {
+        return (byte) value;
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.descriptors;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Encodes and decodes E1.31 (sACN) data packets in place, without intermediate objects.
+ * <p>
+ * A data packet consists of a root layer, a framing layer and a DMP layer, followed by up to 512 slots starting at
+ * {@link #DATA_OFFSET}. Buffers are prepared once by {@link #writeHeader(byte[], UUID, String, int, int)}, afterwards
+ * only slots, slot count and sequence number need to be written per frame.
+ *
+ * @author Julian Rabe
+ * @see <a href="https://tsp.esta.org/tsp/documents/published_docs.php">ANSI E1.31</a>
+ */
+public final class E131 {
+
+    /**
+     * The UDP port on which sACN traffic is handled ({@code 5568}).
+     */
+    public static final int PORT = 5568;
+
+    /**
+     * The lowest sACN universe ({@code 1}).
+     */
+    public static final int MIN_UNIVERSE = 1;
+
+    /**
+     * The highest sACN universe ({@code 63999}).
+     */
+    public static final int MAX_UNIVERSE = 63999;
+
+    /**
+     * The default priority of sACN sources ({@code 100}).
+     */
+    public static final int DEFAULT_PRIORITY = 100;
+
+    /**
+     * The highest priority of sACN sources ({@code 200}).
+     */
+    public static final int MAX_PRIORITY = 200;
+
+    /**
+     * The index of the first slot after the start code ({@code 126}).
+     */
+    public static final int DATA_OFFSET = 126;
+
+    /**
+     * The length of a data packet with 512 slots ({@code 638}).
+     */
+    public static final int MAX_LENGTH = DATA_OFFSET + 512;
+
+    /**
+     * Options bit marking data not intended for live output.
+     */
+    public static final int OPTION_PREVIEW_DATA = 0x80;
+
+    /**
+     * Options bit marking the last packet of a stream.
+     */
+    public static final int OPTION_STREAM_TERMINATED = 0x40;
+
+    private static final byte[] ACN_PACKET_IDENTIFIER = {
+            0x41, 0x53, 0x43, 0x2D, 0x45, 0x31, 0x2E, 0x31, 0x37, 0x00, 0x00, 0x00
+    };
+
+    private static final int VECTOR_ROOT_E131_DATA = 0x00000004;
+    private static final int VECTOR_E131_DATA_PACKET = 0x00000002;
+    private static final int VECTOR_DMP_SET_PROPERTY = 0x02;
+
+    private E131() {
+    }
+
+    /**
+     * @param universe The value to check.
+     * @return Whether {@code universe} is within {@link #MIN_UNIVERSE} and {@link #MAX_UNIVERSE}.
+     */
+    public static boolean isValidUniverse(int universe) {
+        return MIN_UNIVERSE <= universe && universe <= MAX_UNIVERSE;
+    }
+
+    /**
+     * @param universe The sACN universe.
+     * @return The multicast group of {@code universe} ({@code 239.255.x.x}).
+     */
+    public static InetAddress getMulticastAddress(int universe) {
+
+        if (!isValidUniverse(universe)) {
+            throw new IllegalArgumentException("Illegal universe!");
+        }
+
+        try {
+            return InetAddress.getByAddress(
+                    new byte[]{(byte) 239, (byte) 255, (byte) (universe >> 8), (byte) universe});
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Writes every field of a data packet except slots, slot count and sequence number.
+     *
+     * @param buffer     The buffer to write to, at least {@link #DATA_OFFSET} bytes long.
+     * @param cid        The component identifier of the source.
+     * @param sourceName The user assigned name of the source, up to 63 UTF-8 bytes are used.
+     * @param priority   The priority ({@code 0} to {@link #MAX_PRIORITY}).
+     * @param universe   The sACN universe.
+     */
+    public static void writeHeader(byte[] buffer, UUID cid, String sourceName, int priority, int universe) {
+
+        if (priority < 0 || priority > MAX_PRIORITY) {
+            throw new IllegalArgumentException("Illegal priority!");
+        }
+
+        if (!isValidUniverse(universe)) {
+            throw new IllegalArgumentException("Illegal universe!");
+        }
+
+        // Root layer
+        buffer[1] = 0x10;
+        System.arraycopy(ACN_PACKET_IDENTIFIER, 0, buffer, 4, ACN_PACKET_IDENTIFIER.length);
+        writeInt(VECTOR_ROOT_E131_DATA, buffer, 18);
+        writeLong(cid.getMostSignificantBits(), buffer, 22);
+        writeLong(cid.getLeastSignificantBits(), buffer, 30);
+
+        // Framing layer
+        writeInt(VECTOR_E131_DATA_PACKET, buffer, 40);
+        byte[] sourceNameBytes = sourceName.getBytes(StandardCharsets.UTF_8);
+        int sourceNameLength = Math.min(sourceNameBytes.length, 63);
+        System.arraycopy(sourceNameBytes, 0, buffer, 44, sourceNameLength);
+        for (int i = 44 + sourceNameLength; i < 108; i++) {
+            buffer[i] = 0x00;
+        }
+        buffer[108] = (byte) priority;
+        buffer[113] = (byte) (universe >> 8);
+        buffer[114] = (byte) universe;
+
+        // DMP layer
+        buffer[117] = VECTOR_DMP_SET_PROPERTY;
+        buffer[118] = (byte) 0xA1;
+        buffer[122] = 0x01;
+        buffer[125] = 0x00;
+    }
+
+    /**
+     * Writes the slot count into all length fields of a data packet.
+     *
+     * @param buffer    The encoded packet.
+     * @param slotCount The amount of slots following the start code ({@code 0-512}).
+     * @return The length of the packet.
+     */
+    public static int writeSlotCount(byte[] buffer, int slotCount) {
+
+        if (slotCount < 0 || slotCount > 512) {
+            throw new IllegalArgumentException("Illegal slot count!");
+        }
+
+        int length = DATA_OFFSET + slotCount;
+
+        writeFlagsAndLength(length - 16, buffer, 16);
+        writeFlagsAndLength(length - 38, buffer, 38);
+        writeFlagsAndLength(length - 115, buffer, 115);
+        buffer[123] = (byte) (slotCount + 1 >> 8);
+        buffer[124] = (byte) (slotCount + 1);
+
+        return length;
+    }
+
+    private static void writeFlagsAndLength(int length, byte[] buffer, int offset) {
+        buffer[offset] = (byte) (0x70 | length >> 8);
+        buffer[offset + 1] = (byte) length;
+    }
+
+    private static void writeInt(int value, byte[] buffer, int offset) {
+        buffer[offset] = (byte) (value >> 24);
+        buffer[offset + 1] = (byte) (value >> 16);
+        buffer[offset + 2] = (byte) (value >> 8);
+        buffer[offset + 3] = (byte) value;
+    }
+
+    private static void writeLong(long value, byte[] buffer, int offset) {
+        writeInt((int) (value >> 32), buffer, offset);
+        writeInt((int) value, buffer, offset + 4);
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) << 24 | (bytes[offset + 1] & 0xFF) << 16 | (bytes[offset + 2] & 0xFF) << 8
+                | bytes[offset + 3] & 0xFF;
+    }
+
+    private static int readShort(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) << 8 | bytes[offset + 1] & 0xFF;
+    }
+
+    /**
+     * Checks whether {@code bytes} contains a complete data packet carrying DMX512 slots (start code {@code 0}).
+     *
+     * @param bytes  The received datagram.
+     * @param length The length of the received datagram.
+     * @return Whether the packet can be decoded by the other methods of this class.
+     */
+    public static boolean isDataPacket(byte[] bytes, int length) {
+
+        if (length < DATA_OFFSET || bytes[0] != 0x00 || bytes[1] != 0x10) {
+            return false;
+        }
+
+        for (int i = 0; i < ACN_PACKET_IDENTIFIER.length; i++) {
+            if (bytes[4 + i] != ACN_PACKET_IDENTIFIER[i]) {
+                return false;
+            }
+        }
+
+        return readInt(bytes, 18) == VECTOR_ROOT_E131_DATA
+                && readInt(bytes, 40) == VECTOR_E131_DATA_PACKET
+                && bytes[117] == VECTOR_DMP_SET_PROPERTY
+                && bytes[118] == (byte) 0xA1
+                && bytes[125] == 0x00
+                && getSlotCount(bytes) >= 0
+                && getSlotCount(bytes) <= 512
+                && DATA_OFFSET + getSlotCount(bytes) <= length;
+    }
+
+    /**
+     * @param bytes The encoded packet.
+     * @return The amount of slots following the start code, {@code -1} if there is no start code.
+     */
+    public static int getSlotCount(byte[] bytes) {
+        return readShort(bytes, 123) - 1;
+    }
+
+    /**
+     * @param bytes The encoded packet.
+     * @return The sACN universe.
+     */
+    public static int getUniverse(byte[] bytes) {
+        return readShort(bytes, 113);
+    }
+
+    /**
+     * @param bytes The encoded packet.
+     * @return The priority.
+     */
+    public static int getPriority(byte[] bytes) {
+        return bytes[108] & 0xFF;
+    }
+
+    /**
+     * @param bytes The encoded packet.
+     * @return The options, see {@link #OPTION_PREVIEW_DATA} and {@link #OPTION_STREAM_TERMINATED}.
+     */
+    public static int getOptions(byte[] bytes) {
+        return bytes[112] & 0xFF;
+    }
+
+    /**
+     * @param bytes The encoded packet.
+     * @return The sequence number.
+     */
+    public static int getSequence(byte[] bytes) {
+        return bytes[111] & 0xFF;
+    }
+
+    /**
+     * @param bytes    The encoded packet.
+     * @param sequence The sequence number, excess bits are ignored.
+     */
+    public static void setSequence(byte[] bytes, int sequence) {
+        bytes[111] = (byte) sequence;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.descriptors;
+
+/**
+ * Block types of {@code ArtFirmwareMaster} packets.
+ *
+ * @author Julian Rabe
+ * @see de.deltaeight.libartnet.packets.ArtFirmwareMaster
+ */
+public enum FirmwareMasterType {
+
+    /**
+     * The first block of a firmware upload.
+     */
+    FirmFirst(0x00),
+
+    /**
+     * A consecutive block of a firmware upload.
+     */
+    FirmCont(0x01),
+
+    /**
+     * The last block of a firmware upload.
+     */
+    FirmLast(0x02),
+
+    /**
+     * The first block of a UBEA upload.
+     */
+    UbeaFirst(0x03),
+
+    /**
+     * A consecutive block of a UBEA upload.
+     */
+    UbeaCont(0x04),
+
+    /**
+     * The last block of a UBEA upload.
+     */
+    UbeaLast(0x05);
+
+    private static final FirmwareMasterType[] VALUES = values();
+
+    private final int value;
+
+    FirmwareMasterType(int value) {
+        this.value = value;
+    }
+
+    public static FirmwareMasterType getFirmwareMasterType(int value) {
+        if (value < 0 || value > VALUES.length - 1) {
+            return FirmCont;
+        }
+        return VALUES[value];
+    }
+
+    /**
+     * @param ubea  Whether the block belongs to a UBEA upload.
+     * @param index The index of the block.
+     * @param count The total amount of blocks.
+     * @return The type of the block. Single blocks are sent as last block.
+     */
+    public static FirmwareMasterType getFirmwareMasterType(boolean ubea, int index, int count) {
+        int value = index == count - 1 ? FirmLast.value : index == 0 ? FirmFirst.value : FirmCont.value;
+        return VALUES[ubea ? value + UbeaFirst.value : value];
+    }
+
+    public byte getByte() {
+        return (byte) value;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.descriptors;
+
+/**
+ * Reply types of {@code ArtFirmwareReply} packets.
+ *
+ * @author Julian Rabe
+ * @see de.deltaeight.libartnet.packets.ArtFirmwareReply
+ */
+public enum FirmwareReplyType {
+
+    /**
+     * The last block was received successfully.
+     */
+    FirmBlockGood(0x00),
+
+    /**
+     * All blocks were received successfully and the upload is complete.
+     */
+    FirmAllGood(0x01),
+
+    /**
+     * The upload failed.
+     */
+    FirmFail(0xFF);
+
+    private final int value;
+
+    FirmwareReplyType(int value) {
+        this.value = value;
+    }
+
+    public static FirmwareReplyType getFirmwareReplyType(int value) {
+        switch (value) {
+            case 0x00:
+                return FirmBlockGood;
+            case 0x01:
+                return FirmAllGood;
+            default:
+                return FirmFail;
+        }
+    }
+
+    public byte getByte() {
+        return (byte) value;
+    }
+}
@@ -32,7 +32,29 @@ import java.util.Objects;
  */
 public class InputStatus extends PortStatus {
 
-    public static final InputStatus DEFAULT = new InputStatus(false, false, false, false, false, false);
+    private static final InputStatus[] INSTANCES;
+
+    /**
+     * The shared instance with all flags cleared.
+     */
+    public static final InputStatus DEFAULT;
+
+    static {
+
+        INSTANCES = new InputStatus[256];
+
+        for (int i = 0; i < INSTANCES.length; i++) {
+            INSTANCES[i] = new InputStatus((i & 0b10000000) > 0, (i & 0b01000000) > 0, (i & 0b00100000) > 0,
+                    (i & 0b00010000) > 0, (i & 0b00001000) > 0, (i & 0b00000100) > 0);
+        }
+
+        // Share one instance among all bytes which only differ in unused bits
+        for (int i = 0; i < INSTANCES.length; i++) {
+            INSTANCES[i] = INSTANCES[INSTANCES[i].getByte() & 0xFF];
+        }
+
+        DEFAULT = INSTANCES[0];
+    }
 
     private final boolean dataReceived;
     private final boolean inputDisabled;
@@ -52,9 +74,15 @@ public class InputStatus extends PortStatus {
         this.errorsDetected = errorsDetected;
     }
 
+    /**
+     * Returns the shared instance representing {@code b}, so decoding does not allocate and decoded instances can be
+     * compared by reference.
+     *
+     * @param b The byte to decode.
+     * @return The {@link InputStatus} instance.
+     */
     public static InputStatus buildFromByte(byte b) {
-        return new InputStatus((b & 0b10000000) > 0, (b & 0b01000000) > 0, (b & 0b00100000) > 0,
-                (b & 0b00010000) > 0, (b & 0b00001000) > 0, (b & 0b00000100) > 0);
+        return INSTANCES[b & 0xFF];
     }
 
     public byte getByte() {
@@ -24,11 +24,24 @@ package de.deltaeight.libartnet.descriptors;
 import com.google.gson.Gson;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
 
 /**
  * Imports products with OEM codes as assigned by Artistic License Ltd. and makes them searchable.
+ * <p>
+ * Products are read from the compact binary table {@code OemCodes.bin} generated alongside {@code OemCodes.json}.
+ * Product codes are looked up in a table covering all {@code 65536} codes, while each {@link Product} is only created
+ * when it is looked up for the first time. {@code OemCodes.json} is used as fallback if the binary table is missing.
+ * <p>
+ * The registry is loaded on the first lookup, or in advance by {@link #loadInBackground()}. The unknown product is
+ * available without loading the registry.
  *
  * @author Julian Rabe
  * @see de.deltaeight.libartnet.packets.ArtPollReply
@@ -36,33 +49,173 @@ import java.util.HashMap;
  */
 public class OemCode {
 
-    private static final HashMap<Integer, Product> productsByProductCode;
-    private static final HashMap<String, Product> productsByOemCode;
-    private static final Product unknownProduct;
+    private static final Product unknownProduct = new Product("Unknown", 32767, "N/A",
+            "N/A", 0, 0, false, false,
+            "N/A", "N/A");
 
-    static {
+    /**
+     * Holds the products, which are loaded when {@link Registry} is accessed for the first time.
+     */
+    private static class Registry {
+
+        private static final char[] productIndices;
+        private static final byte[] table;
+        private static final int[] offsets;
+        private static final Product[] products;
+        private static volatile HashMap<String, Integer> indicesByOemCode;
+
+        static {
+
+            productIndices = new char[65536];
+
+            byte[] binaryTable = readBinaryTable();
+            int[] binaryOffsets = binaryTable == null ? null : indexBinaryTable(binaryTable, productIndices);
+
+            if (binaryOffsets != null) {
+                table = binaryTable;
+                offsets = binaryOffsets;
+                products = new Product[binaryOffsets.length];
+            } else {
+
+                Product[] jsonProducts = new Gson().fromJson(new BufferedReader(new InputStreamReader(
+                        OemCode.class.getResourceAsStream("OemCodes.json"), StandardCharsets.UTF_8)), Product[].class);
+
+                if (jsonProducts == null) {
+                    jsonProducts = new Product[0];
+                }
+
+                table = new byte[0];
+                offsets = new int[jsonProducts.length];
+                products = jsonProducts;
+
+                for (int i = 0; i < jsonProducts.length; i++) {
+                    productIndices[jsonProducts[i].getProductCode() & 0xFFFF] = (char) (i + 1);
+                }
+            }
+        }
+
+        private static void load() {
+            // Accessing this method initializes the class
+        }
+
+        private static byte[] readBinaryTable() {
+            try (InputStream inputStream = OemCode.class.getResourceAsStream("OemCodes.bin")) {
+
+                if (inputStream == null) {
+                    return null;
+                }
+
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream(1 << 17);
+                byte[] buffer = new byte[8192];
+                int length;
+                while ((length = inputStream.read(buffer)) > 0) {
+                    outputStream.write(buffer, 0, length);
+                }
+                return outputStream.toByteArray();
+
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        private static int[] indexBinaryTable(byte[] table, char[] productIndices) {
+            try {
 
-        productsByProductCode = new HashMap<>();
-        productsByOemCode = new HashMap<>();
-        unknownProduct = new Product("Unknown", 32767, "N/A",
-                "N/A", 0, 0, false, false,
-                "N/A", "N/A");
+                ByteBuffer buffer = ByteBuffer.wrap(table);
+                int count = buffer.getInt();
 
-        addProduct(unknownProduct);
+                if (count < 0 || count > 65535) {
+                    return null;
+                }
 
-        Product[] products = new Gson().fromJson(new BufferedReader(new InputStreamReader(
-                OemCode.class.getResourceAsStream("OemCodes.json"))), Product[].class);
+                int[] offsets = new int[count];
 
-        if (products != null) {
-            for (Product product : products) {
-                addProduct(product);
+                for (int i = 0; i < count; i++) {
+                    offsets[i] = buffer.position();
+                    int productCode = buffer.getShort() & 0xFFFF;
+                    skipString(buffer);
+                    skipString(buffer);
+                    skipString(buffer);
+                    buffer.position(buffer.position() + 5);
+                    skipString(buffer);
+                    skipString(buffer);
+                    productIndices[productCode] = (char) (i + 1);
+                }
+
+                return offsets;
+
+            } catch (RuntimeException e) {
+                Arrays.fill(productIndices, (char) 0);
+                return null;
+            }
+        }
+
+        private static void skipString(ByteBuffer buffer) {
+            buffer.position(buffer.position() + 2 + (buffer.getShort(buffer.position()) & 0xFFFF));
+        }
+
+        private static String readString(ByteBuffer buffer) {
+            int length = buffer.getShort() & 0xFFFF;
+            String result = new String(table, buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return result;
+        }
+
+        private static Product getProduct(int index) {
+
+            // Products are immutable, so creating one twice in a race is harmless
+            Product product = products[index];
+
+            if (product == null) {
+
+                ByteBuffer buffer = ByteBuffer.wrap(table);
+                buffer.position(offsets[index]);
+
+                int productCode = buffer.getShort() & 0xFFFF;
+                String oemCode = readString(buffer);
+                String manufacturer = readString(buffer);
+                String name = readString(buffer);
+                int dmxOutputs = buffer.getShort() & 0xFFFF;
+                int dmxInputs = buffer.getShort() & 0xFFFF;
+                int flags = buffer.get();
+                String supportEmail = readString(buffer);
+                String supportName = readString(buffer);
+
+                product = new Product(oemCode, productCode, manufacturer, name, dmxOutputs, dmxInputs,
+                        (flags & 0x01) > 0, (flags & 0x02) > 0, supportEmail, supportName);
+                products[index] = product;
             }
+
+            return product;
+        }
+
+        private static HashMap<String, Integer> getIndicesByOemCode() {
+            HashMap<String, Integer> result = indicesByOemCode;
+            if (result == null) {
+                result = new HashMap<>(products.length * 2);
+                for (int i = 0; i < products.length; i++) {
+                    if (products[i] != null) {
+                        result.put(products[i].getOemCode(), i);
+                    } else {
+                        ByteBuffer buffer = ByteBuffer.wrap(table);
+                        buffer.position(offsets[i] + 2);
+                        result.put(readString(buffer), i);
+                    }
+                }
+                indicesByOemCode = result;
+            }
+            return result;
         }
     }
 
-    private static void addProduct(Product product) {
-        productsByProductCode.put(product.getProductCode(), product);
-        productsByOemCode.put(product.getOemCode(), product);
+    /**
+     * Loads the registry on a background thread, e.g. at application startup, so the first lookup does not wait for
+     * it. Has no effect if the registry is already loaded.
+     */
+    public static void loadInBackground() {
+        Thread thread = new Thread(Registry::load, "ArtNet OemCode Loader");
+        thread.setDaemon(true);
+        thread.start();
     }
 
     /**
@@ -70,7 +223,11 @@ public class OemCode {
      * @return The {@link Product} matching {@code productCode} or the unknown product if none exists.
      */
     public static Product getProductByProductCode(int productCode) {
-        return productsByProductCode.getOrDefault(productCode, unknownProduct);
+        if (productCode < 0 || productCode > 0xFFFF) {
+            return unknownProduct;
+        }
+        int index = Registry.productIndices[productCode];
+        return index == 0 ? unknownProduct : Registry.getProduct(index - 1);
     }
 
     /**
@@ -78,11 +235,15 @@ public class OemCode {
      * @return The {@link Product} matching {@code oemCode} or the unknown product if none exists.
      */
     public static Product getProductByOemCode(String oemCode) {
-        return productsByOemCode.getOrDefault(oemCode, unknownProduct);
+        if (unknownProduct.getOemCode().equals(oemCode)) {
+            return unknownProduct;
+        }
+        Integer index = Registry.getIndicesByOemCode().get(oemCode);
+        return index == null ? unknownProduct : Registry.getProduct(index);
     }
 
     /**
-     * @return The unknown product.
+     * @return The unknown product. Does not load the registry.
      */
     public static Product getUnknownProduct() {
         return unknownProduct;
@@ -32,7 +32,30 @@ import java.util.Objects;
  */
 public class OutputStatus extends PortStatus {
 
-    public static final OutputStatus DEFAULT = new OutputStatus(false, false, false, false, false, false, false, false);
+    private static final OutputStatus[] INSTANCES;
+
+    /**
+     * The shared instance with all flags cleared.
+     */
+    public static final OutputStatus DEFAULT;
+
+    static {
+
+        INSTANCES = new OutputStatus[256];
+
+        for (int i = 0; i < INSTANCES.length; i++) {
+            INSTANCES[i] = new OutputStatus((i & 0b10000000) > 0, (i & 0b01000000) > 0, (i & 0b00100000) > 0,
+                    (i & 0b00010000) > 0, (i & 0b00001000) > 0, (i & 0b00000100) > 0,
+                    (i & 0b00000010) > 0, (i & 0b00000001) > 0);
+        }
+
+        // Share one instance among all bytes which only differ in unused bits
+        for (int i = 0; i < INSTANCES.length; i++) {
+            INSTANCES[i] = INSTANCES[INSTANCES[i].getByte() & 0xFF];
+        }
+
+        DEFAULT = INSTANCES[0];
+    }
 
     private final boolean dataTransmitted;
     private final boolean merging;
@@ -58,10 +81,15 @@ public class OutputStatus extends PortStatus {
         this.transmittingSACN = transmittingSACN;
     }
 
+    /**
+     * Returns the shared instance representing {@code b}, so decoding does not allocate and decoded instances can be
+     * compared by reference.
+     *
+     * @param b The byte to decode.
+     * @return The {@link OutputStatus} instance.
+     */
     public static OutputStatus buildFromByte(byte b) {
-        return new OutputStatus((b & 0b10000000) > 0, (b & 0b01000000) > 0, (b & 0b00100000) > 0,
-                (b & 0b000100000) > 0, (b & 0b00001000) > 0, (b & 0b00000100) > 0,
-                (b & 0b00000010) > 0, (b & 0b00000001) > 0);
+        return INSTANCES[b & 0xFF];
     }
 
     public byte getByte() {
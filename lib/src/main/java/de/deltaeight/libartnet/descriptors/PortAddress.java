@@ -0,0 +1,116 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.descriptors;
+
+/**
+ * Packs and unpacks 15 bit Port-Addresses, which combine net, subnet and universe address of an Art-Net 4 universe.
+ * <p>
+ * A Port-Address is represented as plain {@code int} from {@code 0} to {@link #MAX_VALUE}, with the net address in
+ * bits 8-14, the subnet address in bits 4-7 and the universe address in bits 0-3. This allows keying lookups on a
+ * single primitive instead of three separate values.
+ *
+ * @author Julian Rabe
+ * @see de.deltaeight.libartnet.packets.ArtDmx
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public final class PortAddress {
+
+    /**
+     * The highest Port-Address ({@code 32767}).
+     */
+    public static final int MAX_VALUE = 0x7FFF;
+
+    /**
+     * The amount of available Port-Addresses ({@code 32768}).
+     */
+    public static final int COUNT = MAX_VALUE + 1;
+
+    private PortAddress() {
+    }
+
+    /**
+     * Combines net, subnet and universe address to a Port-Address. Excess bits are ignored.
+     *
+     * @param netAddress      The net address ({@code 0-127}).
+     * @param subnetAddress   The subnet address ({@code 0-15}).
+     * @param universeAddress The universe address ({@code 0-15}).
+     * @return The Port-Address.
+     */
+    public static int pack(int netAddress, int subnetAddress, int universeAddress) {
+        return (netAddress & 0x7F) << 8 | (subnetAddress & 0x0F) << 4 | universeAddress & 0x0F;
+    }
+
+    /**
+     * @param portAddress The Port-Address.
+     * @return The net address ({@code 0-127}).
+     */
+    public static int getNetAddress(int portAddress) {
+        return portAddress >> 8 & 0x7F;
+    }
+
+    /**
+     * @param portAddress The Port-Address.
+     * @return The subnet address ({@code 0-15}).
+     */
+    public static int getSubnetAddress(int portAddress) {
+        return portAddress >> 4 & 0x0F;
+    }
+
+    /**
+     * @param portAddress The Port-Address.
+     * @return The universe address ({@code 0-15}).
+     */
+    public static int getUniverseAddress(int portAddress) {
+        return portAddress & 0x0F;
+    }
+
+    /**
+     * @param portAddress The value to check.
+     * @return Whether {@code portAddress} is within {@code 0} and {@link #MAX_VALUE}.
+     */
+    public static boolean isValid(int portAddress) {
+        return 0 <= portAddress && portAddress <= MAX_VALUE;
+    }
+
+    /**
+     * Reads a Port-Address encoded as {@code SubUni} byte followed by {@code Net} byte, as used by {@code ArtDmx}.
+     *
+     * @param bytes  The encoded packet.
+     * @param offset The index of the {@code SubUni} byte.
+     * @return The Port-Address.
+     */
+    public static int read(byte[] bytes, int offset) {
+        return (bytes[offset + 1] & 0x7F) << 8 | bytes[offset] & 0xFF;
+    }
+
+    /**
+     * Writes a Port-Address as {@code SubUni} byte followed by {@code Net} byte, as used by {@code ArtDmx}.
+     *
+     * @param portAddress The Port-Address.
+     * @param bytes       The encoded packet.
+     * @param offset      The index of the {@code SubUni} byte.
+     */
+    public static void write(int portAddress, byte[] bytes, int offset) {
+        bytes[offset] = (byte) portAddress;
+        bytes[offset + 1] = (byte) (portAddress >> 8 & 0x7F);
+    }
+}
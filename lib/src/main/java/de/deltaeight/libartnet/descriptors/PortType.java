@@ -32,7 +32,29 @@ import java.util.Objects;
  */
 public class PortType {
 
-    public static final PortType DEFAULT = new PortType(false, false, Protocol.DMX512);
+    private static final PortType[] INSTANCES;
+
+    /**
+     * The shared instance with all flags cleared.
+     */
+    public static final PortType DEFAULT;
+
+    static {
+
+        INSTANCES = new PortType[256];
+
+        for (int i = 0; i < INSTANCES.length; i++) {
+            INSTANCES[i] = new PortType((i & 0b10000000) > 0, (i & 0b01000000) > 0,
+                    Protocol.getProtocol(i & 0b00000111));
+        }
+
+        // Share one instance among all bytes which only differ in unused bits
+        for (int i = 0; i < INSTANCES.length; i++) {
+            INSTANCES[i] = INSTANCES[INSTANCES[i].getByte() & 0xFF];
+        }
+
+        DEFAULT = INSTANCES[0];
+    }
 
     private final boolean outputSupported;
     private final boolean inputSupported;
@@ -44,8 +66,15 @@ public class PortType {
         this.protocol = protocol;
     }
 
+    /**
+     * Returns the shared instance representing {@code b}, so decoding does not allocate and decoded instances can be
+     * compared by reference.
+     *
+     * @param b The byte to decode.
+     * @return The {@link PortType} instance.
+     */
     public static PortType buildFromByte(byte b) {
-        return new PortType((b & 0b10000000) > 0, (b & 0b01000000) > 0, Protocol.getProtocol(b & 0b00000111));
+        return INSTANCES[b & 0xFF];
     }
 
     public byte getByte() {
@@ -21,7 +21,7 @@
 
 package de.deltaeight.libartnet.descriptors;
 
-import java.util.HashMap;
+import de.deltaeight.libartnet.collections.IntMap;
 
 /**
  * Priorities for diag data and their bytes
@@ -38,10 +38,10 @@ public enum Priority {
     Critical(0xE0),
     Volatile(0xF0);
 
-    private static final HashMap<Byte, Priority> priorities;
+    private static final IntMap<Priority> priorities;
 
     static {
-        priorities = new HashMap<>(5);
+        priorities = new IntMap<>(5);
         for (Priority value : values()) {
             priorities.put(value.getValue(), value);
         }
@@ -0,0 +1,274 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.descriptors;
+
+/**
+ * Encodes and decodes RDM (ANSI E1.20) messages and UIDs as carried by Art-Net.
+ * <p>
+ * Art-Net transports RDM messages without their start code, so all offsets passed to this class point to the
+ * sub-start code. UIDs are represented as plain {@code long} with the 16 bit manufacturer ID in bits 32-47 and the
+ * 32 bit device ID in bits 0-31, which allows keying lookups and storing tables without creating objects.
+ *
+ * @author Julian Rabe
+ * @see de.deltaeight.libartnet.packets.ArtRdm
+ * @see <a href="https://tsp.esta.org/tsp/documents/published_docs.php">ANSI E1.20</a>
+ */
+public final class Rdm {
+
+    /**
+     * The start code of RDM messages ({@code 0xCC}), which is not transported by Art-Net.
+     */
+    public static final int START_CODE = 0xCC;
+
+    /**
+     * The sub-start code of RDM messages ({@code 0x01}).
+     */
+    public static final int SUB_START_CODE = 0x01;
+
+    /**
+     * The UID addressing all devices ({@code FFFF:FFFFFFFF}).
+     */
+    public static final long BROADCAST_UID = 0xFFFFFFFFFFFFL;
+
+    /**
+     * The maximum length of parameter data ({@code 231}).
+     */
+    public static final int MAX_PARAMETER_DATA_LENGTH = 231;
+
+    /**
+     * The maximum length of a message without start code ({@code 256}).
+     */
+    public static final int MAX_LENGTH = 25 + MAX_PARAMETER_DATA_LENGTH;
+
+    public static final int DISCOVERY_COMMAND = 0x10;
+    public static final int DISCOVERY_COMMAND_RESPONSE = 0x11;
+    public static final int GET_COMMAND = 0x20;
+    public static final int GET_COMMAND_RESPONSE = 0x21;
+    public static final int SET_COMMAND = 0x30;
+    public static final int SET_COMMAND_RESPONSE = 0x31;
+
+    public static final int RESPONSE_TYPE_ACK = 0x00;
+    public static final int RESPONSE_TYPE_ACK_TIMER = 0x01;
+    public static final int RESPONSE_TYPE_NACK_REASON = 0x02;
+    public static final int RESPONSE_TYPE_ACK_OVERFLOW = 0x03;
+
+    private Rdm() {
+    }
+
+    /**
+     * @param manufacturerId The 16 bit manufacturer ID.
+     * @param deviceId       The 32 bit device ID.
+     * @return The UID.
+     */
+    public static long toUid(int manufacturerId, int deviceId) {
+        return (manufacturerId & 0xFFFFL) << 32 | deviceId & 0xFFFFFFFFL;
+    }
+
+    /**
+     * @param uid The UID.
+     * @return The 16 bit manufacturer ID.
+     */
+    public static int getManufacturerId(long uid) {
+        return (int) (uid >> 32 & 0xFFFF);
+    }
+
+    /**
+     * @param uid The UID.
+     * @return The 32 bit device ID.
+     */
+    public static int getDeviceId(long uid) {
+        return (int) uid;
+    }
+
+    /**
+     * @param uid The UID.
+     * @return The UID in the common notation {@code MMMM:DDDDDDDD}.
+     */
+    public static String toString(long uid) {
+        return String.format("%04X:%08X", getManufacturerId(uid), getDeviceId(uid));
+    }
+
+    /**
+     * Reads a UID in network byte order.
+     *
+     * @param bytes  The bytes to read from.
+     * @param offset The index of the first byte.
+     * @return The UID.
+     */
+    public static long readUid(byte[] bytes, int offset) {
+        long result = 0;
+        for (int i = 0; i < 6; i++) {
+            result = result << 8 | bytes[offset + i] & 0xFF;
+        }
+        return result;
+    }
+
+    /**
+     * Writes a UID in network byte order.
+     *
+     * @param uid    The UID.
+     * @param bytes  The bytes to write to.
+     * @param offset The index of the first byte.
+     */
+    public static void writeUid(long uid, byte[] bytes, int offset) {
+        for (int i = 5; i >= 0; i--) {
+            bytes[offset + i] = (byte) uid;
+            uid >>= 8;
+        }
+    }
+
+    /**
+     * Writes a complete message including checksum, but without start code.
+     *
+     * @param buffer            The buffer to write to.
+     * @param offset            The index of the sub-start code.
+     * @param destinationUid    The UID of the receiving device.
+     * @param sourceUid         The UID of the sending device.
+     * @param transactionNumber The transaction number, excess bits are ignored.
+     * @param portId            The port ID for requests or the response type for responses.
+     * @param subDevice         The sub-device ({@code 0} for the root device).
+     * @param commandClass      The command class, e.g. {@link #GET_COMMAND}.
+     * @param parameterId       The parameter ID.
+     * @param parameterData     The parameter data, up to {@link #MAX_PARAMETER_DATA_LENGTH} bytes.
+     * @return The length of the message without start code.
+     */
+    public static int writeMessage(byte[] buffer, int offset, long destinationUid, long sourceUid,
+                                   int transactionNumber, int portId, int subDevice, int commandClass,
+                                   int parameterId, byte[] parameterData) {
+
+        if (parameterData.length > MAX_PARAMETER_DATA_LENGTH) {
+            throw new IllegalArgumentException("Illegal parameter data length!");
+        }
+
+        buffer[offset] = SUB_START_CODE;
+        buffer[offset + 1] = (byte) (24 + parameterData.length);
+        writeUid(destinationUid, buffer, offset + 2);
+        writeUid(sourceUid, buffer, offset + 8);
+        buffer[offset + 14] = (byte) transactionNumber;
+        buffer[offset + 15] = (byte) portId;
+        buffer[offset + 16] = 0x00;
+        buffer[offset + 17] = (byte) (subDevice >> 8);
+        buffer[offset + 18] = (byte) subDevice;
+        buffer[offset + 19] = (byte) commandClass;
+        buffer[offset + 20] = (byte) (parameterId >> 8);
+        buffer[offset + 21] = (byte) parameterId;
+        buffer[offset + 22] = (byte) parameterData.length;
+        System.arraycopy(parameterData, 0, buffer, offset + 23, parameterData.length);
+
+        int checksum = getChecksum(buffer, offset, 23 + parameterData.length);
+        buffer[offset + 23 + parameterData.length] = (byte) (checksum >> 8);
+        buffer[offset + 24 + parameterData.length] = (byte) checksum;
+
+        return 25 + parameterData.length;
+    }
+
+    private static int getChecksum(byte[] bytes, int offset, int length) {
+        int result = START_CODE;
+        for (int i = offset; i < offset + length; i++) {
+            result += bytes[i] & 0xFF;
+        }
+        return result & 0xFFFF;
+    }
+
+    /**
+     * Checks sub-start code, lengths and checksum of a message.
+     *
+     * @param bytes  The bytes to read from.
+     * @param offset The index of the sub-start code.
+     * @param length The amount of bytes available from {@code offset}.
+     * @return Whether the message is complete and valid.
+     */
+    public static boolean isValid(byte[] bytes, int offset, int length) {
+
+        if (length < 25 || bytes[offset] != SUB_START_CODE) {
+            return false;
+        }
+
+        int messageLength = bytes[offset + 1] & 0xFF;
+
+        if (messageLength < 24 || messageLength != 24 + getParameterDataLength(bytes, offset)
+                || messageLength + 1 > length) {
+            return false;
+        }
+
+        int checksum = (bytes[offset + messageLength - 1] & 0xFF) << 8 | bytes[offset + messageLength] & 0xFF;
+
+        return checksum == getChecksum(bytes, offset, messageLength - 1);
+    }
+
+    /**
+     * @param bytes  The bytes to read from.
+     * @param offset The index of the sub-start code.
+     * @return The length of the message without start code, including checksum.
+     */
+    public static int getLength(byte[] bytes, int offset) {
+        return (bytes[offset + 1] & 0xFF) + 1;
+    }
+
+    public static long getDestinationUid(byte[] bytes, int offset) {
+        return readUid(bytes, offset + 2);
+    }
+
+    public static long getSourceUid(byte[] bytes, int offset) {
+        return readUid(bytes, offset + 8);
+    }
+
+    public static int getTransactionNumber(byte[] bytes, int offset) {
+        return bytes[offset + 14] & 0xFF;
+    }
+
+    /**
+     * @param bytes  The bytes to read from.
+     * @param offset The index of the sub-start code.
+     * @return The port ID for requests or the response type for responses, e.g. {@link #RESPONSE_TYPE_ACK}.
+     */
+    public static int getPortIdOrResponseType(byte[] bytes, int offset) {
+        return bytes[offset + 15] & 0xFF;
+    }
+
+    public static int getSubDevice(byte[] bytes, int offset) {
+        return (bytes[offset + 17] & 0xFF) << 8 | bytes[offset + 18] & 0xFF;
+    }
+
+    public static int getCommandClass(byte[] bytes, int offset) {
+        return bytes[offset + 19] & 0xFF;
+    }
+
+    public static int getParameterId(byte[] bytes, int offset) {
+        return (bytes[offset + 20] & 0xFF) << 8 | bytes[offset + 21] & 0xFF;
+    }
+
+    public static int getParameterDataLength(byte[] bytes, int offset) {
+        return bytes[offset + 22] & 0xFF;
+    }
+
+    /**
+     * @param bytes  The bytes to read from.
+     * @param offset The index of the sub-start code.
+     * @return A copy of the parameter data.
+     */
+    public static byte[] getParameterData(byte[] bytes, int offset) {
+        byte[] result = new byte[getParameterDataLength(bytes, offset)];
+        System.arraycopy(bytes, offset + 23, result, 0, result.length);
+        return result;
+    }
+}
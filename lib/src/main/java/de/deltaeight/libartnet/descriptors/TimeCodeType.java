@@ -29,30 +29,50 @@ package de.deltaeight.libartnet.descriptors;
  */
 public enum TimeCodeType {
 
-    Film(24, 0x00),
-    EBU(25, 0x01),
-    DF(29.97f, 0x02),
-    SMPTE(30, 0x03);
+    Film(24, 24, false, 0x00),
+    EBU(25, 25, false, 0x01),
+    DF(29.97f, 30, true, 0x02),
+    SMPTE(30, 30, false, 0x03);
+
+    private static final TimeCodeType[] VALUES = values();
 
     private final float framerate;
+    private final int framesPerSecond;
+    private final boolean dropFrame;
     private final int value;
 
-    TimeCodeType(float framerate, int value) {
+    TimeCodeType(float framerate, int framesPerSecond, boolean dropFrame, int value) {
         this.framerate = framerate;
+        this.framesPerSecond = framesPerSecond;
+        this.dropFrame = dropFrame;
         this.value = value;
     }
 
     public static TimeCodeType getTimeCodeType(int value) {
-        if (value > values().length - 1) {
+        if (value < 0 || value > VALUES.length - 1) {
             return Film;
         }
-        return values()[value];
+        return VALUES[value];
     }
 
     public float getFramerate() {
         return framerate;
     }
 
+    /**
+     * @return The amount of frames counted per timecode second, which is {@code 30} for {@link #DF}.
+     */
+    public int getFramesPerSecond() {
+        return framesPerSecond;
+    }
+
+    /**
+     * @return Whether frame numbers {@code 0} and {@code 1} are skipped at the start of each minute except every tenth.
+     */
+    public boolean isDropFrame() {
+        return dropFrame;
+    }
+
     public byte getByte() {
         return (byte) value;
     }
@@ -0,0 +1,75 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.descriptors;
+
+/**
+ * Commands of {@code ArtTodControl} packets.
+ *
+ * @author Julian Rabe
+ * @see de.deltaeight.libartnet.packets.ArtTodControl
+ */
+public enum TodControlCommand {
+
+    /**
+     * No action.
+     */
+    AtcNone(0x00),
+
+    /**
+     * The node flushes its table of devices and starts full discovery.
+     */
+    AtcFlush(0x01),
+
+    /**
+     * The node ends its current discovery.
+     */
+    AtcEnd(0x02),
+
+    /**
+     * The node enables incremental discovery.
+     */
+    AtcIncOn(0x03),
+
+    /**
+     * The node disables incremental discovery.
+     */
+    AtcIncOff(0x04);
+
+    private static final TodControlCommand[] VALUES = values();
+
+    private final int value;
+
+    TodControlCommand(int value) {
+        this.value = value;
+    }
+
+    public static TodControlCommand getTodControlCommand(int value) {
+        if (value < 0 || value > VALUES.length - 1) {
+            return AtcNone;
+        }
+        return VALUES[value];
+    }
+
+    public byte getByte() {
+        return (byte) value;
+    }
+}
@@ -0,0 +1,390 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import de.deltaeight.libartnet.packets.ArtAddress;
+import de.deltaeight.libartnet.packets.ArtPollReply;
+
+/**
+ * Remotely programs many nodes at once with {@link ArtAddress} packets and confirms every change.
+ * <p>
+ * Nodes answer an {@link ArtAddress} with an {@link ArtPollReply} showing their new configuration. All packets of a
+ * batch are sent at once, every change completes as soon as a matching {@link ArtPollReply} of its node is received.
+ * Nodes which did not confirm within the timeout are sent their {@link ArtAddress} again until the retries are
+ * exhausted.
+ * <p>
+ * Net, subnet and universe addresses as well as names are confirmed by comparing them with the {@link ArtPollReply}.
+ * Commands, sACN priority and resets to physical switches cannot be verified, so any {@link ArtPollReply} of the node
+ * confirms them.
+ *
+ * @author Julian Rabe
+ * @see AddressProgrammingResult
+ * @see ArtAddress
+ */
+public class AddressProgrammer implements PacketReceiveHandler<ArtPollReply> {
+
+    private final ArtNetSender artNetSender;
+    private final ArtNetReceiver artNetReceiver;
+    private final HashMap<InetAddress, List<Change>> changes;
+
+    private long timeout;
+    private int retries;
+    private ScheduledThreadPoolExecutor scheduler;
+    private NetworkHandler.State state;
+
+    /**
+     * Initializes an instance for use.
+     *
+     * @param artNetSender   The {@link ArtNetSender} to send {@link ArtAddress} packets with.
+     * @param artNetReceiver The {@link ArtNetReceiver} to receive {@link ArtPollReply} packets with.
+     */
+    public AddressProgrammer(ArtNetSender artNetSender, ArtNetReceiver artNetReceiver) {
+
+        this.artNetSender = artNetSender;
+        this.artNetReceiver = artNetReceiver;
+
+        changes = new HashMap<>();
+
+        timeout = 1000;
+        retries = 3;
+        state = NetworkHandler.State.Initialized;
+    }
+
+    /**
+     * Checks whether a node applied an {@link ArtAddress}.
+     *
+     * @param artAddress   The {@link ArtAddress} which was sent.
+     * @param artPollReply The {@link ArtPollReply} of the node.
+     * @return Whether {@code artPollReply} shows all verifiable changes of {@code artAddress}.
+     */
+    static boolean isConfirmedBy(ArtAddress artAddress, ArtPollReply artPollReply) {
+
+        // Bind index 0 and 1 both address the root device
+        if (Math.max(artAddress.getBindIndex(), 1) != Math.max(artPollReply.getBindIndex(), 1)) {
+            return false;
+        }
+
+        if (artAddress.getNetAddress() >= 0 && artAddress.getNetAddress() != artPollReply.getNetAddress()) {
+            return false;
+        }
+
+        if (artAddress.getSubnetAddress() >= 0 && artAddress.getSubnetAddress() != artPollReply.getSubnetAddress()) {
+            return false;
+        }
+
+        if (!artAddress.getShortName().isEmpty() && !artAddress.getShortName().equals(artPollReply.getShortName())) {
+            return false;
+        }
+
+        if (!artAddress.getLongName().isEmpty() && !artAddress.getLongName().equals(artPollReply.getLongName())) {
+            return false;
+        }
+
+        int[] inputUniverseAddresses = artAddress.getInputUniverseAddresses();
+        int[] outputUniverseAddresses = artAddress.getOutputUniverseAddresses();
+        int[] actualInputUniverseAddresses = artPollReply.getInputUniverseAddresses();
+        int[] actualOutputUniverseAddresses = artPollReply.getOutputUniverseAddresses();
+
+        for (int i = 0; i < 4; i++) {
+            if (inputUniverseAddresses[i] >= 0 && inputUniverseAddresses[i] != actualInputUniverseAddresses[i]
+                    || outputUniverseAddresses[i] >= 0
+                    && outputUniverseAddresses[i] != actualOutputUniverseAddresses[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Registers at the {@link ArtNetReceiver}. Only possible if not already running or stopped.
+     *
+     * @throws IllegalStateException When {@link #getState()} {@code != } {@link NetworkHandler.State#Initialized}.
+     * @see #stop()
+     */
+    public synchronized void start() {
+        if (state == NetworkHandler.State.Initialized) {
+
+            scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "ArtNet Address Worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+
+            artNetReceiver.addArtPollReplyReceiveHandler(this);
+
+            state = NetworkHandler.State.Running;
+        } else if (state == NetworkHandler.State.Running) {
+            throw new IllegalStateException("Already running!");
+        } else {
+            throw new IllegalStateException("Not initialized!");
+        }
+    }
+
+    /**
+     * Unregisters from the {@link ArtNetReceiver} and cancels all unconfirmed changes with a
+     * {@link CancellationException}. Only possible if running.
+     *
+     * @throws IllegalStateException When {@link #getState()} {@code != } {@link NetworkHandler.State#Running}.
+     * @see #start()
+     */
+    public void stop() {
+
+        ArrayList<Change> cancelled = new ArrayList<>();
+
+        synchronized (this) {
+            if (state != NetworkHandler.State.Running) {
+                throw new IllegalStateException("Not Running!");
+            }
+
+            scheduler.shutdownNow();
+            artNetReceiver.removeArtPollReplyReceiveHandler(this);
+
+            changes.values().forEach(cancelled::addAll);
+            changes.clear();
+            state = NetworkHandler.State.Stopped;
+        }
+
+        for (Change change : cancelled) {
+            change.future.completeExceptionally(new CancellationException("Stopped!"));
+        }
+    }
+
+    /**
+     * Sends an {@link ArtAddress} to a node and waits for its confirmation.
+     *
+     * @param node       The {@link InetAddress} of the node.
+     * @param artAddress The {@link ArtAddress} to send.
+     * @return A {@link CompletableFuture} which is completed with the confirming {@link ArtPollReply} or exceptionally
+     * with a {@link TimeoutException} when the node did not confirm after all retries.
+     * @throws IllegalStateException When {@link #getState()} {@code != } {@link NetworkHandler.State#Running}.
+     */
+    public CompletableFuture<ArtPollReply> program(InetAddress node, ArtAddress artAddress) {
+
+        if (node == null) {
+            throw new IllegalArgumentException("Illegal node!");
+        }
+
+        if (artAddress == null) {
+            throw new IllegalArgumentException("Illegal ArtAddress!");
+        }
+
+        Change change = new Change(node, artAddress);
+
+        synchronized (this) {
+            if (state != NetworkHandler.State.Running) {
+                throw new IllegalStateException("Not Running!");
+            }
+
+            changes.computeIfAbsent(node, key -> new ArrayList<>(1)).add(change);
+            transmit(change);
+        }
+
+        return change.future;
+    }
+
+    /**
+     * Sends {@link ArtAddress} packets to many nodes at once and waits until every node confirmed or failed.
+     *
+     * @param artAddresses The {@link ArtAddress} to send to each node.
+     * @return A {@link CompletableFuture} which is completed with the {@link AddressProgrammingResult} once all nodes
+     * confirmed or exhausted their retries.
+     * @throws IllegalStateException When {@link #getState()} {@code != } {@link NetworkHandler.State#Running}.
+     * @see #program(InetAddress, ArtAddress)
+     */
+    public CompletableFuture<AddressProgrammingResult> program(Map<InetAddress, ArtAddress> artAddresses) {
+
+        HashMap<InetAddress, CompletableFuture<ArtPollReply>> futures = new HashMap<>();
+        artAddresses.forEach((node, artAddress) -> futures.put(node, program(node, artAddress)));
+
+        return CompletableFuture.allOf(futures.values().stream()
+                .map(future -> future.handle((artPollReply, throwable) -> null))
+                .toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    HashMap<InetAddress, ArtPollReply> confirmed = new HashMap<>();
+                    HashSet<InetAddress> failed = new HashSet<>();
+                    futures.forEach((node, future) -> {
+                        if (future.isCompletedExceptionally()) {
+                            failed.add(node);
+                        } else {
+                            confirmed.put(node, future.join());
+                        }
+                    });
+                    return new AddressProgrammingResult(confirmed, failed);
+                });
+    }
+
+    private void transmit(Change change) {
+        change.attempts++;
+        change.timeoutTask = scheduler.schedule(() -> timeout(change), timeout, TimeUnit.MILLISECONDS);
+        artNetSender.send(change.node, change.artAddress);
+    }
+
+    private void timeout(Change change) {
+
+        synchronized (this) {
+            List<Change> nodeChanges = changes.get(change.node);
+            if (nodeChanges == null || !nodeChanges.contains(change)) {
+                return;
+            }
+
+            if (change.attempts <= retries) {
+                transmit(change);
+                return;
+            }
+
+            remove(change);
+        }
+
+        change.future.completeExceptionally(new TimeoutException("Node did not confirm ArtAddress!"));
+    }
+
+    private void remove(Change change) {
+        List<Change> nodeChanges = changes.get(change.node);
+        nodeChanges.remove(change);
+        if (nodeChanges.isEmpty()) {
+            changes.remove(change.node);
+        }
+    }
+
+    /**
+     * Confirms all pending changes of the node which sent {@code packet} and match its configuration.
+     *
+     * @param packet The {@link ArtPollReply} which was received.
+     */
+    @Override
+    public void handle(ArtPollReply packet) {
+
+        InetAddress node;
+        try {
+            node = InetAddress.getByAddress(packet.getIpAddress());
+        } catch (UnknownHostException e) {
+            return;
+        }
+
+        ArrayList<Change> confirmed = new ArrayList<>(1);
+
+        synchronized (this) {
+            List<Change> nodeChanges = changes.get(node);
+            if (nodeChanges == null) {
+                return;
+            }
+
+            for (Change change : nodeChanges) {
+                if (isConfirmedBy(change.artAddress, packet)) {
+                    change.timeoutTask.cancel(false);
+                    confirmed.add(change);
+                }
+            }
+
+            confirmed.forEach(this::remove);
+        }
+
+        for (Change change : confirmed) {
+            change.future.complete(packet);
+        }
+    }
+
+    /**
+     * @return The amount of changes which are not confirmed yet.
+     */
+    public synchronized int getPending() {
+        int result = 0;
+        for (List<Change> nodeChanges : changes.values()) {
+            result += nodeChanges.size();
+        }
+        return result;
+    }
+
+    public synchronized long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * @param timeout The time in milliseconds to wait for a confirmation before sending the {@link ArtAddress} again.
+     */
+    public synchronized void setTimeout(long timeout) {
+        if (timeout < 1) {
+            throw new IllegalArgumentException("Illegal timeout!");
+        }
+        this.timeout = timeout;
+    }
+
+    public AddressProgrammer withTimeout(long timeout) {
+        setTimeout(timeout);
+        return this;
+    }
+
+    public synchronized int getRetries() {
+        return retries;
+    }
+
+    /**
+     * @param retries The amount of times an unconfirmed {@link ArtAddress} is sent again.
+     */
+    public synchronized void setRetries(int retries) {
+        if (retries < 0) {
+            throw new IllegalArgumentException("Illegal retries!");
+        }
+        this.retries = retries;
+    }
+
+    public AddressProgrammer withRetries(int retries) {
+        setRetries(retries);
+        return this;
+    }
+
+    public synchronized NetworkHandler.State getState() {
+        return state;
+    }
+
+    private static class Change {
+
+        private final InetAddress node;
+        private final ArtAddress artAddress;
+        private final CompletableFuture<ArtPollReply> future;
+
+        private int attempts;
+        private ScheduledFuture<?> timeoutTask;
+
+        private Change(InetAddress node, ArtAddress artAddress) {
+            this.node = node;
+            this.artAddress = artAddress;
+            future = new CompletableFuture<>();
+        }
+    }
+}
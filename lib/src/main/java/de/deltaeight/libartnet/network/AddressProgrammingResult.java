@@ -0,0 +1,67 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.InetAddress;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import de.deltaeight.libartnet.packets.ArtPollReply;
+
+/**
+ * Reports the outcome of a batch of {@code ArtAddress} changes sent by {@link AddressProgrammer}.
+ *
+ * @author Julian Rabe
+ * @see AddressProgrammer#program(Map)
+ */
+public class AddressProgrammingResult {
+
+    private final Map<InetAddress, ArtPollReply> confirmed;
+    private final Set<InetAddress> failed;
+
+    AddressProgrammingResult(Map<InetAddress, ArtPollReply> confirmed, Set<InetAddress> failed) {
+        this.confirmed = Collections.unmodifiableMap(confirmed);
+        this.failed = Collections.unmodifiableSet(failed);
+    }
+
+    /**
+     * @return The nodes which confirmed their changes, mapped to the confirming {@link ArtPollReply}.
+     */
+    public Map<InetAddress, ArtPollReply> getConfirmed() {
+        return confirmed;
+    }
+
+    /**
+     * @return The nodes which did not confirm their changes after all retries.
+     */
+    public Set<InetAddress> getFailed() {
+        return failed;
+    }
+
+    /**
+     * @return Whether all nodes confirmed their changes.
+     */
+    public boolean isSuccessful() {
+        return failed.isEmpty();
+    }
+}
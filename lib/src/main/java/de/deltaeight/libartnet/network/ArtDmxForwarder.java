@@ -0,0 +1,46 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import de.deltaeight.libartnet.packets.ArtDmx;
+
+/**
+ * Processes received {@link ArtDmx} packets in their encoded form.
+ * <p>
+ * Forwarders are called by {@link ArtNetReceiver} directly on its receiving thread, before the packet is decoded and
+ * dispatched to any {@link PacketReceiveHandler}. Implementations must therefore be fast, must not block and must not
+ * keep a reference to the passed buffer, which is reused for the next datagram.
+ *
+ * @author Julian Rabe
+ * @see ArtNetReceiver#addArtDmxForwarder(ArtDmxForwarder)
+ */
+@FunctionalInterface
+public interface ArtDmxForwarder {
+
+    /**
+     * Is called by {@link ArtNetReceiver} when an {@link ArtDmx} packet was received.
+     *
+     * @param packetData The encoded {@link ArtDmx} packet, which must not be modified.
+     * @param length     The length of the received datagram.
+     */
+    void forward(byte[] packetData, int length);
+}
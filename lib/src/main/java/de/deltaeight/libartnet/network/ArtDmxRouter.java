@@ -0,0 +1,217 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.util.Arrays;
+
+import de.deltaeight.libartnet.collections.PortAddressArray;
+import de.deltaeight.libartnet.descriptors.PortAddress;
+import de.deltaeight.libartnet.packets.ArtDmx;
+
+/**
+ * Forwards received {@link ArtDmx} packets to other Port-Addresses and destinations without decoding them.
+ * <p>
+ * Add an instance at {@link ArtNetReceiver#addArtDmxForwarder(ArtDmxForwarder)} to route packets directly on the
+ * receiving thread. Routes are looked up by the Port-Address of the received packet, which is then copied into a new
+ * {@link DatagramPacket} per route with only the sequence number and Port-Address rewritten, and queued at the
+ * {@link ArtNetSender}. One Port-Address may be routed to any amount of targets.
+ * <p>
+ * Each route counts its own sequence numbers.
+ *
+ * @author Julian Rabe
+ * @see ArtNetReceiver
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtDmxRouter implements ArtDmxForwarder {
+
+    private static final Route[] NO_ROUTES = new Route[0];
+
+    private final ArtNetSender artNetSender;
+    private final PortAddressArray<Route[]> routes;
+
+    /**
+     * Initializes an instance for use.
+     *
+     * @param artNetSender The {@link ArtNetSender} to forward packets with.
+     */
+    public ArtDmxRouter(ArtNetSender artNetSender) {
+        this.artNetSender = artNetSender;
+        routes = new PortAddressArray<>();
+    }
+
+    private static void checkPortAddress(int portAddress) {
+        if (!PortAddress.isValid(portAddress)) {
+            throw new IllegalArgumentException("Illegal Port-Address!");
+        }
+    }
+
+    /**
+     * Forwards an encoded {@link ArtDmx} packet according to the routes of its Port-Address.
+     *
+     * @param packetData The encoded {@link ArtDmx} packet, which is not modified.
+     * @param length     The length of the received datagram.
+     */
+    @Override
+    public void forward(byte[] packetData, int length) {
+
+        if (length < 18) {
+            return;
+        }
+
+        Route[] targets = routes.get(PortAddress.read(packetData, 14));
+
+        if (targets != null) {
+
+            int packetLength = 18 + ((packetData[16] & 0xFF) << 8 | packetData[17] & 0xFF);
+
+            if (packetLength <= length && packetLength <= 530) {
+                for (Route route : targets) {
+                    artNetSender.send(route.prepare(packetData, packetLength));
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a route. Adding an existing route has no effect.
+     *
+     * @param fromPortAddress The Port-Address of received packets.
+     * @param toPortAddress   The Port-Address to forward them to.
+     * @param destination     The {@link InetAddress} to forward them to.
+     */
+    public synchronized void addRoute(int fromPortAddress, int toPortAddress, InetAddress destination) {
+
+        checkPortAddress(fromPortAddress);
+        checkPortAddress(toPortAddress);
+
+        if (destination == null) {
+            throw new IllegalArgumentException("Illegal destination!");
+        }
+
+        Route[] current = routes.getOrDefault(fromPortAddress, NO_ROUTES);
+
+        for (Route route : current) {
+            if (route.matches(toPortAddress, destination)) {
+                return;
+            }
+        }
+
+        Route[] result = new Route[current.length + 1];
+        System.arraycopy(current, 0, result, 0, current.length);
+        result[current.length] = new Route(toPortAddress, destination);
+
+        routes.set(fromPortAddress, result);
+    }
+
+    public ArtDmxRouter withRoute(int fromPortAddress, int toPortAddress, InetAddress destination) {
+        addRoute(fromPortAddress, toPortAddress, destination);
+        return this;
+    }
+
+    /**
+     * Removes a route.
+     *
+     * @param fromPortAddress The Port-Address of received packets.
+     * @param toPortAddress   The Port-Address they are forwarded to.
+     * @param destination     The {@link InetAddress} they are forwarded to.
+     */
+    public synchronized void removeRoute(int fromPortAddress, int toPortAddress, InetAddress destination) {
+
+        Route[] current = routes.get(fromPortAddress);
+
+        if (current != null) {
+            for (int i = 0; i < current.length; i++) {
+                if (current[i].matches(toPortAddress, destination)) {
+                    Route[] result = new Route[current.length - 1];
+                    System.arraycopy(current, 0, result, 0, i);
+                    System.arraycopy(current, i + 1, result, i, result.length - i);
+                    routes.set(fromPortAddress, result.length > 0 ? result : null);
+                    return;
+                }
+            }
+        }
+    }
+
+    public ArtDmxRouter withoutRoute(int fromPortAddress, int toPortAddress, InetAddress destination) {
+        removeRoute(fromPortAddress, toPortAddress, destination);
+        return this;
+    }
+
+    /**
+     * Removes all routes of a Port-Address.
+     *
+     * @param fromPortAddress The Port-Address of received packets.
+     */
+    public synchronized void removeRoutes(int fromPortAddress) {
+        checkPortAddress(fromPortAddress);
+        routes.remove(fromPortAddress);
+    }
+
+    /**
+     * Removes all routes.
+     */
+    public synchronized void clear() {
+        routes.clear();
+    }
+
+    /**
+     * @param fromPortAddress The Port-Address of received packets.
+     * @return The amount of targets {@code fromPortAddress} is forwarded to.
+     */
+    public int getRouteCount(int fromPortAddress) {
+        return routes.getOrDefault(fromPortAddress, NO_ROUTES).length;
+    }
+
+    private static class Route {
+
+        private final int toPortAddress;
+        private final InetAddress destination;
+
+        private int sequence;
+
+        private Route(int toPortAddress, InetAddress destination) {
+            this.toPortAddress = toPortAddress;
+            this.destination = destination;
+        }
+
+        private boolean matches(int toPortAddress, InetAddress destination) {
+            return this.toPortAddress == toPortAddress && this.destination.equals(destination);
+        }
+
+        /**
+         * Is only called by the receiving thread. Every packet gets its own buffer, as the previous one may still be
+         * queued in the {@link ArtNetSender}.
+         */
+        private DatagramPacket prepare(byte[] packetData, int length) {
+
+            sequence = sequence == 255 ? 1 : sequence + 1;
+
+            byte[] bytes = Arrays.copyOf(packetData, length);
+            bytes[12] = (byte) sequence;
+            PortAddress.write(toPortAddress, bytes, 14);
+
+            return new DatagramPacket(bytes, length, destination, 0x1936);
+        }
+    }
+}
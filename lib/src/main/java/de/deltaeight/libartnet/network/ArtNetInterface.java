@@ -0,0 +1,219 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.DatagramSocket;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.InterfaceAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Represents the Art-Net traffic of a single IPv4 address of a {@link NetworkInterface}.
+ * <p>
+ * Each instance owns its own socket bound to the address, its own {@link ArtNetSender} and its own receiving and
+ * working threads, so separate networks are handled in isolation. As some platforms do not deliver broadcasts to
+ * sockets bound to a unicast address, an additional {@link ArtNetReceiver} bound to the broadcast address is used
+ * where the platform allows it.
+ *
+ * @author Julian Rabe
+ * @see InterfaceManager
+ */
+public class ArtNetInterface {
+
+    private final NetworkInterface networkInterface;
+    private final InetAddress address;
+    private final InetAddress broadcastAddress;
+    private final int prefixLength;
+    private final int mask;
+    private final ExecutorService workingPool;
+    private final ArtNetSender artNetSender;
+    private final List<ArtNetReceiver> artNetReceivers;
+
+    ArtNetInterface(NetworkInterface networkInterface, InetAddress address, InetAddress broadcastAddress,
+                    int prefixLength, ExecutorService workingPool, ArtNetSender artNetSender,
+                    ArtNetReceiver... artNetReceivers) {
+
+        if (!(address instanceof Inet4Address)) {
+            throw new IllegalArgumentException("Illegal address!");
+        }
+
+        if (prefixLength < 0 || prefixLength > 32) {
+            throw new IllegalArgumentException("Illegal prefix length!");
+        }
+
+        this.networkInterface = networkInterface;
+        this.address = address;
+        this.broadcastAddress = broadcastAddress;
+        this.prefixLength = prefixLength;
+        this.workingPool = workingPool;
+        this.artNetSender = artNetSender;
+        this.artNetReceivers = Collections.unmodifiableList(Arrays.asList(artNetReceivers));
+
+        mask = prefixLength == 0 ? 0 : -1 << 32 - prefixLength;
+    }
+
+    /**
+     * Opens the sockets of an {@link InterfaceAddress}.
+     *
+     * @param networkInterface The {@link NetworkInterface} {@code interfaceAddress} belongs to.
+     * @param interfaceAddress The IPv4 {@link InterfaceAddress} to use.
+     * @return The new {@link ArtNetInterface}.
+     * @throws SocketException When it was not possible to bind to Port {@code 0x1936} of the address.
+     */
+    static ArtNetInterface open(NetworkInterface networkInterface, InterfaceAddress interfaceAddress)
+            throws SocketException {
+
+        InetAddress address = interfaceAddress.getAddress();
+        InetAddress broadcastAddress = interfaceAddress.getBroadcast();
+
+        String name = networkInterface.getName() + " " + address.getHostAddress();
+        ExecutorService workingPool = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ArtNet " + name + " Worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        DatagramSocket socket = bind(address);
+        ArtNetSender artNetSender = new ArtNetSender(socket);
+        ArtNetReceiver artNetReceiver = new ArtNetReceiver(workingPool, socket);
+
+        DatagramSocket broadcastSocket = null;
+
+        if (broadcastAddress != null) {
+            try {
+                broadcastSocket = bind(broadcastAddress);
+            } catch (SocketException ignored) {
+                // The platform delivers broadcasts to the socket bound to the unicast address
+            }
+        }
+
+        if (broadcastSocket == null) {
+            return new ArtNetInterface(networkInterface, address, broadcastAddress,
+                    interfaceAddress.getNetworkPrefixLength(), workingPool, artNetSender, artNetReceiver);
+        }
+
+        return new ArtNetInterface(networkInterface, address, broadcastAddress,
+                interfaceAddress.getNetworkPrefixLength(), workingPool, artNetSender, artNetReceiver,
+                new ArtNetReceiver(workingPool, broadcastSocket));
+    }
+
+    private static DatagramSocket bind(InetAddress address) throws SocketException {
+
+        DatagramSocket socket = new DatagramSocket(null);
+
+        try {
+            socket.setReuseAddress(true);
+            socket.setBroadcast(true);
+            socket.bind(new InetSocketAddress(address, 0x1936));
+        } catch (SocketException e) {
+            socket.close();
+            throw e;
+        }
+
+        return socket;
+    }
+
+    private static int toInt(InetAddress address) {
+        byte[] bytes = address.getAddress();
+        return (bytes[0] & 0xFF) << 24 | (bytes[1] & 0xFF) << 16 | (bytes[2] & 0xFF) << 8 | bytes[3] & 0xFF;
+    }
+
+    /**
+     * @param destination The {@link InetAddress} to check.
+     * @return Whether {@code destination} is within the subnet of this interface, including its broadcast address.
+     */
+    public boolean contains(InetAddress destination) {
+        return destination instanceof Inet4Address && (toInt(destination) & mask) == (toInt(address) & mask);
+    }
+
+    void start() {
+        artNetSender.start();
+        for (ArtNetReceiver artNetReceiver : artNetReceivers) {
+            artNetReceiver.start();
+        }
+    }
+
+    void stop() {
+        for (ArtNetReceiver artNetReceiver : artNetReceivers) {
+            artNetReceiver.stop();
+        }
+        artNetSender.stop();
+        workingPool.shutdown();
+    }
+
+    /**
+     * Closes all sockets and the working pool, no matter whether this interface was started.
+     */
+    void close() {
+        for (ArtNetReceiver artNetReceiver : artNetReceivers) {
+            close(artNetReceiver);
+        }
+        close(artNetSender);
+        workingPool.shutdown();
+    }
+
+    private static void close(NetworkHandler networkHandler) {
+        if (networkHandler.getState() == NetworkHandler.State.Running) {
+            networkHandler.stop();
+        } else {
+            networkHandler.socket.close();
+        }
+    }
+
+    public NetworkInterface getNetworkInterface() {
+        return networkInterface;
+    }
+
+    public InetAddress getAddress() {
+        return address;
+    }
+
+    public InetAddress getBroadcastAddress() {
+        return broadcastAddress;
+    }
+
+    public int getPrefixLength() {
+        return prefixLength;
+    }
+
+    /**
+     * @return The {@link ArtNetSender} sending from the address of this interface.
+     */
+    public ArtNetSender getArtNetSender() {
+        return artNetSender;
+    }
+
+    /**
+     * @return The {@link ArtNetReceiver} instances receiving on this interface.
+     */
+    public List<ArtNetReceiver> getArtNetReceivers() {
+        return artNetReceivers;
+    }
+}
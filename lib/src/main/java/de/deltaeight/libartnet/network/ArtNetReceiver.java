@@ -25,38 +25,96 @@ import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.SocketException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 
+import de.deltaeight.libartnet.builders.ArtAddressBuilder;
+import de.deltaeight.libartnet.builders.ArtCommandBuilder;
+import de.deltaeight.libartnet.builders.ArtDiagDataBuilder;
 import de.deltaeight.libartnet.builders.ArtDmxBuilder;
+import de.deltaeight.libartnet.builders.ArtFirmwareMasterBuilder;
+import de.deltaeight.libartnet.builders.ArtFirmwareReplyBuilder;
+import de.deltaeight.libartnet.builders.ArtInputBuilder;
 import de.deltaeight.libartnet.builders.ArtPollBuilder;
 import de.deltaeight.libartnet.builders.ArtPollReplyBuilder;
+import de.deltaeight.libartnet.builders.ArtRdmBuilder;
 import de.deltaeight.libartnet.builders.ArtTimeCodeBuilder;
+import de.deltaeight.libartnet.builders.ArtTodControlBuilder;
+import de.deltaeight.libartnet.builders.ArtTodDataBuilder;
+import de.deltaeight.libartnet.builders.ArtTodRequestBuilder;
+import de.deltaeight.libartnet.builders.ArtTriggerBuilder;
+import de.deltaeight.libartnet.collections.PortAddressArray;
 import de.deltaeight.libartnet.descriptors.ArtNet;
+import de.deltaeight.libartnet.descriptors.OpCode;
+import de.deltaeight.libartnet.descriptors.PortAddress;
+import de.deltaeight.libartnet.packets.ArtAddress;
+import de.deltaeight.libartnet.packets.ArtCommand;
+import de.deltaeight.libartnet.packets.ArtDiagData;
 import de.deltaeight.libartnet.packets.ArtDmx;
+import de.deltaeight.libartnet.packets.ArtFirmwareMaster;
+import de.deltaeight.libartnet.packets.ArtFirmwareReply;
+import de.deltaeight.libartnet.packets.ArtInput;
 import de.deltaeight.libartnet.packets.ArtNetPacket;
 import de.deltaeight.libartnet.packets.ArtPoll;
 import de.deltaeight.libartnet.packets.ArtPollReply;
+import de.deltaeight.libartnet.packets.ArtRdm;
 import de.deltaeight.libartnet.packets.ArtTimeCode;
+import de.deltaeight.libartnet.packets.ArtTodControl;
+import de.deltaeight.libartnet.packets.ArtTodData;
+import de.deltaeight.libartnet.packets.ArtTodRequest;
+import de.deltaeight.libartnet.packets.ArtTrigger;
 
 /**
  * Provides a multi-threaded receiver which listens to UDP network traffic and uses {@link PacketReceiveHandler}
  * instances to react to known packets.
+ * <p>
+ * Handlers of {@link ArtTrigger} and {@link ArtCommand} packets are called on a dedicated high priority thread instead
+ * of the shared {@link ExecutorService}, so cues are never queued behind pending {@link ArtDmx} handlers.
  *
  * @author Julian Rabe
  * @see ArtNetSender
  */
 public class ArtNetReceiver extends NetworkHandler {
 
+    private static final byte[] ART_DMX_OP_CODE_BYTES = OpCode.OpDmx.getBytesLittleEndian();
+    private static final byte[] ART_DIAG_DATA_OP_CODE_BYTES = OpCode.OpDiagData.getBytesLittleEndian();
+    private static final byte[] ART_COMMAND_OP_CODE_BYTES = OpCode.OpCommand.getBytesLittleEndian();
+    private static final byte[] ART_TRIGGER_OP_CODE_BYTES = OpCode.OpTrigger.getBytesLittleEndian();
+    private static final byte[] ART_TOD_DATA_OP_CODE_BYTES = OpCode.OpTodData.getBytesLittleEndian();
+
     private final ExecutorService workingPool;
+    private final ExecutorService priorityPool;
     private final byte[] buffer;
     private final ConcurrentHashMap<Class<? extends ArtNetPacket>, PacketReceiveDispatcher<? extends ArtNetPacket>> packetReceiveDispatcher;
+    private final ConcurrentHashMap<Class<? extends ArtNetPacket>, PacketReceiveDispatcher<? extends ArtNetPacket>>
+            priorityPacketReceiveDispatcher;
+    private final HashSet<PacketReceiveHandler<ArtAddress>> artAddressReceiveHandlers;
+    private final HashSet<PacketReceiveHandler<ArtCommand>> artCommandReceiveHandlers;
+    private final HashSet<PacketReceiveHandler<ArtDiagData>> artDiagDataReceiveHandlers;
     private final HashSet<PacketReceiveHandler<ArtDmx>> artDmxReceiveHandlers;
+    private final HashSet<PacketReceiveHandler<ArtFirmwareMaster>> artFirmwareMasterReceiveHandlers;
+    private final HashSet<AddressedPacketReceiveHandler<ArtFirmwareReply>> artFirmwareReplyReceiveHandlers;
+    private final HashSet<PacketReceiveHandler<ArtInput>> artInputReceiveHandlers;
     private final HashSet<PacketReceiveHandler<ArtPoll>> artPollReceiveHandlers;
     private final HashSet<PacketReceiveHandler<ArtPollReply>> artPollReplyReceiveHandlers;
     private final HashSet<PacketReceiveHandler<ArtTimeCode>> artTimeCodeReceiveHandlers;
+    private final HashSet<PacketReceiveHandler<ArtRdm>> artRdmReceiveHandlers;
+    private final HashSet<PacketReceiveHandler<ArtTodControl>> artTodControlReceiveHandlers;
+    private final HashSet<PacketReceiveHandler<ArtTodData>> artTodDataReceiveHandlers;
+    private final HashSet<AddressedPacketReceiveHandler<ArtTodData>> addressedArtTodDataReceiveHandlers;
+    private final HashSet<PacketReceiveHandler<ArtTodRequest>> artTodRequestReceiveHandlers;
+    private final HashSet<PacketReceiveHandler<ArtTrigger>> artTriggerReceiveHandlers;
+    private final PacketReceiveHandler<ArtDmx> artDmxRouteHandler;
+
+    private volatile PortAddressArray<CopyOnWriteArraySet<PacketReceiveHandler<ArtDmx>>> artDmxRoutes;
+    private int artDmxRouteCount;
+    private volatile ArtDmxForwarder[] artDmxForwarders;
+    private volatile DiagDataAggregator diagDataAggregator;
 
     /**
      * Initializes an instance for use.
@@ -73,13 +131,36 @@ public class ArtNetReceiver extends NetworkHandler {
 
         this.workingPool = workingPool;
 
-        buffer = new byte[530];
+        priorityPool = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ArtNet Priority Worker");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MAX_PRIORITY);
+            return thread;
+        });
+
+        // Large enough for any Art-Net packet, e.g. ArtTodData with 200 UIDs
+        buffer = new byte[1500];
         packetReceiveDispatcher = new ConcurrentHashMap<>();
+        priorityPacketReceiveDispatcher = new ConcurrentHashMap<>();
 
+        artAddressReceiveHandlers = new HashSet<>();
+        artCommandReceiveHandlers = new HashSet<>();
+        artDiagDataReceiveHandlers = new HashSet<>();
         artDmxReceiveHandlers = new HashSet<>();
+        artFirmwareMasterReceiveHandlers = new HashSet<>();
+        artFirmwareReplyReceiveHandlers = new HashSet<>();
+        artInputReceiveHandlers = new HashSet<>();
         artPollReceiveHandlers = new HashSet<>();
         artPollReplyReceiveHandlers = new HashSet<>();
         artTimeCodeReceiveHandlers = new HashSet<>();
+        artRdmReceiveHandlers = new HashSet<>();
+        artTodControlReceiveHandlers = new HashSet<>();
+        artTodDataReceiveHandlers = new HashSet<>();
+        addressedArtTodDataReceiveHandlers = new HashSet<>();
+        artTodRequestReceiveHandlers = new HashSet<>();
+        artTriggerReceiveHandlers = new HashSet<>();
+        artDmxRouteHandler = this::routeArtDmx;
+        artDmxForwarders = new ArtDmxForwarder[0];
     }
 
     /**
@@ -127,9 +208,53 @@ public class ArtNetReceiver extends NetworkHandler {
         if (datagramPacket.getLength() > 10
                 && Arrays.equals(ArtNet.HEADER.getBytes(), Arrays.copyOfRange(datagramPacket.getData(), 0, 8))) {
 
+            ArtDmxForwarder[] artDmxForwarders = this.artDmxForwarders;
+            byte[] data = datagramPacket.getData();
+
+            if (artDmxForwarders.length > 0
+                    && data[8] == ART_DMX_OP_CODE_BYTES[0] && data[9] == ART_DMX_OP_CODE_BYTES[1]) {
+                for (ArtDmxForwarder artDmxForwarder : artDmxForwarders) {
+                    artDmxForwarder.forward(data, datagramPacket.getLength());
+                }
+            }
+
+            DiagDataAggregator diagDataAggregator = this.diagDataAggregator;
+
+            if (diagDataAggregator != null
+                    && data[8] == ART_DIAG_DATA_OP_CODE_BYTES[0] && data[9] == ART_DIAG_DATA_OP_CODE_BYTES[1]) {
+                diagDataAggregator.aggregate(datagramPacket.getAddress(), data, datagramPacket.getLength());
+            }
+
+            // Priority packets are only handled on the priority pool and skip the regular dispatchers
+            Class<? extends ArtNetPacket> priorityPacketClass = null;
+
+            if (data[8] == ART_TRIGGER_OP_CODE_BYTES[0] && data[9] == ART_TRIGGER_OP_CODE_BYTES[1]) {
+                priorityPacketClass = ArtTrigger.class;
+            } else if (data[8] == ART_COMMAND_OP_CODE_BYTES[0] && data[9] == ART_COMMAND_OP_CODE_BYTES[1]) {
+                priorityPacketClass = ArtCommand.class;
+            }
+
+            if (priorityPacketClass != null) {
+                PacketReceiveDispatcher<? extends ArtNetPacket> dispatcher =
+                        priorityPacketReceiveDispatcher.get(priorityPacketClass);
+                if (dispatcher != null) {
+                    dispatcher.handleReceive(datagramPacket.getAddress(),
+                            Arrays.copyOf(data, Math.max(datagramPacket.getLength(), 530)), datagramPacket.getLength());
+                }
+                return;
+            }
+
+            // The padded copies would otherwise contain stale UIDs of previous datagrams
+            if (data[8] == ART_TOD_DATA_OP_CODE_BYTES[0] && data[9] == ART_TOD_DATA_OP_CODE_BYTES[1]
+                    && (datagramPacket.getLength() < 28 || 28 + 6 * (data[27] & 0xFF) > datagramPacket.getLength())) {
+                return;
+            }
+
             for (PacketReceiveDispatcher<? extends ArtNetPacket> dispatcher : packetReceiveDispatcher.values()) {
 
-                if (dispatcher.handleReceive(datagramPacket.getData().clone())) {
+                // Builders of fixed size packets rely on at least 530 bytes being present
+                if (dispatcher.handleReceive(datagramPacket.getAddress(),
+                        Arrays.copyOf(data, Math.max(datagramPacket.getLength(), 530)), datagramPacket.getLength())) {
                     break;
                 }
             }
@@ -142,6 +267,7 @@ public class ArtNetReceiver extends NetworkHandler {
     @Override
     public void stop() {
         super.stop();
+        priorityPool.shutdown();
         if (getState() == State.Running) {
             workingPool.shutdown();
         }
@@ -183,6 +309,149 @@ public class ArtNetReceiver extends NetworkHandler {
         return this;
     }
 
+    private void routeArtDmx(ArtDmx packet) {
+        PortAddressArray<CopyOnWriteArraySet<PacketReceiveHandler<ArtDmx>>> routes = artDmxRoutes;
+        if (routes != null) {
+            CopyOnWriteArraySet<PacketReceiveHandler<ArtDmx>> handlers = routes.get(packet.getPortAddress());
+            if (handlers != null) {
+                handlers.forEach(handler -> handler.handle(packet));
+            }
+        }
+    }
+
+    /**
+     * Adds a {@link PacketReceiveHandler} which is called when {@link ArtDmx} packets for a certain Port-Address are
+     * received. Packets are routed by their Port-Address with a single array lookup.
+     *
+     * @param portAddress The 15 bit Port-Address, see {@link PortAddress}.
+     * @param handler     The {@link PacketReceiveHandler} to use.
+     */
+    public synchronized void addArtDmxReceiveHandler(int portAddress, PacketReceiveHandler<ArtDmx> handler) {
+
+        if (!PortAddress.isValid(portAddress)) {
+            throw new IllegalArgumentException("Illegal Port-Address!");
+        }
+
+        if (artDmxRoutes == null) {
+            artDmxRoutes = new PortAddressArray<>();
+        }
+
+        CopyOnWriteArraySet<PacketReceiveHandler<ArtDmx>> handlers =
+                artDmxRoutes.computeIfAbsent(portAddress, key -> new CopyOnWriteArraySet<>());
+
+        if (handlers.add(handler) && artDmxRouteCount++ == 0) {
+            addArtDmxReceiveHandler(artDmxRouteHandler);
+        }
+    }
+
+    public synchronized void removeArtDmxReceiveHandler(int portAddress, PacketReceiveHandler<ArtDmx> handler) {
+
+        if (artDmxRoutes == null || !PortAddress.isValid(portAddress)) {
+            return;
+        }
+
+        CopyOnWriteArraySet<PacketReceiveHandler<ArtDmx>> handlers = artDmxRoutes.get(portAddress);
+
+        if (handlers != null && handlers.remove(handler)) {
+            if (handlers.isEmpty()) {
+                artDmxRoutes.remove(portAddress);
+            }
+            if (--artDmxRouteCount == 0) {
+                removeArtDmxReceiveHandler(artDmxRouteHandler);
+            }
+        }
+    }
+
+    /**
+     * @param portAddress The 15 bit Port-Address, see {@link PortAddress}.
+     * @param handler     The {@link PacketReceiveHandler} to use.
+     * @return Current {@link ArtNetReceiver} instance for fluent code style.
+     * @see #addArtDmxReceiveHandler(int, PacketReceiveHandler)
+     */
+    public ArtNetReceiver withArtDmxReceiveHandler(int portAddress, PacketReceiveHandler<ArtDmx> handler) {
+        addArtDmxReceiveHandler(portAddress, handler);
+        return this;
+    }
+
+    public ArtNetReceiver withoutArtDmxReceiveHandler(int portAddress, PacketReceiveHandler<ArtDmx> handler) {
+        removeArtDmxReceiveHandler(portAddress, handler);
+        return this;
+    }
+
+    /**
+     * Adds an {@link ArtDmxForwarder} which is called with every received {@link ArtDmx} packet directly on the
+     * receiving thread, before and independent of any {@link PacketReceiveHandler}. Adding it twice has no effect.
+     *
+     * @param artDmxForwarder The {@link ArtDmxForwarder} to add, e.g. an {@link ArtDmxRouter}.
+     */
+    public synchronized void addArtDmxForwarder(ArtDmxForwarder artDmxForwarder) {
+
+        if (artDmxForwarder == null) {
+            throw new IllegalArgumentException("Illegal ArtDmxForwarder!");
+        }
+
+        ArtDmxForwarder[] current = artDmxForwarders;
+
+        for (ArtDmxForwarder candidate : current) {
+            if (candidate == artDmxForwarder) {
+                return;
+            }
+        }
+
+        ArtDmxForwarder[] result = Arrays.copyOf(current, current.length + 1);
+        result[current.length] = artDmxForwarder;
+        artDmxForwarders = result;
+    }
+
+    /**
+     * Removes an {@link ArtDmxForwarder}.
+     *
+     * @param artDmxForwarder The {@link ArtDmxForwarder} to remove.
+     */
+    public synchronized void removeArtDmxForwarder(ArtDmxForwarder artDmxForwarder) {
+
+        ArtDmxForwarder[] current = artDmxForwarders;
+
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == artDmxForwarder) {
+                ArtDmxForwarder[] result = new ArtDmxForwarder[current.length - 1];
+                System.arraycopy(current, 0, result, 0, i);
+                System.arraycopy(current, i + 1, result, i, result.length - i);
+                artDmxForwarders = result;
+                return;
+            }
+        }
+    }
+
+    public ArtNetReceiver withArtDmxForwarder(ArtDmxForwarder artDmxForwarder) {
+        addArtDmxForwarder(artDmxForwarder);
+        return this;
+    }
+
+    public ArtNetReceiver withoutArtDmxForwarder(ArtDmxForwarder artDmxForwarder) {
+        removeArtDmxForwarder(artDmxForwarder);
+        return this;
+    }
+
+    public DiagDataAggregator getDiagDataAggregator() {
+        return diagDataAggregator;
+    }
+
+    /**
+     * Sets the {@link DiagDataAggregator} which is called with every received {@link ArtDiagData} packet directly on
+     * the receiving thread, before and independent of any {@link PacketReceiveHandler}.
+     *
+     * @param diagDataAggregator The {@link DiagDataAggregator} to use or {@code null} to remove it.
+     */
+    public void setDiagDataAggregator(DiagDataAggregator diagDataAggregator) {
+        this.diagDataAggregator = diagDataAggregator;
+    }
+
+    public ArtNetReceiver withDiagDataAggregator(DiagDataAggregator diagDataAggregator) {
+        setDiagDataAggregator(diagDataAggregator);
+        return this;
+    }
+
     /**
      * Adds a {@link PacketReceiveHandler} which is called when {@link ArtPoll} packets are received.
      *
@@ -290,4 +559,443 @@ public class ArtNetReceiver extends NetworkHandler {
         removeArtTimeCodeReceiveHandler(handler);
         return this;
     }
+
+    /**
+     * Adds a {@link PacketReceiveHandler} which is called when {@link ArtRdm} packets are received.
+     *
+     * @param handler The {@link PacketReceiveHandler} to use.
+     */
+    public void addArtRdmReceiveHandler(PacketReceiveHandler<ArtRdm> handler) {
+        if (!packetReceiveDispatcher.containsKey(ArtRdm.class)) {
+            packetReceiveDispatcher.put(ArtRdm.class, new PacketReceiveDispatcher<>(workingPool,
+                    new ArtRdmBuilder(), artRdmReceiveHandlers));
+        }
+        artRdmReceiveHandlers.add(handler);
+
+    }
+
+    public void removeArtRdmReceiveHandler(PacketReceiveHandler<ArtRdm> handler) {
+        artRdmReceiveHandlers.remove(handler);
+        if (artRdmReceiveHandlers.isEmpty()) {
+            packetReceiveDispatcher.remove(ArtRdm.class);
+        }
+    }
+
+    /**
+     * @param handler The {@link PacketReceiveHandler} to use.
+     * @return Current {@link ArtNetReceiver} instance for fluent code style.
+     * @see #addArtRdmReceiveHandler(PacketReceiveHandler)
+     */
+    public ArtNetReceiver withArtRdmReceiveHandler(PacketReceiveHandler<ArtRdm> handler) {
+        addArtRdmReceiveHandler(handler);
+        return this;
+    }
+
+    public ArtNetReceiver withoutArtRdmReceiveHandler(PacketReceiveHandler<ArtRdm> handler) {
+        removeArtRdmReceiveHandler(handler);
+        return this;
+    }
+
+    /**
+     * Adds a {@link PacketReceiveHandler} which is called when {@link ArtTodControl} packets are received.
+     *
+     * @param handler The {@link PacketReceiveHandler} to use.
+     */
+    public void addArtTodControlReceiveHandler(PacketReceiveHandler<ArtTodControl> handler) {
+        if (!packetReceiveDispatcher.containsKey(ArtTodControl.class)) {
+            packetReceiveDispatcher.put(ArtTodControl.class, new PacketReceiveDispatcher<>(workingPool,
+                    new ArtTodControlBuilder(), artTodControlReceiveHandlers));
+        }
+        artTodControlReceiveHandlers.add(handler);
+
+    }
+
+    public void removeArtTodControlReceiveHandler(PacketReceiveHandler<ArtTodControl> handler) {
+        artTodControlReceiveHandlers.remove(handler);
+        if (artTodControlReceiveHandlers.isEmpty()) {
+            packetReceiveDispatcher.remove(ArtTodControl.class);
+        }
+    }
+
+    /**
+     * @param handler The {@link PacketReceiveHandler} to use.
+     * @return Current {@link ArtNetReceiver} instance for fluent code style.
+     * @see #addArtTodControlReceiveHandler(PacketReceiveHandler)
+     */
+    public ArtNetReceiver withArtTodControlReceiveHandler(PacketReceiveHandler<ArtTodControl> handler) {
+        addArtTodControlReceiveHandler(handler);
+        return this;
+    }
+
+    public ArtNetReceiver withoutArtTodControlReceiveHandler(PacketReceiveHandler<ArtTodControl> handler) {
+        removeArtTodControlReceiveHandler(handler);
+        return this;
+    }
+
+    /**
+     * Adds a {@link PacketReceiveHandler} which is called when {@link ArtTodData} packets are received.
+     *
+     * @param handler The {@link PacketReceiveHandler} to use.
+     */
+    public void addArtTodDataReceiveHandler(PacketReceiveHandler<ArtTodData> handler) {
+        addArtTodDataReceiveDispatcher();
+        artTodDataReceiveHandlers.add(handler);
+
+    }
+
+    public void removeArtTodDataReceiveHandler(PacketReceiveHandler<ArtTodData> handler) {
+        artTodDataReceiveHandlers.remove(handler);
+        removeArtTodDataReceiveDispatcher();
+    }
+
+    /**
+     * Adds an {@link AddressedPacketReceiveHandler} which is called when {@link ArtTodData} packets are received,
+     * together with the address of the sending node.
+     *
+     * @param handler The {@link AddressedPacketReceiveHandler} to use.
+     */
+    public void addArtTodDataReceiveHandler(AddressedPacketReceiveHandler<ArtTodData> handler) {
+        addArtTodDataReceiveDispatcher();
+        addressedArtTodDataReceiveHandlers.add(handler);
+    }
+
+    public void removeArtTodDataReceiveHandler(AddressedPacketReceiveHandler<ArtTodData> handler) {
+        addressedArtTodDataReceiveHandlers.remove(handler);
+        removeArtTodDataReceiveDispatcher();
+    }
+
+    private void addArtTodDataReceiveDispatcher() {
+        if (!packetReceiveDispatcher.containsKey(ArtTodData.class)) {
+            packetReceiveDispatcher.put(ArtTodData.class, new PacketReceiveDispatcher<>(workingPool,
+                    new ArtTodDataBuilder(), artTodDataReceiveHandlers, addressedArtTodDataReceiveHandlers));
+        }
+    }
+
+    private void removeArtTodDataReceiveDispatcher() {
+        if (artTodDataReceiveHandlers.isEmpty() && addressedArtTodDataReceiveHandlers.isEmpty()) {
+            packetReceiveDispatcher.remove(ArtTodData.class);
+        }
+    }
+
+    /**
+     * @param handler The {@link PacketReceiveHandler} to use.
+     * @return Current {@link ArtNetReceiver} instance for fluent code style.
+     * @see #addArtTodDataReceiveHandler(PacketReceiveHandler)
+     */
+    public ArtNetReceiver withArtTodDataReceiveHandler(PacketReceiveHandler<ArtTodData> handler) {
+        addArtTodDataReceiveHandler(handler);
+        return this;
+    }
+
+    public ArtNetReceiver withoutArtTodDataReceiveHandler(PacketReceiveHandler<ArtTodData> handler) {
+        removeArtTodDataReceiveHandler(handler);
+        return this;
+    }
+
+    /**
+     * @param handler The {@link AddressedPacketReceiveHandler} to use.
+     * @return Current {@link ArtNetReceiver} instance for fluent code style.
+     * @see #addArtTodDataReceiveHandler(AddressedPacketReceiveHandler)
+     */
+    public ArtNetReceiver withArtTodDataReceiveHandler(AddressedPacketReceiveHandler<ArtTodData> handler) {
+        addArtTodDataReceiveHandler(handler);
+        return this;
+    }
+
+    public ArtNetReceiver withoutArtTodDataReceiveHandler(AddressedPacketReceiveHandler<ArtTodData> handler) {
+        removeArtTodDataReceiveHandler(handler);
+        return this;
+    }
+
+    /**
+     * Adds a {@link PacketReceiveHandler} which is called when {@link ArtTodRequest} packets are received.
+     *
+     * @param handler The {@link PacketReceiveHandler} to use.
+     */
+    public void addArtTodRequestReceiveHandler(PacketReceiveHandler<ArtTodRequest> handler) {
+        if (!packetReceiveDispatcher.containsKey(ArtTodRequest.class)) {
+            packetReceiveDispatcher.put(ArtTodRequest.class, new PacketReceiveDispatcher<>(workingPool,
+                    new ArtTodRequestBuilder(), artTodRequestReceiveHandlers));
+        }
+        artTodRequestReceiveHandlers.add(handler);
+
+    }
+
+    public void removeArtTodRequestReceiveHandler(PacketReceiveHandler<ArtTodRequest> handler) {
+        artTodRequestReceiveHandlers.remove(handler);
+        if (artTodRequestReceiveHandlers.isEmpty()) {
+            packetReceiveDispatcher.remove(ArtTodRequest.class);
+        }
+    }
+
+    /**
+     * @param handler The {@link PacketReceiveHandler} to use.
+     * @return Current {@link ArtNetReceiver} instance for fluent code style.
+     * @see #addArtTodRequestReceiveHandler(PacketReceiveHandler)
+     */
+    public ArtNetReceiver withArtTodRequestReceiveHandler(PacketReceiveHandler<ArtTodRequest> handler) {
+        addArtTodRequestReceiveHandler(handler);
+        return this;
+    }
+
+    public ArtNetReceiver withoutArtTodRequestReceiveHandler(PacketReceiveHandler<ArtTodRequest> handler) {
+        removeArtTodRequestReceiveHandler(handler);
+        return this;
+    }
+
+    /**
+     * Adds a {@link PacketReceiveHandler} which is called when {@link ArtAddress} packets are received.
+     *
+     * @param handler The {@link PacketReceiveHandler} to use.
+     */
+    public void addArtAddressReceiveHandler(PacketReceiveHandler<ArtAddress> handler) {
+        if (!packetReceiveDispatcher.containsKey(ArtAddress.class)) {
+            packetReceiveDispatcher.put(ArtAddress.class, new PacketReceiveDispatcher<>(workingPool,
+                    new ArtAddressBuilder(), artAddressReceiveHandlers));
+        }
+        artAddressReceiveHandlers.add(handler);
+
+    }
+
+    public void removeArtAddressReceiveHandler(PacketReceiveHandler<ArtAddress> handler) {
+        artAddressReceiveHandlers.remove(handler);
+        if (artAddressReceiveHandlers.isEmpty()) {
+            packetReceiveDispatcher.remove(ArtAddress.class);
+        }
+    }
+
+    /**
+     * @param handler The {@link PacketReceiveHandler} to use.
+     * @return Current {@link ArtNetReceiver} instance for fluent code style.
+     * @see #addArtAddressReceiveHandler(PacketReceiveHandler)
+     */
+    public ArtNetReceiver withArtAddressReceiveHandler(PacketReceiveHandler<ArtAddress> handler) {
+        addArtAddressReceiveHandler(handler);
+        return this;
+    }
+
+    public ArtNetReceiver withoutArtAddressReceiveHandler(PacketReceiveHandler<ArtAddress> handler) {
+        removeArtAddressReceiveHandler(handler);
+        return this;
+    }
+
+    /**
+     * Adds a {@link PacketReceiveHandler} which is called when {@link ArtFirmwareMaster} packets are received.
+     *
+     * @param handler The {@link PacketReceiveHandler} to use.
+     */
+    public void addArtFirmwareMasterReceiveHandler(PacketReceiveHandler<ArtFirmwareMaster> handler) {
+        if (!packetReceiveDispatcher.containsKey(ArtFirmwareMaster.class)) {
+            packetReceiveDispatcher.put(ArtFirmwareMaster.class, new PacketReceiveDispatcher<>(workingPool,
+                    new ArtFirmwareMasterBuilder(), artFirmwareMasterReceiveHandlers));
+        }
+        artFirmwareMasterReceiveHandlers.add(handler);
+
+    }
+
+    public void removeArtFirmwareMasterReceiveHandler(PacketReceiveHandler<ArtFirmwareMaster> handler) {
+        artFirmwareMasterReceiveHandlers.remove(handler);
+        if (artFirmwareMasterReceiveHandlers.isEmpty()) {
+            packetReceiveDispatcher.remove(ArtFirmwareMaster.class);
+        }
+    }
+
+    /**
+     * @param handler The {@link PacketReceiveHandler} to use.
+     * @return Current {@link ArtNetReceiver} instance for fluent code style.
+     * @see #addArtFirmwareMasterReceiveHandler(PacketReceiveHandler)
+     */
+    public ArtNetReceiver withArtFirmwareMasterReceiveHandler(PacketReceiveHandler<ArtFirmwareMaster> handler) {
+        addArtFirmwareMasterReceiveHandler(handler);
+        return this;
+    }
+
+    public ArtNetReceiver withoutArtFirmwareMasterReceiveHandler(PacketReceiveHandler<ArtFirmwareMaster> handler) {
+        removeArtFirmwareMasterReceiveHandler(handler);
+        return this;
+    }
+
+    /**
+     * Adds an {@link AddressedPacketReceiveHandler} which is called when {@link ArtFirmwareReply} packets are received,
+     * together with the address of the replying node.
+     *
+     * @param handler The {@link AddressedPacketReceiveHandler} to use.
+     */
+    public void addArtFirmwareReplyReceiveHandler(AddressedPacketReceiveHandler<ArtFirmwareReply> handler) {
+        if (!packetReceiveDispatcher.containsKey(ArtFirmwareReply.class)) {
+            packetReceiveDispatcher.put(ArtFirmwareReply.class, new PacketReceiveDispatcher<>(workingPool,
+                    new ArtFirmwareReplyBuilder(), Collections.emptySet(), artFirmwareReplyReceiveHandlers));
+        }
+        artFirmwareReplyReceiveHandlers.add(handler);
+
+    }
+
+    public void removeArtFirmwareReplyReceiveHandler(AddressedPacketReceiveHandler<ArtFirmwareReply> handler) {
+        artFirmwareReplyReceiveHandlers.remove(handler);
+        if (artFirmwareReplyReceiveHandlers.isEmpty()) {
+            packetReceiveDispatcher.remove(ArtFirmwareReply.class);
+        }
+    }
+
+    /**
+     * @param handler The {@link AddressedPacketReceiveHandler} to use.
+     * @return Current {@link ArtNetReceiver} instance for fluent code style.
+     * @see #addArtFirmwareReplyReceiveHandler(AddressedPacketReceiveHandler)
+     */
+    public ArtNetReceiver withArtFirmwareReplyReceiveHandler(AddressedPacketReceiveHandler<ArtFirmwareReply> handler) {
+        addArtFirmwareReplyReceiveHandler(handler);
+        return this;
+    }
+
+    public ArtNetReceiver withoutArtFirmwareReplyReceiveHandler(
+            AddressedPacketReceiveHandler<ArtFirmwareReply> handler) {
+        removeArtFirmwareReplyReceiveHandler(handler);
+        return this;
+    }
+
+    /**
+     * Adds a {@link PacketReceiveHandler} which is called when {@link ArtCommand} packets are received. It is
+     * called on the high priority thread bypassing the shared {@link ExecutorService}, so it must not block.
+     *
+     * @param handler The {@link PacketReceiveHandler} to use.
+     */
+    public void addArtCommandReceiveHandler(PacketReceiveHandler<ArtCommand> handler) {
+        if (!priorityPacketReceiveDispatcher.containsKey(ArtCommand.class)) {
+            priorityPacketReceiveDispatcher.put(ArtCommand.class, new PacketReceiveDispatcher<>(priorityPool,
+                    new ArtCommandBuilder(), artCommandReceiveHandlers));
+        }
+        artCommandReceiveHandlers.add(handler);
+
+    }
+
+    public void removeArtCommandReceiveHandler(PacketReceiveHandler<ArtCommand> handler) {
+        artCommandReceiveHandlers.remove(handler);
+        if (artCommandReceiveHandlers.isEmpty()) {
+            priorityPacketReceiveDispatcher.remove(ArtCommand.class);
+        }
+    }
+
+    /**
+     * @param handler The {@link PacketReceiveHandler} to use.
+     * @return Current {@link ArtNetReceiver} instance for fluent code style.
+     * @see #addArtCommandReceiveHandler(PacketReceiveHandler)
+     */
+    public ArtNetReceiver withArtCommandReceiveHandler(PacketReceiveHandler<ArtCommand> handler) {
+        addArtCommandReceiveHandler(handler);
+        return this;
+    }
+
+    public ArtNetReceiver withoutArtCommandReceiveHandler(PacketReceiveHandler<ArtCommand> handler) {
+        removeArtCommandReceiveHandler(handler);
+        return this;
+    }
+
+    /**
+     * Adds a {@link PacketReceiveHandler} which is called when {@link ArtTrigger} packets are received. It is
+     * called on the high priority thread bypassing the shared {@link ExecutorService}, so it must not block.
+     *
+     * @param handler The {@link PacketReceiveHandler} to use.
+     */
+    public void addArtTriggerReceiveHandler(PacketReceiveHandler<ArtTrigger> handler) {
+        if (!priorityPacketReceiveDispatcher.containsKey(ArtTrigger.class)) {
+            priorityPacketReceiveDispatcher.put(ArtTrigger.class, new PacketReceiveDispatcher<>(priorityPool,
+                    new ArtTriggerBuilder(), artTriggerReceiveHandlers));
+        }
+        artTriggerReceiveHandlers.add(handler);
+
+    }
+
+    public void removeArtTriggerReceiveHandler(PacketReceiveHandler<ArtTrigger> handler) {
+        artTriggerReceiveHandlers.remove(handler);
+        if (artTriggerReceiveHandlers.isEmpty()) {
+            priorityPacketReceiveDispatcher.remove(ArtTrigger.class);
+        }
+    }
+
+    /**
+     * @param handler The {@link PacketReceiveHandler} to use.
+     * @return Current {@link ArtNetReceiver} instance for fluent code style.
+     * @see #addArtTriggerReceiveHandler(PacketReceiveHandler)
+     */
+    public ArtNetReceiver withArtTriggerReceiveHandler(PacketReceiveHandler<ArtTrigger> handler) {
+        addArtTriggerReceiveHandler(handler);
+        return this;
+    }
+
+    public ArtNetReceiver withoutArtTriggerReceiveHandler(PacketReceiveHandler<ArtTrigger> handler) {
+        removeArtTriggerReceiveHandler(handler);
+        return this;
+    }
+
+    /**
+     * Adds a {@link PacketReceiveHandler} which is called when {@link ArtDiagData} packets are received.
+     *
+     * @param handler The {@link PacketReceiveHandler} to use.
+     */
+    public void addArtDiagDataReceiveHandler(PacketReceiveHandler<ArtDiagData> handler) {
+        if (!packetReceiveDispatcher.containsKey(ArtDiagData.class)) {
+            packetReceiveDispatcher.put(ArtDiagData.class, new PacketReceiveDispatcher<>(workingPool,
+                    new ArtDiagDataBuilder(), artDiagDataReceiveHandlers));
+        }
+        artDiagDataReceiveHandlers.add(handler);
+
+    }
+
+    public void removeArtDiagDataReceiveHandler(PacketReceiveHandler<ArtDiagData> handler) {
+        artDiagDataReceiveHandlers.remove(handler);
+        if (artDiagDataReceiveHandlers.isEmpty()) {
+            packetReceiveDispatcher.remove(ArtDiagData.class);
+        }
+    }
+
+    /**
+     * @param handler The {@link PacketReceiveHandler} to use.
+     * @return Current {@link ArtNetReceiver} instance for fluent code style.
+     * @see #addArtDiagDataReceiveHandler(PacketReceiveHandler)
+     */
+    public ArtNetReceiver withArtDiagDataReceiveHandler(PacketReceiveHandler<ArtDiagData> handler) {
+        addArtDiagDataReceiveHandler(handler);
+        return this;
+    }
+
+    public ArtNetReceiver withoutArtDiagDataReceiveHandler(PacketReceiveHandler<ArtDiagData> handler) {
+        removeArtDiagDataReceiveHandler(handler);
+        return this;
+    }
+
+    /**
+     * Adds a {@link PacketReceiveHandler} which is called when {@link ArtInput} packets are received.
+     *
+     * @param handler The {@link PacketReceiveHandler} to use.
+     */
+    public void addArtInputReceiveHandler(PacketReceiveHandler<ArtInput> handler) {
+        if (!packetReceiveDispatcher.containsKey(ArtInput.class)) {
+            packetReceiveDispatcher.put(ArtInput.class, new PacketReceiveDispatcher<>(workingPool,
+                    new ArtInputBuilder(), artInputReceiveHandlers));
+        }
+        artInputReceiveHandlers.add(handler);
+
+    }
+
+    public void removeArtInputReceiveHandler(PacketReceiveHandler<ArtInput> handler) {
+        artInputReceiveHandlers.remove(handler);
+        if (artInputReceiveHandlers.isEmpty()) {
+            packetReceiveDispatcher.remove(ArtInput.class);
+        }
+    }
+
+    /**
+     * @param handler The {@link PacketReceiveHandler} to use.
+     * @return Current {@link ArtNetReceiver} instance for fluent code style.
+     * @see #addArtInputReceiveHandler(PacketReceiveHandler)
+     */
+    public ArtNetReceiver withArtInputReceiveHandler(PacketReceiveHandler<ArtInput> handler) {
+        addArtInputReceiveHandler(handler);
+        return this;
+    }
+
+    public ArtNetReceiver withoutArtInputReceiveHandler(PacketReceiveHandler<ArtInput> handler) {
+        removeArtInputReceiveHandler(handler);
+        return this;
+    }
 }
@@ -21,23 +21,31 @@
 
 package de.deltaeight.libartnet.network;
 
+import java.io.IOException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
+import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.Collection;
 import java.util.concurrent.LinkedBlockingQueue;
 
+import de.deltaeight.libartnet.packets.ArtDmx;
 import de.deltaeight.libartnet.packets.ArtNetPacket;
 
 /**
  * Provides a sender which queues packets to send.
+ * <p>
+ * Packets sent to multiple destinations are encoded once and queued as a single entry, which is sent to every
+ * destination in turn by reusing the same {@link DatagramPacket}.
  *
  * @author Julian Rabe
  * @see ArtNetReceiver
  */
 public class ArtNetSender extends NetworkHandler {
 
-    private final LinkedBlockingQueue<DatagramPacket> packetQueue;
+    private final LinkedBlockingQueue<Transmission> packetQueue;
 
     /**
      * Initializes an instance for use.
@@ -58,9 +66,69 @@ public class ArtNetSender extends NetworkHandler {
         this(new DatagramSocket());
     }
 
+    /**
+     * Computes the directed broadcast address of a subnet.
+     *
+     * @param address      Any IPv4 address within the subnet.
+     * @param prefixLength The network prefix length of the subnet ({@code 0-32}), e.g. {@code 8} for Art-Net's
+     *                     {@code 2.x.x.x} and {@code 10.x.x.x} networks.
+     * @return The broadcast address of the subnet, e.g. {@code 2.255.255.255}.
+     */
+    public static InetAddress getBroadcastAddress(InetAddress address, int prefixLength) {
+
+        if (!(address instanceof Inet4Address)) {
+            throw new IllegalArgumentException("Illegal address!");
+        }
+
+        if (prefixLength < 0 || prefixLength > 32) {
+            throw new IllegalArgumentException("Illegal prefix length!");
+        }
+
+        byte[] bytes = address.getAddress();
+        int hostMask = prefixLength == 32 ? 0 : -1 >>> prefixLength;
+
+        for (int i = 0; i < 4; i++) {
+            bytes[i] |= hostMask >> 24 - 8 * i;
+        }
+
+        try {
+            return InetAddress.getByAddress(bytes);
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     @Override
     void run() throws Exception {
-        socket.send(packetQueue.take());
+        Transmission transmission = packetQueue.take();
+        DatagramPacket datagramPacket = transmission.datagramPacket;
+
+        // Lets owners of reused packets like Universe swap the data only while the packet is not being sent
+        synchronized (datagramPacket) {
+
+            if (transmission.destinations == null) {
+                socket.send(datagramPacket);
+                return;
+            }
+
+            IOException exception = null;
+
+            for (InetAddress destination : transmission.destinations) {
+                datagramPacket.setAddress(destination);
+                try {
+                    socket.send(datagramPacket);
+                } catch (IOException e) {
+                    // Do not let a single unreachable destination drop the rest of the fan-out
+                    if (exception == null) {
+                        exception = e;
+                    }
+                }
+            }
+
+            if (exception != null) {
+                throw exception;
+            }
+        }
     }
 
     /**
@@ -71,6 +139,101 @@ public class ArtNetSender extends NetworkHandler {
      * @return {@code true} if queueing was successful, {@code false} if not.
      */
     public boolean send(InetAddress address, ArtNetPacket packet) {
-        return packetQueue.offer(new DatagramPacket(packet.getBytes(), packet.getBytes().length, address, 0x1936));
+        byte[] bytes = packet.getBytes();
+        return send(new DatagramPacket(bytes, bytes.length, address, 0x1936));
+    }
+
+    /**
+     * Queues the desired {@link ArtNetPacket} for sending to multiple destinations. The packet is encoded once and
+     * queued as a single entry.
+     *
+     * @param addresses The {@link InetAddress} instances to send to.
+     * @param packet    The {@link ArtNetPacket} to send.
+     * @return {@code true} if queueing was successful, {@code false} if not.
+     */
+    public boolean send(InetAddress[] addresses, ArtNetPacket packet) {
+
+        if (addresses.length == 0) {
+            return true;
+        }
+
+        byte[] bytes = packet.getBytes();
+        return send(new DatagramPacket(bytes, bytes.length, addresses[0], 0x1936), addresses.clone());
+    }
+
+    /**
+     * @param addresses The {@link InetAddress} instances to send to.
+     * @param packet    The {@link ArtNetPacket} to send.
+     * @return {@code true} if queueing was successful, {@code false} if not.
+     * @see #send(InetAddress[], ArtNetPacket)
+     */
+    public boolean send(Collection<InetAddress> addresses, ArtNetPacket packet) {
+        return send(addresses.toArray(new InetAddress[0]), packet);
+    }
+
+    /**
+     * Queues the desired {@link ArtNetPacket} for sending to the directed broadcast address of a subnet.
+     *
+     * @param address      Any IPv4 address within the subnet, e.g. the address of the local interface.
+     * @param prefixLength The network prefix length of the subnet ({@code 0-32}).
+     * @param packet       The {@link ArtNetPacket} to send.
+     * @return {@code true} if queueing was successful, {@code false} if not.
+     * @see #getBroadcastAddress(InetAddress, int)
+     */
+    public boolean sendBroadcast(InetAddress address, int prefixLength, ArtNetPacket packet) {
+        return send(getBroadcastAddress(address, prefixLength), packet);
+    }
+
+    /**
+     * Queues an already encoded {@link DatagramPacket} for sending. The packet must not be modified until sent.
+     *
+     * @param datagramPacket The {@link DatagramPacket} to send.
+     * @return {@code true} if queueing was successful, {@code false} if not.
+     */
+    boolean send(DatagramPacket datagramPacket) {
+        return packetQueue.offer(new Transmission(datagramPacket, null));
+    }
+
+    /**
+     * Queues an already encoded {@link DatagramPacket} for sending to multiple destinations. The packet must not be
+     * modified until sent, its address is overwritten with every destination.
+     *
+     * @param datagramPacket The {@link DatagramPacket} to send.
+     * @param destinations   The {@link InetAddress} instances to send to, must not be modified afterwards.
+     * @return {@code true} if queueing was successful, {@code false} if not.
+     */
+    boolean send(DatagramPacket datagramPacket, InetAddress[] destinations) {
+        return packetQueue.offer(new Transmission(datagramPacket, destinations));
+    }
+
+    /**
+     * Queues the desired {@link ArtDmx} for sending to every node subscribing to its Port-Address. The packet is
+     * encoded once and queued as a single entry.
+     *
+     * @param subscriptionManager The {@link SubscriptionManager} to look up subscribers with.
+     * @param artDmx              The {@link ArtDmx} to send.
+     * @return {@code true} if queueing was successful for all subscribers, {@code false} if not.
+     */
+    public boolean send(SubscriptionManager subscriptionManager, ArtDmx artDmx) {
+
+        InetAddress[] subscribers = subscriptionManager.getSubscriberArray(artDmx.getPortAddress());
+
+        if (subscribers.length == 0) {
+            return true;
+        }
+
+        byte[] bytes = artDmx.getBytes();
+        return send(new DatagramPacket(bytes, bytes.length, subscribers[0], 0x1936), subscribers);
+    }
+
+    private static class Transmission {
+
+        private final DatagramPacket datagramPacket;
+        private final InetAddress[] destinations;
+
+        private Transmission(DatagramPacket datagramPacket, InetAddress[] destinations) {
+            this.datagramPacket = datagramPacket;
+            this.destinations = destinations;
+        }
     }
 }
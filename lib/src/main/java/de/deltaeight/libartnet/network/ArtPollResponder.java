@@ -0,0 +1,265 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import de.deltaeight.libartnet.builders.ArtPollReplyBuilder;
+import de.deltaeight.libartnet.packets.ArtPoll;
+import de.deltaeight.libartnet.packets.ArtPollReply;
+
+/**
+ * Answers received {@link ArtPoll} packets with one {@link ArtPollReply} per bind index when acting as a node.
+ * <p>
+ * Replies are encoded once by {@link #update()} and then reused for every {@link ArtPoll}, so answering many
+ * controllers does not build any packets. Replies are delayed randomly up to the maximum reply delay and polls
+ * received while a reply is pending are answered by that reply, which prevents reply storms. If the latest
+ * {@link ArtPoll} requested it via {@link ArtPoll#isSendArtPollReplyOnChanges()}, {@link #update()} sends the
+ * replies immediately when they changed.
+ * <p>
+ * Every {@link ArtPollReplyBuilder} represents one bind index. Call {@link #update()} after modifying them.
+ *
+ * @author Julian Rabe
+ * @see ArtPollReplyBuilder
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtPollResponder implements PacketReceiveHandler<ArtPoll> {
+
+    private final ArtNetSender artNetSender;
+    private final ArtNetReceiver artNetReceiver;
+    private final InetAddress replyAddress;
+    private final CopyOnWriteArrayList<ArtPollReplyBuilder> artPollReplyBuilders;
+    private final AtomicBoolean replyPending;
+
+    private volatile ArtPollReply[] artPollReplies;
+    private volatile DatagramPacket[] replyPackets;
+    private volatile boolean sendArtPollReplyOnChanges;
+    private volatile long maxReplyDelay;
+    private ScheduledExecutorService scheduler;
+    private NetworkHandler.State state;
+
+    /**
+     * Initializes an instance for use.
+     *
+     * @param artNetSender   The {@link ArtNetSender} to send {@link ArtPollReply} packets with.
+     * @param artNetReceiver The {@link ArtNetReceiver} to receive {@link ArtPoll} packets with.
+     * @param replyAddress   The {@link InetAddress} to send {@link ArtPollReply} packets to, usually a broadcast
+     *                       address.
+     */
+    public ArtPollResponder(ArtNetSender artNetSender, ArtNetReceiver artNetReceiver, InetAddress replyAddress) {
+
+        this.artNetSender = artNetSender;
+        this.artNetReceiver = artNetReceiver;
+        this.replyAddress = replyAddress;
+
+        artPollReplyBuilders = new CopyOnWriteArrayList<>();
+        replyPending = new AtomicBoolean();
+        artPollReplies = new ArtPollReply[0];
+        replyPackets = new DatagramPacket[0];
+        maxReplyDelay = 1000;
+        state = NetworkHandler.State.Initialized;
+    }
+
+    /**
+     * Registers at the {@link ArtNetReceiver} and starts answering {@link ArtPoll} packets. Only possible if not already
+     * running or stopped.
+     *
+     * @throws IllegalStateException When {@link #getState()} {@code != } {@link NetworkHandler.State#Initialized}.
+     * @see #stop()
+     */
+    public synchronized void start() {
+        if (state == NetworkHandler.State.Initialized) {
+
+            update();
+
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "ArtNet Responder Worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            artNetReceiver.addArtPollReceiveHandler(this);
+
+            state = NetworkHandler.State.Running;
+        } else if (state == NetworkHandler.State.Running) {
+            throw new IllegalStateException("Already running!");
+        } else {
+            throw new IllegalStateException("Not initialized!");
+        }
+    }
+
+    /**
+     * Stops answering {@link ArtPoll} packets and unregisters from the {@link ArtNetReceiver}. Only possible if
+     * running.
+     *
+     * @throws IllegalStateException When {@link #getState()} {@code != } {@link NetworkHandler.State#Running}.
+     * @see #start()
+     */
+    public synchronized void stop() {
+        if (state == NetworkHandler.State.Running) {
+            artNetReceiver.removeArtPollReceiveHandler(this);
+            scheduler.shutdownNow();
+            state = NetworkHandler.State.Stopped;
+        } else {
+            throw new IllegalStateException("Not Running!");
+        }
+    }
+
+    /**
+     * Schedules the replies to a received {@link ArtPoll} unless they are already pending.
+     *
+     * @param packet The {@link ArtPoll} which was received.
+     */
+    @Override
+    public void handle(ArtPoll packet) {
+
+        sendArtPollReplyOnChanges = packet.isSendArtPollReplyOnChanges();
+
+        if (replyPending.compareAndSet(false, true)) {
+
+            long delay = maxReplyDelay > 0 ? ThreadLocalRandom.current().nextLong(maxReplyDelay + 1) : 0;
+
+            synchronized (this) {
+                // An ArtPoll may still be handled on the receiver's pool after stop() shut the scheduler down
+                if (state != NetworkHandler.State.Running) {
+                    replyPending.set(false);
+                    return;
+                }
+
+                scheduler.schedule(() -> {
+                    replyPending.set(false);
+                    sendReplies();
+                }, delay, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Re-encodes the replies of all {@link ArtPollReplyBuilder} instances which changed since the last call. If any
+     * reply changed and the latest {@link ArtPoll} requested it, the replies are sent immediately.
+     */
+    public synchronized void update() {
+
+        ArtPollReply[] currentReplies = artPollReplies;
+        DatagramPacket[] currentPackets = replyPackets;
+
+        ArtPollReply[] newReplies = new ArtPollReply[artPollReplyBuilders.size()];
+        DatagramPacket[] newPackets = new DatagramPacket[newReplies.length];
+
+        boolean changed = newReplies.length != currentReplies.length;
+
+        for (int i = 0; i < newReplies.length; i++) {
+
+            newReplies[i] = artPollReplyBuilders.get(i).build();
+
+            if (i < currentReplies.length && newReplies[i] == currentReplies[i]) {
+                newPackets[i] = currentPackets[i];
+            } else {
+                byte[] bytes = newReplies[i].getBytes();
+                newPackets[i] = new DatagramPacket(bytes, bytes.length, replyAddress, 0x1936);
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            artPollReplies = newReplies;
+            replyPackets = newPackets;
+
+            if (sendArtPollReplyOnChanges && state == NetworkHandler.State.Running) {
+                sendReplies();
+            }
+        }
+    }
+
+    private void sendReplies() {
+        for (DatagramPacket replyPacket : replyPackets) {
+            artNetSender.send(replyPacket);
+        }
+    }
+
+    /**
+     * Adds an {@link ArtPollReplyBuilder} representing the next bind index.
+     *
+     * @param artPollReplyBuilder The {@link ArtPollReplyBuilder} to use.
+     */
+    public void addArtPollReplyBuilder(ArtPollReplyBuilder artPollReplyBuilder) {
+        artPollReplyBuilders.add(artPollReplyBuilder);
+    }
+
+    public void removeArtPollReplyBuilder(ArtPollReplyBuilder artPollReplyBuilder) {
+        artPollReplyBuilders.remove(artPollReplyBuilder);
+    }
+
+    /**
+     * @param artPollReplyBuilder The {@link ArtPollReplyBuilder} to use.
+     * @return Current {@link ArtPollResponder} instance for fluent code style.
+     * @see #addArtPollReplyBuilder(ArtPollReplyBuilder)
+     */
+    public ArtPollResponder withArtPollReplyBuilder(ArtPollReplyBuilder artPollReplyBuilder) {
+        addArtPollReplyBuilder(artPollReplyBuilder);
+        return this;
+    }
+
+    public ArtPollResponder withoutArtPollReplyBuilder(ArtPollReplyBuilder artPollReplyBuilder) {
+        removeArtPollReplyBuilder(artPollReplyBuilder);
+        return this;
+    }
+
+    /**
+     * @return Whether the latest {@link ArtPoll} requested replies on changes.
+     */
+    public boolean sendArtPollReplyOnChanges() {
+        return sendArtPollReplyOnChanges;
+    }
+
+    public long getMaxReplyDelay() {
+        return maxReplyDelay;
+    }
+
+    /**
+     * Sets the maximum random delay before answering an {@link ArtPoll}. The default is {@code 1000} milliseconds.
+     *
+     * @param maxReplyDelay The maximum delay in milliseconds, {@code 0} to reply immediately.
+     */
+    public void setMaxReplyDelay(long maxReplyDelay) {
+        if (maxReplyDelay < 0) {
+            throw new IllegalArgumentException("Illegal reply delay!");
+        }
+        this.maxReplyDelay = maxReplyDelay;
+    }
+
+    public ArtPollResponder withMaxReplyDelay(long maxReplyDelay) {
+        setMaxReplyDelay(maxReplyDelay);
+        return this;
+    }
+
+    public NetworkHandler.State getState() {
+        return state;
+    }
+}
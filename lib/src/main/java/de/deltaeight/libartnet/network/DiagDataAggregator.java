@@ -0,0 +1,340 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import de.deltaeight.libartnet.builders.ArtDiagDataBuilder;
+import de.deltaeight.libartnet.descriptors.Priority;
+import de.deltaeight.libartnet.packets.ArtDiagData;
+import de.deltaeight.libartnet.packets.ArtPoll;
+
+/**
+ * Collects received {@link ArtDiagData} packets in a bounded ring buffer, so a noisy node can neither flood logging
+ * nor the working pool of {@link ArtNetReceiver}.
+ * <p>
+ * Register an instance at {@link ArtNetReceiver#setDiagDataAggregator(DiagDataAggregator)}. Packets are then checked
+ * directly on the receiving thread in their encoded form and only decoded when they are stored. Messages are grouped
+ * by sending node and {@link Priority}:
+ * <ul>
+ * <li>A message equal to the previous one of its group is suppressed within the deduplication interval.</li>
+ * <li>Each group may store up to the configured rate of messages per second, further messages are suppressed.</li>
+ * <li>When the buffer is full, the oldest message is overwritten.</li>
+ * </ul>
+ * The amount of suppressed messages is reported with the next stored message of the same group, see
+ * {@link DiagnosticMessage#getSuppressed()}. Consumers usually {@link #drain()} the buffer periodically.
+ *
+ * @author Julian Rabe
+ * @see ArtPoll#isSendDiagnosticMessages()
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class DiagDataAggregator {
+
+    private static final int MAX_GROUPS = 1024;
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final ArtDiagDataBuilder builder;
+    private final DiagnosticMessage[] messages;
+    private final LinkedHashMap<Long, Group> groups;
+
+    private int head;
+    private int size;
+
+    private int rate;
+    private long deduplicationInterval;
+    private Priority minimumPriority;
+
+    private long suppressedCount;
+    private long overwrittenCount;
+
+    /**
+     * Initializes an instance for use.
+     *
+     * @param capacity The maximum amount of stored messages.
+     */
+    public DiagDataAggregator(int capacity) {
+
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Illegal capacity!");
+        }
+
+        builder = new ArtDiagDataBuilder();
+        messages = new DiagnosticMessage[capacity];
+        groups = new LinkedHashMap<>(16, 0.75f, true);
+
+        rate = 10;
+        deduplicationInterval = TimeUnit.SECONDS.toNanos(10);
+        minimumPriority = Priority.Low;
+    }
+
+    /**
+     * Initializes an instance for use which stores up to {@code 1024} messages.
+     */
+    public DiagDataAggregator() {
+        this(1024);
+    }
+
+    /**
+     * Is called by {@link ArtNetReceiver} on its receiving thread when an {@link ArtDiagData} packet was received.
+     *
+     * @param source     The address of the sending node, messages from sources other than IPv4 are ignored.
+     * @param packetData The encoded {@link ArtDiagData} packet, which is not modified and not kept.
+     * @param length     The length of the received datagram.
+     * @return Whether the message was stored.
+     */
+    boolean aggregate(InetAddress source, byte[] packetData, int length) {
+        return aggregate(source, packetData, length, System.nanoTime());
+    }
+
+    synchronized boolean aggregate(InetAddress source, byte[] packetData, int length, long now) {
+
+        if (length < 18) {
+            return false;
+        }
+
+        Priority priority = Priority.getPriority(packetData[13]);
+
+        if (priority.compareTo(minimumPriority) < 0) {
+            return false;
+        }
+
+        long nodeKey = SubscriptionManager.getNodeKey(source, 0);
+
+        if (nodeKey < 0) {
+            return false;
+        }
+
+        long key = nodeKey | priority.getValue() & 0xFF;
+        Group group = groups.get(key);
+
+        if (group == null) {
+            group = new Group(now);
+            groups.put(key, group);
+
+            // The map is access ordered, so its first entry is the least recently used group
+            if (groups.size() > MAX_GROUPS) {
+                Iterator<Long> iterator = groups.keySet().iterator();
+                iterator.next();
+                iterator.remove();
+            }
+        }
+
+        int dataLength = Math.min(ArtDiagDataBuilder.getDataLength(packetData), length - 18);
+
+        if (now - group.lastStored < deduplicationInterval && group.isDuplicate(packetData, dataLength)) {
+            group.suppressed++;
+            suppressedCount++;
+            return false;
+        }
+
+        long cost = ONE_SECOND / rate;
+        group.credit = Math.min(group.credit + now - group.lastRefill, ONE_SECOND);
+        group.lastRefill = now;
+
+        if (group.credit < cost) {
+            group.suppressed++;
+            suppressedCount++;
+            return false;
+        }
+
+        group.credit -= cost;
+        group.lastStored = now;
+        group.remember(packetData, dataLength);
+
+        ArtDiagData artDiagData = builder.buildFromBytes(Arrays.copyOf(packetData, length));
+        store(new DiagnosticMessage(source, artDiagData, System.currentTimeMillis(), group.suppressed));
+        group.suppressed = 0;
+
+        return true;
+    }
+
+    private void store(DiagnosticMessage message) {
+        if (size == messages.length) {
+            messages[head] = message;
+            head = (head + 1) % messages.length;
+            overwrittenCount++;
+        } else {
+            messages[(head + size) % messages.length] = message;
+            size++;
+        }
+    }
+
+    /**
+     * @return All stored messages from oldest to newest.
+     */
+    public synchronized List<DiagnosticMessage> getMessages() {
+        List<DiagnosticMessage> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(messages[(head + i) % messages.length]);
+        }
+        return result;
+    }
+
+    /**
+     * Removes and returns all stored messages.
+     *
+     * @return All stored messages from oldest to newest.
+     */
+    public synchronized List<DiagnosticMessage> drain() {
+        List<DiagnosticMessage> result = getMessages();
+        Arrays.fill(messages, null);
+        head = 0;
+        size = 0;
+        return result;
+    }
+
+    /**
+     * Removes all stored messages and forgets all nodes.
+     */
+    public synchronized void clear() {
+        drain();
+        groups.clear();
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return messages.length;
+    }
+
+    /**
+     * @return The total amount of messages suppressed as duplicate or by rate limiting.
+     */
+    public synchronized long getSuppressedCount() {
+        return suppressedCount;
+    }
+
+    /**
+     * @return The total amount of stored messages which were overwritten before being drained.
+     */
+    public synchronized long getOverwrittenCount() {
+        return overwrittenCount;
+    }
+
+    public synchronized int getRate() {
+        return rate;
+    }
+
+    /**
+     * @param rate The maximum amount of messages stored per second for each node and {@link Priority}, which may be
+     *             reached in a single burst.
+     */
+    public synchronized void setRate(int rate) {
+        if (rate < 1) {
+            throw new IllegalArgumentException("Illegal rate!");
+        }
+        this.rate = rate;
+    }
+
+    public DiagDataAggregator withRate(int rate) {
+        setRate(rate);
+        return this;
+    }
+
+    /**
+     * @return The interval in milliseconds in which equal messages of a node and {@link Priority} are suppressed.
+     */
+    public synchronized long getDeduplicationInterval() {
+        return TimeUnit.NANOSECONDS.toMillis(deduplicationInterval);
+    }
+
+    /**
+     * @param deduplicationInterval The interval in milliseconds in which equal messages of a node and
+     *                              {@link Priority} are suppressed, {@code 0} to disable deduplication.
+     */
+    public synchronized void setDeduplicationInterval(long deduplicationInterval) {
+        if (deduplicationInterval < 0) {
+            throw new IllegalArgumentException("Illegal deduplication interval!");
+        }
+        this.deduplicationInterval = TimeUnit.MILLISECONDS.toNanos(deduplicationInterval);
+    }
+
+    public DiagDataAggregator withDeduplicationInterval(long deduplicationInterval) {
+        setDeduplicationInterval(deduplicationInterval);
+        return this;
+    }
+
+    public synchronized Priority getMinimumPriority() {
+        return minimumPriority;
+    }
+
+    /**
+     * @param minimumPriority The lowest {@link Priority} of messages to store, lower ones are ignored.
+     */
+    public synchronized void setMinimumPriority(Priority minimumPriority) {
+        if (minimumPriority == null) {
+            throw new IllegalArgumentException("Illegal priority!");
+        }
+        this.minimumPriority = minimumPriority;
+    }
+
+    public DiagDataAggregator withMinimumPriority(Priority minimumPriority) {
+        setMinimumPriority(minimumPriority);
+        return this;
+    }
+
+    private static class Group {
+
+        private final byte[] lastData;
+
+        private int lastLength;
+        private int lastLogicalPort;
+        private long lastStored;
+        private long lastRefill;
+        private long credit;
+        private int suppressed;
+
+        private Group(long now) {
+            lastData = new byte[ArtDiagDataBuilder.MAX_DATA_LENGTH];
+            lastLength = -1;
+            lastStored = now - Long.MAX_VALUE / 2;
+            lastRefill = now;
+            credit = ONE_SECOND;
+        }
+
+        private boolean isDuplicate(byte[] packetData, int dataLength) {
+            if (dataLength != lastLength || (packetData[14] & 0xFF) != lastLogicalPort) {
+                return false;
+            }
+            for (int i = 0; i < dataLength; i++) {
+                if (packetData[18 + i] != lastData[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void remember(byte[] packetData, int dataLength) {
+            System.arraycopy(packetData, 18, lastData, 0, dataLength);
+            lastLength = dataLength;
+            lastLogicalPort = packetData[14] & 0xFF;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.InetAddress;
+import java.util.Objects;
+
+import de.deltaeight.libartnet.packets.ArtDiagData;
+
+/**
+ * Represents an {@link ArtDiagData} packet stored by {@link DiagDataAggregator} together with its sender.
+ *
+ * @author Julian Rabe
+ * @see DiagDataAggregator
+ */
+public class DiagnosticMessage {
+
+    private final InetAddress source;
+    private final ArtDiagData artDiagData;
+    private final long timestamp;
+    private final int suppressed;
+
+    public DiagnosticMessage(InetAddress source, ArtDiagData artDiagData, long timestamp, int suppressed) {
+        this.source = source;
+        this.artDiagData = artDiagData;
+        this.timestamp = timestamp;
+        this.suppressed = suppressed;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, artDiagData, timestamp, suppressed);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DiagnosticMessage that = (DiagnosticMessage) o;
+        return timestamp == that.timestamp &&
+                suppressed == that.suppressed &&
+                Objects.equals(source, that.source) &&
+                Objects.equals(artDiagData, that.artDiagData);
+    }
+
+    /**
+     * @return The address of the node which sent the message.
+     */
+    public InetAddress getSource() {
+        return source;
+    }
+
+    public ArtDiagData getArtDiagData() {
+        return artDiagData;
+    }
+
+    /**
+     * @return The time of reception in milliseconds, see {@link System#currentTimeMillis()}.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return The amount of messages of the same node and priority which were suppressed since the previous stored
+     * one, either as duplicate or by rate limiting.
+     */
+    public int getSuppressed() {
+        return suppressed;
+    }
+}
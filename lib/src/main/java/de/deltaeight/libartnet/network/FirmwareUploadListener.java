@@ -0,0 +1,63 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.InetAddress;
+
+/**
+ * Is notified by {@link FirmwareUploader} about the progress of uploads.
+ * <p>
+ * All methods do nothing by default, so only the events of interest need to be implemented. They are called on the
+ * receiving or the timeout thread, so they should be quick.
+ *
+ * @author Julian Rabe
+ * @see FirmwareUploader
+ */
+public interface FirmwareUploadListener {
+
+    /**
+     * Is called when a node acknowledged a block.
+     *
+     * @param node         The {@link InetAddress} of the node.
+     * @param acknowledged The amount of blocks acknowledged so far.
+     * @param blockCount   The total amount of blocks.
+     */
+    default void blockAcknowledged(InetAddress node, int acknowledged, int blockCount) {
+    }
+
+    /**
+     * Is called when a node acknowledged all blocks.
+     *
+     * @param node The {@link InetAddress} of the node.
+     */
+    default void uploadCompleted(InetAddress node) {
+    }
+
+    /**
+     * Is called when an upload failed, timed out or was cancelled.
+     *
+     * @param node  The {@link InetAddress} of the node.
+     * @param cause The reason of the failure.
+     */
+    default void uploadFailed(InetAddress node, Throwable cause) {
+    }
+}
@@ -0,0 +1,534 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import de.deltaeight.libartnet.builders.ArtFirmwareMasterBuilder;
+import de.deltaeight.libartnet.descriptors.FirmwareMasterType;
+import de.deltaeight.libartnet.descriptors.FirmwareReplyType;
+import de.deltaeight.libartnet.packets.ArtFirmwareMaster;
+import de.deltaeight.libartnet.packets.ArtFirmwareReply;
+
+/**
+ * Uploads firmware or UBEA files to many nodes in parallel instead of updating one node after another.
+ * <p>
+ * The file is memory-mapped once per call and read block by block when a block is sent, so it is never copied to the
+ * heap as a whole. Every node has its own window of blocks sent but not yet acknowledged by an
+ * {@link ArtFirmwareReply}. As these replies do not identify the block, they acknowledge the oldest block in flight.
+ * The default window of {@code 1} follows the Art-Net Specification, which expects the next block only after the
+ * previous one was acknowledged. Larger windows must be supported by the nodes.
+ * <p>
+ * When no reply arrives within the timeout, all blocks in flight are sent again. As both the late reply and the reply
+ * to the repeated block may arrive, surplus replies of an acknowledged block are dropped before further blocks are
+ * sent, or until the next timeout shows they were lost. Uploads complete exceptionally with a {@link TimeoutException}
+ * when all retries are exhausted and with an {@link IOException} when the node reports a failure. Progress is reported
+ * to {@link FirmwareUploadListener} instances.
+ *
+ * @author Julian Rabe
+ * @see ArtFirmwareMaster
+ * @see ArtFirmwareReply
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class FirmwareUploader implements AddressedPacketReceiveHandler<ArtFirmwareReply> {
+
+    private final ArtNetSender artNetSender;
+    private final ArtNetReceiver artNetReceiver;
+    private final HashMap<InetAddress, Upload> uploads;
+    private final CopyOnWriteArraySet<FirmwareUploadListener> listeners;
+
+    private long timeout;
+    private int retries;
+    private int window;
+    private ScheduledThreadPoolExecutor scheduler;
+    private NetworkHandler.State state;
+
+    /**
+     * Initializes an instance for use.
+     *
+     * @param artNetSender   The {@link ArtNetSender} to send {@link ArtFirmwareMaster} packets with.
+     * @param artNetReceiver The {@link ArtNetReceiver} to receive {@link ArtFirmwareReply} packets with.
+     */
+    public FirmwareUploader(ArtNetSender artNetSender, ArtNetReceiver artNetReceiver) {
+        this.artNetSender = artNetSender;
+        this.artNetReceiver = artNetReceiver;
+
+        uploads = new HashMap<>();
+        listeners = new CopyOnWriteArraySet<>();
+
+        timeout = 2000;
+        retries = 3;
+        window = 1;
+        state = NetworkHandler.State.Initialized;
+    }
+
+    /**
+     * Registers at the {@link ArtNetReceiver}. Only possible if not already running or stopped.
+     *
+     * @throws IllegalStateException When {@link #getState()} {@code != } {@link NetworkHandler.State#Initialized}.
+     * @see #stop()
+     */
+    public synchronized void start() {
+        if (state == NetworkHandler.State.Initialized) {
+
+            scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "ArtNet Firmware Worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+
+            artNetReceiver.addArtFirmwareReplyReceiveHandler(this);
+
+            state = NetworkHandler.State.Running;
+        } else if (state == NetworkHandler.State.Running) {
+            throw new IllegalStateException("Already running!");
+        } else {
+            throw new IllegalStateException("Not initialized!");
+        }
+    }
+
+    /**
+     * Unregisters from the {@link ArtNetReceiver} and cancels all running uploads with a
+     * {@link CancellationException}. Only possible if running.
+     *
+     * @throws IllegalStateException When {@link #getState()} {@code != } {@link NetworkHandler.State#Running}.
+     * @see #start()
+     */
+    public void stop() {
+
+        ArrayList<Upload> cancelled;
+
+        synchronized (this) {
+            if (state != NetworkHandler.State.Running) {
+                throw new IllegalStateException("Not Running!");
+            }
+
+            scheduler.shutdownNow();
+            artNetReceiver.removeArtFirmwareReplyReceiveHandler(this);
+
+            cancelled = new ArrayList<>(uploads.values());
+            uploads.clear();
+            state = NetworkHandler.State.Stopped;
+        }
+
+        for (Upload upload : cancelled) {
+            fail(upload, new CancellationException("Stopped!"));
+        }
+    }
+
+    /**
+     * Uploads a firmware file to a single node.
+     *
+     * @param node     The {@link InetAddress} of the node.
+     * @param firmware The firmware file.
+     * @return A {@link CompletableFuture} which is completed when the node acknowledged all blocks.
+     * @throws IOException           When the file could not be read or is empty.
+     * @throws IllegalStateException When not running or an upload to the node is already running.
+     * @see #upload(Collection, Path, boolean)
+     */
+    public CompletableFuture<Void> upload(InetAddress node, Path firmware) throws IOException {
+        return upload(Collections.singleton(node), firmware, false).get(node);
+    }
+
+    /**
+     * Uploads a firmware file to many nodes in parallel.
+     *
+     * @param nodes    The {@link InetAddress} instances of the nodes.
+     * @param firmware The firmware file.
+     * @return A {@link CompletableFuture} for each node, which is completed when the node acknowledged all blocks.
+     * @throws IOException           When the file could not be read or is empty.
+     * @throws IllegalStateException When not running or an upload to any of the nodes is already running.
+     * @see #upload(Collection, Path, boolean)
+     */
+    public Map<InetAddress, CompletableFuture<Void>> upload(Collection<InetAddress> nodes, Path firmware)
+            throws IOException {
+        return upload(nodes, firmware, false);
+    }
+
+    /**
+     * Uploads a firmware or UBEA file to many nodes in parallel.
+     *
+     * @param nodes The {@link InetAddress} instances of the nodes.
+     * @param file  The file to upload.
+     * @param ubea  Whether the file is a UBEA instead of a firmware.
+     * @return A {@link CompletableFuture} for each node, which is completed when the node acknowledged all blocks.
+     * @throws IOException           When the file could not be read or is empty.
+     * @throws IllegalStateException When not running or an upload to any of the nodes is already running.
+     */
+    public Map<InetAddress, CompletableFuture<Void>> upload(Collection<InetAddress> nodes, Path file, boolean ubea)
+            throws IOException {
+
+        Image image = new Image(file, ubea);
+        LinkedHashMap<InetAddress, CompletableFuture<Void>> result = new LinkedHashMap<>();
+
+        synchronized (this) {
+            if (state != NetworkHandler.State.Running) {
+                throw new IllegalStateException("Not Running!");
+            }
+
+            for (InetAddress node : nodes) {
+                if (uploads.containsKey(node)) {
+                    throw new IllegalStateException("Upload already running!");
+                }
+            }
+
+            for (InetAddress node : nodes) {
+                Upload upload = new Upload(node, image);
+                uploads.put(node, upload);
+                result.put(node, upload.future);
+                fill(upload);
+            }
+        }
+
+        return result;
+    }
+
+    private void fill(Upload upload) {
+        while (upload.sent < upload.image.blockCount && upload.sent - upload.acknowledged < window) {
+            ArtFirmwareMaster block = upload.image.getBlock(upload.sent++);
+            upload.inFlight.add(new Transmission(block));
+            artNetSender.send(upload.node, block);
+        }
+        schedule(upload);
+    }
+
+    private void schedule(Upload upload) {
+        if (upload.timeoutTask != null) {
+            upload.timeoutTask.cancel(false);
+        }
+        int generation = ++upload.generation;
+        upload.timeoutTask = scheduler.schedule(() -> timeout(upload, generation), timeout, TimeUnit.MILLISECONDS);
+    }
+
+    private void timeout(Upload upload, int generation) {
+
+        synchronized (this) {
+            if (uploads.get(upload.node) != upload || upload.generation != generation) {
+                return;
+            }
+
+            // The surplus replies of the last acknowledged block were lost, so no reply is mistaken for them
+            if (upload.surplusReplies > 0) {
+                upload.surplusReplies = 0;
+                fill(upload);
+                return;
+            }
+
+            if (++upload.attempts <= retries) {
+                for (Transmission transmission : upload.inFlight) {
+                    transmission.count++;
+                    artNetSender.send(upload.node, transmission.block);
+                }
+                schedule(upload);
+                return;
+            }
+
+            uploads.remove(upload.node);
+        }
+
+        fail(upload, new TimeoutException("Firmware upload timed out!"));
+    }
+
+    private void fail(Upload upload, Throwable cause) {
+        for (FirmwareUploadListener listener : listeners) {
+            listener.uploadFailed(upload.node, cause);
+        }
+        upload.future.completeExceptionally(cause);
+    }
+
+    /**
+     * Acknowledges the oldest block in flight to the node which sent {@code packet}.
+     *
+     * @param source The {@link InetAddress} of the node.
+     * @param packet The {@link ArtFirmwareReply} which was received.
+     */
+    @Override
+    public void handle(InetAddress source, ArtFirmwareReply packet) {
+
+        Upload upload;
+        int acknowledged;
+        boolean completed;
+
+        synchronized (this) {
+            upload = uploads.get(source);
+
+            if (upload == null) {
+                return;
+            }
+
+            if (packet.getType() == FirmwareReplyType.FirmFail) {
+                upload.timeoutTask.cancel(false);
+                uploads.remove(source);
+                completed = false;
+                acknowledged = -1;
+            } else {
+                // Replies do not identify their block, so further replies to a block which was sent repeatedly are
+                // dropped before the next blocks are sent
+                if (upload.surplusReplies > 0) {
+                    if (--upload.surplusReplies == 0) {
+                        fill(upload);
+                    }
+                    return;
+                }
+
+                Transmission transmission = upload.inFlight.poll();
+                if (transmission == null) {
+                    return;
+                }
+
+                acknowledged = ++upload.acknowledged;
+                upload.attempts = 0;
+                upload.surplusReplies = transmission.count - 1;
+                completed = acknowledged == upload.image.blockCount;
+
+                if (completed) {
+                    upload.timeoutTask.cancel(false);
+                    uploads.remove(source);
+                } else if (upload.surplusReplies > 0) {
+                    schedule(upload);
+                } else {
+                    fill(upload);
+                }
+            }
+        }
+
+        if (acknowledged < 0) {
+            fail(upload, new IOException("Firmware upload failed!"));
+            return;
+        }
+
+        for (FirmwareUploadListener listener : listeners) {
+            listener.blockAcknowledged(source, acknowledged, upload.image.blockCount);
+        }
+
+        if (completed) {
+            for (FirmwareUploadListener listener : listeners) {
+                listener.uploadCompleted(source);
+            }
+            upload.future.complete(null);
+        }
+    }
+
+    /**
+     * @return The amount of uploads currently running.
+     */
+    public synchronized int getPending() {
+        return uploads.size();
+    }
+
+    /**
+     * @param node The {@link InetAddress} of the node.
+     * @return The share of acknowledged blocks ({@code 0.0-1.0}) or {@code -1} if no upload to the node is running.
+     */
+    public synchronized double getProgress(InetAddress node) {
+        Upload upload = uploads.get(node);
+        return upload == null ? -1 : (double) upload.acknowledged / upload.image.blockCount;
+    }
+
+    public synchronized long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * @param timeout The time in milliseconds to wait for a reply before sending the blocks in flight again.
+     */
+    public synchronized void setTimeout(long timeout) {
+        if (timeout < 1) {
+            throw new IllegalArgumentException("Illegal timeout!");
+        }
+        this.timeout = timeout;
+    }
+
+    public FirmwareUploader withTimeout(long timeout) {
+        setTimeout(timeout);
+        return this;
+    }
+
+    public synchronized int getRetries() {
+        return retries;
+    }
+
+    /**
+     * @param retries The amount of times blocks are sent again when no reply arrived.
+     */
+    public synchronized void setRetries(int retries) {
+        if (retries < 0) {
+            throw new IllegalArgumentException("Illegal retries!");
+        }
+        this.retries = retries;
+    }
+
+    public FirmwareUploader withRetries(int retries) {
+        setRetries(retries);
+        return this;
+    }
+
+    public synchronized int getWindow() {
+        return window;
+    }
+
+    /**
+     * @param window The maximum amount of blocks in flight to a single node, {@code 1} as intended by the Art-Net
+     *               Specification.
+     */
+    public synchronized void setWindow(int window) {
+        if (window < 1 || window > 256) {
+            throw new IllegalArgumentException("Illegal window!");
+        }
+        this.window = window;
+    }
+
+    public FirmwareUploader withWindow(int window) {
+        setWindow(window);
+        return this;
+    }
+
+    /**
+     * Adds a {@link FirmwareUploadListener} which is notified about the progress of uploads.
+     *
+     * @param listener The {@link FirmwareUploadListener} to use.
+     */
+    public void addListener(FirmwareUploadListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(FirmwareUploadListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @param listener The {@link FirmwareUploadListener} to use.
+     * @return Current {@link FirmwareUploader} instance for fluent code style.
+     * @see #addListener(FirmwareUploadListener)
+     */
+    public FirmwareUploader withListener(FirmwareUploadListener listener) {
+        addListener(listener);
+        return this;
+    }
+
+    public FirmwareUploader withoutListener(FirmwareUploadListener listener) {
+        removeListener(listener);
+        return this;
+    }
+
+    public synchronized NetworkHandler.State getState() {
+        return state;
+    }
+
+    private static class Image {
+
+        private final MappedByteBuffer buffer;
+        private final int length;
+        private final int blockCount;
+        private final boolean ubea;
+
+        private Image(Path file, boolean ubea) throws IOException {
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+                long size = channel.size();
+                if (size == 0 || size > Integer.MAX_VALUE) {
+                    throw new IOException("Illegal firmware length!");
+                }
+
+                // The mapping stays valid after the channel was closed
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                length = (int) size;
+            }
+
+            blockCount = (length + ArtFirmwareMaster.BLOCK_SIZE - 1) / ArtFirmwareMaster.BLOCK_SIZE;
+            this.ubea = ubea;
+        }
+
+        private ArtFirmwareMaster getBlock(int index) {
+
+            byte[] data = new byte[ArtFirmwareMaster.BLOCK_SIZE];
+            int offset = index * ArtFirmwareMaster.BLOCK_SIZE;
+
+            ByteBuffer source = buffer.duplicate();
+            source.position(offset);
+            source.get(data, 0, Math.min(data.length, length - offset));
+
+            return new ArtFirmwareMasterBuilder()
+                    .withType(FirmwareMasterType.getFirmwareMasterType(ubea, index, blockCount))
+                    .withBlockId(index & 0xFF)
+                    .withFirmwareLength((length + 1) / 2)
+                    .withData(data)
+                    .build();
+        }
+    }
+
+    private static class Upload {
+
+        private final InetAddress node;
+        private final Image image;
+        private final ArrayDeque<Transmission> inFlight;
+        private final CompletableFuture<Void> future;
+
+        private int sent;
+        private int acknowledged;
+        private int surplusReplies;
+        private int attempts;
+        private int generation;
+        private ScheduledFuture<?> timeoutTask;
+
+        private Upload(InetAddress node, Image image) {
+            this.node = node;
+            this.image = image;
+            inFlight = new ArrayDeque<>();
+            future = new CompletableFuture<>();
+        }
+    }
+
+    private static class Transmission {
+
+        private final ArtFirmwareMaster block;
+
+        private int count;
+
+        private Transmission(ArtFirmwareMaster block) {
+            this.block = block;
+            count = 1;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.BitSet;
+
+import de.deltaeight.libartnet.builders.ArtInputBuilder;
+import de.deltaeight.libartnet.descriptors.InputStatus;
+import de.deltaeight.libartnet.descriptors.PortAddress;
+import de.deltaeight.libartnet.descriptors.PortType;
+import de.deltaeight.libartnet.packets.ArtDmx;
+import de.deltaeight.libartnet.packets.ArtInput;
+import de.deltaeight.libartnet.packets.ArtPollReply;
+
+/**
+ * Disables input ports of nodes whose Port-Address is not consumed, so they stop sending {@link ArtDmx} packets which
+ * would only be parsed and discarded by {@link ArtNetReceiver}.
+ * <p>
+ * Register an instance as {@link NodeDiscoveryListener} at {@link NodeDiscovery}, so every node is checked as soon as
+ * it appears or changes. The {@link InputStatus} of each {@link ArtPollReply} tells which inputs are currently
+ * disabled, so an {@link ArtInput} is only sent to nodes whose inputs differ from the consumed Port-Addresses. Inputs
+ * which were disabled but are consumed again are enabled.
+ *
+ * @author Julian Rabe
+ * @see NodeDiscovery
+ * @see ArtInput
+ */
+public class InputDisabler implements NodeDiscoveryListener {
+
+    private final ArtNetSender artNetSender;
+    private final NodeDiscovery nodeDiscovery;
+    private final BitSet consumedPortAddresses;
+
+    /**
+     * Initializes an instance for use.
+     *
+     * @param artNetSender  The {@link ArtNetSender} to send {@link ArtInput} packets with.
+     * @param nodeDiscovery The {@link NodeDiscovery} to look up known nodes with.
+     */
+    public InputDisabler(ArtNetSender artNetSender, NodeDiscovery nodeDiscovery) {
+        this.artNetSender = artNetSender;
+        this.nodeDiscovery = nodeDiscovery;
+        consumedPortAddresses = new BitSet(PortAddress.COUNT);
+    }
+
+    /**
+     * Computes the {@link ArtInput} which disables all unconsumed inputs of a node.
+     *
+     * @param node The {@link ArtPollReply} of the node.
+     * @return The {@link ArtInput} to send or {@code null} if the inputs of the node already match.
+     */
+    synchronized ArtInput getArtInput(ArtPollReply node) {
+
+        PortType[] portTypes = node.getPortTypes();
+        InputStatus[] inputStatuses = node.getInputStatuses();
+        int[] inputPortAddresses = node.getInputPortAddresses();
+
+        ArtInputBuilder builder = new ArtInputBuilder().withBindIndex(node.getBindIndex());
+        boolean differs = false;
+        int numberOfPorts = 0;
+
+        for (int i = 0; i < portTypes.length; i++) {
+            if (portTypes[i].isInputSupported() || portTypes[i].isOutputSupported()) {
+                numberOfPorts++;
+            }
+            boolean disabled = inputStatuses[i].isInputDisabled();
+            if (portTypes[i].isInputSupported()) {
+                boolean consumed = consumedPortAddresses.get(inputPortAddresses[i]);
+                differs |= disabled == consumed;
+                disabled = !consumed;
+            }
+            builder.setInputDisabled(i, disabled);
+        }
+
+        return differs ? builder.withNumberOfPorts(numberOfPorts).build() : null;
+    }
+
+    /**
+     * Sends an {@link ArtInput} to a node if any of its inputs differ from the consumed Port-Addresses.
+     *
+     * @param node The {@link ArtPollReply} of the node.
+     * @return Whether an {@link ArtInput} was sent.
+     */
+    public boolean apply(ArtPollReply node) {
+
+        ArtInput artInput = getArtInput(node);
+
+        if (artInput == null) {
+            return false;
+        }
+
+        try {
+            return artNetSender.send(InetAddress.getByAddress(node.getIpAddress()), artInput);
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Applies the consumed Port-Addresses to all nodes known by {@link NodeDiscovery}, e.g. after they changed.
+     *
+     * @return The amount of nodes an {@link ArtInput} was sent to.
+     */
+    public int apply() {
+        int result = 0;
+        for (ArtPollReply node : nodeDiscovery.getNodes()) {
+            if (apply(node)) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void nodeAdded(ArtPollReply node) {
+        apply(node);
+    }
+
+    @Override
+    public void nodeChanged(ArtPollReply previous, ArtPollReply current) {
+        apply(current);
+    }
+
+    /**
+     * Marks a Port-Address as consumed, so inputs sending to it are kept enabled. Call {@link #apply()} to update
+     * known nodes.
+     *
+     * @param portAddress The 15 bit Port-Address, see {@link PortAddress}.
+     */
+    public synchronized void addConsumedPortAddress(int portAddress) {
+        if (!PortAddress.isValid(portAddress)) {
+            throw new IllegalArgumentException("Illegal Port-Address!");
+        }
+        consumedPortAddresses.set(portAddress);
+    }
+
+    public synchronized void removeConsumedPortAddress(int portAddress) {
+        if (PortAddress.isValid(portAddress)) {
+            consumedPortAddresses.clear(portAddress);
+        }
+    }
+
+    /**
+     * @param portAddress The 15 bit Port-Address, see {@link PortAddress}.
+     * @return Current {@link InputDisabler} instance for fluent code style.
+     * @see #addConsumedPortAddress(int)
+     */
+    public InputDisabler withConsumedPortAddress(int portAddress) {
+        addConsumedPortAddress(portAddress);
+        return this;
+    }
+
+    public InputDisabler withoutConsumedPortAddress(int portAddress) {
+        removeConsumedPortAddress(portAddress);
+        return this;
+    }
+
+    /**
+     * @param portAddress The 15 bit Port-Address, see {@link PortAddress}.
+     * @return Whether inputs sending to {@code portAddress} are kept enabled.
+     */
+    public synchronized boolean isConsumed(int portAddress) {
+        return PortAddress.isValid(portAddress) && consumedPortAddresses.get(portAddress);
+    }
+}
@@ -0,0 +1,402 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.InterfaceAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+import de.deltaeight.libartnet.packets.ArtDmx;
+import de.deltaeight.libartnet.packets.ArtNetPacket;
+import de.deltaeight.libartnet.packets.ArtPoll;
+import de.deltaeight.libartnet.packets.ArtPollReply;
+import de.deltaeight.libartnet.packets.ArtTimeCode;
+
+/**
+ * Handles Art-Net traffic on multiple network interfaces, one {@link ArtNetInterface} per IPv4 address.
+ * <p>
+ * Instead of a single socket bound to the wildcard address, every selected address gets its own sockets and threads,
+ * so separate networks like {@code 2.x.x.x} and {@code 10.x.x.x} do not compete. Received packets are passed to
+ * {@link InterfacePacketReceiveHandler} instances together with their ingress interface. Packets are sent on the
+ * interface whose subnet contains the destination, see {@link #getInterface(InetAddress)}.
+ *
+ * @author Julian Rabe
+ * @see ArtNetInterface
+ */
+public class InterfaceManager {
+
+    private static final BiConsumer<ArtNetReceiver, PacketReceiveHandler<ArtDmx>> ADD_ART_DMX =
+            ArtNetReceiver::addArtDmxReceiveHandler;
+    private static final BiConsumer<ArtNetReceiver, PacketReceiveHandler<ArtDmx>> REMOVE_ART_DMX =
+            ArtNetReceiver::removeArtDmxReceiveHandler;
+    private static final BiConsumer<ArtNetReceiver, PacketReceiveHandler<ArtPoll>> ADD_ART_POLL =
+            ArtNetReceiver::addArtPollReceiveHandler;
+    private static final BiConsumer<ArtNetReceiver, PacketReceiveHandler<ArtPoll>> REMOVE_ART_POLL =
+            ArtNetReceiver::removeArtPollReceiveHandler;
+    private static final BiConsumer<ArtNetReceiver, PacketReceiveHandler<ArtPollReply>> ADD_ART_POLL_REPLY =
+            ArtNetReceiver::addArtPollReplyReceiveHandler;
+    private static final BiConsumer<ArtNetReceiver, PacketReceiveHandler<ArtPollReply>> REMOVE_ART_POLL_REPLY =
+            ArtNetReceiver::removeArtPollReplyReceiveHandler;
+    private static final BiConsumer<ArtNetReceiver, PacketReceiveHandler<ArtTimeCode>> ADD_ART_TIME_CODE =
+            ArtNetReceiver::addArtTimeCodeReceiveHandler;
+    private static final BiConsumer<ArtNetReceiver, PacketReceiveHandler<ArtTimeCode>> REMOVE_ART_TIME_CODE =
+            ArtNetReceiver::removeArtTimeCodeReceiveHandler;
+
+    private final CopyOnWriteArrayList<ArtNetInterface> interfaces;
+    private final List<Registration<?>> registrations;
+
+    private NetworkHandler.State state;
+
+    public InterfaceManager() {
+        interfaces = new CopyOnWriteArrayList<>();
+        registrations = new ArrayList<>();
+        state = NetworkHandler.State.Initialized;
+    }
+
+    /**
+     * Opens an {@link ArtNetInterface} for every IPv4 address of a {@link NetworkInterface}, which is started
+     * immediately if this manager is running.
+     *
+     * @param networkInterface The {@link NetworkInterface} to use.
+     * @return The opened {@link ArtNetInterface} instances.
+     * @throws SocketException When it was not possible to bind to Port {@code 0x1936} of an address.
+     */
+    public synchronized List<ArtNetInterface> addInterface(NetworkInterface networkInterface) throws SocketException {
+
+        List<ArtNetInterface> result = new ArrayList<>();
+
+        for (InterfaceAddress interfaceAddress : networkInterface.getInterfaceAddresses()) {
+            if (interfaceAddress.getAddress() instanceof Inet4Address) {
+                try {
+                    result.add(ArtNetInterface.open(networkInterface, interfaceAddress));
+                } catch (SocketException e) {
+                    for (ArtNetInterface artNetInterface : result) {
+                        artNetInterface.close();
+                    }
+                    throw e;
+                }
+            }
+        }
+
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("Illegal network interface " + networkInterface.getName() + "!");
+        }
+
+        for (ArtNetInterface artNetInterface : result) {
+            addInterface(artNetInterface);
+        }
+
+        return result;
+    }
+
+    /**
+     * @param name The name of the {@link NetworkInterface} to use, e.g. {@code eth0}.
+     * @return The opened {@link ArtNetInterface} instances.
+     * @throws SocketException When the interface does not exist or it was not possible to bind to Port {@code 0x1936}.
+     * @see #addInterface(NetworkInterface)
+     */
+    public List<ArtNetInterface> addInterface(String name) throws SocketException {
+
+        NetworkInterface networkInterface = NetworkInterface.getByName(name);
+
+        if (networkInterface == null) {
+            throw new IllegalArgumentException("Illegal network interface " + name + "!");
+        }
+
+        return addInterface(networkInterface);
+    }
+
+    synchronized void addInterface(ArtNetInterface artNetInterface) {
+
+        for (Registration<?> registration : registrations) {
+            registration.register(artNetInterface);
+        }
+
+        interfaces.add(artNetInterface);
+
+        if (state == NetworkHandler.State.Running) {
+            artNetInterface.start();
+        }
+    }
+
+    /**
+     * Closes all {@link ArtNetInterface} instances of a {@link NetworkInterface}.
+     *
+     * @param networkInterface The {@link NetworkInterface} to remove.
+     */
+    public synchronized void removeInterface(NetworkInterface networkInterface) {
+        for (ArtNetInterface artNetInterface : interfaces) {
+            if (networkInterface.equals(artNetInterface.getNetworkInterface())) {
+                removeInterface(artNetInterface);
+            }
+        }
+    }
+
+    synchronized void removeInterface(ArtNetInterface artNetInterface) {
+        if (interfaces.remove(artNetInterface)) {
+            for (Registration<?> registration : registrations) {
+                registration.unregister(artNetInterface);
+            }
+            artNetInterface.close();
+        }
+    }
+
+    /**
+     * @return All open {@link ArtNetInterface} instances.
+     */
+    public List<ArtNetInterface> getInterfaces() {
+        return Collections.unmodifiableList(interfaces);
+    }
+
+    /**
+     * Chooses the egress interface of a destination by the longest matching subnet.
+     *
+     * @param destination The {@link InetAddress} to send to.
+     * @return The {@link ArtNetInterface} whose subnet contains {@code destination}, {@code null} if there is none.
+     */
+    public ArtNetInterface getInterface(InetAddress destination) {
+
+        ArtNetInterface result = null;
+
+        for (ArtNetInterface artNetInterface : interfaces) {
+            if (artNetInterface.contains(destination)
+                    && (result == null || artNetInterface.getPrefixLength() > result.getPrefixLength())) {
+                result = artNetInterface;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Queues the desired {@link ArtNetPacket} for sending on the interface whose subnet contains {@code destination}.
+     *
+     * @param destination The {@link InetAddress} to send to.
+     * @param packet      The {@link ArtNetPacket} to send.
+     * @return {@code true} if queueing was successful, {@code false} if not or if no interface matches.
+     * @see #getInterface(InetAddress)
+     */
+    public boolean send(InetAddress destination, ArtNetPacket packet) {
+        ArtNetInterface artNetInterface = getInterface(destination);
+        return artNetInterface != null && artNetInterface.getArtNetSender().send(destination, packet);
+    }
+
+    /**
+     * Starts all interfaces. Only possible if not already running or stopped.
+     *
+     * @throws IllegalStateException When {@link #getState()} {@code != } {@link NetworkHandler.State#Initialized}.
+     * @see #stop()
+     */
+    public synchronized void start() {
+        if (state == NetworkHandler.State.Initialized) {
+            for (ArtNetInterface artNetInterface : interfaces) {
+                artNetInterface.start();
+            }
+            state = NetworkHandler.State.Running;
+        } else if (state == NetworkHandler.State.Running) {
+            throw new IllegalStateException("Already running!");
+        } else {
+            throw new IllegalStateException("Not initialized!");
+        }
+    }
+
+    /**
+     * Stops all interfaces and closes their sockets. Only possible if running.
+     *
+     * @throws IllegalStateException When {@link #getState()} {@code != } {@link NetworkHandler.State#Running}.
+     * @see #start()
+     */
+    public synchronized void stop() {
+        if (state == NetworkHandler.State.Running) {
+            for (ArtNetInterface artNetInterface : interfaces) {
+                artNetInterface.stop();
+            }
+            state = NetworkHandler.State.Stopped;
+        } else {
+            throw new IllegalStateException("Not Running!");
+        }
+    }
+
+    public synchronized NetworkHandler.State getState() {
+        return state;
+    }
+
+    private synchronized <T extends ArtNetPacket> void addHandler(InterfacePacketReceiveHandler<T> handler,
+            BiConsumer<ArtNetReceiver, PacketReceiveHandler<T>> add,
+            BiConsumer<ArtNetReceiver, PacketReceiveHandler<T>> remove) {
+
+        for (Registration<?> registration : registrations) {
+            if (registration.matches(handler, add)) {
+                return;
+            }
+        }
+
+        Registration<T> registration = new Registration<>(handler, add, remove);
+
+        for (ArtNetInterface artNetInterface : interfaces) {
+            registration.register(artNetInterface);
+        }
+
+        registrations.add(registration);
+    }
+
+    private synchronized void removeHandler(InterfacePacketReceiveHandler<?> handler, BiConsumer<?, ?> add) {
+        for (Registration<?> registration : registrations) {
+            if (registration.matches(handler, add)) {
+                for (ArtNetInterface artNetInterface : interfaces) {
+                    registration.unregister(artNetInterface);
+                }
+                registrations.remove(registration);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adds an {@link InterfacePacketReceiveHandler} which is called when {@link ArtDmx} packets are received on any
+     * interface.
+     *
+     * @param handler The {@link InterfacePacketReceiveHandler} to use.
+     */
+    public void addArtDmxReceiveHandler(InterfacePacketReceiveHandler<ArtDmx> handler) {
+        addHandler(handler, ADD_ART_DMX, REMOVE_ART_DMX);
+    }
+
+    public void removeArtDmxReceiveHandler(InterfacePacketReceiveHandler<ArtDmx> handler) {
+        removeHandler(handler, ADD_ART_DMX);
+    }
+
+    public InterfaceManager withArtDmxReceiveHandler(InterfacePacketReceiveHandler<ArtDmx> handler) {
+        addArtDmxReceiveHandler(handler);
+        return this;
+    }
+
+    /**
+     * Adds an {@link InterfacePacketReceiveHandler} which is called when {@link ArtPoll} packets are received on any
+     * interface.
+     *
+     * @param handler The {@link InterfacePacketReceiveHandler} to use.
+     */
+    public void addArtPollReceiveHandler(InterfacePacketReceiveHandler<ArtPoll> handler) {
+        addHandler(handler, ADD_ART_POLL, REMOVE_ART_POLL);
+    }
+
+    public void removeArtPollReceiveHandler(InterfacePacketReceiveHandler<ArtPoll> handler) {
+        removeHandler(handler, ADD_ART_POLL);
+    }
+
+    public InterfaceManager withArtPollReceiveHandler(InterfacePacketReceiveHandler<ArtPoll> handler) {
+        addArtPollReceiveHandler(handler);
+        return this;
+    }
+
+    /**
+     * Adds an {@link InterfacePacketReceiveHandler} which is called when {@link ArtPollReply} packets are received on
+     * any interface.
+     *
+     * @param handler The {@link InterfacePacketReceiveHandler} to use.
+     */
+    public void addArtPollReplyReceiveHandler(InterfacePacketReceiveHandler<ArtPollReply> handler) {
+        addHandler(handler, ADD_ART_POLL_REPLY, REMOVE_ART_POLL_REPLY);
+    }
+
+    public void removeArtPollReplyReceiveHandler(InterfacePacketReceiveHandler<ArtPollReply> handler) {
+        removeHandler(handler, ADD_ART_POLL_REPLY);
+    }
+
+    public InterfaceManager withArtPollReplyReceiveHandler(InterfacePacketReceiveHandler<ArtPollReply> handler) {
+        addArtPollReplyReceiveHandler(handler);
+        return this;
+    }
+
+    /**
+     * Adds an {@link InterfacePacketReceiveHandler} which is called when {@link ArtTimeCode} packets are received on
+     * any interface.
+     *
+     * @param handler The {@link InterfacePacketReceiveHandler} to use.
+     */
+    public void addArtTimeCodeReceiveHandler(InterfacePacketReceiveHandler<ArtTimeCode> handler) {
+        addHandler(handler, ADD_ART_TIME_CODE, REMOVE_ART_TIME_CODE);
+    }
+
+    public void removeArtTimeCodeReceiveHandler(InterfacePacketReceiveHandler<ArtTimeCode> handler) {
+        removeHandler(handler, ADD_ART_TIME_CODE);
+    }
+
+    public InterfaceManager withArtTimeCodeReceiveHandler(InterfacePacketReceiveHandler<ArtTimeCode> handler) {
+        addArtTimeCodeReceiveHandler(handler);
+        return this;
+    }
+
+    /**
+     * Connects an {@link InterfacePacketReceiveHandler} to the {@link ArtNetReceiver} instances of every interface.
+     */
+    private static class Registration<T extends ArtNetPacket> {
+
+        private final InterfacePacketReceiveHandler<T> handler;
+        private final BiConsumer<ArtNetReceiver, PacketReceiveHandler<T>> add;
+        private final BiConsumer<ArtNetReceiver, PacketReceiveHandler<T>> remove;
+        private final IdentityHashMap<ArtNetInterface, PacketReceiveHandler<T>> receiveHandlers;
+
+        private Registration(InterfacePacketReceiveHandler<T> handler,
+                             BiConsumer<ArtNetReceiver, PacketReceiveHandler<T>> add,
+                             BiConsumer<ArtNetReceiver, PacketReceiveHandler<T>> remove) {
+            this.handler = handler;
+            this.add = add;
+            this.remove = remove;
+            receiveHandlers = new IdentityHashMap<>();
+        }
+
+        private boolean matches(InterfacePacketReceiveHandler<?> handler, BiConsumer<?, ?> add) {
+            return this.handler == handler && this.add == add;
+        }
+
+        private void register(ArtNetInterface artNetInterface) {
+
+            PacketReceiveHandler<T> receiveHandler = packet -> handler.handle(artNetInterface, packet);
+            receiveHandlers.put(artNetInterface, receiveHandler);
+
+            for (ArtNetReceiver artNetReceiver : artNetInterface.getArtNetReceivers()) {
+                add.accept(artNetReceiver, receiveHandler);
+            }
+        }
+
+        private void unregister(ArtNetInterface artNetInterface) {
+
+            PacketReceiveHandler<T> receiveHandler = receiveHandlers.remove(artNetInterface);
+
+            if (receiveHandler != null) {
+                for (ArtNetReceiver artNetReceiver : artNetInterface.getArtNetReceivers()) {
+                    remove.accept(artNetReceiver, receiveHandler);
+                }
+            }
+        }
+    }
+}
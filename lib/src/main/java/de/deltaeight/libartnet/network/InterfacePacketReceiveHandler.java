@@ -0,0 +1,44 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import de.deltaeight.libartnet.packets.ArtNetPacket;
+
+/**
+ * Provides functionality for received {@link ArtNetPacket} instances together with the interface they were received
+ * on.
+ *
+ * @param <T> The {@link ArtNetPacket} implementation the implementing class is used for.
+ * @author Julian Rabe
+ * @see InterfaceManager
+ */
+@FunctionalInterface
+public interface InterfacePacketReceiveHandler<T extends ArtNetPacket> {
+
+    /**
+     * Is called by {@link InterfaceManager} when an {@link ArtNetPacket} of type {@link T} was received.
+     *
+     * @param ingress The {@link ArtNetInterface} the packet was received on, e.g. to reply on the same network.
+     * @param packet  The {@link ArtNetPacket} which was received.
+     */
+    void handle(ArtNetInterface ingress, T packet);
+}
@@ -0,0 +1,310 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import de.deltaeight.libartnet.builders.ArtPollBuilder;
+import de.deltaeight.libartnet.packets.ArtPoll;
+import de.deltaeight.libartnet.packets.ArtPollReply;
+
+/**
+ * Discovers nodes by periodically sending {@link ArtPoll} packets and collecting the {@link ArtPollReply} packets
+ * received in response.
+ * <p>
+ * Nodes are cached by IP address and bind index. A reply with the same payload as the cached one only refreshes the
+ * node without being decoded, so repeated polls of a stable network do not cause any events. Nodes which did not
+ * reply within the node timeout are evicted. Changes are reported to all registered {@link NodeDiscoveryListener}
+ * instances.
+ * <p>
+ * &nbsp;
+ * <table border="1">
+ * <caption>Default values</caption>
+ * <tr><td>Poll interval</td><td>{@code 2500} milliseconds</td></tr>
+ * <tr><td>Node timeout</td><td>{@code 7500} milliseconds</td></tr>
+ * <tr><td>{@link ArtPoll}</td><td>Default {@link ArtPollBuilder} packet with
+ * {@link ArtPoll#isSendArtPollReplyOnChanges()} enabled</td></tr>
+ * </table>
+ *
+ * @author Julian Rabe
+ * @see NodeDiscoveryListener
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class NodeDiscovery implements PacketReceiveHandler<ArtPollReply> {
+
+    private final ArtNetSender artNetSender;
+    private final ArtNetReceiver artNetReceiver;
+    private final InetAddress pollAddress;
+    private final ConcurrentHashMap<Long, Node> nodes;
+    private final CopyOnWriteArraySet<NodeDiscoveryListener> listeners;
+
+    private volatile ArtPoll artPoll;
+    private long pollInterval;
+    private volatile long nodeTimeout;
+    private ScheduledExecutorService scheduler;
+    private NetworkHandler.State state;
+
+    /**
+     * Initializes an instance for use.
+     *
+     * @param artNetSender   The {@link ArtNetSender} to send {@link ArtPoll} packets with.
+     * @param artNetReceiver The {@link ArtNetReceiver} to receive {@link ArtPollReply} packets with.
+     * @param pollAddress    The {@link InetAddress} to send {@link ArtPoll} packets to, usually a broadcast address.
+     */
+    public NodeDiscovery(ArtNetSender artNetSender, ArtNetReceiver artNetReceiver, InetAddress pollAddress) {
+
+        this.artNetSender = artNetSender;
+        this.artNetReceiver = artNetReceiver;
+        this.pollAddress = pollAddress;
+
+        nodes = new ConcurrentHashMap<>();
+        listeners = new CopyOnWriteArraySet<>();
+
+        artPoll = new ArtPollBuilder().withSendArtPollReplyOnChanges(true).build();
+        pollInterval = 2500;
+        nodeTimeout = 7500;
+        state = NetworkHandler.State.Initialized;
+    }
+
+    /**
+     * Registers at the {@link ArtNetReceiver} and starts polling. Only possible if not already running or stopped.
+     *
+     * @throws IllegalStateException When {@link #getState()} {@code != } {@link NetworkHandler.State#Initialized}.
+     * @see #stop()
+     */
+    public synchronized void start() {
+        if (state == NetworkHandler.State.Initialized) {
+
+            artNetReceiver.addArtPollReplyReceiveHandler(this);
+
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "ArtNet Discovery Worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleAtFixedRate(this::poll, 0, pollInterval, TimeUnit.MILLISECONDS);
+
+            state = NetworkHandler.State.Running;
+        } else if (state == NetworkHandler.State.Running) {
+            throw new IllegalStateException("Already running!");
+        } else {
+            throw new IllegalStateException("Not initialized!");
+        }
+    }
+
+    /**
+     * Stops polling and unregisters from the {@link ArtNetReceiver}. Cached nodes are kept. Only possible if running.
+     *
+     * @throws IllegalStateException When {@link #getState()} {@code != } {@link NetworkHandler.State#Running}.
+     * @see #start()
+     */
+    public synchronized void stop() {
+        if (state == NetworkHandler.State.Running) {
+            scheduler.shutdownNow();
+            artNetReceiver.removeArtPollReplyReceiveHandler(this);
+            state = NetworkHandler.State.Stopped;
+        } else {
+            throw new IllegalStateException("Not Running!");
+        }
+    }
+
+    /**
+     * Sends an {@link ArtPoll} and evicts nodes which did not reply within the node timeout.
+     */
+    void poll() {
+        artNetSender.send(pollAddress, artPoll);
+        evictNodes(System.nanoTime());
+    }
+
+    void evictNodes(long now) {
+        long timeout = TimeUnit.MILLISECONDS.toNanos(nodeTimeout);
+        for (Map.Entry<Long, Node> entry : nodes.entrySet()) {
+            Node node = entry.getValue();
+            if (now - node.lastSeen > timeout && nodes.remove(entry.getKey(), node)) {
+                listeners.forEach(listener -> listener.nodeRemoved(node.artPollReply));
+            }
+        }
+    }
+
+    /**
+     * Updates the node cache with a received {@link ArtPollReply}.
+     *
+     * @param packet The {@link ArtPollReply} which was received.
+     */
+    @Override
+    public void handle(ArtPollReply packet) {
+
+        long now = System.nanoTime();
+        Long key = SubscriptionManager.getNodeKey(packet.getIpAddress(), packet.getBindIndex());
+
+        Node node = nodes.get(key);
+        if (node != null && node.artPollReply.bytesEqual(packet)) {
+            node.lastSeen = now;
+            return;
+        }
+
+        Node previous = nodes.put(key, new Node(packet, now));
+
+        if (previous == null) {
+            listeners.forEach(listener -> listener.nodeAdded(packet));
+        } else if (!previous.artPollReply.bytesEqual(packet)) {
+            listeners.forEach(listener -> listener.nodeChanged(previous.artPollReply, packet));
+        }
+    }
+
+    /**
+     * @return All currently known nodes.
+     */
+    public Collection<ArtPollReply> getNodes() {
+        ArrayList<ArtPollReply> result = new ArrayList<>(nodes.size());
+        nodes.values().forEach(node -> result.add(node.artPollReply));
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * @param ipAddress The IP address of the node.
+     * @param bindIndex The bind index of the node.
+     * @return The latest {@link ArtPollReply} of the node or {@code null} if the node is unknown.
+     */
+    public ArtPollReply getNode(byte[] ipAddress, int bindIndex) {
+        Node node = nodes.get(SubscriptionManager.getNodeKey(ipAddress, bindIndex));
+        return node == null ? null : node.artPollReply;
+    }
+
+    /**
+     * Adds a {@link NodeDiscoveryListener} which is notified about node changes.
+     *
+     * @param listener The {@link NodeDiscoveryListener} to use.
+     */
+    public void addListener(NodeDiscoveryListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(NodeDiscoveryListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @param listener The {@link NodeDiscoveryListener} to use.
+     * @return Current {@link NodeDiscovery} instance for fluent code style.
+     * @see #addListener(NodeDiscoveryListener)
+     */
+    public NodeDiscovery withListener(NodeDiscoveryListener listener) {
+        addListener(listener);
+        return this;
+    }
+
+    public NodeDiscovery withoutListener(NodeDiscoveryListener listener) {
+        removeListener(listener);
+        return this;
+    }
+
+    public ArtPoll getArtPoll() {
+        return artPoll;
+    }
+
+    /**
+     * Sets the {@link ArtPoll} to send periodically.
+     *
+     * @param artPoll The {@link ArtPoll} to send.
+     */
+    public void setArtPoll(ArtPoll artPoll) {
+        if (artPoll == null) {
+            throw new IllegalArgumentException("Illegal ArtPoll!");
+        }
+        this.artPoll = artPoll;
+    }
+
+    public NodeDiscovery withArtPoll(ArtPoll artPoll) {
+        setArtPoll(artPoll);
+        return this;
+    }
+
+    public long getPollInterval() {
+        return pollInterval;
+    }
+
+    /**
+     * Sets the interval between two {@link ArtPoll} packets. Only possible before {@link #start()} is called.
+     *
+     * @param pollInterval The interval in milliseconds.
+     */
+    public synchronized void setPollInterval(long pollInterval) {
+        if (state != NetworkHandler.State.Initialized) {
+            throw new IllegalStateException("Already started!");
+        }
+        if (pollInterval < 1) {
+            throw new IllegalArgumentException("Illegal poll interval!");
+        }
+        this.pollInterval = pollInterval;
+    }
+
+    public NodeDiscovery withPollInterval(long pollInterval) {
+        setPollInterval(pollInterval);
+        return this;
+    }
+
+    public long getNodeTimeout() {
+        return nodeTimeout;
+    }
+
+    /**
+     * Sets the time after which nodes which did not reply are evicted.
+     *
+     * @param nodeTimeout The timeout in milliseconds.
+     */
+    public void setNodeTimeout(long nodeTimeout) {
+        if (nodeTimeout < 1) {
+            throw new IllegalArgumentException("Illegal node timeout!");
+        }
+        this.nodeTimeout = nodeTimeout;
+    }
+
+    public NodeDiscovery withNodeTimeout(long nodeTimeout) {
+        setNodeTimeout(nodeTimeout);
+        return this;
+    }
+
+    public NetworkHandler.State getState() {
+        return state;
+    }
+
+    private static class Node {
+
+        private final ArtPollReply artPollReply;
+        private volatile long lastSeen;
+
+        private Node(ArtPollReply artPollReply, long lastSeen) {
+            this.artPollReply = artPollReply;
+            this.lastSeen = lastSeen;
+        }
+    }
+}
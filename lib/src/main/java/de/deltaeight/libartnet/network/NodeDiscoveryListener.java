@@ -0,0 +1,61 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import de.deltaeight.libartnet.packets.ArtPollReply;
+
+/**
+ * Is notified by {@link NodeDiscovery} when nodes appear, change or disappear.
+ * <p>
+ * Nodes are represented by the latest {@link ArtPollReply} they sent. All methods do nothing by default, so only the
+ * events of interest need to be implemented.
+ *
+ * @author Julian Rabe
+ * @see NodeDiscovery
+ */
+public interface NodeDiscoveryListener {
+
+    /**
+     * Is called when a node replied for the first time.
+     *
+     * @param node The {@link ArtPollReply} of the node.
+     */
+    default void nodeAdded(ArtPollReply node) {
+    }
+
+    /**
+     * Is called when a known node replied with different content than before.
+     *
+     * @param previous The previous {@link ArtPollReply} of the node.
+     * @param current  The current {@link ArtPollReply} of the node.
+     */
+    default void nodeChanged(ArtPollReply previous, ArtPollReply current) {
+    }
+
+    /**
+     * Is called when a node did not reply within the node timeout and was evicted.
+     *
+     * @param node The last {@link ArtPollReply} of the node.
+     */
+    default void nodeRemoved(ArtPollReply node) {
+    }
+}
@@ -24,6 +24,8 @@ package de.deltaeight.libartnet.network;
 import de.deltaeight.libartnet.builders.ArtNetPacketBuilder;
 import de.deltaeight.libartnet.packets.ArtNetPacket;
 
+import java.net.InetAddress;
+import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 
@@ -40,20 +42,31 @@ class PacketReceiveDispatcher<T extends ArtNetPacket> {
     private final ExecutorService workingPool;
     private final ArtNetPacketBuilder<T> packetBuilder;
     private final Set<PacketReceiveHandler<T>> receiveHandlers;
+    private final Set<AddressedPacketReceiveHandler<T>> addressedReceiveHandlers;
 
     PacketReceiveDispatcher(ExecutorService workingPool,
                             ArtNetPacketBuilder<T> packetBuilder,
                             Set<PacketReceiveHandler<T>> receiveHandlers) {
+        this(workingPool, packetBuilder, receiveHandlers, Collections.emptySet());
+    }
+
+    PacketReceiveDispatcher(ExecutorService workingPool,
+                            ArtNetPacketBuilder<T> packetBuilder,
+                            Set<PacketReceiveHandler<T>> receiveHandlers,
+                            Set<AddressedPacketReceiveHandler<T>> addressedReceiveHandlers) {
 
         this.workingPool = workingPool;
         this.packetBuilder = packetBuilder;
         this.receiveHandlers = receiveHandlers;
+        this.addressedReceiveHandlers = addressedReceiveHandlers;
     }
 
-    boolean handleReceive(byte[] packetData) {
-        T packet = packetBuilder.buildFromBytes(packetData);
+    boolean handleReceive(InetAddress source, byte[] packetData, int length) {
+        T packet = packetBuilder.buildFromBytes(packetData, length);
         if (packet != null) {
             receiveHandlers.forEach(receiveHandler -> workingPool.submit(() -> receiveHandler.handle(packet)));
+            addressedReceiveHandlers.forEach(receiveHandler ->
+                    workingPool.submit(() -> receiveHandler.handle(source, packet)));
         }
         return false;
     }
@@ -0,0 +1,265 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import de.deltaeight.libartnet.descriptors.PortAddress;
+
+/**
+ * Maps RGB framebuffers of LED walls to {@link Universe} instances in one pass.
+ * <p>
+ * Pixels are assigned to universes along the LED strip, starting at the top left of the framebuffer and running row
+ * by row. With serpentine layout, every second row runs from right to left. Each universe receives the same amount of
+ * pixels, universes use consecutive Port-Addresses from the start Port-Address on.
+ * <p>
+ * Framebuffers contain one {@code int} per pixel as {@code 0xWWRRGGBB}, where the white component is only used by
+ * {@link PixelOrder}s with white channel. Large walls are mapped in parallel using fork/join. After
+ * {@link #map(int[])}, publish the frame by calling {@link Universe#swap()} on all universes.
+ *
+ * @author Julian Rabe
+ * @see Universe
+ */
+public class PixelMapper {
+
+    private static final int UNIVERSES_PER_TASK = 16;
+
+    private final int width;
+    private final int height;
+    private final PixelOrder pixelOrder;
+    private final int pixelsPerUniverse;
+    private final int[] sourceIndices;
+    private final Universe[] universes;
+    private final ForkJoinPool forkJoinPool;
+
+    /**
+     * Initializes an instance using as many pixels per universe as fit into {@code 512} channels and the common
+     * {@link ForkJoinPool} shared across the JVM.
+     *
+     * @param width            The width of the framebuffer in pixels.
+     * @param height           The height of the framebuffer in pixels.
+     * @param startPortAddress The Port-Address of the first universe.
+     * @param pixelOrder       The {@link PixelOrder} of the LEDs.
+     * @param serpentine       Whether every second row runs from right to left.
+     */
+    public PixelMapper(int width, int height, int startPortAddress, PixelOrder pixelOrder, boolean serpentine) {
+        this(width, height, startPortAddress, pixelOrder, serpentine, 512 / pixelOrder.getChannelsPerPixel(),
+                ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Initializes an instance.
+     *
+     * @param width             The width of the framebuffer in pixels.
+     * @param height            The height of the framebuffer in pixels.
+     * @param startPortAddress  The Port-Address of the first universe.
+     * @param pixelOrder        The {@link PixelOrder} of the LEDs.
+     * @param serpentine        Whether every second row runs from right to left.
+     * @param pixelsPerUniverse The amount of pixels per universe.
+     * @param forkJoinPool      The {@link ForkJoinPool} to map large walls with.
+     */
+    public PixelMapper(int width,
+                       int height,
+                       int startPortAddress,
+                       PixelOrder pixelOrder,
+                       boolean serpentine,
+                       int pixelsPerUniverse,
+                       ForkJoinPool forkJoinPool) {
+
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException("Illegal framebuffer size!");
+        }
+
+        if (pixelOrder == null) {
+            throw new IllegalArgumentException("Illegal pixel order!");
+        }
+
+        if (pixelsPerUniverse < 1 || pixelsPerUniverse * pixelOrder.getChannelsPerPixel() > 512) {
+            throw new IllegalArgumentException("Illegal pixels per universe!");
+        }
+
+        int pixelCount = width * height;
+        int universeCount = (pixelCount + pixelsPerUniverse - 1) / pixelsPerUniverse;
+
+        if (!PortAddress.isValid(startPortAddress) || !PortAddress.isValid(startPortAddress + universeCount - 1)) {
+            throw new IllegalArgumentException("Illegal Port-Address!");
+        }
+
+        this.width = width;
+        this.height = height;
+        this.pixelOrder = pixelOrder;
+        this.pixelsPerUniverse = pixelsPerUniverse;
+        this.forkJoinPool = forkJoinPool;
+
+        sourceIndices = new int[pixelCount];
+        for (int i = 0; i < pixelCount; i++) {
+            int row = i / width;
+            int column = i % width;
+            sourceIndices[i] = row * width + (serpentine && row % 2 > 0 ? width - 1 - column : column);
+        }
+
+        int channelCount = pixelsPerUniverse * pixelOrder.getChannelsPerPixel();
+        universes = new Universe[universeCount];
+        for (int i = 0; i < universeCount; i++) {
+            universes[i] = new Universe(startPortAddress + i, channelCount + channelCount % 2);
+        }
+    }
+
+    /**
+     * Writes a frame into the back buffers of all universes.
+     *
+     * @param framebuffer The pixels as {@code 0xWWRRGGBB}, row by row from the top left.
+     */
+    public void map(int[] framebuffer) {
+        if (framebuffer.length < sourceIndices.length) {
+            throw new IllegalArgumentException("Illegal framebuffer size!");
+        }
+        map(index -> framebuffer[index]);
+    }
+
+    /**
+     * Writes a frame into the back buffers of all universes.
+     *
+     * @param framebuffer The pixels as {@code 0xWWRRGGBB}, row by row from the top left, read as {@code int}s from
+     *                    the current position in the byte order of {@code framebuffer}. The position is not changed.
+     */
+    public void map(ByteBuffer framebuffer) {
+        if (framebuffer.remaining() < sourceIndices.length * 4) {
+            throw new IllegalArgumentException("Illegal framebuffer size!");
+        }
+        int position = framebuffer.position();
+        map(index -> framebuffer.getInt(position + index * 4));
+    }
+
+    private void map(Framebuffer framebuffer) {
+        if (universes.length > UNIVERSES_PER_TASK) {
+            forkJoinPool.invoke(new MapTask(framebuffer, 0, universes.length));
+        } else {
+            mapUniverses(framebuffer, 0, universes.length);
+        }
+    }
+
+    private void mapUniverses(Framebuffer framebuffer, int from, int to) {
+
+        int[] shifts = pixelOrder.shifts;
+        int channelsPerPixel = shifts.length;
+
+        for (int universe = from; universe < to; universe++) {
+
+            byte[] buffer = universes[universe].getBackBuffer();
+
+            int firstPixel = universe * pixelsPerUniverse;
+            int lastPixel = Math.min(firstPixel + pixelsPerUniverse, sourceIndices.length);
+
+            int index = Universe.DATA_OFFSET;
+            for (int pixel = firstPixel; pixel < lastPixel; pixel++, index += channelsPerPixel) {
+                int color = framebuffer.getPixel(sourceIndices[pixel]);
+                for (int channel = 0; channel < channelsPerPixel; channel++) {
+                    buffer[index + channel] = (byte) (color >>> shifts[channel]);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The universes in ascending Port-Address order.
+     */
+    public Universe[] getUniverses() {
+        return universes.clone();
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public PixelOrder getPixelOrder() {
+        return pixelOrder;
+    }
+
+    public int getPixelsPerUniverse() {
+        return pixelsPerUniverse;
+    }
+
+    /**
+     * Represents the order in which LEDs expect their color channels.
+     *
+     * @author Julian Rabe
+     */
+    public enum PixelOrder {
+
+        RGB(16, 8, 0),
+        RBG(16, 0, 8),
+        GRB(8, 16, 0),
+        GBR(8, 0, 16),
+        BRG(0, 16, 8),
+        BGR(0, 8, 16),
+        RGBW(16, 8, 0, 24),
+        GRBW(8, 16, 0, 24);
+
+        private final int[] shifts;
+
+        PixelOrder(int... shifts) {
+            this.shifts = shifts;
+        }
+
+        public int getChannelsPerPixel() {
+            return shifts.length;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Framebuffer {
+
+        int getPixel(int index);
+    }
+
+    private class MapTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Framebuffer framebuffer;
+        private final int from;
+        private final int to;
+
+        private MapTask(Framebuffer framebuffer, int from, int to) {
+            this.framebuffer = framebuffer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > UNIVERSES_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new MapTask(framebuffer, from, middle), new MapTask(framebuffer, middle, to));
+            } else {
+                mapUniverses(framebuffer, from, to);
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import de.deltaeight.libartnet.descriptors.Rdm;
+
+/**
+ * Represents the final response to an RDM transaction handled by {@link RdmTransactionManager}.
+ * <p>
+ * Parameter data of {@link Rdm#RESPONSE_TYPE_ACK_OVERFLOW} responses is already concatenated, so the response type is
+ * either {@link Rdm#RESPONSE_TYPE_ACK} or {@link Rdm#RESPONSE_TYPE_NACK_REASON}.
+ *
+ * @author Julian Rabe
+ * @see RdmTransactionManager
+ */
+public class RdmResponse {
+
+    private final long uid;
+    private final int responseType;
+    private final int commandClass;
+    private final int parameterId;
+    private final byte[] parameterData;
+
+    public RdmResponse(long uid, int responseType, int commandClass, int parameterId, byte[] parameterData) {
+        this.uid = uid;
+        this.responseType = responseType;
+        this.commandClass = commandClass;
+        this.parameterId = parameterId;
+        this.parameterData = parameterData;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(uid, responseType, commandClass, parameterId);
+        result = 31 * result + Arrays.hashCode(parameterData);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RdmResponse that = (RdmResponse) o;
+        return uid == that.uid &&
+                responseType == that.responseType &&
+                commandClass == that.commandClass &&
+                parameterId == that.parameterId &&
+                Arrays.equals(parameterData, that.parameterData);
+    }
+
+    /**
+     * @return The UID of the responding device.
+     */
+    public long getUid() {
+        return uid;
+    }
+
+    public int getResponseType() {
+        return responseType;
+    }
+
+    public int getCommandClass() {
+        return commandClass;
+    }
+
+    public int getParameterId() {
+        return parameterId;
+    }
+
+    public byte[] getParameterData() {
+        return parameterData.clone();
+    }
+
+    /**
+     * @return Whether the device acknowledged the request.
+     */
+    public boolean isAcknowledged() {
+        return responseType == Rdm.RESPONSE_TYPE_ACK;
+    }
+
+    /**
+     * @return The NACK reason code or {@code -1} if the device acknowledged the request.
+     */
+    public int getNackReason() {
+        if (responseType != Rdm.RESPONSE_TYPE_NACK_REASON || parameterData.length < 2) {
+            return -1;
+        }
+        return (parameterData[0] & 0xFF) << 8 | parameterData[1] & 0xFF;
+    }
+}
@@ -0,0 +1,553 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import de.deltaeight.libartnet.builders.ArtRdmBuilder;
+import de.deltaeight.libartnet.descriptors.PortAddress;
+import de.deltaeight.libartnet.descriptors.Rdm;
+import de.deltaeight.libartnet.packets.ArtRdm;
+
+/**
+ * Pipelines RDM GET and SET requests to many devices at once instead of waiting for every response in turn.
+ * <p>
+ * Requests are queued per UID, as RDM devices handle a single transaction at a time. Up to
+ * {@link #getMaxOutstanding()} transactions to different UIDs are in flight at once, a response immediately sends the
+ * next request for its UID or a waiting one for another UID. Transactions which are not answered within the timeout of
+ * their UID are retried and complete exceptionally with a {@link TimeoutException} when all retries are exhausted.
+ * <p>
+ * {@link Rdm#RESPONSE_TYPE_ACK_TIMER} responses to GET requests send the request again after the indicated delay.
+ * A SET answered with {@link Rdm#RESPONSE_TYPE_ACK_TIMER} completes exceptionally with an {@link IOException} instead,
+ * as sending it again could execute it twice. {@link Rdm#RESPONSE_TYPE_ACK_OVERFLOW} responses repeat the request until
+ * the complete parameter data is collected.
+ * Returned futures are completed on the receiving or the timeout thread, so dependent actions should be quick.
+ *
+ * @author Julian Rabe
+ * @see RdmResponse
+ * @see ArtRdm
+ */
+public class RdmTransactionManager implements PacketReceiveHandler<ArtRdm> {
+
+    private final ArtNetSender artNetSender;
+    private final ArtNetReceiver artNetReceiver;
+    private final long sourceUid;
+    private final HashMap<Long, Device> devices;
+    private final ArrayDeque<Device> runnableDevices;
+    private final HashMap<Long, Long> uidTimeouts;
+
+    private int maxOutstanding;
+    private long timeout;
+    private int retries;
+    private int outstanding;
+    private int transactionNumber;
+    private ScheduledThreadPoolExecutor scheduler;
+    private NetworkHandler.State state;
+
+    /**
+     * Initializes an instance for use.
+     *
+     * @param artNetSender   The {@link ArtNetSender} to send {@link ArtRdm} packets with.
+     * @param artNetReceiver The {@link ArtNetReceiver} to receive {@link ArtRdm} packets with.
+     * @param sourceUid      The UID of this controller, see {@link Rdm#toUid(int, int)}.
+     */
+    public RdmTransactionManager(ArtNetSender artNetSender, ArtNetReceiver artNetReceiver, long sourceUid) {
+
+        if (0 > sourceUid || sourceUid >= Rdm.BROADCAST_UID) {
+            throw new IllegalArgumentException("Illegal UID!");
+        }
+
+        this.artNetSender = artNetSender;
+        this.artNetReceiver = artNetReceiver;
+        this.sourceUid = sourceUid;
+
+        devices = new HashMap<>();
+        runnableDevices = new ArrayDeque<>();
+        uidTimeouts = new HashMap<>();
+
+        maxOutstanding = 64;
+        timeout = 1000;
+        retries = 2;
+        state = NetworkHandler.State.Initialized;
+    }
+
+    /**
+     * Registers at the {@link ArtNetReceiver}. Only possible if not already running or stopped.
+     *
+     * @throws IllegalStateException When {@link #getState()} {@code != } {@link NetworkHandler.State#Initialized}.
+     * @see #stop()
+     */
+    public synchronized void start() {
+        if (state == NetworkHandler.State.Initialized) {
+
+            scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "ArtNet RDM Worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+
+            artNetReceiver.addArtRdmReceiveHandler(this);
+
+            state = NetworkHandler.State.Running;
+        } else if (state == NetworkHandler.State.Running) {
+            throw new IllegalStateException("Already running!");
+        } else {
+            throw new IllegalStateException("Not initialized!");
+        }
+    }
+
+    /**
+     * Unregisters from the {@link ArtNetReceiver} and cancels all pending transactions with a
+     * {@link CancellationException}. Only possible if running.
+     *
+     * @throws IllegalStateException When {@link #getState()} {@code != } {@link NetworkHandler.State#Running}.
+     * @see #start()
+     */
+    public void stop() {
+
+        ArrayList<Transaction> cancelled = new ArrayList<>();
+
+        synchronized (this) {
+            if (state != NetworkHandler.State.Running) {
+                throw new IllegalStateException("Not Running!");
+            }
+
+            scheduler.shutdownNow();
+            artNetReceiver.removeArtRdmReceiveHandler(this);
+
+            for (Device device : devices.values()) {
+                if (device.inFlight != null) {
+                    cancelled.add(device.inFlight);
+                }
+                cancelled.addAll(device.queue);
+            }
+
+            devices.clear();
+            runnableDevices.clear();
+            outstanding = 0;
+            state = NetworkHandler.State.Stopped;
+        }
+
+        for (Transaction transaction : cancelled) {
+            transaction.future.completeExceptionally(new CancellationException("Stopped!"));
+        }
+    }
+
+    /**
+     * Queues an RDM GET request.
+     *
+     * @param node          The {@link InetAddress} of the node the device is connected to.
+     * @param portAddress   The Port-Address of the node's port the device is connected to, see {@link PortAddress}.
+     * @param uid           The UID of the device.
+     * @param subDevice     The sub-device ({@code 0} for the root device).
+     * @param parameterId   The parameter ID.
+     * @param parameterData The parameter data, up to {@link Rdm#MAX_PARAMETER_DATA_LENGTH} bytes.
+     * @return A {@link CompletableFuture} which is completed with the {@link RdmResponse} of the device.
+     * @throws IllegalStateException When {@link #getState()} {@code != } {@link NetworkHandler.State#Running}.
+     */
+    public CompletableFuture<RdmResponse> get(InetAddress node, int portAddress, long uid, int subDevice,
+                                              int parameterId, byte[] parameterData) {
+        return submit(node, portAddress, uid, subDevice, Rdm.GET_COMMAND, parameterId, parameterData);
+    }
+
+    /**
+     * Queues an RDM SET request.
+     *
+     * @param node          The {@link InetAddress} of the node the device is connected to.
+     * @param portAddress   The Port-Address of the node's port the device is connected to, see {@link PortAddress}.
+     * @param uid           The UID of the device.
+     * @param subDevice     The sub-device ({@code 0} for the root device).
+     * @param parameterId   The parameter ID.
+     * @param parameterData The parameter data, up to {@link Rdm#MAX_PARAMETER_DATA_LENGTH} bytes.
+     * @return A {@link CompletableFuture} which is completed with the {@link RdmResponse} of the device.
+     * @throws IllegalStateException When {@link #getState()} {@code != } {@link NetworkHandler.State#Running}.
+     */
+    public CompletableFuture<RdmResponse> set(InetAddress node, int portAddress, long uid, int subDevice,
+                                              int parameterId, byte[] parameterData) {
+        return submit(node, portAddress, uid, subDevice, Rdm.SET_COMMAND, parameterId, parameterData);
+    }
+
+    private CompletableFuture<RdmResponse> submit(InetAddress node, int portAddress, long uid, int subDevice,
+                                                  int commandClass, int parameterId, byte[] parameterData) {
+
+        if (!PortAddress.isValid(portAddress)) {
+            throw new IllegalArgumentException("Illegal Port-Address!");
+        }
+
+        if (0 > uid || uid >= Rdm.BROADCAST_UID) {
+            throw new IllegalArgumentException("Illegal UID!");
+        }
+
+        if (0 > subDevice || subDevice > 0xFFFF) {
+            throw new IllegalArgumentException("Illegal sub-device!");
+        }
+
+        if (0 > parameterId || parameterId > 0xFFFF) {
+            throw new IllegalArgumentException("Illegal parameter ID!");
+        }
+
+        if (parameterData == null) {
+            parameterData = new byte[0];
+        }
+
+        if (parameterData.length > Rdm.MAX_PARAMETER_DATA_LENGTH) {
+            throw new IllegalArgumentException("Illegal parameter data length!");
+        }
+
+        Transaction transaction = new Transaction(node, portAddress, uid, subDevice, commandClass, parameterId,
+                parameterData.clone());
+
+        synchronized (this) {
+            if (state != NetworkHandler.State.Running) {
+                throw new IllegalStateException("Not Running!");
+            }
+
+            Device device = devices.computeIfAbsent(uid, Device::new);
+            device.queue.add(transaction);
+            if (device.inFlight == null && !device.runnable) {
+                device.runnable = true;
+                runnableDevices.add(device);
+            }
+            sendRunnable();
+        }
+
+        return transaction.future;
+    }
+
+    private void sendRunnable() {
+        while (outstanding < maxOutstanding && !runnableDevices.isEmpty()) {
+            Device device = runnableDevices.poll();
+            device.runnable = false;
+
+            Transaction transaction;
+            do {
+                transaction = device.queue.poll();
+            } while (transaction != null && transaction.future.isDone());
+
+            if (transaction == null) {
+                devices.remove(device.uid);
+            } else {
+                device.inFlight = transaction;
+                outstanding++;
+                transmit(transaction);
+            }
+        }
+    }
+
+    private void transmit(Transaction transaction) {
+
+        transaction.transactionNumber = transactionNumber++ & 0xFF;
+        transaction.attempts++;
+
+        byte[] message = new byte[Rdm.MAX_LENGTH];
+        int length = Rdm.writeMessage(message, 0, transaction.uid, sourceUid, transaction.transactionNumber, 0x01,
+                transaction.subDevice, transaction.commandClass, transaction.parameterId,
+                transaction.parameterData);
+
+        ArtRdm artRdm = new ArtRdmBuilder()
+                .withPortAddress(transaction.portAddress)
+                .withRdmPacket(Arrays.copyOf(message, length))
+                .build();
+
+        int transactionNumber = transaction.transactionNumber;
+        transaction.timeoutTask = scheduler.schedule(() -> timeout(transaction, transactionNumber),
+                uidTimeouts.getOrDefault(transaction.uid, timeout), TimeUnit.MILLISECONDS);
+
+        artNetSender.send(transaction.node, artRdm);
+    }
+
+    private void timeout(Transaction transaction, int transactionNumber) {
+
+        synchronized (this) {
+            Device device = devices.get(transaction.uid);
+            if (device == null || device.inFlight != transaction
+                    || transaction.transactionNumber != transactionNumber) {
+                return;
+            }
+
+            if (transaction.attempts <= retries) {
+                transmit(transaction);
+                return;
+            }
+
+            finish(device);
+        }
+
+        transaction.future.completeExceptionally(new TimeoutException("RDM transaction timed out!"));
+    }
+
+    private void resend(Transaction transaction) {
+        synchronized (this) {
+            Device device = devices.get(transaction.uid);
+            if (state == NetworkHandler.State.Running && device != null && device.inFlight == transaction) {
+                transmit(transaction);
+            }
+        }
+    }
+
+    private void finish(Device device) {
+        device.inFlight = null;
+        outstanding--;
+        if (device.queue.isEmpty()) {
+            devices.remove(device.uid);
+        } else {
+            device.runnable = true;
+            runnableDevices.add(device);
+        }
+        sendRunnable();
+    }
+
+    /**
+     * Matches a received {@link ArtRdm} response to its pending transaction.
+     *
+     * @param packet The {@link ArtRdm} which was received.
+     */
+    @Override
+    public void handle(ArtRdm packet) {
+
+        if (!packet.isRdmPacketValid() || packet.getDestinationUid() != sourceUid) {
+            return;
+        }
+
+        int commandClass = packet.getCommandClass();
+        if (commandClass != Rdm.GET_COMMAND_RESPONSE && commandClass != Rdm.SET_COMMAND_RESPONSE) {
+            return;
+        }
+
+        long uid = packet.getSourceUid();
+        byte[] parameterData = packet.getParameterData();
+        Transaction transaction;
+        RdmResponse response;
+
+        synchronized (this) {
+            Device device = devices.get(uid);
+            transaction = device == null ? null : device.inFlight;
+
+            if (transaction == null || transaction.transactionNumber != packet.getTransactionNumber()
+                    || transaction.commandClass + 1 != commandClass) {
+                return;
+            }
+
+            transaction.timeoutTask.cancel(false);
+            transaction.attempts = 0;
+
+            switch (packet.getPortIdOrResponseType()) {
+                case Rdm.RESPONSE_TYPE_ACK_TIMER:
+                    if (transaction.commandClass == Rdm.GET_COMMAND) {
+                        int delay = parameterData.length < 2 ? 1
+                                : (parameterData[0] & 0xFF) << 8 | parameterData[1] & 0xFF;
+                        scheduler.schedule(() -> resend(transaction), delay * 100L, TimeUnit.MILLISECONDS);
+                        return;
+                    }
+
+                    // The device may still execute the SET, its result is only available as a queued message
+                    response = null;
+                    finish(device);
+                    break;
+                case Rdm.RESPONSE_TYPE_ACK_OVERFLOW:
+                    if (transaction.overflow == null) {
+                        transaction.overflow = new ByteArrayOutputStream();
+                    }
+                    transaction.overflow.write(parameterData, 0, parameterData.length);
+                    transmit(transaction);
+                    return;
+                default:
+                    if (transaction.overflow != null) {
+                        transaction.overflow.write(parameterData, 0, parameterData.length);
+                        parameterData = transaction.overflow.toByteArray();
+                    }
+                    response = new RdmResponse(uid, packet.getPortIdOrResponseType(), commandClass,
+                            packet.getParameterId(), parameterData);
+                    finish(device);
+            }
+        }
+
+        if (response == null) {
+            transaction.future.completeExceptionally(new IOException("Device deferred SET with ACK_TIMER!"));
+        } else {
+            transaction.future.complete(response);
+        }
+    }
+
+    /**
+     * @return The amount of transactions currently in flight.
+     */
+    public synchronized int getOutstanding() {
+        return outstanding;
+    }
+
+    public synchronized int getMaxOutstanding() {
+        return maxOutstanding;
+    }
+
+    /**
+     * @param maxOutstanding The maximum amount of transactions in flight at once, each to a different UID.
+     */
+    public synchronized void setMaxOutstanding(int maxOutstanding) {
+        if (maxOutstanding < 1) {
+            throw new IllegalArgumentException("Illegal maximum of outstanding transactions!");
+        }
+        this.maxOutstanding = maxOutstanding;
+        if (state == NetworkHandler.State.Running) {
+            sendRunnable();
+        }
+    }
+
+    public RdmTransactionManager withMaxOutstanding(int maxOutstanding) {
+        setMaxOutstanding(maxOutstanding);
+        return this;
+    }
+
+    public synchronized long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * @param timeout The time in milliseconds to wait for a response before retrying, unless overridden per UID.
+     * @see #setTimeout(long, long)
+     */
+    public synchronized void setTimeout(long timeout) {
+        if (timeout < 1) {
+            throw new IllegalArgumentException("Illegal timeout!");
+        }
+        this.timeout = timeout;
+    }
+
+    public RdmTransactionManager withTimeout(long timeout) {
+        setTimeout(timeout);
+        return this;
+    }
+
+    /**
+     * @param uid The UID of the device.
+     * @return The time in milliseconds to wait for a response of the device before retrying.
+     */
+    public synchronized long getTimeout(long uid) {
+        return uidTimeouts.getOrDefault(uid, timeout);
+    }
+
+    /**
+     * Overrides the timeout for a single device, e.g. one behind a slow RDM splitter.
+     *
+     * @param uid     The UID of the device.
+     * @param timeout The time in milliseconds to wait for a response of the device before retrying or {@code 0} to
+     *                use the default timeout.
+     */
+    public synchronized void setTimeout(long uid, long timeout) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("Illegal timeout!");
+        }
+        if (timeout == 0) {
+            uidTimeouts.remove(uid);
+        } else {
+            uidTimeouts.put(uid, timeout);
+        }
+    }
+
+    public RdmTransactionManager withTimeout(long uid, long timeout) {
+        setTimeout(uid, timeout);
+        return this;
+    }
+
+    public synchronized int getRetries() {
+        return retries;
+    }
+
+    /**
+     * @param retries The amount of times a request is sent again when it timed out.
+     */
+    public synchronized void setRetries(int retries) {
+        if (retries < 0) {
+            throw new IllegalArgumentException("Illegal retries!");
+        }
+        this.retries = retries;
+    }
+
+    public RdmTransactionManager withRetries(int retries) {
+        setRetries(retries);
+        return this;
+    }
+
+    public long getSourceUid() {
+        return sourceUid;
+    }
+
+    public synchronized NetworkHandler.State getState() {
+        return state;
+    }
+
+    private static class Device {
+
+        private final long uid;
+        private final ArrayDeque<Transaction> queue;
+
+        private Transaction inFlight;
+        private boolean runnable;
+
+        private Device(long uid) {
+            this.uid = uid;
+            queue = new ArrayDeque<>();
+        }
+    }
+
+    private static class Transaction {
+
+        private final InetAddress node;
+        private final int portAddress;
+        private final long uid;
+        private final int subDevice;
+        private final int commandClass;
+        private final int parameterId;
+        private final byte[] parameterData;
+        private final CompletableFuture<RdmResponse> future;
+
+        private int transactionNumber;
+        private int attempts;
+        private ScheduledFuture<?> timeoutTask;
+        private ByteArrayOutputStream overflow;
+
+        private Transaction(InetAddress node, int portAddress, long uid, int subDevice, int commandClass,
+                            int parameterId, byte[] parameterData) {
+            this.node = node;
+            this.portAddress = portAddress;
+            this.uid = uid;
+            this.subDevice = subDevice;
+            this.commandClass = commandClass;
+            this.parameterId = parameterId;
+            this.parameterData = parameterData;
+            future = new CompletableFuture<>();
+        }
+    }
+}
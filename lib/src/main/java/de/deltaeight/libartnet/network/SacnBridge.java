@@ -0,0 +1,340 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.MulticastSocket;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import de.deltaeight.libartnet.collections.PortAddressArray;
+import de.deltaeight.libartnet.descriptors.E131;
+import de.deltaeight.libartnet.descriptors.PortAddress;
+import de.deltaeight.libartnet.packets.ArtDmx;
+
+/**
+ * Bridges DMX512 data between Art-Net and sACN (E1.31) in both directions without decoding packets to objects.
+ * <p>
+ * Add an instance at {@link ArtNetReceiver#addArtDmxForwarder(ArtDmxForwarder)} to convert received {@link ArtDmx}
+ * packets to sACN on the receiving thread. Every bridged Port-Address owns a prepared sACN header which is copied per
+ * frame, so only the slots, the slot count and the sequence number are written before the packet is queued at the
+ * {@link ArtNetSender} for the multicast group of its universe.
+ * <p>
+ * Received sACN data packets are converted on the worker thread of this bridge and written into a {@link Universe},
+ * whose buffers are sent to the configured destination. When the socket is a {@link MulticastSocket}, the multicast
+ * group of each bridged sACN universe is joined while it is bridged. Packets sent by this bridge itself are recognized
+ * by their CID and ignored. Priorities of multiple sACN sources are not merged, the latest packet wins.
+ *
+ * @author Julian Rabe
+ * @see ArtNetReceiver
+ * @see E131
+ */
+public class SacnBridge extends NetworkHandler implements ArtDmxForwarder {
+
+    private final ArtNetSender artNetSender;
+    private final UUID cid;
+    private final String sourceName;
+    private final byte[] buffer;
+    private final byte[] cidBytes;
+    private final PortAddressArray<SacnOutput> sacnOutputs;
+    private final AtomicReferenceArray<ArtNetOutput> artNetOutputs;
+
+    /**
+     * Initializes an instance for use.
+     *
+     * @param socket       The {@link DatagramSocket} to receive sACN packets with, should be a {@link MulticastSocket}
+     *                     bound to {@link E131#PORT}.
+     * @param artNetSender The {@link ArtNetSender} to send both Art-Net and sACN packets with.
+     * @param cid          The component identifier of this sACN source.
+     * @param sourceName   The user assigned name of this sACN source.
+     */
+    public SacnBridge(DatagramSocket socket, ArtNetSender artNetSender, UUID cid, String sourceName) {
+        super(socket);
+
+        if (cid == null) {
+            throw new IllegalArgumentException("Illegal CID!");
+        }
+
+        if (sourceName == null) {
+            throw new IllegalArgumentException("Illegal source name!");
+        }
+
+        this.artNetSender = artNetSender;
+        this.cid = cid;
+        this.sourceName = sourceName;
+
+        buffer = new byte[E131.MAX_LENGTH];
+        cidBytes = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            cidBytes[i] = (byte) (cid.getMostSignificantBits() >> 56 - 8 * i);
+            cidBytes[8 + i] = (byte) (cid.getLeastSignificantBits() >> 56 - 8 * i);
+        }
+        sacnOutputs = new PortAddressArray<>();
+        artNetOutputs = new AtomicReferenceArray<>(E131.MAX_UNIVERSE + 1);
+    }
+
+    /**
+     * Initializes an instance for use but creates a {@link MulticastSocket} bound to Port {@link E131#PORT} and a
+     * random CID.
+     *
+     * @param artNetSender The {@link ArtNetSender} to send both Art-Net and sACN packets with.
+     * @param sourceName   The user assigned name of this sACN source.
+     * @throws IOException When it was not possible to bind to Port {@link E131#PORT}.
+     */
+    public SacnBridge(ArtNetSender artNetSender, String sourceName) throws IOException {
+        this(new MulticastSocket(E131.PORT), artNetSender, UUID.randomUUID(), sourceName);
+    }
+
+    @Override
+    void run() throws Exception {
+        DatagramPacket datagramPacket = new DatagramPacket(buffer, buffer.length);
+        socket.receive(datagramPacket);
+
+        byte[] data = datagramPacket.getData();
+
+        if (E131.isDataPacket(data, datagramPacket.getLength())
+                && (E131.getOptions(data) & (E131.OPTION_PREVIEW_DATA | E131.OPTION_STREAM_TERMINATED)) == 0
+                && !isOwnPacket(data)) {
+
+            ArtNetOutput artNetOutput = artNetOutputs.get(E131.getUniverse(data));
+
+            if (artNetOutput != null) {
+                artNetOutput.forward(data);
+            }
+        }
+    }
+
+    private boolean isOwnPacket(byte[] data) {
+        for (int i = 0; i < cidBytes.length; i++) {
+            if (data[22 + i] != cidBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converts an encoded {@link ArtDmx} packet to sACN if its Port-Address is bridged.
+     *
+     * @param packetData The encoded {@link ArtDmx} packet, which is not modified.
+     * @param length     The length of the received datagram.
+     */
+    @Override
+    public void forward(byte[] packetData, int length) {
+
+        if (length < 18) {
+            return;
+        }
+
+        SacnOutput sacnOutput = sacnOutputs.get(PortAddress.read(packetData, 14));
+
+        if (sacnOutput != null) {
+
+            int slotCount = (packetData[16] & 0xFF) << 8 | packetData[17] & 0xFF;
+
+            if (18 + slotCount <= length && slotCount <= 512) {
+                artNetSender.send(sacnOutput.prepare(packetData, slotCount));
+            }
+        }
+    }
+
+    /**
+     * Bridges an Art-Net Port-Address to an sACN universe with {@link E131#DEFAULT_PRIORITY}.
+     *
+     * @param portAddress The Port-Address of received {@link ArtDmx} packets.
+     * @param universe    The sACN universe to send to.
+     * @see #addArtNetToSacn(int, int, int)
+     */
+    public void addArtNetToSacn(int portAddress, int universe) {
+        addArtNetToSacn(portAddress, universe, E131.DEFAULT_PRIORITY);
+    }
+
+    /**
+     * Bridges an Art-Net Port-Address to an sACN universe, replacing a previous bridge of {@code portAddress}.
+     *
+     * @param portAddress The Port-Address of received {@link ArtDmx} packets.
+     * @param universe    The sACN universe to send to.
+     * @param priority    The sACN priority ({@code 0} to {@link E131#MAX_PRIORITY}).
+     */
+    public void addArtNetToSacn(int portAddress, int universe, int priority) {
+
+        if (!PortAddress.isValid(portAddress)) {
+            throw new IllegalArgumentException("Illegal Port-Address!");
+        }
+
+        sacnOutputs.set(portAddress, new SacnOutput(universe, priority));
+    }
+
+    public SacnBridge withArtNetToSacn(int portAddress, int universe) {
+        addArtNetToSacn(portAddress, universe);
+        return this;
+    }
+
+    public SacnBridge withArtNetToSacn(int portAddress, int universe, int priority) {
+        addArtNetToSacn(portAddress, universe, priority);
+        return this;
+    }
+
+    /**
+     * Stops bridging an Art-Net Port-Address to sACN.
+     *
+     * @param portAddress The Port-Address of received {@link ArtDmx} packets.
+     */
+    public void removeArtNetToSacn(int portAddress) {
+        if (PortAddress.isValid(portAddress)) {
+            sacnOutputs.remove(portAddress);
+        }
+    }
+
+    public SacnBridge withoutArtNetToSacn(int portAddress) {
+        removeArtNetToSacn(portAddress);
+        return this;
+    }
+
+    /**
+     * Bridges an sACN universe to an Art-Net Port-Address, replacing a previous bridge of {@code universe}. Joins the
+     * multicast group of {@code universe} if necessary.
+     *
+     * @param universe    The sACN universe to receive.
+     * @param portAddress The Port-Address to send {@link ArtDmx} packets to.
+     * @param destination The {@link InetAddress} to send {@link ArtDmx} packets to.
+     * @throws IOException When it was not possible to join the multicast group.
+     */
+    public synchronized void addSacnToArtNet(int universe, int portAddress, InetAddress destination)
+            throws IOException {
+
+        if (!E131.isValidUniverse(universe)) {
+            throw new IllegalArgumentException("Illegal universe!");
+        }
+
+        if (destination == null) {
+            throw new IllegalArgumentException("Illegal destination!");
+        }
+
+        ArtNetOutput artNetOutput = new ArtNetOutput(new Universe(portAddress), destination);
+
+        if (artNetOutputs.get(universe) == null && socket instanceof MulticastSocket) {
+            ((MulticastSocket) socket).joinGroup(E131.getMulticastAddress(universe));
+        }
+
+        artNetOutputs.set(universe, artNetOutput);
+    }
+
+    public SacnBridge withSacnToArtNet(int universe, int portAddress, InetAddress destination) throws IOException {
+        addSacnToArtNet(universe, portAddress, destination);
+        return this;
+    }
+
+    /**
+     * Stops bridging an sACN universe to Art-Net and leaves its multicast group if necessary.
+     *
+     * @param universe The sACN universe to receive.
+     * @throws IOException When it was not possible to leave the multicast group.
+     */
+    public synchronized void removeSacnToArtNet(int universe) throws IOException {
+        if (E131.isValidUniverse(universe) && artNetOutputs.getAndSet(universe, null) != null
+                && socket instanceof MulticastSocket) {
+            ((MulticastSocket) socket).leaveGroup(E131.getMulticastAddress(universe));
+        }
+    }
+
+    public SacnBridge withoutSacnToArtNet(int universe) throws IOException {
+        removeSacnToArtNet(universe);
+        return this;
+    }
+
+    public UUID getCid() {
+        return cid;
+    }
+
+    public String getSourceName() {
+        return sourceName;
+    }
+
+    private class SacnOutput {
+
+        private final InetAddress multicastAddress;
+        private final byte[] header;
+
+        private int sequence;
+
+        private SacnOutput(int universe, int priority) {
+            multicastAddress = E131.getMulticastAddress(universe);
+            header = new byte[E131.DATA_OFFSET];
+            E131.writeHeader(header, cid, sourceName, priority, universe);
+        }
+
+        /**
+         * Is only called by the receiving thread. Every packet gets its own buffer, as the previous one may still be
+         * queued in the {@link ArtNetSender}.
+         */
+        private DatagramPacket prepare(byte[] packetData, int slotCount) {
+
+            sequence = sequence + 1 & 0xFF;
+
+            byte[] bytes = Arrays.copyOf(header, E131.DATA_OFFSET + slotCount);
+            System.arraycopy(packetData, 18, bytes, E131.DATA_OFFSET, slotCount);
+            E131.setSequence(bytes, sequence);
+
+            return new DatagramPacket(bytes, E131.writeSlotCount(bytes, slotCount), multicastAddress, E131.PORT);
+        }
+    }
+
+    private class ArtNetOutput {
+
+        private final Universe universe;
+        private final InetAddress destination;
+
+        private int lastSequence;
+
+        private ArtNetOutput(Universe universe, InetAddress destination) {
+            this.universe = universe;
+            this.destination = destination;
+            lastSequence = -1;
+        }
+
+        /**
+         * Is only called by the worker thread of the bridge. Drops out of order packets as specified by E1.31.
+         */
+        private void forward(byte[] sacnData) {
+
+            int sequence = E131.getSequence(sacnData);
+
+            if (lastSequence >= 0) {
+                byte difference = (byte) (sequence - lastSequence);
+                if (difference <= 0 && difference > -20) {
+                    return;
+                }
+            }
+
+            lastSequence = sequence;
+
+            universe.set(0, sacnData, E131.DATA_OFFSET, E131.getSlotCount(sacnData));
+            universe.swap();
+            universe.send(artNetSender, destination);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+
+import de.deltaeight.libartnet.collections.IntMap;
+import de.deltaeight.libartnet.collections.PortAddressArray;
+import de.deltaeight.libartnet.descriptors.PortAddress;
+import de.deltaeight.libartnet.descriptors.PortType;
+import de.deltaeight.libartnet.packets.ArtDmx;
+import de.deltaeight.libartnet.packets.ArtPollReply;
+
+/**
+ * Keeps track of which nodes subscribe to which Port-Address based on received {@link ArtPollReply} packets.
+ * <p>
+ * Art-Net 4 recommends sending {@link ArtDmx} packets only to nodes which have an output port patched to the
+ * respective Port-Address. Register an instance as {@link PacketReceiveHandler} for {@link ArtPollReply} packets at
+ * {@link ArtNetReceiver} and use {@link ArtNetSender#send(SubscriptionManager, ArtDmx)} to unicast to subscribers only.
+ * <p>
+ * Nodes are identified by their IP address and bind index, so every {@link ArtPollReply} replaces the subscriptions
+ * previously announced by the same node. Lookups are lock-free and may be done from any thread.
+ *
+ * @author Julian Rabe
+ * @see ArtNetSender
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class SubscriptionManager implements PacketReceiveHandler<ArtPollReply> {
+
+    private static final InetAddress[] NO_SUBSCRIBERS = new InetAddress[0];
+
+    private final HashMap<Long, int[]> portAddressesByNode;
+    private final IntMap<HashMap<InetAddress, Integer>> subscriptionCounts;
+    private final PortAddressArray<Set<InetAddress>> subscribers;
+    private final PortAddressArray<InetAddress[]> subscriberArrays;
+
+    public SubscriptionManager() {
+        portAddressesByNode = new HashMap<>();
+        subscriptionCounts = new IntMap<>();
+        subscribers = new PortAddressArray<>();
+        subscriberArrays = new PortAddressArray<>();
+    }
+
+    static long getNodeKey(byte[] ipAddress, int bindIndex) {
+        return ((ipAddress[0] & 0xFFL) << 24 | (ipAddress[1] & 0xFF) << 16 | (ipAddress[2] & 0xFF) << 8
+                | ipAddress[3] & 0xFF) << 8 | bindIndex & 0xFF;
+    }
+
+    static long getNodeKey(InetAddress address, int bindIndex) {
+        if (address instanceof Inet4Address) {
+            return getNodeKey(address.getAddress(), bindIndex);
+        }
+        return -1;
+    }
+
+    /**
+     * Updates the subscriptions of the node which sent {@code packet}.
+     *
+     * @param packet The {@link ArtPollReply} which was received.
+     */
+    @Override
+    public void handle(ArtPollReply packet) {
+
+        InetAddress address;
+        try {
+            address = InetAddress.getByAddress(packet.getIpAddress());
+        } catch (UnknownHostException e) {
+            return;
+        }
+
+        PortType[] portTypes = packet.getPortTypes();
+        int[] outputPortAddresses = packet.getOutputPortAddresses();
+
+        int[] portAddresses = new int[portTypes.length];
+        int portAddressCount = 0;
+
+        for (int i = 0; i < portTypes.length; i++) {
+            if (portTypes[i].isOutputSupported()) {
+                portAddresses[portAddressCount++] = outputPortAddresses[i];
+            }
+        }
+
+        int[] nodePortAddresses = new int[portAddressCount];
+        System.arraycopy(portAddresses, 0, nodePortAddresses, 0, portAddressCount);
+
+        updateNode(getNodeKey(packet.getIpAddress(), packet.getBindIndex()), address, nodePortAddresses);
+    }
+
+    private synchronized void updateNode(long nodeKey, InetAddress address, int[] portAddresses) {
+
+        int[] previousPortAddresses = portAddressesByNode.remove(nodeKey);
+
+        if (previousPortAddresses != null) {
+            for (int portAddress : previousPortAddresses) {
+                unsubscribe(portAddress, address);
+            }
+        }
+
+        if (portAddresses.length > 0) {
+            portAddressesByNode.put(nodeKey, portAddresses);
+            for (int portAddress : portAddresses) {
+                subscribe(portAddress, address);
+            }
+        }
+    }
+
+    private void subscribe(int portAddress, InetAddress address) {
+        HashMap<InetAddress, Integer> counts = subscriptionCounts.get(portAddress);
+        if (counts == null) {
+            counts = new HashMap<>();
+            subscriptionCounts.put(portAddress, counts);
+        }
+        if (counts.merge(address, 1, Integer::sum) == 1) {
+            publish(portAddress, counts);
+        }
+    }
+
+    private void unsubscribe(int portAddress, InetAddress address) {
+        HashMap<InetAddress, Integer> counts = subscriptionCounts.get(portAddress);
+        if (counts != null && counts.computeIfPresent(address, (key, count) -> count > 1 ? count - 1 : null) == null) {
+            publish(portAddress, counts);
+            if (counts.isEmpty()) {
+                subscriptionCounts.remove(portAddress);
+            }
+        }
+    }
+
+    private void publish(int portAddress, HashMap<InetAddress, Integer> counts) {
+        if (counts.isEmpty()) {
+            subscribers.remove(portAddress);
+            subscriberArrays.remove(portAddress);
+        } else {
+            subscribers.set(portAddress, Collections.unmodifiableSet(new HashSet<>(counts.keySet())));
+            subscriberArrays.set(portAddress, counts.keySet().toArray(new InetAddress[0]));
+        }
+    }
+
+    /**
+     * Removes all subscriptions of a node, e.g. when it stopped replying.
+     *
+     * @param ipAddress The IP address of the node.
+     * @param bindIndex The bind index of the node.
+     */
+    public synchronized void removeNode(byte[] ipAddress, int bindIndex) {
+        try {
+            updateNode(getNodeKey(ipAddress, bindIndex), InetAddress.getByAddress(ipAddress), new int[0]);
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("Illegal IP Address!", e);
+        }
+    }
+
+    /**
+     * Removes all subscriptions.
+     */
+    public synchronized void clear() {
+        portAddressesByNode.clear();
+        subscriptionCounts.clear();
+        subscribers.clear();
+        subscriberArrays.clear();
+    }
+
+    /**
+     * @param portAddress The 15 bit Port-Address, see {@link PortAddress}.
+     * @return The addresses of all nodes subscribing to {@code portAddress}, empty if there are none.
+     */
+    public Set<InetAddress> getSubscribers(int portAddress) {
+        return subscribers.getOrDefault(portAddress, Collections.emptySet());
+    }
+
+    /**
+     * @param portAddress The 15 bit Port-Address, see {@link PortAddress}.
+     * @return The addresses of all nodes subscribing to {@code portAddress}, which must not be modified.
+     */
+    InetAddress[] getSubscriberArray(int portAddress) {
+        return subscriberArrays.getOrDefault(portAddress, NO_SUBSCRIBERS);
+    }
+
+    /**
+     * @param netAddress      The net address.
+     * @param subnetAddress   The subnet address.
+     * @param universeAddress The universe address.
+     * @return The addresses of all nodes subscribing to the resulting Port-Address, empty if there are none.
+     * @see #getSubscribers(int)
+     */
+    public Set<InetAddress> getSubscribers(int netAddress, int subnetAddress, int universeAddress) {
+        return getSubscribers(PortAddress.pack(netAddress, subnetAddress, universeAddress));
+    }
+
+    /**
+     * @param artDmx The {@link ArtDmx} packet to look up subscribers for.
+     * @return The addresses of all nodes subscribing to the Port-Address of {@code artDmx}, empty if there are none.
+     */
+    public Set<InetAddress> getSubscribers(ArtDmx artDmx) {
+        return getSubscribers(artDmx.getPortAddress());
+    }
+}
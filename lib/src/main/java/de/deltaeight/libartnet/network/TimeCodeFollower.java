@@ -0,0 +1,277 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.util.concurrent.TimeUnit;
+
+import de.deltaeight.libartnet.descriptors.TimeCodeType;
+import de.deltaeight.libartnet.packets.ArtTimeCode;
+
+/**
+ * Follows received {@link ArtTimeCode} packets with a smoothed local clock.
+ * <p>
+ * Every received timecode is compared with the position predicted by the local clock. Small deviations caused by
+ * network jitter are corrected gradually by adjusting phase and rate of the clock, while deviations larger than the
+ * jump threshold reset the clock immediately and increase {@link #getJumpCount()}. When no timecode is received, the
+ * clock keeps running for the freewheel timeout and then holds its position.
+ * <p>
+ * {@link #currentPosition()} neither locks nor allocates, so it can be polled by render threads at high rates. The
+ * position lags behind the sender by the network latency.
+ * <p>
+ * &nbsp;
+ * <table border="1">
+ * <caption>Default values</caption>
+ * <tr><td>Jump threshold</td><td>{@code 2} frames</td></tr>
+ * <tr><td>Dropout timeout</td><td>{@code 100} milliseconds</td></tr>
+ * <tr><td>Freewheel timeout</td><td>{@code 1000} milliseconds</td></tr>
+ * </table>
+ *
+ * @author Julian Rabe
+ * @see TimeCodeGenerator
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class TimeCodeFollower implements PacketReceiveHandler<ArtTimeCode> {
+
+    private static final double PHASE_GAIN = 0.1;
+    private static final double RATE_GAIN = 0.01;
+    private static final double MAX_RATE_DEVIATION = 0.01;
+
+    private volatile Clock clock;
+    private volatile long jumpCount;
+    private volatile double jumpThreshold;
+    private volatile long dropoutTimeout;
+    private volatile long freewheelTimeout;
+
+    public TimeCodeFollower() {
+        jumpThreshold = 2;
+        dropoutTimeout = TimeUnit.MILLISECONDS.toNanos(100);
+        freewheelTimeout = TimeUnit.MILLISECONDS.toNanos(1000);
+    }
+
+    private static double getNominalRate(TimeCodeType type) {
+        return type.isDropFrame()
+                ? type.getFramesPerSecond() * 1000 / 1001e9
+                : type.getFramesPerSecond() / 1e9;
+    }
+
+    /**
+     * Synchronizes the local clock to a received {@link ArtTimeCode}.
+     *
+     * @param packet The {@link ArtTimeCode} which was received.
+     */
+    @Override
+    public void handle(ArtTimeCode packet) {
+        handle(packet, System.nanoTime());
+    }
+
+    synchronized void handle(ArtTimeCode packet, long now) {
+
+        TimeCodeType type = packet.getType();
+        double framesPerDay = TimeCodeGenerator.getFrameCount(type, 24, 0, 0, 0);
+        double received = TimeCodeGenerator.getFrameCount(type, packet.getHours(), packet.getMinutes(),
+                packet.getSeconds(), packet.getFrames());
+
+        Clock clock = this.clock;
+
+        if (clock == null || clock.type != type || now - clock.lastReceived > freewheelTimeout) {
+            this.clock = new Clock(type, received, now, getNominalRate(type), framesPerDay);
+            return;
+        }
+
+        double predicted = clock.getPosition(now, freewheelTimeout);
+        double error = received - predicted;
+
+        if (error > framesPerDay / 2) {
+            error -= framesPerDay;
+        } else if (error < -framesPerDay / 2) {
+            error += framesPerDay;
+        }
+
+        if (Math.abs(error) > jumpThreshold) {
+            this.clock = new Clock(type, received, now, getNominalRate(type), framesPerDay);
+            jumpCount++;
+            return;
+        }
+
+        double nominalRate = getNominalRate(type);
+        double rate = clock.rate + RATE_GAIN * error / Math.max(now - clock.lastReceived, 1);
+        rate = Math.max(nominalRate * (1 - MAX_RATE_DEVIATION), Math.min(nominalRate * (1 + MAX_RATE_DEVIATION), rate));
+
+        double position = (predicted + PHASE_GAIN * error + framesPerDay) % framesPerDay;
+
+        this.clock = new Clock(type, position, now, rate, framesPerDay);
+    }
+
+    /**
+     * @return The current position in frames since midnight including the fraction of the current frame, {@code 0}
+     * if no timecode was received yet.
+     */
+    public double currentPosition() {
+        return currentPosition(System.nanoTime());
+    }
+
+    double currentPosition(long now) {
+        Clock clock = this.clock;
+        return clock == null ? 0 : clock.getPosition(now, freewheelTimeout);
+    }
+
+    /**
+     * @return The {@link Status} of the local clock.
+     */
+    public Status getStatus() {
+        return getStatus(System.nanoTime());
+    }
+
+    Status getStatus(long now) {
+        Clock clock = this.clock;
+        if (clock == null || now - clock.lastReceived > freewheelTimeout) {
+            return Status.Stopped;
+        }
+        if (now - clock.lastReceived > dropoutTimeout) {
+            return Status.Freewheeling;
+        }
+        return Status.Locked;
+    }
+
+    /**
+     * @return The {@link TimeCodeType} of the latest timecode, {@code null} if no timecode was received yet.
+     */
+    public TimeCodeType getType() {
+        Clock clock = this.clock;
+        return clock == null ? null : clock.type;
+    }
+
+    /**
+     * @return How often the received timecode jumped, e.g. because the source was located to another position.
+     */
+    public long getJumpCount() {
+        return jumpCount;
+    }
+
+    public double getJumpThreshold() {
+        return jumpThreshold;
+    }
+
+    /**
+     * Sets the deviation from the local clock above which received timecode is treated as jump.
+     *
+     * @param jumpThreshold The threshold in frames.
+     */
+    public void setJumpThreshold(double jumpThreshold) {
+        if (jumpThreshold <= 0) {
+            throw new IllegalArgumentException("Illegal jump threshold!");
+        }
+        this.jumpThreshold = jumpThreshold;
+    }
+
+    public TimeCodeFollower withJumpThreshold(double jumpThreshold) {
+        setJumpThreshold(jumpThreshold);
+        return this;
+    }
+
+    public long getDropoutTimeout() {
+        return TimeUnit.NANOSECONDS.toMillis(dropoutTimeout);
+    }
+
+    /**
+     * Sets the time without received timecode after which the local clock is {@link Status#Freewheeling}.
+     *
+     * @param dropoutTimeout The timeout in milliseconds.
+     */
+    public void setDropoutTimeout(long dropoutTimeout) {
+        if (dropoutTimeout < 1) {
+            throw new IllegalArgumentException("Illegal dropout timeout!");
+        }
+        this.dropoutTimeout = TimeUnit.MILLISECONDS.toNanos(dropoutTimeout);
+    }
+
+    public TimeCodeFollower withDropoutTimeout(long dropoutTimeout) {
+        setDropoutTimeout(dropoutTimeout);
+        return this;
+    }
+
+    public long getFreewheelTimeout() {
+        return TimeUnit.NANOSECONDS.toMillis(freewheelTimeout);
+    }
+
+    /**
+     * Sets the time without received timecode after which the local clock is {@link Status#Stopped}.
+     *
+     * @param freewheelTimeout The timeout in milliseconds.
+     */
+    public void setFreewheelTimeout(long freewheelTimeout) {
+        if (freewheelTimeout < 1) {
+            throw new IllegalArgumentException("Illegal freewheel timeout!");
+        }
+        this.freewheelTimeout = TimeUnit.MILLISECONDS.toNanos(freewheelTimeout);
+    }
+
+    public TimeCodeFollower withFreewheelTimeout(long freewheelTimeout) {
+        setFreewheelTimeout(freewheelTimeout);
+        return this;
+    }
+
+    /**
+     * Represents the status of the local clock of a {@link TimeCodeFollower}.
+     *
+     * @author Julian Rabe
+     */
+    public enum Status {
+
+        /**
+         * No timecode was received yet or within the freewheel timeout. The position is held.
+         */
+        Stopped,
+
+        /**
+         * No timecode was received within the dropout timeout. The local clock keeps running.
+         */
+        Freewheeling,
+
+        /**
+         * Timecode is received and the local clock follows it.
+         */
+        Locked
+    }
+
+    private static class Clock {
+
+        private final TimeCodeType type;
+        private final double position;
+        private final long lastReceived;
+        private final double rate;
+        private final double framesPerDay;
+
+        private Clock(TimeCodeType type, double position, long lastReceived, double rate, double framesPerDay) {
+            this.type = type;
+            this.position = position;
+            this.lastReceived = lastReceived;
+            this.rate = rate;
+            this.framesPerDay = framesPerDay;
+        }
+
+        private double getPosition(long now, long freewheelTimeout) {
+            long elapsed = Math.min(now - lastReceived, freewheelTimeout);
+            return (position + elapsed * rate) % framesPerDay;
+        }
+    }
+}
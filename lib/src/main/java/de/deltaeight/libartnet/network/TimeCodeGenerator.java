@@ -0,0 +1,259 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.util.concurrent.locks.LockSupport;
+
+import de.deltaeight.libartnet.builders.ArtTimeCodeBuilder;
+import de.deltaeight.libartnet.descriptors.TimeCodeType;
+import de.deltaeight.libartnet.packets.ArtTimeCode;
+
+/**
+ * Generates a steady stream of {@link ArtTimeCode} packets at the framerate of a {@link TimeCodeType}.
+ * <p>
+ * Frame deadlines are computed from the start time using {@link System#nanoTime()} and the exact framerate (e.g.
+ * {@code 30000/1001} for {@link TimeCodeType#DF}), so scheduling jitter does not accumulate. If the worker falls behind
+ * by more than one frame, it continues with the current frame instead of sending the missed ones. Frame numbers
+ * skipped by drop-frame timecode are handled as well.
+ * <p>
+ * The packet is encoded once using {@link ArtTimeCodeBuilder#writeTo(byte[])} and advanced in place using
+ * {@link ArtTimeCodeBuilder#incrementFrame(byte[])}. Each frame is sent as a copy, as a packet may still be queued in
+ * the {@link ArtNetSender} when the next one is due.
+ *
+ * @author Julian Rabe
+ * @see ArtTimeCode
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class TimeCodeGenerator {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final ArtNetSender artNetSender;
+    private final InetAddress address;
+    private final TimeCodeType type;
+    private final ArtTimeCodeBuilder artTimeCodeBuilder;
+    private final Thread workerThread;
+
+    private final long rateNumerator;
+    private final long nanosPerRateDenominator;
+    private final long framesPerDay;
+
+    private volatile long startFrame;
+    private volatile long currentFrame;
+    private NetworkHandler.State state;
+
+    /**
+     * Initializes an instance for use.
+     *
+     * @param artNetSender The {@link ArtNetSender} to send {@link ArtTimeCode} packets with.
+     * @param address      The {@link InetAddress} to send {@link ArtTimeCode} packets to.
+     * @param type         The {@link TimeCodeType} to generate.
+     */
+    public TimeCodeGenerator(ArtNetSender artNetSender, InetAddress address, TimeCodeType type) {
+
+        if (type == null) {
+            throw new IllegalArgumentException("Illegal timecode type!");
+        }
+
+        this.artNetSender = artNetSender;
+        this.address = address;
+        this.type = type;
+
+        rateNumerator = type.isDropFrame() ? type.getFramesPerSecond() * 1000L : type.getFramesPerSecond();
+        nanosPerRateDenominator = type.isDropFrame() ? 1001 * NANOS_PER_SECOND : NANOS_PER_SECOND;
+        framesPerDay = getFrameCount(type, 24, 0, 0, 0);
+
+        artTimeCodeBuilder = new ArtTimeCodeBuilder().withType(type);
+
+        workerThread = new Thread(this::run, "ArtNet TimeCode Worker");
+        workerThread.setDaemon(true);
+        workerThread.setPriority(Thread.MAX_PRIORITY);
+
+        state = NetworkHandler.State.Initialized;
+    }
+
+    /**
+     * Counts the frames from midnight to the given timecode, taking dropped frame numbers into account.
+     *
+     * @param type    The {@link TimeCodeType} to use.
+     * @param hours   The hours.
+     * @param minutes The minutes.
+     * @param seconds The seconds.
+     * @param frames  The frames.
+     * @return The amount of frames.
+     */
+    static long getFrameCount(TimeCodeType type, int hours, int minutes, int seconds, int frames) {
+
+        int framesPerSecond = type.getFramesPerSecond();
+        long result = ((hours * 60L + minutes) * 60L + seconds) * framesPerSecond + frames;
+
+        if (type.isDropFrame()) {
+            long totalMinutes = hours * 60L + minutes;
+            result -= 2 * (totalMinutes - totalMinutes / 10);
+        }
+
+        return result;
+    }
+
+    /**
+     * @param frame The frame index since start.
+     * @return The time of {@code frame} in nanoseconds since start.
+     */
+    long getFrameTime(long frame) {
+        return frame / rateNumerator * nanosPerRateDenominator
+                + frame % rateNumerator * nanosPerRateDenominator / rateNumerator;
+    }
+
+    /**
+     * @param time The time in nanoseconds since start.
+     * @return The index of the frame due at {@code time}.
+     */
+    long getFrameIndex(long time) {
+        return time / nanosPerRateDenominator * rateNumerator
+                + time % nanosPerRateDenominator * rateNumerator / nanosPerRateDenominator;
+    }
+
+    private void run() {
+
+        long startTime = System.nanoTime();
+        long frame = 0;
+        byte[] timeCode = artTimeCodeBuilder.writeTo(new byte[19]);
+
+        while (!workerThread.isInterrupted()) {
+
+            long remaining = startTime + getFrameTime(frame) - System.nanoTime();
+
+            if (remaining > 0) {
+                LockSupport.parkNanos(this, remaining);
+                continue;
+            }
+
+            long dueFrame = getFrameIndex(System.nanoTime() - startTime);
+            if (dueFrame > frame) {
+                for (long skipped = (dueFrame - frame) % framesPerDay; skipped > 0; skipped--) {
+                    ArtTimeCodeBuilder.incrementFrame(timeCode);
+                }
+                frame = dueFrame;
+            }
+
+            artNetSender.send(new DatagramPacket(timeCode.clone(), timeCode.length, address, 0x1936));
+
+            currentFrame = (startFrame + frame) % framesPerDay;
+            ArtTimeCodeBuilder.incrementFrame(timeCode);
+            frame++;
+        }
+    }
+
+    /**
+     * Starts generating timecode. Only possible if not already running or stopped.
+     *
+     * @throws IllegalStateException When {@link #getState()} {@code != } {@link NetworkHandler.State#Initialized}.
+     * @see #stop()
+     */
+    public synchronized void start() {
+        if (state == NetworkHandler.State.Initialized) {
+            workerThread.start();
+            state = NetworkHandler.State.Running;
+        } else if (state == NetworkHandler.State.Running) {
+            throw new IllegalStateException("Already running!");
+        } else {
+            throw new IllegalStateException("Not initialized!");
+        }
+    }
+
+    /**
+     * Stops generating timecode. Only possible if running.
+     *
+     * @throws IllegalStateException When {@link #getState()} {@code != } {@link NetworkHandler.State#Running}.
+     * @see #start()
+     */
+    public synchronized void stop() {
+        if (state == NetworkHandler.State.Running) {
+            workerThread.interrupt();
+            state = NetworkHandler.State.Stopped;
+        } else {
+            throw new IllegalStateException("Not Running!");
+        }
+    }
+
+    /**
+     * Sets the timecode to start with. Only possible before {@link #start()} is called.
+     *
+     * @param hours   The hours ({@code 0-23}).
+     * @param minutes The minutes ({@code 0-59}).
+     * @param seconds The seconds ({@code 0-59}).
+     * @param frames  The frames ({@code 0} to frames per second {@code - 1}).
+     */
+    public synchronized void setStartTime(int hours, int minutes, int seconds, int frames) {
+
+        if (state != NetworkHandler.State.Initialized) {
+            throw new IllegalStateException("Already started!");
+        }
+        if (0 > hours || hours > 23) {
+            throw new IllegalArgumentException("Illegal hours value!");
+        }
+        if (0 > minutes || minutes > 59) {
+            throw new IllegalArgumentException("Illegal minutes value!");
+        }
+        if (0 > seconds || seconds > 59) {
+            throw new IllegalArgumentException("Illegal seconds value!");
+        }
+        if (0 > frames || frames > type.getFramesPerSecond() - 1
+                || type.isDropFrame() && seconds == 0 && minutes % 10 != 0 && frames < 2) {
+            throw new IllegalArgumentException("Illegal frames value!");
+        }
+
+        artTimeCodeBuilder.setHours(hours);
+        artTimeCodeBuilder.setMinutes(minutes);
+        artTimeCodeBuilder.setSeconds(seconds);
+        artTimeCodeBuilder.setFrames(frames);
+
+        startFrame = getFrameCount(type, hours, minutes, seconds, frames);
+        currentFrame = startFrame;
+    }
+
+    public TimeCodeGenerator withStartTime(int hours, int minutes, int seconds, int frames) {
+        setStartTime(hours, minutes, seconds, frames);
+        return this;
+    }
+
+    /**
+     * @return The amount of frames since midnight of the latest sent timecode.
+     */
+    public long getCurrentFrame() {
+        return currentFrame;
+    }
+
+    public InetAddress getAddress() {
+        return address;
+    }
+
+    public TimeCodeType getType() {
+        return type;
+    }
+
+    public NetworkHandler.State getState() {
+        return state;
+    }
+}
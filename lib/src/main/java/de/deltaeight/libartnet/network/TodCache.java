@@ -0,0 +1,423 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import de.deltaeight.libartnet.collections.IntMap;
+import de.deltaeight.libartnet.collections.LongSet;
+import de.deltaeight.libartnet.collections.PortAddressArray;
+import de.deltaeight.libartnet.descriptors.PortAddress;
+import de.deltaeight.libartnet.descriptors.Rdm;
+import de.deltaeight.libartnet.packets.ArtTodData;
+import de.deltaeight.libartnet.packets.ArtTodRequest;
+
+/**
+ * Caches the RDM table of devices of every Port-Address based on received {@link ArtTodData} packets.
+ * <p>
+ * Register an instance as {@link AddressedPacketReceiveHandler} for {@link ArtTodData} packets at
+ * {@link ArtNetReceiver}, so updates are applied on its working pool instead of the receiving thread, and send
+ * {@link ArtTodRequest} packets to fill it. A table is kept per node, bind index and Port-Address, so multiple nodes
+ * sharing a Port-Address do not replace each other's devices. Lookups by Port-Address return the union of those
+ * tables.
+ * <p>
+ * Tables are updated incrementally: UIDs are added as soon as any block containing them is received and removed once
+ * all blocks of a table were received without them. Tables are never flushed as a whole, so lookups keep returning
+ * known devices while a table is being transferred. Lookups are lock-free and may be done from any thread.
+ * <p>
+ * The cache can be saved to and loaded from disk to start with the devices known before a restart.
+ *
+ * @author Julian Rabe
+ * @see TodCacheListener
+ * @see Rdm
+ */
+public class TodCache implements AddressedPacketReceiveHandler<ArtTodData> {
+
+    private static final int SNAPSHOT_MAGIC = 0x546F6402;
+    private static final long[] NO_UIDS = new long[0];
+
+    private final HashMap<Long, Table> tables;
+    private final IntMap<List<Table>> portAddressTables;
+    private final PortAddressArray<long[]> uidArrays;
+    private final CopyOnWriteArraySet<TodCacheListener> listeners;
+
+    public TodCache() {
+        tables = new HashMap<>();
+        portAddressTables = new IntMap<>();
+        uidArrays = new PortAddressArray<>();
+        listeners = new CopyOnWriteArraySet<>();
+    }
+
+    private static long getKey(long nodeKey, int portAddress) {
+        return nodeKey << 16 | portAddress;
+    }
+
+    /**
+     * Applies a received {@link ArtTodData} to the table of its node, bind index and Port-Address.
+     * {@link TodCacheListener} instances are notified about changes of the Port-Address before this method returns.
+     * Packets from sources other than {@link java.net.Inet4Address} are ignored, as Art-Net is IPv4 only.
+     *
+     * @param source The {@link InetAddress} of the node which sent {@code packet}.
+     * @param packet The {@link ArtTodData} which was received.
+     */
+    @Override
+    public synchronized void handle(InetAddress source, ArtTodData packet) {
+
+        if (packet.getCommandResponse() != ArtTodData.COMMAND_RESPONSE_TOD_FULL) {
+            return;
+        }
+
+        long nodeKey = SubscriptionManager.getNodeKey(source, packet.getBindIndex());
+
+        if (nodeKey < 0) {
+            return;
+        }
+
+        int portAddress = packet.getPortAddress();
+        Table table = getTable(nodeKey, portAddress);
+
+        // The first block starts a new table, all UIDs missing until the last block are removed afterwards
+        if (packet.getBlockCount() == 0) {
+            table.received.clear();
+            table.receiving = true;
+        }
+
+        long[] known = uidArrays.getOrDefault(portAddress, NO_UIDS);
+        boolean changed = false;
+
+        for (long uid : packet.getUids()) {
+            if (table.receiving) {
+                table.received.add(uid);
+            }
+            if (table.uids.add(uid)) {
+                changed = true;
+                if (Arrays.binarySearch(known, uid) < 0) {
+                    for (TodCacheListener listener : listeners) {
+                        listener.uidAdded(portAddress, uid);
+                    }
+                }
+            }
+        }
+
+        if (table.receiving && table.received.size() >= packet.getUidTotal()) {
+            for (long uid : table.uids.toSortedArray()) {
+                if (!table.received.contains(uid)) {
+                    table.uids.remove(uid);
+                    changed = true;
+                    if (!isKnown(portAddress, uid)) {
+                        for (TodCacheListener listener : listeners) {
+                            listener.uidRemoved(portAddress, uid);
+                        }
+                    }
+                }
+            }
+            table.received.clear();
+            table.receiving = false;
+        }
+
+        if (changed) {
+            publish(portAddress);
+        }
+    }
+
+    private Table getTable(long nodeKey, int portAddress) {
+
+        Table table = tables.get(getKey(nodeKey, portAddress));
+
+        if (table == null) {
+            table = new Table(nodeKey, portAddress);
+            add(table);
+        }
+
+        return table;
+    }
+
+    private void add(Table table) {
+
+        tables.put(getKey(table.nodeKey, table.portAddress), table);
+
+        List<Table> siblings = portAddressTables.get(table.portAddress);
+        if (siblings == null) {
+            siblings = new ArrayList<>(1);
+            portAddressTables.put(table.portAddress, siblings);
+        }
+        siblings.add(table);
+    }
+
+    private boolean isKnown(int portAddress, long uid) {
+        for (Table table : portAddressTables.get(portAddress)) {
+            if (table.uids.contains(uid)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void publish(int portAddress) {
+
+        List<Table> siblings = portAddressTables.get(portAddress);
+        LongSet union;
+
+        if (siblings.size() == 1) {
+            union = siblings.get(0).uids;
+        } else {
+            union = new LongSet();
+            for (Table table : siblings) {
+                table.uids.forEach(union::add);
+            }
+        }
+
+        if (union.isEmpty()) {
+            uidArrays.remove(portAddress);
+        } else {
+            uidArrays.set(portAddress, union.toSortedArray());
+        }
+    }
+
+    /**
+     * @param portAddress The 15 bit Port-Address, see {@link PortAddress}.
+     * @return The UIDs of all devices known at {@code portAddress} in ascending order, empty if there are none.
+     */
+    public long[] getUids(int portAddress) {
+        return uidArrays.getOrDefault(portAddress, NO_UIDS).clone();
+    }
+
+    /**
+     * @param portAddress The 15 bit Port-Address, see {@link PortAddress}.
+     * @return The amount of devices known at {@code portAddress}.
+     */
+    public int getUidCount(int portAddress) {
+        return uidArrays.getOrDefault(portAddress, NO_UIDS).length;
+    }
+
+    /**
+     * @param portAddress The 15 bit Port-Address, see {@link PortAddress}.
+     * @param uid         The UID of the device.
+     * @return Whether the device is known at {@code portAddress}.
+     */
+    public boolean contains(int portAddress, long uid) {
+        return Arrays.binarySearch(uidArrays.getOrDefault(portAddress, NO_UIDS), uid) >= 0;
+    }
+
+    /**
+     * @return All Port-Addresses with known devices in ascending order.
+     */
+    public synchronized int[] getPortAddresses() {
+        int[] result = new int[portAddressTables.size()];
+        int[] count = new int[1];
+        portAddressTables.forEach((portAddress, siblings) -> {
+            if (uidArrays.get(portAddress) != null) {
+                result[count[0]++] = portAddress;
+            }
+        });
+        Arrays.sort(result, 0, count[0]);
+        return Arrays.copyOf(result, count[0]);
+    }
+
+    /**
+     * Removes the tables of all nodes at a Port-Address without notifying {@link TodCacheListener} instances.
+     *
+     * @param portAddress The 15 bit Port-Address, see {@link PortAddress}.
+     */
+    public synchronized void remove(int portAddress) {
+        List<Table> siblings = portAddressTables.remove(portAddress);
+        if (siblings != null) {
+            for (Table table : siblings) {
+                tables.remove(getKey(table.nodeKey, portAddress));
+            }
+        }
+        uidArrays.remove(portAddress);
+    }
+
+    /**
+     * Removes all tables without notifying {@link TodCacheListener} instances.
+     */
+    public synchronized void clear() {
+        tables.clear();
+        portAddressTables.clear();
+        uidArrays.clear();
+    }
+
+    /**
+     * Writes all tables to a file. The file is replaced atomically where supported, so a crash while saving keeps the
+     * previous snapshot.
+     *
+     * @param path The {@link Path} of the file to write.
+     * @throws IOException When writing fails.
+     * @see #load(Path)
+     */
+    public void save(Path path) throws IOException {
+
+        Path absolutePath = path.toAbsolutePath();
+        Path temporaryPath = Files.createTempFile(absolutePath.getParent(), absolutePath.getFileName().toString(),
+                ".tmp");
+
+        try {
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+
+                List<Table> snapshot = new ArrayList<>();
+                List<long[]> uidArrays = new ArrayList<>();
+
+                synchronized (this) {
+                    for (Table table : tables.values()) {
+                        if (!table.uids.isEmpty()) {
+                            snapshot.add(table);
+                            uidArrays.add(table.uids.toSortedArray());
+                        }
+                    }
+                }
+
+                output.writeInt(SNAPSHOT_MAGIC);
+                output.writeInt(snapshot.size());
+
+                for (int i = 0; i < snapshot.size(); i++) {
+                    Table table = snapshot.get(i);
+                    output.writeInt((int) (table.nodeKey >>> 8));
+                    output.writeByte((int) table.nodeKey);
+                    output.writeShort(table.portAddress);
+                    output.writeInt(uidArrays.get(i).length);
+                    for (long uid : uidArrays.get(i)) {
+                        output.writeLong(uid);
+                    }
+                }
+            }
+
+            try {
+                Files.move(temporaryPath, absolutePath, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryPath, absolutePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+    }
+
+    /**
+     * Replaces all tables with the ones of a file written by {@link #save(Path)} without notifying
+     * {@link TodCacheListener} instances. Received {@link ArtTodData} packets update the loaded tables afterwards.
+     *
+     * @param path The {@link Path} of the file to read.
+     * @throws IOException When reading fails or the file is no valid snapshot.
+     * @see #save(Path)
+     */
+    public void load(Path path) throws IOException {
+
+        HashMap<Long, Table> loadedTables = new HashMap<>();
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+
+            if (input.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Illegal snapshot!");
+            }
+
+            int tableCount = input.readInt();
+            byte[] ipAddress = new byte[4];
+
+            for (int i = 0; i < tableCount; i++) {
+
+                input.readFully(ipAddress);
+                long nodeKey = SubscriptionManager.getNodeKey(ipAddress, input.readUnsignedByte());
+                int portAddress = input.readUnsignedShort();
+                int uidCount = input.readInt();
+
+                long key = getKey(nodeKey, portAddress);
+
+                if (!PortAddress.isValid(portAddress) || uidCount < 0 || loadedTables.containsKey(key)) {
+                    throw new IOException("Illegal snapshot!");
+                }
+
+                Table table = new Table(nodeKey, portAddress);
+                for (int j = 0; j < uidCount; j++) {
+                    table.uids.add(input.readLong());
+                }
+                loadedTables.put(key, table);
+            }
+        }
+
+        synchronized (this) {
+            clear();
+            loadedTables.values().forEach(this::add);
+            portAddressTables.forEach((portAddress, siblings) -> publish(portAddress));
+        }
+    }
+
+    /**
+     * Adds a {@link TodCacheListener} which is notified about devices being added or removed.
+     *
+     * @param listener The {@link TodCacheListener} to use.
+     */
+    public void addListener(TodCacheListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(TodCacheListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @param listener The {@link TodCacheListener} to use.
+     * @return Current {@link TodCache} instance for fluent code style.
+     * @see #addListener(TodCacheListener)
+     */
+    public TodCache withListener(TodCacheListener listener) {
+        addListener(listener);
+        return this;
+    }
+
+    public TodCache withoutListener(TodCacheListener listener) {
+        removeListener(listener);
+        return this;
+    }
+
+    private static class Table {
+
+        private final long nodeKey;
+        private final int portAddress;
+        private final LongSet uids;
+        private final LongSet received;
+
+        private boolean receiving;
+
+        private Table(long nodeKey, int portAddress) {
+            this.nodeKey = nodeKey;
+            this.portAddress = portAddress;
+            uids = new LongSet();
+            received = new LongSet();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+/**
+ * Is notified by {@link TodCache} when RDM devices appear in or disappear from a table of devices.
+ * <p>
+ * All methods do nothing by default, so only the events of interest need to be implemented.
+ *
+ * @author Julian Rabe
+ * @see TodCache
+ */
+public interface TodCacheListener {
+
+    /**
+     * Is called when the first node reported a UID at a Port-Address.
+     *
+     * @param portAddress The 15 bit Port-Address.
+     * @param uid         The UID of the device.
+     */
+    default void uidAdded(int portAddress, long uid) {
+    }
+
+    /**
+     * Is called when the complete tables of all nodes at a Port-Address no longer contained a UID.
+     *
+     * @param portAddress The 15 bit Port-Address.
+     * @param uid         The UID of the device.
+     */
+    default void uidRemoved(int portAddress, long uid) {
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.util.Arrays;
+
+import de.deltaeight.libartnet.descriptors.ArtNet;
+import de.deltaeight.libartnet.descriptors.OpCode;
+import de.deltaeight.libartnet.descriptors.PortAddress;
+import de.deltaeight.libartnet.packets.ArtDmx;
+
+/**
+ * Double-buffered DMX universe which is written by a producer and sent as {@link ArtDmx} without copying.
+ * <p>
+ * Both buffers hold a complete encoded {@link ArtDmx} packet. The producer writes channel values into the back buffer
+ * and calls {@link #swap()} at frame boundaries, which makes the back buffer the front buffer and increments the
+ * sequence number. {@link #send(ArtNetSender, InetAddress)} queues the front buffer as it is. A frame is therefore
+ * never sent partially written, and producers never wait for the sender except during the send call of a single
+ * packet.
+ * <p>
+ * After {@link #swap()} the back buffer contains the values of the frame just published, so producers only need to
+ * write channels which changed. All write methods and {@link #swap()} must be called from one producer thread at a
+ * time, while {@link #send(ArtNetSender, InetAddress)} may be called from any thread.
+ *
+ * @author Julian Rabe
+ * @see ArtNetSender
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class Universe {
+
+    private static final byte[] OP_CODE_BYTES = OpCode.OpDmx.getBytesLittleEndian();
+    static final int DATA_OFFSET = 18;
+
+    private final int portAddress;
+    private final int channelCount;
+
+    private byte[] back;
+    private byte[] front;
+    private volatile DatagramPacket[] datagramPackets;
+    private int sequence;
+
+    /**
+     * Initializes an instance with {@code 512} channels.
+     *
+     * @param portAddress The 15 bit Port-Address to send to, see {@link PortAddress}.
+     */
+    public Universe(int portAddress) {
+        this(portAddress, 512);
+    }
+
+    /**
+     * Initializes an instance.
+     *
+     * @param portAddress  The 15 bit Port-Address to send to, see {@link PortAddress}.
+     * @param channelCount The amount of channels, an even number from {@code 2} to {@code 512}.
+     */
+    public Universe(int portAddress, int channelCount) {
+
+        if (!PortAddress.isValid(portAddress)) {
+            throw new IllegalArgumentException("Illegal Port-Address!");
+        }
+
+        if (channelCount < 2 || channelCount > 512 || channelCount % 2 > 0) {
+            throw new IllegalArgumentException("Illegal channel count!");
+        }
+
+        this.portAddress = portAddress;
+        this.channelCount = channelCount;
+
+        back = createBuffer();
+        front = createBuffer();
+        datagramPackets = new DatagramPacket[0];
+        sequence = 1;
+    }
+
+    private byte[] createBuffer() {
+
+        byte[] bytes = new byte[DATA_OFFSET + channelCount];
+
+        System.arraycopy(ArtNet.HEADER.getBytes(), 0, bytes, 0, 8);
+        System.arraycopy(OP_CODE_BYTES, 0, bytes, 8, 2);
+        System.arraycopy(ArtNet.PROTOCOL_REVISION.getBytes(), 0, bytes, 10, 2);
+
+        PortAddress.write(portAddress, bytes, 14);
+        bytes[16] = (byte) (channelCount >> 8);
+        bytes[17] = (byte) channelCount;
+
+        return bytes;
+    }
+
+    private void checkRange(int channel, int length) {
+        if (channel < 0 || length < 0 || channel + length > channelCount) {
+            throw new IllegalArgumentException("Illegal channel range!");
+        }
+    }
+
+    /**
+     * Publishes the back buffer as the next frame.
+     * <p>
+     * Every {@link DatagramPacket} queued by {@link #send(ArtNetSender, InetAddress)} is switched to the new front
+     * buffer, waiting only if the sender is currently sending it.
+     */
+    public synchronized void swap() {
+
+        byte[] published = back;
+        published[12] = (byte) sequence;
+        sequence = sequence == 255 ? 1 : sequence + 1;
+
+        for (DatagramPacket datagramPacket : datagramPackets) {
+            synchronized (datagramPacket) {
+                datagramPacket.setData(published);
+            }
+        }
+
+        back = front;
+        front = published;
+
+        System.arraycopy(published, DATA_OFFSET, back, DATA_OFFSET, channelCount);
+    }
+
+    /**
+     * Queues the front buffer for sending. The same {@link DatagramPacket} is reused for every call with the same
+     * address, so no data is copied.
+     *
+     * @param artNetSender The {@link ArtNetSender} to use.
+     * @param address      The {@link InetAddress} to send to.
+     * @return {@code true} if queueing was successful, {@code false} if not.
+     */
+    public boolean send(ArtNetSender artNetSender, InetAddress address) {
+
+        DatagramPacket datagramPacket = null;
+
+        for (DatagramPacket candidate : datagramPackets) {
+            if (candidate.getAddress().equals(address)) {
+                datagramPacket = candidate;
+                break;
+            }
+        }
+
+        if (datagramPacket == null) {
+            datagramPacket = addDatagramPacket(address);
+        }
+
+        return artNetSender.send(datagramPacket);
+    }
+
+    private synchronized DatagramPacket addDatagramPacket(InetAddress address) {
+
+        DatagramPacket[] datagramPackets = this.datagramPackets;
+
+        for (DatagramPacket candidate : datagramPackets) {
+            if (candidate.getAddress().equals(address)) {
+                return candidate;
+            }
+        }
+
+        DatagramPacket datagramPacket = new DatagramPacket(front, front.length, address, 0x1936);
+
+        DatagramPacket[] result = new DatagramPacket[datagramPackets.length + 1];
+        System.arraycopy(datagramPackets, 0, result, 0, datagramPackets.length);
+        result[datagramPackets.length] = datagramPacket;
+        this.datagramPackets = result;
+
+        return datagramPacket;
+    }
+
+    /**
+     * @return The back buffer, channel values start at {@link #DATA_OFFSET}. Must only be used by the producer.
+     */
+    byte[] getBackBuffer() {
+        return back;
+    }
+
+    /**
+     * @param channel The channel index ({@code 0} to channel count - 1).
+     * @return The value of {@code channel} in the back buffer.
+     */
+    public int get(int channel) {
+        checkRange(channel, 1);
+        return back[DATA_OFFSET + channel] & 0xFF;
+    }
+
+    /**
+     * @param channel The channel index ({@code 0} to channel count - 1).
+     * @param value   The value, only the lower 8 bits are used.
+     */
+    public void set(int channel, int value) {
+        checkRange(channel, 1);
+        back[DATA_OFFSET + channel] = (byte) value;
+    }
+
+    /**
+     * Writes consecutive channels.
+     *
+     * @param channel The index of the first channel.
+     * @param values  The values to write.
+     * @param offset  The index of the first value in {@code values}.
+     * @param length  The amount of values to write.
+     */
+    public void set(int channel, byte[] values, int offset, int length) {
+        checkRange(channel, length);
+        System.arraycopy(values, offset, back, DATA_OFFSET + channel, length);
+    }
+
+    /**
+     * Writes consecutive channels, using only the lower 8 bits of each value.
+     *
+     * @param channel The index of the first channel.
+     * @param values  The values to write.
+     * @param offset  The index of the first value in {@code values}.
+     * @param length  The amount of values to write.
+     */
+    public void set(int channel, int[] values, int offset, int length) {
+        checkRange(channel, length);
+        byte[] back = this.back;
+        for (int i = 0; i < length; i++) {
+            back[DATA_OFFSET + channel + i] = (byte) values[offset + i];
+        }
+    }
+
+    /**
+     * Writes a 16 bit value to two consecutive channels, coarse channel first.
+     *
+     * @param channel The index of the coarse channel.
+     * @param value   The value, only the lower 16 bits are used.
+     */
+    public void setShort(int channel, int value) {
+        checkRange(channel, 2);
+        back[DATA_OFFSET + channel] = (byte) (value >> 8);
+        back[DATA_OFFSET + channel + 1] = (byte) value;
+    }
+
+    /**
+     * Writes an RGB pixel to three consecutive channels.
+     *
+     * @param pixel The index of the pixel, starting at channel {@code pixel * 3}.
+     * @param rgb   The color as {@code 0xRRGGBB}, higher bits are ignored.
+     */
+    public void setRgb(int pixel, int rgb) {
+        int channel = pixel * 3;
+        checkRange(channel, 3);
+        back[DATA_OFFSET + channel] = (byte) (rgb >> 16);
+        back[DATA_OFFSET + channel + 1] = (byte) (rgb >> 8);
+        back[DATA_OFFSET + channel + 2] = (byte) rgb;
+    }
+
+    /**
+     * Writes consecutive RGB pixels.
+     *
+     * @param pixel  The index of the first pixel.
+     * @param rgb    The colors as {@code 0xRRGGBB}, higher bits are ignored.
+     * @param offset The index of the first color in {@code rgb}.
+     * @param length The amount of pixels to write.
+     */
+    public void setRgb(int pixel, int[] rgb, int offset, int length) {
+        int channel = pixel * 3;
+        checkRange(channel, length * 3);
+        byte[] back = this.back;
+        for (int i = 0, index = DATA_OFFSET + channel; i < length; i++, index += 3) {
+            int color = rgb[offset + i];
+            back[index] = (byte) (color >> 16);
+            back[index + 1] = (byte) (color >> 8);
+            back[index + 2] = (byte) color;
+        }
+    }
+
+    /**
+     * Sets all channels of the back buffer to {@code value}.
+     *
+     * @param value The value, only the lower 8 bits are used.
+     */
+    public void fill(int value) {
+        Arrays.fill(back, DATA_OFFSET, DATA_OFFSET + channelCount, (byte) value);
+    }
+
+    public int getPortAddress() {
+        return portAddress;
+    }
+
+    public int getChannelCount() {
+        return channelCount;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.packets;
+
+import de.deltaeight.libartnet.builders.ArtAddressBuilder;
+import de.deltaeight.libartnet.descriptors.AddressCommand;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Represents an {@code ArtAddress} packet which remotely programs the addresses, names and settings of a node.
+ * <p>
+ * Every address is either {@link #NO_CHANGE}, {@link #RESET} to the node's physical switches or the value to program.
+ * Empty names are not changed.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtAddressBuilder
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtAddress extends ArtNetPacket {
+
+    /**
+     * Keeps the current value of an address.
+     */
+    public static final int NO_CHANGE = -1;
+
+    /**
+     * Resets an address to the value of the node's physical switches.
+     */
+    public static final int RESET = -2;
+
+    private final int netAddress;
+    private final int bindIndex;
+    private final String shortName;
+    private final String longName;
+    private final int[] inputUniverseAddresses;
+    private final int[] outputUniverseAddresses;
+    private final int subnetAddress;
+    private final int acnPriority;
+    private final AddressCommand command;
+
+    public ArtAddress(int netAddress,
+                      int bindIndex,
+                      String shortName,
+                      String longName,
+                      int[] inputUniverseAddresses,
+                      int[] outputUniverseAddresses,
+                      int subnetAddress,
+                      int acnPriority,
+                      AddressCommand command,
+                      byte[] bytes) {
+
+        super(bytes);
+
+        this.netAddress = netAddress;
+        this.bindIndex = bindIndex;
+        this.shortName = shortName;
+        this.longName = longName;
+        this.inputUniverseAddresses = inputUniverseAddresses;
+        this.outputUniverseAddresses = outputUniverseAddresses;
+        this.subnetAddress = subnetAddress;
+        this.acnPriority = acnPriority;
+        this.command = command;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(netAddress, bindIndex, shortName, longName, subnetAddress, acnPriority, command);
+        result = 31 * result + Arrays.hashCode(inputUniverseAddresses);
+        result = 31 * result + Arrays.hashCode(outputUniverseAddresses);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArtAddress that = (ArtAddress) o;
+        return netAddress == that.netAddress &&
+                bindIndex == that.bindIndex &&
+                subnetAddress == that.subnetAddress &&
+                acnPriority == that.acnPriority &&
+                shortName.equals(that.shortName) &&
+                longName.equals(that.longName) &&
+                Arrays.equals(inputUniverseAddresses, that.inputUniverseAddresses) &&
+                Arrays.equals(outputUniverseAddresses, that.outputUniverseAddresses) &&
+                command == that.command;
+    }
+
+    /**
+     * @return The net address to program, {@link #NO_CHANGE} or {@link #RESET}.
+     */
+    public int getNetAddress() {
+        return netAddress;
+    }
+
+    public int getBindIndex() {
+        return bindIndex;
+    }
+
+    /**
+     * @return The short name to program, empty to keep the current one.
+     */
+    public String getShortName() {
+        return shortName;
+    }
+
+    /**
+     * @return The long name to program, empty to keep the current one.
+     */
+    public String getLongName() {
+        return longName;
+    }
+
+    /**
+     * @return The universe addresses of the 4 input ports to program, each {@link #NO_CHANGE} or {@link #RESET}
+     * if not programmed.
+     */
+    public int[] getInputUniverseAddresses() {
+        return inputUniverseAddresses.clone();
+    }
+
+    /**
+     * @return The universe addresses of the 4 output ports to program, each {@link #NO_CHANGE} or {@link #RESET}
+     * if not programmed.
+     */
+    public int[] getOutputUniverseAddresses() {
+        return outputUniverseAddresses.clone();
+    }
+
+    /**
+     * @return The subnet address to program, {@link #NO_CHANGE} or {@link #RESET}.
+     */
+    public int getSubnetAddress() {
+        return subnetAddress;
+    }
+
+    /**
+     * @return The sACN priority to program ({@code 0-200}) or {@link #NO_CHANGE}.
+     */
+    public int getAcnPriority() {
+        return acnPriority;
+    }
+
+    public AddressCommand getCommand() {
+        return command;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.packets;
+
+import de.deltaeight.libartnet.builders.ArtCommandBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Represents an {@code ArtCommand} packet carrying text based commands, e.g. {@code SwoutText=Playback&}.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtCommandBuilder
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtCommand extends ArtNetPacket {
+
+    /**
+     * The ESTA manufacturer code addressing all nodes ({@code 0xFFFF}).
+     */
+    public static final int ESTA_MANUFACTURER_CODE_ALL = 0xFFFF;
+
+    private final int estaManufacturerCode;
+    private final String data;
+
+    public ArtCommand(int estaManufacturerCode, String data, byte[] bytes) {
+
+        super(bytes);
+
+        this.estaManufacturerCode = estaManufacturerCode;
+        this.data = data;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(estaManufacturerCode, data);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArtCommand that = (ArtCommand) o;
+        return estaManufacturerCode == that.estaManufacturerCode &&
+                Objects.equals(data, that.data);
+    }
+
+    /**
+     * @return The ESTA manufacturer code of the addressed nodes or {@link #ESTA_MANUFACTURER_CODE_ALL}.
+     */
+    public int getEstaManufacturerCode() {
+        return estaManufacturerCode;
+    }
+
+    /**
+     * @return The commands without the terminating null character.
+     */
+    public String getData() {
+        return data;
+    }
+
+    /**
+     * @return The commands as command-value pairs in order of appearance. Commands without value map to an empty
+     * {@link String}.
+     */
+    public Map<String, String> getCommands() {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (String command : data.split("&")) {
+            if (!command.isEmpty()) {
+                int separator = command.indexOf('=');
+                if (separator < 0) {
+                    result.put(command, "");
+                } else {
+                    result.put(command.substring(0, separator), command.substring(separator + 1));
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.packets;
+
+import de.deltaeight.libartnet.builders.ArtDiagDataBuilder;
+import de.deltaeight.libartnet.descriptors.Priority;
+
+import java.util.Objects;
+
+/**
+ * Represents an {@code ArtDiagData} packet carrying a diagnostic text message of a node.
+ * <p>
+ * Nodes only send diagnostic messages when asked to by an {@link ArtPoll}, which also sets the minimum
+ * {@link Priority} of messages to send.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtDiagDataBuilder
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtDiagData extends ArtNetPacket {
+
+    private final Priority priority;
+    private final int logicalPort;
+    private final String data;
+
+    public ArtDiagData(Priority priority, int logicalPort, String data, byte[] bytes) {
+
+        super(bytes);
+
+        this.priority = priority;
+        this.logicalPort = logicalPort;
+        this.data = data;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(priority, logicalPort, data);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArtDiagData that = (ArtDiagData) o;
+        return logicalPort == that.logicalPort &&
+                priority == that.priority &&
+                Objects.equals(data, that.data);
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    /**
+     * @return The logical port of the node the message relates to.
+     */
+    public int getLogicalPort() {
+        return logicalPort;
+    }
+
+    /**
+     * @return The diagnostic message without its terminating null character.
+     */
+    public String getData() {
+        return data;
+    }
+}
@@ -22,6 +22,7 @@
 package de.deltaeight.libartnet.packets;
 
 import de.deltaeight.libartnet.builders.ArtDmxBuilder;
+import de.deltaeight.libartnet.descriptors.PortAddress;
 
 import java.util.Arrays;
 import java.util.Objects;
@@ -102,6 +103,14 @@ public class ArtDmx extends ArtNetPacket {
         return universeAddress;
     }
 
+    /**
+     * @return The 15 bit Port-Address combining net, subnet and universe address.
+     * @see PortAddress
+     */
+    public int getPortAddress() {
+        return PortAddress.pack(netAddress, subnetAddress, universeAddress);
+    }
+
     public byte[] getData() {
         return data;
     }
@@ -0,0 +1,103 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.packets;
+
+import de.deltaeight.libartnet.builders.ArtFirmwareMasterBuilder;
+import de.deltaeight.libartnet.descriptors.FirmwareMasterType;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Represents an {@code ArtFirmwareMaster} packet carrying one block of a firmware or UBEA upload.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtFirmwareMasterBuilder
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtFirmwareMaster extends ArtNetPacket {
+
+    /**
+     * The amount of firmware bytes carried by each block ({@code 1024}).
+     */
+    public static final int BLOCK_SIZE = 1024;
+
+    private final FirmwareMasterType type;
+    private final int blockId;
+    private final int firmwareLength;
+    private final byte[] data;
+
+    public ArtFirmwareMaster(FirmwareMasterType type, int blockId, int firmwareLength, byte[] data, byte[] bytes) {
+
+        super(bytes);
+
+        this.type = type;
+        this.blockId = blockId;
+        this.firmwareLength = firmwareLength;
+        this.data = data;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(type, blockId, firmwareLength);
+        result = 31 * result + Arrays.hashCode(data);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArtFirmwareMaster that = (ArtFirmwareMaster) o;
+        return blockId == that.blockId &&
+                firmwareLength == that.firmwareLength &&
+                type == that.type &&
+                Arrays.equals(data, that.data);
+    }
+
+    public FirmwareMasterType getType() {
+        return type;
+    }
+
+    /**
+     * @return The block counter, starting at {@code 0} and wrapping after {@code 255}.
+     */
+    public int getBlockId() {
+        return blockId;
+    }
+
+    /**
+     * @return The total length of the firmware in 16 bit words.
+     */
+    public int getFirmwareLength() {
+        return firmwareLength;
+    }
+
+    /**
+     * @return The {@link #BLOCK_SIZE} bytes of the block, padded with {@code 0}.
+     */
+    public byte[] getData() {
+        return data.clone();
+    }
+}
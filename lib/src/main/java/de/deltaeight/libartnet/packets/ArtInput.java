@@ -0,0 +1,85 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.packets;
+
+import de.deltaeight.libartnet.builders.ArtInputBuilder;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Represents an {@code ArtInput} packet which enables or disables the input ports of a node.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtInputBuilder
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtInput extends ArtNetPacket {
+
+    private final int bindIndex;
+    private final int numberOfPorts;
+    private final boolean[] inputsDisabled;
+
+    public ArtInput(int bindIndex, int numberOfPorts, boolean[] inputsDisabled, byte[] bytes) {
+
+        super(bytes);
+
+        this.bindIndex = bindIndex;
+        this.numberOfPorts = numberOfPorts;
+        this.inputsDisabled = inputsDisabled;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(bindIndex, numberOfPorts);
+        result = 31 * result + Arrays.hashCode(inputsDisabled);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArtInput artInput = (ArtInput) o;
+        return bindIndex == artInput.bindIndex &&
+                numberOfPorts == artInput.numberOfPorts &&
+                Arrays.equals(inputsDisabled, artInput.inputsDisabled);
+    }
+
+    public int getBindIndex() {
+        return bindIndex;
+    }
+
+    public int getNumberOfPorts() {
+        return numberOfPorts;
+    }
+
+    public boolean[] getInputsDisabled() {
+        return inputsDisabled.clone();
+    }
+
+    public boolean isInputDisabled(int index) {
+        return inputsDisabled[index];
+    }
+}
@@ -31,7 +31,7 @@ import de.deltaeight.libartnet.builders.ArtNetPacketBuilder;
  */
 public abstract class ArtNetPacket {
 
-    private final byte[] bytes;
+    final byte[] bytes;
 
     ArtNetPacket(byte[] bytes) {
         this.bytes = bytes;
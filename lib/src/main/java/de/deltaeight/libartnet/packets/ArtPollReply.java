@@ -21,6 +21,7 @@
 
 package de.deltaeight.libartnet.packets;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -28,7 +29,9 @@ import de.deltaeight.libartnet.builders.ArtPollReplyBuilder;
 import de.deltaeight.libartnet.descriptors.EquipmentStyle;
 import de.deltaeight.libartnet.descriptors.IndicatorState;
 import de.deltaeight.libartnet.descriptors.InputStatus;
+import de.deltaeight.libartnet.descriptors.OemCode;
 import de.deltaeight.libartnet.descriptors.OutputStatus;
+import de.deltaeight.libartnet.descriptors.PortAddress;
 import de.deltaeight.libartnet.descriptors.PortAddressingAuthority;
 import de.deltaeight.libartnet.descriptors.PortType;
 import de.deltaeight.libartnet.descriptors.Product;
@@ -46,31 +49,16 @@ import de.deltaeight.libartnet.descriptors.Product;
  */
 public class ArtPollReply extends ArtNetPacket {
 
+    private static final int LENGTH = 239;
+
     private final byte[] ipAddress;
     private final int nodeVersion;
     private final int netAddress;
     private final int subnetAddress;
-    private final Product product;
     private final int ubeaVersion;
-    private final IndicatorState indicatorState;
-    private final PortAddressingAuthority portAddressingAuthority;
     private final boolean bootedFromRom;
     private final boolean rdmSupport;
     private final boolean ubeaPresent;
-    private final String estaManufacturer;
-    private final String shortName;
-    private final String longName;
-    private final String nodeReport;
-    private final PortType[] portTypes;
-    private final InputStatus[] inputStatuses;
-    private final OutputStatus[] outputStatuses;
-    private final int[] inputUniverseAddresses;
-    private final int[] outputUniverseAddresses;
-    private final boolean[] macrosActive;
-    private final boolean[] remotesActive;
-    private final EquipmentStyle equipmentStyle;
-    private final byte[] macAddress;
-    private final byte[] bindIp;
     private final int bindIndex;
     private final boolean webBrowserConfigurationSupport;
     private final boolean ipIsDhcpConfigured;
@@ -78,6 +66,26 @@ public class ArtPollReply extends ArtNetPacket {
     private final boolean longPortAddressSupport;
     private final boolean canSwitchToSACN;
     private final boolean squawking;
+    private final int length;
+
+    private volatile boolean decoded;
+    private Product product;
+    private IndicatorState indicatorState;
+    private PortAddressingAuthority portAddressingAuthority;
+    private String estaManufacturer;
+    private String shortName;
+    private String longName;
+    private String nodeReport;
+    private PortType[] portTypes;
+    private InputStatus[] inputStatuses;
+    private OutputStatus[] outputStatuses;
+    private int[] inputUniverseAddresses;
+    private int[] outputUniverseAddresses;
+    private boolean[] macrosActive;
+    private boolean[] remotesActive;
+    private EquipmentStyle equipmentStyle;
+    private byte[] macAddress;
+    private byte[] bindIp;
 
     public ArtPollReply(byte[] ipAddress,
                         int nodeVersion,
@@ -147,11 +155,149 @@ public class ArtPollReply extends ArtNetPacket {
         this.longPortAddressSupport = longPortAddressSupport;
         this.canSwitchToSACN = canSwitchToSACN;
         this.squawking = squawking;
+
+        length = bytes.length;
+        decoded = true;
+    }
+
+    /**
+     * Creates an instance from a received payload which is decoded lazily.
+     * <p>
+     * Primitive fields are read immediately. Strings, descriptors, the {@link Product} and arrays are decoded on first
+     * access of any of them.
+     *
+     * @param bytes The payload received via {@code UDP}.
+     */
+    public ArtPollReply(byte[] bytes) {
+        this(bytes, bytes.length);
+    }
+
+    /**
+     * Creates an instance from a received payload which is decoded lazily, see {@link #ArtPollReply(byte[])}.
+     *
+     * @param bytes  The payload received via {@code UDP}, which may be padded beyond {@code length}.
+     * @param length The length of the received datagram.
+     */
+    public ArtPollReply(byte[] bytes, int length) {
+
+        super(bytes);
+
+        this.length = Math.min(length, bytes.length);
+
+        ipAddress = new byte[]{bytes[10], bytes[11], bytes[12], bytes[13]};
+        nodeVersion = bytes[16] << 8 | bytes[17] & 0xFF;
+        netAddress = bytes[18];
+        subnetAddress = bytes[19];
+        ubeaVersion = bytes[22] & 0xFF;
+        bootedFromRom = (bytes[23] & 0b00000100) > 0;
+        rdmSupport = (bytes[23] & 0b00000010) > 0;
+        ubeaPresent = (bytes[23] & 0b00000001) > 0;
+        bindIndex = bytes[211] & 0xFF;
+        webBrowserConfigurationSupport = (bytes[212] & 0b00000001) > 0;
+        ipIsDhcpConfigured = (bytes[212] & 0b00000010) > 0;
+        dhcpSupport = (bytes[212] & 0b00000100) > 0;
+        longPortAddressSupport = (bytes[212] & 0b00001000) > 0;
+        canSwitchToSACN = (bytes[212] & 0b00010000) > 0;
+        squawking = (bytes[212] & 0b00100000) > 0;
+    }
+
+    private static String computeStringWithNullTermination(byte[] input, int from, int to) {
+
+        int end = to;
+        for (int i = from; i < to; i++) {
+            if (input[i] == 0x00) {
+                end = i;
+                break;
+            }
+        }
+
+        return new String(input, from, end - from, StandardCharsets.US_ASCII);
+    }
+
+    private static boolean[] computeBits(byte input) {
+        boolean[] result = new boolean[8];
+        for (int i = 0; i < 8; i++) {
+            result[i] = (input & 0b00000001 << i) > 0;
+        }
+        return result;
+    }
+
+    private void decode() {
+        if (!decoded) {
+            synchronized (this) {
+                if (!decoded) {
+
+                    byte[] bytes = this.bytes;
+
+                    product = OemCode.getProductByProductCode((bytes[20] & 0xFF) << 8 | bytes[21] & 0xFF);
+                    indicatorState = IndicatorState.values()[bytes[23] >> 6 & 0b00000011];
+                    portAddressingAuthority = PortAddressingAuthority.values()[bytes[23] >> 4 & 0b00000011];
+                    estaManufacturer = computeStringWithNullTermination(new byte[]{bytes[25], bytes[24]}, 0, 2);
+                    shortName = computeStringWithNullTermination(bytes, 26, 43);
+                    longName = computeStringWithNullTermination(bytes, 44, 107);
+                    nodeReport = computeStringWithNullTermination(bytes, 108, 173);
+
+                    portTypes = new PortType[4];
+                    inputStatuses = new InputStatus[4];
+                    outputStatuses = new OutputStatus[4];
+                    inputUniverseAddresses = new int[4];
+                    outputUniverseAddresses = new int[4];
+
+                    for (int i = 0; i < 4; i++) {
+                        portTypes[i] = PortType.buildFromByte(bytes[174 + i]);
+                        inputStatuses[i] = InputStatus.buildFromByte(bytes[178 + i]);
+                        outputStatuses[i] = OutputStatus.buildFromByte(bytes[182 + i]);
+                        inputUniverseAddresses[i] = bytes[186 + i];
+                        outputUniverseAddresses[i] = bytes[190 + i];
+                    }
+
+                    macrosActive = computeBits(bytes[195]);
+                    remotesActive = computeBits(bytes[196]);
+                    equipmentStyle = EquipmentStyle.getEquipmentStyle(bytes[200]);
+                    macAddress = Arrays.copyOfRange(bytes, 201, 207);
+                    bindIp = Arrays.copyOfRange(bytes, 207, 211);
+
+                    decoded = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Compares the payloads of two replies without decoding them. If this returns {@code true}, both replies are
+     * equal. Bytes beyond the received length count as zero and trailing bytes beyond the {@code ArtPollReply} length
+     * are ignored.
+     *
+     * @param other The {@link ArtPollReply} to compare with.
+     * @return {@code true} if both payloads are equal, {@code false} if not.
+     */
+    public boolean bytesEqual(ArtPollReply other) {
+
+        byte[] bytes = this.bytes;
+        byte[] otherBytes = other.bytes;
+
+        if (bytes == otherBytes) {
+            return true;
+        }
+
+        int length = this.length;
+        int otherLength = other.length;
+
+        for (int i = 0; i < LENGTH; i++) {
+            byte b = i < length ? bytes[i] : 0x00;
+            byte otherB = i < otherLength ? otherBytes[i] : 0x00;
+            if (b != otherB) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
 
+        decode();
+
         int result = Objects.hash(nodeVersion, netAddress, subnetAddress, product, ubeaVersion, indicatorState,
                 portAddressingAuthority, bootedFromRom, rdmSupport, ubeaPresent, estaManufacturer, shortName, longName,
                 nodeReport, equipmentStyle, bindIndex, webBrowserConfigurationSupport, ipIsDhcpConfigured, dhcpSupport,
@@ -176,6 +322,8 @@ public class ArtPollReply extends ArtNetPacket {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         ArtPollReply that = (ArtPollReply) o;
+        decode();
+        that.decode();
         return nodeVersion == that.nodeVersion &&
                 netAddress == that.netAddress &&
                 subnetAddress == that.subnetAddress &&
@@ -227,6 +375,7 @@ public class ArtPollReply extends ArtNetPacket {
     }
 
     public Product getProduct() {
+        decode();
         return product;
     }
 
@@ -235,10 +384,12 @@ public class ArtPollReply extends ArtNetPacket {
     }
 
     public IndicatorState getIndicatorState() {
+        decode();
         return indicatorState;
     }
 
     public PortAddressingAuthority getPortAddressingAuthority() {
+        decode();
         return portAddressingAuthority;
     }
 
@@ -255,58 +406,98 @@ public class ArtPollReply extends ArtNetPacket {
     }
 
     public String getEstaManufacturer() {
+        decode();
         return estaManufacturer;
     }
 
     public String getShortName() {
+        decode();
         return shortName;
     }
 
     public String getLongName() {
+        decode();
         return longName;
     }
 
     public String getNodeReport() {
+        decode();
         return nodeReport;
     }
 
     public PortType[] getPortTypes() {
+        decode();
         return portTypes.clone();
     }
 
     public InputStatus[] getInputStatuses() {
+        decode();
         return inputStatuses.clone();
     }
 
     public OutputStatus[] getOutputStatuses() {
+        decode();
         return outputStatuses.clone();
     }
 
     public int[] getInputUniverseAddresses() {
+        decode();
         return inputUniverseAddresses.clone();
     }
 
     public int[] getOutputUniverseAddresses() {
+        decode();
         return outputUniverseAddresses.clone();
     }
 
+    /**
+     * @return The 15 bit Port-Addresses of the input ports.
+     * @see PortAddress
+     */
+    public int[] getInputPortAddresses() {
+        decode();
+        return getPortAddresses(inputUniverseAddresses);
+    }
+
+    /**
+     * @return The 15 bit Port-Addresses of the output ports.
+     * @see PortAddress
+     */
+    public int[] getOutputPortAddresses() {
+        decode();
+        return getPortAddresses(outputUniverseAddresses);
+    }
+
+    private int[] getPortAddresses(int[] universeAddresses) {
+        int[] result = new int[universeAddresses.length];
+        for (int i = 0; i < universeAddresses.length; i++) {
+            result[i] = PortAddress.pack(netAddress, subnetAddress, universeAddresses[i]);
+        }
+        return result;
+    }
+
     public boolean[] getMacrosActive() {
+        decode();
         return macrosActive.clone();
     }
 
     public boolean[] getRemotesActive() {
+        decode();
         return remotesActive.clone();
     }
 
     public EquipmentStyle getEquipmentStyle() {
+        decode();
         return equipmentStyle;
     }
 
     public byte[] getMacAddress() {
+        decode();
         return macAddress.clone();
     }
 
     public byte[] getBindIp() {
+        decode();
         return bindIp;
     }
 
@@ -0,0 +1,144 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.packets;
+
+import de.deltaeight.libartnet.builders.ArtRdmBuilder;
+import de.deltaeight.libartnet.descriptors.PortAddress;
+import de.deltaeight.libartnet.descriptors.Rdm;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Represents an {@code ArtRdm} packet carrying a single RDM message without its start code.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtRdmBuilder
+ * @see Rdm
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtRdm extends ArtNetPacket {
+
+    private final int rdmVersion;
+    private final int portAddress;
+    private final int command;
+    private final byte[] rdmPacket;
+
+    public ArtRdm(int rdmVersion, int portAddress, int command, byte[] rdmPacket, byte[] bytes) {
+
+        super(bytes);
+
+        this.rdmVersion = rdmVersion;
+        this.portAddress = portAddress;
+        this.command = command;
+        this.rdmPacket = rdmPacket;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(rdmVersion, portAddress, command);
+        result = 31 * result + Arrays.hashCode(rdmPacket);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArtRdm artRdm = (ArtRdm) o;
+        return rdmVersion == artRdm.rdmVersion &&
+                portAddress == artRdm.portAddress &&
+                command == artRdm.command &&
+                Arrays.equals(rdmPacket, artRdm.rdmPacket);
+    }
+
+    public int getRdmVersion() {
+        return rdmVersion;
+    }
+
+    /**
+     * @return The 15 bit Port-Address combining net and address.
+     * @see PortAddress
+     */
+    public int getPortAddress() {
+        return portAddress;
+    }
+
+    public int getNetAddress() {
+        return PortAddress.getNetAddress(portAddress);
+    }
+
+    public int getCommand() {
+        return command;
+    }
+
+    /**
+     * @return The RDM message without start code, see {@link Rdm}.
+     */
+    public byte[] getRdmPacket() {
+        return rdmPacket.clone();
+    }
+
+    /**
+     * @return Whether the RDM message is complete and its checksum is valid.
+     */
+    public boolean isRdmPacketValid() {
+        return Rdm.isValid(rdmPacket, 0, rdmPacket.length);
+    }
+
+    public long getDestinationUid() {
+        return Rdm.getDestinationUid(rdmPacket, 0);
+    }
+
+    public long getSourceUid() {
+        return Rdm.getSourceUid(rdmPacket, 0);
+    }
+
+    public int getTransactionNumber() {
+        return Rdm.getTransactionNumber(rdmPacket, 0);
+    }
+
+    /**
+     * @return The port ID for requests or the response type for responses, e.g. {@link Rdm#RESPONSE_TYPE_ACK}.
+     */
+    public int getPortIdOrResponseType() {
+        return Rdm.getPortIdOrResponseType(rdmPacket, 0);
+    }
+
+    public int getSubDevice() {
+        return Rdm.getSubDevice(rdmPacket, 0);
+    }
+
+    public int getCommandClass() {
+        return Rdm.getCommandClass(rdmPacket, 0);
+    }
+
+    public int getParameterId() {
+        return Rdm.getParameterId(rdmPacket, 0);
+    }
+
+    public byte[] getParameterData() {
+        return Rdm.getParameterData(rdmPacket, 0);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.packets;
+
+import de.deltaeight.libartnet.builders.ArtTodControlBuilder;
+import de.deltaeight.libartnet.descriptors.PortAddress;
+import de.deltaeight.libartnet.descriptors.TodControlCommand;
+
+import java.util.Objects;
+
+/**
+ * Represents an {@code ArtTodControl} packet controlling RDM discovery of a Port-Address.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtTodControlBuilder
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtTodControl extends ArtNetPacket {
+
+    private final int portAddress;
+    private final TodControlCommand command;
+
+    public ArtTodControl(int portAddress, TodControlCommand command, byte[] bytes) {
+
+        super(bytes);
+
+        this.portAddress = portAddress;
+        this.command = command;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(portAddress, command);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArtTodControl that = (ArtTodControl) o;
+        return portAddress == that.portAddress &&
+                command == that.command;
+    }
+
+    /**
+     * @return The 15 bit Port-Address combining net and address.
+     * @see PortAddress
+     */
+    public int getPortAddress() {
+        return portAddress;
+    }
+
+    public TodControlCommand getCommand() {
+        return command;
+    }
+}
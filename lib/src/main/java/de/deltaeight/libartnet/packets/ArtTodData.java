@@ -0,0 +1,167 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.packets;
+
+import de.deltaeight.libartnet.builders.ArtTodDataBuilder;
+import de.deltaeight.libartnet.descriptors.PortAddress;
+import de.deltaeight.libartnet.descriptors.Rdm;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Represents an {@code ArtTodData} packet containing one block of the table of RDM devices of a Port-Address.
+ * <p>
+ * UIDs are represented as {@code long}, see {@link Rdm}. Tables with more than 200 devices are split into multiple
+ * blocks, {@link #getUidTotal()} contains the size of the whole table.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtTodDataBuilder
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtTodData extends ArtNetPacket {
+
+    /**
+     * Command response of a packet containing the table of devices.
+     */
+    public static final int COMMAND_RESPONSE_TOD_FULL = 0x00;
+
+    /**
+     * Command response of a packet indicating that the table of devices is not available.
+     */
+    public static final int COMMAND_RESPONSE_TOD_NAK = 0xFF;
+
+    private final int rdmVersion;
+    private final int port;
+    private final int bindIndex;
+    private final int portAddress;
+    private final int commandResponse;
+    private final int uidTotal;
+    private final int blockCount;
+    private final long[] uids;
+
+    public ArtTodData(int rdmVersion,
+                      int port,
+                      int bindIndex,
+                      int portAddress,
+                      int commandResponse,
+                      int uidTotal,
+                      int blockCount,
+                      long[] uids,
+                      byte[] bytes) {
+
+        super(bytes);
+
+        this.rdmVersion = rdmVersion;
+        this.port = port;
+        this.bindIndex = bindIndex;
+        this.portAddress = portAddress;
+        this.commandResponse = commandResponse;
+        this.uidTotal = uidTotal;
+        this.blockCount = blockCount;
+        this.uids = uids;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(rdmVersion, port, bindIndex, portAddress, commandResponse, uidTotal, blockCount);
+        result = 31 * result + Arrays.hashCode(uids);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArtTodData that = (ArtTodData) o;
+        return rdmVersion == that.rdmVersion &&
+                port == that.port &&
+                bindIndex == that.bindIndex &&
+                portAddress == that.portAddress &&
+                commandResponse == that.commandResponse &&
+                uidTotal == that.uidTotal &&
+                blockCount == that.blockCount &&
+                Arrays.equals(uids, that.uids);
+    }
+
+    public int getRdmVersion() {
+        return rdmVersion;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public int getBindIndex() {
+        return bindIndex;
+    }
+
+    /**
+     * @return The 15 bit Port-Address combining net and address.
+     * @see PortAddress
+     */
+    public int getPortAddress() {
+        return portAddress;
+    }
+
+    public int getCommandResponse() {
+        return commandResponse;
+    }
+
+    /**
+     * @return The amount of devices in the whole table, which may be spread across multiple packets.
+     */
+    public int getUidTotal() {
+        return uidTotal;
+    }
+
+    /**
+     * @return The index of this block within the whole table, starting at {@code 0}.
+     */
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    /**
+     * @return The UIDs contained in this block.
+     */
+    public long[] getUids() {
+        return uids.clone();
+    }
+
+    /**
+     * @return The amount of UIDs contained in this block.
+     */
+    public int getUidCount() {
+        return uids.length;
+    }
+
+    /**
+     * @param index The index within this block.
+     * @return The UID at {@code index} without copying the table.
+     */
+    public long getUid(int index) {
+        return uids[index];
+    }
+}
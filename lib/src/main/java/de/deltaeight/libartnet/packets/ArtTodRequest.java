@@ -0,0 +1,98 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.packets;
+
+import de.deltaeight.libartnet.builders.ArtTodRequestBuilder;
+import de.deltaeight.libartnet.descriptors.PortAddress;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Represents an {@code ArtTodRequest} packet requesting the table of RDM devices of up to 32 Port-Addresses within
+ * the same net.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtTodRequestBuilder
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtTodRequest extends ArtNetPacket {
+
+    private final int netAddress;
+    private final int command;
+    private final int[] addresses;
+
+    public ArtTodRequest(int netAddress, int command, int[] addresses, byte[] bytes) {
+
+        super(bytes);
+
+        this.netAddress = netAddress;
+        this.command = command;
+        this.addresses = addresses;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(netAddress, command);
+        result = 31 * result + Arrays.hashCode(addresses);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArtTodRequest that = (ArtTodRequest) o;
+        return netAddress == that.netAddress &&
+                command == that.command &&
+                Arrays.equals(addresses, that.addresses);
+    }
+
+    public int getNetAddress() {
+        return netAddress;
+    }
+
+    public int getCommand() {
+        return command;
+    }
+
+    /**
+     * @return The requested addresses, each combining subnet and universe address.
+     */
+    public int[] getAddresses() {
+        return addresses.clone();
+    }
+
+    /**
+     * @return The requested 15 bit Port-Addresses.
+     * @see PortAddress
+     */
+    public int[] getPortAddresses() {
+        int[] result = new int[addresses.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = netAddress << 8 | addresses[i];
+        }
+        return result;
+    }
+}
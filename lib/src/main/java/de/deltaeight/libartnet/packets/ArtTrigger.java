@@ -0,0 +1,125 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.packets;
+
+import de.deltaeight.libartnet.builders.ArtTriggerBuilder;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Represents an {@code ArtTrigger} packet which triggers macros, key presses or shows on nodes.
+ * <p>
+ * Key and sub-key are only defined by the Art-Net Specification if the OEM code is {@link #OEM_CODE_ALL}, otherwise
+ * their meaning is manufacturer specific.
+ * <p>
+ * See the <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a> for details.
+ *
+ * @author Julian Rabe
+ * @see ArtTriggerBuilder
+ * @see <a href="https://art-net.org.uk/resources/art-net-specification/">Art-Net Specification</a>
+ */
+public class ArtTrigger extends ArtNetPacket {
+
+    /**
+     * The OEM code addressing all nodes ({@code 0xFFFF}).
+     */
+    public static final int OEM_CODE_ALL = 0xFFFF;
+
+    /**
+     * The sub-key is an ASCII character to be processed like a key press.
+     */
+    public static final int KEY_ASCII = 0;
+
+    /**
+     * The sub-key is the number of a macro to execute.
+     */
+    public static final int KEY_MACRO = 1;
+
+    /**
+     * The sub-key is the number of a soft key to be processed like a key press.
+     */
+    public static final int KEY_SOFT = 2;
+
+    /**
+     * The sub-key is the number of a show to run.
+     */
+    public static final int KEY_SHOW = 3;
+
+    private final int oemCode;
+    private final int key;
+    private final int subKey;
+    private final byte[] data;
+
+    public ArtTrigger(int oemCode, int key, int subKey, byte[] data, byte[] bytes) {
+
+        super(bytes);
+
+        this.oemCode = oemCode;
+        this.key = key;
+        this.subKey = subKey;
+        this.data = data;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(oemCode, key, subKey);
+        result = 31 * result + Arrays.hashCode(data);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArtTrigger that = (ArtTrigger) o;
+        return oemCode == that.oemCode &&
+                key == that.key &&
+                subKey == that.subKey &&
+                Arrays.equals(data, that.data);
+    }
+
+    /**
+     * @return The OEM code of the addressed nodes or {@link #OEM_CODE_ALL}.
+     */
+    public int getOemCode() {
+        return oemCode;
+    }
+
+    /**
+     * @return The key, e.g. {@link #KEY_MACRO}.
+     */
+    public int getKey() {
+        return key;
+    }
+
+    public int getSubKey() {
+        return subKey;
+    }
+
+    /**
+     * @return The 512 bytes of payload, which are not defined by the Art-Net Specification.
+     */
+    public byte[] getData() {
+        return data.clone();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.descriptors.AddressCommand;
+import de.deltaeight.libartnet.packets.ArtAddress;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtAddressBuilderTest extends AbstractPacketBuilderTest {
+
+    private static final byte[] DEFAULT_PACKET = getExpectedData(0x7F, 0, "", "",
+            new int[]{0x7F, 0x7F, 0x7F, 0x7F}, new int[]{0x7F, 0x7F, 0x7F, 0x7F}, 0x7F, 0xFF, 0x00);
+
+    private static byte[] getExpectedData(int net, int bindIndex, String shortName, String longName, int[] swIn,
+                                          int[] swOut, int sub, int acnPriority, int command) {
+        byte[] result = Arrays.copyOf(new byte[]{
+                0x41, 0x72, 0x74, 0x2D, 0x4E, 0x65, 0x74, 0x00, // Header
+                0x00, 0x60,                                     // OpCode
+                0x00, 0x0E,                                     // Protocol version
+                (byte) net, (byte) bindIndex                    // Net switch, bind index
+        }, 107);
+        System.arraycopy(shortName.getBytes(), 0, result, 14, shortName.length());
+        System.arraycopy(longName.getBytes(), 0, result, 32, longName.length());
+        for (int i = 0; i < 4; i++) {
+            result[96 + i] = (byte) swIn[i];
+            result[100 + i] = (byte) swOut[i];
+        }
+        result[104] = (byte) sub;
+        result[105] = (byte) acnPriority;
+        result[106] = (byte) command;
+        return result;
+    }
+
+    @Test
+    void build() {
+        assertPackets(DEFAULT_PACKET, new ArtAddressBuilder());
+    }
+
+    @Test
+    void addresses() {
+
+        ArtAddressBuilder builder = new ArtAddressBuilder();
+
+        assertEquals(ArtAddress.NO_CHANGE, builder.getNetAddress());
+        assertEquals(ArtAddress.NO_CHANGE, builder.getSubnetAddress());
+        assertArrayEquals(new int[]{-1, -1, -1, -1}, builder.getOutputUniverseAddresses());
+
+        builder.setNetAddress(0x12);
+        builder.setSubnetAddress(ArtAddress.RESET);
+        builder.setInputUniverseAddress(1, 15);
+        builder.setOutputUniverseAddress(3, 0);
+        assertPackets(getExpectedData(0x92, 0, "", "", new int[]{0x7F, 0x8F, 0x7F, 0x7F},
+                new int[]{0x7F, 0x7F, 0x7F, 0x80}, 0x00, 0xFF, 0x00), builder);
+
+        ArtAddress artAddress = builder.build();
+        assertEquals(0x12, artAddress.getNetAddress());
+        assertEquals(ArtAddress.RESET, artAddress.getSubnetAddress());
+        assertArrayEquals(new int[]{-1, 15, -1, -1}, artAddress.getInputUniverseAddresses());
+        assertArrayEquals(new int[]{-1, -1, -1, 0}, artAddress.getOutputUniverseAddresses());
+
+        assertSame(builder, builder.withOutputPortAddress(0, 0x7FFF));
+        assertEquals(0x7F, builder.getNetAddress());
+        assertEquals(0x0F, builder.getSubnetAddress());
+        assertEquals(0x0F, builder.getOutputUniverseAddress(0));
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setNetAddress(128));
+        assertThrows(IllegalArgumentException.class, () -> builder.setNetAddress(-3));
+        assertThrows(IllegalArgumentException.class, () -> builder.setSubnetAddress(16));
+        assertThrows(IllegalArgumentException.class, () -> builder.setOutputUniverseAddress(0, 16));
+        assertThrows(IllegalArgumentException.class, () -> builder.setOutputPortAddress(0, 0x8000));
+    }
+
+    @Test
+    void names() {
+
+        ArtAddressBuilder builder = new ArtAddressBuilder();
+
+        assertSame(builder, builder.withShortName("Dimmer Rack 1").withLongName("Dimmer Rack 1 Stage Left"));
+        assertPackets(getExpectedData(0x7F, 0, "Dimmer Rack 1", "Dimmer Rack 1 Stage Left",
+                new int[]{0x7F, 0x7F, 0x7F, 0x7F}, new int[]{0x7F, 0x7F, 0x7F, 0x7F}, 0x7F, 0xFF, 0x00), builder);
+
+        builder.setShortName("A very long short name");
+        assertEquals("A very long short", builder.getShortName());
+
+        assertSame(builder, builder.withShortName(null).withLongName(null));
+        assertPackets(DEFAULT_PACKET, builder);
+    }
+
+    @Test
+    void settings() {
+
+        ArtAddressBuilder builder = new ArtAddressBuilder();
+
+        assertSame(AddressCommand.AcNone, builder.getCommand());
+
+        assertSame(builder, builder.withBindIndex(2).withAcnPriority(200).withCommand(AddressCommand.AcLedLocate));
+        assertPackets(getExpectedData(0x7F, 2, "", "", new int[]{0x7F, 0x7F, 0x7F, 0x7F},
+                new int[]{0x7F, 0x7F, 0x7F, 0x7F}, 0x7F, 200, 0x04), builder);
+
+        builder.setCommand(AddressCommand.AcRdmDisable3);
+        assertEquals(AddressCommand.AcRdmDisable3, builder.buildFromBytes(builder.build().getBytes()).getCommand());
+
+        assertSame(builder, builder.withBindIndex(0).withAcnPriority(ArtAddress.NO_CHANGE).withCommand(null));
+        assertPackets(DEFAULT_PACKET, builder);
+
+        assertSame(AddressCommand.AcNone, AddressCommand.getAddressCommand(0xFF));
+        assertThrows(IllegalArgumentException.class, () -> builder.setAcnPriority(201));
+        assertThrows(IllegalArgumentException.class, () -> builder.setBindIndex(256));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.packets.ArtCommand;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtCommandBuilderTest extends AbstractPacketBuilderTest {
+
+    private static final byte[] DEFAULT_PACKET = getExpectedData(0xFFFF);
+
+    private static byte[] getExpectedData(int estaManufacturerCode, int... data) {
+
+        byte[] result = new byte[]{
+                0x41, 0x72, 0x74, 0x2D, 0x4E, 0x65, 0x74, 0x00,                  // Header
+                0x00, 0x24,                                                      // OpCode
+                0x00, 0x0E,                                                      // Protocol version
+                (byte) (estaManufacturerCode >> 8), (byte) estaManufacturerCode, // ESTA manufacturer code
+                (byte) ((data.length + 1) >> 8), (byte) (data.length + 1)        // Length
+        };
+
+        result = Arrays.copyOf(result, 16 + data.length + 1);
+        for (int i = 0; i < data.length; i++) {
+            result[16 + i] = (byte) data[i];
+        }
+        return result;
+    }
+
+    @Test
+    void build() {
+        assertPackets(DEFAULT_PACKET, new ArtCommandBuilder());
+    }
+
+    @Test
+    void estaManufacturerCode() {
+
+        ArtCommandBuilder builder = new ArtCommandBuilder();
+
+        assertEquals(ArtCommand.ESTA_MANUFACTURER_CODE_ALL, builder.getEstaManufacturerCode());
+
+        builder.setEstaManufacturerCode(0x414C);
+        assertEquals(0x414C, builder.getEstaManufacturerCode());
+        assertPackets(getExpectedData(0x414C), builder);
+
+        assertSame(builder, builder.withEstaManufacturerCode(ArtCommand.ESTA_MANUFACTURER_CODE_ALL));
+        assertPackets(DEFAULT_PACKET, builder);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setEstaManufacturerCode(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.withEstaManufacturerCode(0x10000));
+    }
+
+    @Test
+    void data() {
+
+        ArtCommandBuilder builder = new ArtCommandBuilder();
+
+        assertEquals("", builder.getData());
+
+        builder.setData("A=1&B&");
+        assertEquals("A=1&B&", builder.getData());
+        assertPackets(getExpectedData(0xFFFF, 'A', '=', '1', '&', 'B', '&'), builder);
+
+        Map<String, String> expectedCommands = new LinkedHashMap<>();
+        expectedCommands.put("A", "1");
+        expectedCommands.put("B", "");
+        assertEquals(expectedCommands, builder.build().getCommands());
+
+        assertSame(builder, builder.withData(""));
+        assertPackets(DEFAULT_PACKET, builder);
+
+        char[] tooLong = new char[512];
+        Arrays.fill(tooLong, 'a');
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setData(null));
+        assertThrows(IllegalArgumentException.class, () -> builder.setData(new String(tooLong)));
+        assertThrows(IllegalArgumentException.class, () -> builder.withData("ä"));
+    }
+}
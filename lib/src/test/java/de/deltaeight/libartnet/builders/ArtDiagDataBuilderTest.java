@@ -0,0 +1,128 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.descriptors.Priority;
+import de.deltaeight.libartnet.packets.ArtDiagData;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtDiagDataBuilderTest extends AbstractPacketBuilderTest {
+
+    private static final byte[] DEFAULT_PACKET = getExpectedData(0x10, 0);
+
+    private static byte[] getExpectedData(int priority, int logicalPort, int... data) {
+
+        byte[] result = new byte[]{
+                0x41, 0x72, 0x74, 0x2D, 0x4E, 0x65, 0x74, 0x00, // Header
+                0x00, 0x23,                                     // OpCode
+                0x00, 0x0E,                                     // Protocol version
+                0x00, (byte) priority,                          // Filler, priority
+                (byte) logicalPort, 0x00,                       // Logical port, filler
+                (byte) ((data.length + 1) >> 8), (byte) (data.length + 1)
+        };
+
+        result = Arrays.copyOf(result, 18 + data.length + 1);
+        for (int i = 0; i < data.length; i++) {
+            result[18 + i] = (byte) data[i];
+        }
+        return result;
+    }
+
+    @Test
+    void build() {
+        assertPackets(DEFAULT_PACKET, new ArtDiagDataBuilder());
+    }
+
+    @Test
+    void priority() {
+
+        ArtDiagDataBuilder builder = new ArtDiagDataBuilder();
+
+        assertEquals(Priority.Low, builder.getPriority());
+
+        builder.setPriority(Priority.Critical);
+        assertEquals(Priority.Critical, builder.getPriority());
+        assertPackets(getExpectedData(0xE0, 0), builder);
+
+        assertSame(builder, builder.withPriority(Priority.Low));
+        assertPackets(DEFAULT_PACKET, builder);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setPriority(null));
+    }
+
+    @Test
+    void logicalPort() {
+
+        ArtDiagDataBuilder builder = new ArtDiagDataBuilder();
+
+        assertEquals(0, builder.getLogicalPort());
+
+        builder.setLogicalPort(255);
+        assertEquals(255, builder.getLogicalPort());
+        assertPackets(getExpectedData(0x10, 255), builder);
+
+        assertSame(builder, builder.withLogicalPort(0));
+        assertPackets(DEFAULT_PACKET, builder);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setLogicalPort(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.withLogicalPort(256));
+    }
+
+    @Test
+    void data() {
+
+        ArtDiagDataBuilder builder = new ArtDiagDataBuilder();
+
+        assertEquals("", builder.getData());
+
+        builder.setData("Fan");
+        assertEquals("Fan", builder.getData());
+        assertPackets(getExpectedData(0x10, 0, 'F', 'a', 'n'), builder);
+
+        assertSame(builder, builder.withData(""));
+        assertPackets(DEFAULT_PACKET, builder);
+
+        char[] tooLong = new char[512];
+        Arrays.fill(tooLong, 'a');
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setData(null));
+        assertThrows(IllegalArgumentException.class, () -> builder.setData(new String(tooLong)));
+        assertThrows(IllegalArgumentException.class, () -> builder.setData("ä"));
+        assertThrows(IllegalArgumentException.class, () -> builder.withData("a\u0000b"));
+    }
+
+    @Test
+    void buildFromPaddedBytes() {
+
+        byte[] packetData = Arrays.copyOf(getExpectedData(0x80, 1, 'O', 'k'), 530);
+        ArtDiagData artDiagData = new ArtDiagDataBuilder().buildFromBytes(packetData);
+
+        assertEquals(Priority.High, artDiagData.getPriority());
+        assertEquals(1, artDiagData.getLogicalPort());
+        assertEquals("Ok", artDiagData.getData());
+        assertEquals(21, artDiagData.getBytes().length);
+    }
+}
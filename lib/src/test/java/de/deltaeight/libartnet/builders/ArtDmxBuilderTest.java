@@ -255,6 +255,32 @@ class ArtDmxBuilderTest extends AbstractPacketBuilderTest {
         assertThrows(IllegalArgumentException.class, () -> builder.withNetAddress(128));
     }
 
+    @Test
+    void portAddress() {
+
+        byte[] expectedData = getExpectedData(0x00, 0x00, 0x7f, 0x0a, 0x05, new byte[0]);
+
+        ArtDmxBuilder builder = new ArtDmxBuilder();
+
+        assertEquals(0, builder.getPortAddress());
+
+        builder.setPortAddress(0x7fa5);
+        assertEquals(0x7fa5, builder.getPortAddress());
+        assertEquals(0x7f, builder.getNetAddress());
+        assertEquals(0x0a, builder.getSubnetAddress());
+        assertEquals(0x05, builder.getUniverseAddress());
+        assertPackets(expectedData, builder);
+        assertEquals(0x7fa5, builder.build().getPortAddress());
+        assertEquals(0x7fa5, builder.buildFromBytes(expectedData).getPortAddress());
+
+        assertSame(builder, builder.withPortAddress(0));
+        assertEquals(0, builder.getPortAddress());
+        assertPackets(DEFAULT_PACKET, builder);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setPortAddress(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.withPortAddress(0x8000));
+    }
+
     @Test
     void data() {
 
@@ -0,0 +1,133 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.descriptors.FirmwareMasterType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtFirmwareMasterBuilderTest extends AbstractPacketBuilderTest {
+
+    private static final byte[] DEFAULT_PACKET = getExpectedData(0x00, 0, 0);
+
+    private static byte[] getExpectedData(int type, int blockId, int firmwareLength, int... data) {
+
+        byte[] result = new byte[1064];
+
+        System.arraycopy(new byte[]{
+                0x41, 0x72, 0x74, 0x2D, 0x4E, 0x65, 0x74, 0x00, // Header
+                0x00, (byte) 0xF2,                              // OpCode
+                0x00, 0x0E,                                     // Protocol version
+                0x00, 0x00,                                     // Filler
+                (byte) type, (byte) blockId,                    // Type, block ID
+                (byte) (firmwareLength >> 24), (byte) (firmwareLength >> 16),
+                (byte) (firmwareLength >> 8), (byte) firmwareLength
+        }, 0, result, 0, 20);
+
+        for (int i = 0; i < data.length; i++) {
+            result[40 + i] = (byte) data[i];
+        }
+        return result;
+    }
+
+    @Test
+    void build() {
+        assertPackets(DEFAULT_PACKET, new ArtFirmwareMasterBuilder());
+    }
+
+    @Test
+    void type() {
+
+        ArtFirmwareMasterBuilder builder = new ArtFirmwareMasterBuilder();
+
+        assertEquals(FirmwareMasterType.FirmFirst, builder.getType());
+
+        builder.setType(FirmwareMasterType.UbeaLast);
+        assertEquals(FirmwareMasterType.UbeaLast, builder.getType());
+        assertPackets(getExpectedData(0x05, 0, 0), builder);
+
+        assertSame(builder, builder.withType(FirmwareMasterType.FirmFirst));
+        assertPackets(DEFAULT_PACKET, builder);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setType(null));
+    }
+
+    @Test
+    void blockId() {
+
+        ArtFirmwareMasterBuilder builder = new ArtFirmwareMasterBuilder();
+
+        assertEquals(0, builder.getBlockId());
+
+        builder.setBlockId(255);
+        assertEquals(255, builder.getBlockId());
+        assertPackets(getExpectedData(0x00, 255, 0), builder);
+
+        assertSame(builder, builder.withBlockId(0));
+        assertPackets(DEFAULT_PACKET, builder);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setBlockId(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.withBlockId(256));
+    }
+
+    @Test
+    void firmwareLength() {
+
+        ArtFirmwareMasterBuilder builder = new ArtFirmwareMasterBuilder();
+
+        assertEquals(0, builder.getFirmwareLength());
+
+        builder.setFirmwareLength(0x01020304);
+        assertEquals(0x01020304, builder.getFirmwareLength());
+        assertPackets(getExpectedData(0x00, 0, 0x01020304), builder);
+
+        assertSame(builder, builder.withFirmwareLength(0));
+        assertPackets(DEFAULT_PACKET, builder);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setFirmwareLength(-1));
+    }
+
+    @Test
+    void data() {
+
+        ArtFirmwareMasterBuilder builder = new ArtFirmwareMasterBuilder();
+
+        assertArrayEquals(new byte[1024], builder.getData());
+
+        builder.setData(new byte[]{1, 2, 3});
+        assertPackets(getExpectedData(0x00, 0, 0, 1, 2, 3), builder);
+        assertArrayEquals(new byte[]{1, 2, 3}, Arrays.copyOf(builder.build().getData(), 3));
+
+        builder.setData(new byte[]{4, 5, 6, 7}, 1, 2);
+        assertPackets(getExpectedData(0x00, 0, 0, 5, 6), builder);
+
+        assertSame(builder, builder.withData(new byte[0]));
+        assertPackets(DEFAULT_PACKET, builder);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setData(null));
+        assertThrows(IllegalArgumentException.class, () -> builder.withData(new byte[1025]));
+        assertThrows(IllegalArgumentException.class, () -> builder.setData(new byte[4], 3, 2));
+    }
+}
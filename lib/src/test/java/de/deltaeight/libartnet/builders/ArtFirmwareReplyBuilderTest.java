@@ -0,0 +1,70 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.descriptors.FirmwareReplyType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtFirmwareReplyBuilderTest extends AbstractPacketBuilderTest {
+
+    private static final byte[] DEFAULT_PACKET = getExpectedData(0x00);
+
+    private static byte[] getExpectedData(int type) {
+        return new byte[]{
+                0x41, 0x72, 0x74, 0x2D, 0x4E, 0x65, 0x74, 0x00, // Header
+                0x00, (byte) 0xF3,                              // OpCode
+                0x00, 0x0E,                                     // Protocol version
+                0x00, 0x00,                                     // Filler
+                (byte) type,                                    // Type
+                0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,       // Spare
+                0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,
+                0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00
+        };
+    }
+
+    @Test
+    void build() {
+        assertPackets(DEFAULT_PACKET, new ArtFirmwareReplyBuilder());
+    }
+
+    @Test
+    void type() {
+
+        ArtFirmwareReplyBuilder builder = new ArtFirmwareReplyBuilder();
+
+        assertEquals(FirmwareReplyType.FirmBlockGood, builder.getType());
+
+        builder.setType(FirmwareReplyType.FirmFail);
+        assertEquals(FirmwareReplyType.FirmFail, builder.getType());
+        assertPackets(getExpectedData(0xFF), builder);
+
+        builder.setType(FirmwareReplyType.FirmAllGood);
+        assertPackets(getExpectedData(0x01), builder);
+
+        assertSame(builder, builder.withType(FirmwareReplyType.FirmBlockGood));
+        assertPackets(DEFAULT_PACKET, builder);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setType(null));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtInputBuilderTest extends AbstractPacketBuilderTest {
+
+    private static final byte[] DEFAULT_PACKET = getExpectedData(0, 4, 0, 0, 0, 0);
+
+    private static byte[] getExpectedData(int bindIndex, int numberOfPorts, int input1, int input2, int input3,
+                                          int input4) {
+        return new byte[]{
+                0x41, 0x72, 0x74, 0x2D, 0x4E, 0x65, 0x74, 0x00, // Header
+                0x00, 0x70,                                     // OpCode
+                0x00, 0x0E,                                     // Protocol version
+                0x00, (byte) bindIndex,                         // Filler, bind index
+                0x00, (byte) numberOfPorts,                     // Number of ports
+                (byte) input1, (byte) input2, (byte) input3, (byte) input4
+        };
+    }
+
+    @Test
+    void build() {
+        assertPackets(DEFAULT_PACKET, new ArtInputBuilder());
+    }
+
+    @Test
+    void bindIndex() {
+
+        ArtInputBuilder builder = new ArtInputBuilder();
+
+        assertEquals(0, builder.getBindIndex());
+
+        builder.setBindIndex(255);
+        assertEquals(255, builder.getBindIndex());
+        assertPackets(getExpectedData(255, 4, 0, 0, 0, 0), builder);
+
+        assertSame(builder, builder.withBindIndex(0));
+        assertPackets(DEFAULT_PACKET, builder);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setBindIndex(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.withBindIndex(256));
+    }
+
+    @Test
+    void numberOfPorts() {
+
+        ArtInputBuilder builder = new ArtInputBuilder();
+
+        assertEquals(4, builder.getNumberOfPorts());
+
+        builder.setNumberOfPorts(1);
+        assertEquals(1, builder.getNumberOfPorts());
+        assertPackets(getExpectedData(0, 1, 0, 0, 0, 0), builder);
+
+        assertSame(builder, builder.withNumberOfPorts(4));
+        assertPackets(DEFAULT_PACKET, builder);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setNumberOfPorts(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.withNumberOfPorts(5));
+    }
+
+    @Test
+    void inputsDisabled() {
+
+        ArtInputBuilder builder = new ArtInputBuilder();
+
+        assertArrayEquals(new boolean[4], builder.getInputsDisabled());
+
+        builder.setInputDisabled(0, true);
+        builder.setInputDisabled(3, true);
+        assertTrue(builder.isInputDisabled(3));
+        assertPackets(getExpectedData(0, 4, 1, 0, 0, 1), builder);
+        assertArrayEquals(new boolean[]{true, false, false, true}, builder.build().getInputsDisabled());
+
+        assertSame(builder, builder.withInputDisabled(0, false).withInputDisabled(3, false));
+        assertPackets(DEFAULT_PACKET, builder);
+    }
+}
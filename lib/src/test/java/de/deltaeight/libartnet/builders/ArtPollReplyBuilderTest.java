@@ -21,6 +21,8 @@
 
 package de.deltaeight.libartnet.builders;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import de.deltaeight.libartnet.descriptors.EquipmentStyle;
@@ -30,6 +32,7 @@ import de.deltaeight.libartnet.descriptors.OemCode;
 import de.deltaeight.libartnet.descriptors.OutputStatus;
 import de.deltaeight.libartnet.descriptors.PortAddressingAuthority;
 import de.deltaeight.libartnet.descriptors.PortType;
+import de.deltaeight.libartnet.packets.ArtPollReply;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -1390,4 +1393,91 @@ class ArtPollReplyBuilderTest extends AbstractPacketBuilderTest {
                 0x00, new int[4], new int[4], new int[4], new int[4], new int[4], 0x00,
                 0x00, DEFAULT_EQUIPMENT_STYLE, new byte[6], new byte[4], 0x00, 0b00111111), builder);
     }
+
+    @Test
+    void lazyDecoding() {
+
+        ArtPollReplyBuilder builder = new ArtPollReplyBuilder()
+                .withIpAddress(new byte[]{0x02, 0x00, 0x00, 0x01})
+                .withNodeVersion(0x0102)
+                .withNetAddress(0x03)
+                .withSubnetAddress(0x04)
+                .withProduct(OemCode.getProductByOemCode("OemNetgate"))
+                .withIndicatorState(IndicatorState.Mute)
+                .withPortAddressingAuthority(PortAddressingAuthority.Network)
+                .withEstaManufacturer("AB")
+                .withShortName("Short")
+                .withLongName("Long")
+                .withNodeReport("Report")
+                .withPortType(1, new PortType(true, false, PortType.Protocol.ARTNET))
+                .withInputStatus(2, new InputStatus(true, false, true, false, true, false))
+                .withOutputStatus(3, new OutputStatus(true, false, false, false, true, false, true, true))
+                .withInputUniverseAddress(0, 5)
+                .withOutputUniverseAddress(1, 6)
+                .withMacroActive(7, true)
+                .withRemoteActive(0, true)
+                .withEquipmentStyle(EquipmentStyle.Routing)
+                .withMacAddress(new byte[]{0x01, 0x02, 0x03, 0x04, 0x05, 0x06})
+                .withBindIp(new byte[]{0x02, 0x00, 0x00, 0x02})
+                .withBindIndex(7)
+                .withSquawking(true);
+
+        ArtPollReply outboundPacket = builder.build();
+
+        byte[] receivedBytes = new byte[530];
+        System.arraycopy(outboundPacket.getBytes(), 0, receivedBytes, 0, 239);
+        receivedBytes[300] = 0x42;
+
+        ArtPollReply inboundPacket = builder.buildFromBytes(receivedBytes);
+
+        assertTrue(inboundPacket.bytesEqual(outboundPacket));
+        assertTrue(outboundPacket.bytesEqual(inboundPacket));
+        assertFalse(inboundPacket.bytesEqual(builder.withBindIndex(8).build()));
+
+        // Bytes beyond a shorter reply are leftovers of the receive buffer
+        byte[] staleBytes = receivedBytes.clone();
+        Arrays.fill(staleBytes, 214, 239, (byte) 0x42);
+        assertTrue(builder.buildFromBytes(staleBytes, 214)
+                .bytesEqual(builder.buildFromBytes(Arrays.copyOf(receivedBytes, 214))));
+        assertTrue(builder.buildFromBytes(staleBytes, 214).bytesEqual(builder.buildFromBytes(receivedBytes, 214)));
+        assertFalse(builder.buildFromBytes(staleBytes).bytesEqual(builder.buildFromBytes(receivedBytes)));
+
+        assertArrayEquals(outboundPacket.getIpAddress(), inboundPacket.getIpAddress());
+        assertEquals(outboundPacket.getNodeVersion(), inboundPacket.getNodeVersion());
+        assertEquals(outboundPacket.getNetAddress(), inboundPacket.getNetAddress());
+        assertEquals(outboundPacket.getSubnetAddress(), inboundPacket.getSubnetAddress());
+        assertSame(outboundPacket.getProduct(), inboundPacket.getProduct());
+        assertSame(outboundPacket.getIndicatorState(), inboundPacket.getIndicatorState());
+        assertSame(outboundPacket.getPortAddressingAuthority(), inboundPacket.getPortAddressingAuthority());
+        assertEquals(outboundPacket.getEstaManufacturer(), inboundPacket.getEstaManufacturer());
+        assertEquals(outboundPacket.getShortName(), inboundPacket.getShortName());
+        assertEquals(outboundPacket.getLongName(), inboundPacket.getLongName());
+        assertEquals(outboundPacket.getNodeReport(), inboundPacket.getNodeReport());
+        assertArrayEquals(outboundPacket.getPortTypes(), inboundPacket.getPortTypes());
+        assertArrayEquals(outboundPacket.getInputStatuses(), inboundPacket.getInputStatuses());
+        assertArrayEquals(outboundPacket.getOutputStatuses(), inboundPacket.getOutputStatuses());
+        assertArrayEquals(outboundPacket.getInputUniverseAddresses(), inboundPacket.getInputUniverseAddresses());
+        assertArrayEquals(outboundPacket.getOutputUniverseAddresses(), inboundPacket.getOutputUniverseAddresses());
+        assertArrayEquals(outboundPacket.getMacrosActive(), inboundPacket.getMacrosActive());
+        assertArrayEquals(outboundPacket.getRemotesActive(), inboundPacket.getRemotesActive());
+        assertSame(outboundPacket.getEquipmentStyle(), inboundPacket.getEquipmentStyle());
+        assertArrayEquals(outboundPacket.getMacAddress(), inboundPacket.getMacAddress());
+        assertArrayEquals(outboundPacket.getBindIp(), inboundPacket.getBindIp());
+        assertEquals(outboundPacket.getBindIndex(), inboundPacket.getBindIndex());
+        assertEquals(outboundPacket.isSquawking(), inboundPacket.isSquawking());
+        assertEquals(outboundPacket, inboundPacket);
+        assertEquals(outboundPacket.hashCode(), inboundPacket.hashCode());
+
+        ArtPollReply secondInboundPacket = builder.buildFromBytes(receivedBytes.clone());
+
+        for (int i = 0; i < 4; i++) {
+            assertSame(inboundPacket.getPortTypes()[i], secondInboundPacket.getPortTypes()[i]);
+            assertSame(inboundPacket.getInputStatuses()[i], secondInboundPacket.getInputStatuses()[i]);
+            assertSame(inboundPacket.getOutputStatuses()[i], secondInboundPacket.getOutputStatuses()[i]);
+        }
+
+        assertSame(PortType.DEFAULT, inboundPacket.getPortTypes()[0]);
+        assertSame(InputStatus.DEFAULT, inboundPacket.getInputStatuses()[0]);
+        assertSame(OutputStatus.DEFAULT, inboundPacket.getOutputStatuses()[0]);
+    }
 }
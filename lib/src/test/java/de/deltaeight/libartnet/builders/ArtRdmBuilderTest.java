@@ -0,0 +1,118 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.descriptors.Rdm;
+import de.deltaeight.libartnet.packets.ArtRdm;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtRdmBuilderTest extends AbstractPacketBuilderTest {
+
+    private static final byte[] RDM_PACKET = new byte[]{
+            0x01, 0x1A,                                     // Sub-start code, message length
+            0x12, 0x34, 0x00, 0x00, 0x00, 0x01,             // Destination UID
+            0x7A, 0x70, 0x00, 0x00, 0x00, 0x01,             // Source UID
+            0x05, 0x01, 0x00,                               // Transaction number, port ID, message count
+            0x00, 0x00,                                     // Sub-device
+            0x20, 0x00, (byte) 0xF0, 0x02,                  // Command class, parameter ID, PDL
+            0x00, 0x01,                                     // Parameter data
+            0x03, 0x32                                      // Checksum
+    };
+
+    private static byte[] getExpectedData(int net, int address, byte[] rdmPacket) {
+        byte[] result = new byte[]{
+                0x41, 0x72, 0x74, 0x2D, 0x4E, 0x65, 0x74, 0x00, // Header
+                0x00, (byte) 0x83,                              // OpCode
+                0x00, 0x0E,                                     // Protocol version
+                0x01, 0x00,                                     // RDM version, filler
+                0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,       // Spare
+                (byte) net, 0x00, (byte) address                // Net, command, address
+        };
+        result = Arrays.copyOf(result, 24 + rdmPacket.length);
+        System.arraycopy(rdmPacket, 0, result, 24, rdmPacket.length);
+        return result;
+    }
+
+    @Test
+    void build() {
+        assertPackets(getExpectedData(0, 0, new byte[0]), new ArtRdmBuilder());
+    }
+
+    @Test
+    void portAddress() {
+
+        ArtRdmBuilder builder = new ArtRdmBuilder();
+
+        assertEquals(0, builder.getPortAddress());
+
+        builder.setPortAddress(0x7FFF);
+        assertEquals(0x7FFF, builder.getPortAddress());
+        assertPackets(getExpectedData(0x7F, 0xFF, new byte[0]), builder);
+
+        assertSame(builder, builder.withPortAddress(0x0123));
+        assertEquals(0x0123, builder.getPortAddress());
+        assertPackets(getExpectedData(0x01, 0x23, new byte[0]), builder);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setPortAddress(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.withPortAddress(0x8000));
+    }
+
+    @Test
+    void rdmPacket() {
+
+        byte[] rdmPacket = new byte[Rdm.MAX_LENGTH];
+        assertEquals(RDM_PACKET.length, Rdm.writeMessage(rdmPacket, 0, Rdm.toUid(0x1234, 1), Rdm.toUid(0x7A70, 1),
+                5, 1, 0, Rdm.GET_COMMAND, 0x00F0, new byte[]{0x00, 0x01}));
+        assertArrayEquals(RDM_PACKET, Arrays.copyOf(rdmPacket, RDM_PACKET.length));
+
+        ArtRdmBuilder builder = new ArtRdmBuilder();
+
+        assertArrayEquals(new byte[0], builder.getRdmPacket());
+
+        builder.setRdmPacket(RDM_PACKET);
+        assertArrayEquals(RDM_PACKET, builder.getRdmPacket());
+        assertPackets(getExpectedData(0, 0, RDM_PACKET), builder);
+
+        ArtRdm artRdm = builder.build();
+        assertTrue(artRdm.isRdmPacketValid());
+        assertEquals(Rdm.toUid(0x1234, 1), artRdm.getDestinationUid());
+        assertEquals(Rdm.toUid(0x7A70, 1), artRdm.getSourceUid());
+        assertEquals(5, artRdm.getTransactionNumber());
+        assertEquals(Rdm.GET_COMMAND, artRdm.getCommandClass());
+        assertEquals(0x00F0, artRdm.getParameterId());
+        assertArrayEquals(new byte[]{0x00, 0x01}, artRdm.getParameterData());
+
+        // Received packets are padded by the receive buffer
+        assertEquals(artRdm, builder.buildFromBytes(Arrays.copyOf(artRdm.getBytes(), 530)));
+        assertArrayEquals(artRdm.getBytes(), builder.buildFromBytes(Arrays.copyOf(artRdm.getBytes(), 530)).getBytes());
+
+        assertSame(builder, builder.withRdmPacket(null));
+        assertArrayEquals(new byte[0], builder.getRdmPacket());
+        assertPackets(getExpectedData(0, 0, new byte[0]), builder);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setRdmPacket(new byte[Rdm.MAX_LENGTH + 1]));
+    }
+}
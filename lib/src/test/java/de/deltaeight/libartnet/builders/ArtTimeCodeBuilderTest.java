@@ -164,4 +164,51 @@ class ArtTimeCodeBuilderTest extends AbstractPacketBuilderTest {
         builder.setType(TimeCodeType.Film);
         assertEquals(23, builder.getFrames());
     }
+
+    @Test
+    void writeTo() {
+
+        ArtTimeCodeBuilder builder = new ArtTimeCodeBuilder().withType(TimeCodeType.EBU).withHours(1).withFrames(24);
+        byte[] buffer = new byte[19];
+
+        assertSame(buffer, builder.writeTo(buffer));
+        assertArrayEquals(builder.build().getBytes(), buffer);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.writeTo(new byte[18]));
+    }
+
+    @Test
+    void incrementFrame() {
+
+        byte[] buffer = new ArtTimeCodeBuilder().withType(TimeCodeType.EBU).withSeconds(59).withFrames(24)
+                .writeTo(new byte[19]);
+        ArtTimeCodeBuilder.incrementFrame(buffer);
+        assertArrayEquals(getExpectedData(1, 0, 1, 0, 0), buffer);
+
+        buffer = new ArtTimeCodeBuilder().withType(TimeCodeType.DF).withMinutes(9).withSeconds(59).withFrames(29)
+                .writeTo(new byte[19]);
+        ArtTimeCodeBuilder.incrementFrame(buffer);
+        assertArrayEquals(getExpectedData(2, 0, 10, 0, 0), buffer);
+        ArtTimeCodeBuilder.incrementFrame(buffer);
+        assertArrayEquals(getExpectedData(2, 0, 10, 0, 1), buffer);
+
+        buffer = new ArtTimeCodeBuilder().withType(TimeCodeType.DF).withMinutes(10).withSeconds(59).withFrames(29)
+                .writeTo(new byte[19]);
+        ArtTimeCodeBuilder.incrementFrame(buffer);
+        assertArrayEquals(getExpectedData(2, 0, 11, 0, 2), buffer);
+
+        // A whole day wraps back to midnight
+        int[] framesPerDay = {24 * 86400, 25 * 86400, 2589408, 30 * 86400};
+        for (TimeCodeType type : TimeCodeType.values()) {
+            buffer = new ArtTimeCodeBuilder().withType(type).writeTo(new byte[19]);
+            for (int i = 0; i < framesPerDay[type.getByte()] - 1; i++) {
+                ArtTimeCodeBuilder.incrementFrame(buffer);
+                assertNotEquals(0, buffer[14] | buffer[15] | buffer[16] | buffer[17]);
+            }
+            ArtTimeCodeBuilder.incrementFrame(buffer);
+            assertArrayEquals(getExpectedData(type.getByte(), 0, 0, 0, 0), buffer);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> ArtTimeCodeBuilder.incrementFrame(new byte[18]));
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.descriptors.TodControlCommand;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtTodControlBuilderTest extends AbstractPacketBuilderTest {
+
+    private static final byte[] DEFAULT_PACKET = getExpectedData(0, 0, 0);
+
+    private static byte[] getExpectedData(int net, int command, int address) {
+        return new byte[]{
+                0x41, 0x72, 0x74, 0x2D, 0x4E, 0x65, 0x74, 0x00, // Header
+                0x00, (byte) 0x82,                              // OpCode
+                0x00, 0x0E,                                     // Protocol version
+                0x00, 0x00,                                     // Filler
+                0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,       // Spare
+                (byte) net, (byte) command, (byte) address      // Net, command, address
+        };
+    }
+
+    @Test
+    void build() {
+        assertPackets(DEFAULT_PACKET, new ArtTodControlBuilder());
+    }
+
+    @Test
+    void portAddress() {
+
+        ArtTodControlBuilder builder = new ArtTodControlBuilder();
+
+        assertEquals(0, builder.getPortAddress());
+
+        builder.setPortAddress(0x0A12);
+        assertEquals(0x0A12, builder.getPortAddress());
+        assertPackets(getExpectedData(0x0A, 0, 0x12), builder);
+
+        assertSame(builder, builder.withPortAddress(0));
+        assertEquals(0, builder.getPortAddress());
+        assertPackets(DEFAULT_PACKET, builder);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setPortAddress(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.withPortAddress(0x8000));
+    }
+
+    @Test
+    void command() {
+
+        ArtTodControlBuilder builder = new ArtTodControlBuilder();
+
+        assertSame(TodControlCommand.AtcNone, builder.getCommand());
+
+        builder.setCommand(TodControlCommand.AtcFlush);
+        assertSame(TodControlCommand.AtcFlush, builder.getCommand());
+        assertPackets(getExpectedData(0, 1, 0), builder);
+
+        assertSame(builder, builder.withCommand(TodControlCommand.AtcIncOff));
+        assertPackets(getExpectedData(0, 4, 0), builder);
+
+        assertSame(builder, builder.withCommand(null));
+        assertSame(TodControlCommand.AtcNone, builder.getCommand());
+        assertPackets(DEFAULT_PACKET, builder);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.descriptors.Rdm;
+import de.deltaeight.libartnet.packets.ArtTodData;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtTodDataBuilderTest extends AbstractPacketBuilderTest {
+
+    private static final byte[] DEFAULT_PACKET = getExpectedData(1, 0, 0, 0, 0x00, 0, 0);
+
+    private static byte[] getExpectedData(int port, int bindIndex, int net, int address, int commandResponse,
+                                          int uidTotal, int blockCount, long... uids) {
+        byte[] result = Arrays.copyOf(new byte[]{
+                0x41, 0x72, 0x74, 0x2D, 0x4E, 0x65, 0x74, 0x00, // Header
+                0x00, (byte) 0x81,                              // OpCode
+                0x00, 0x0E,                                     // Protocol version
+                0x01, (byte) port,                              // RDM version, port
+                0x00, 0x00, 0x00, 0x00, 0x00, 0x00,             // Spare
+                (byte) bindIndex, (byte) net,                   // Bind index, net
+                (byte) commandResponse, (byte) address,         // Command response, address
+                (byte) (uidTotal >> 8), (byte) uidTotal,        // UID total
+                (byte) blockCount, (byte) uids.length           // Block count, UID count
+        }, 28 + 6 * uids.length);
+        for (int i = 0; i < uids.length; i++) {
+            Rdm.writeUid(uids[i], result, 28 + 6 * i);
+        }
+        return result;
+    }
+
+    @Test
+    void build() {
+        assertPackets(DEFAULT_PACKET, new ArtTodDataBuilder());
+    }
+
+    @Test
+    void header() {
+
+        ArtTodDataBuilder builder = new ArtTodDataBuilder();
+
+        assertEquals(1, builder.getPort());
+        assertEquals(0, builder.getBindIndex());
+        assertEquals(0, builder.getPortAddress());
+        assertEquals(ArtTodData.COMMAND_RESPONSE_TOD_FULL, builder.getCommandResponse());
+        assertEquals(0, builder.getUidTotal());
+        assertEquals(0, builder.getBlockCount());
+
+        assertSame(builder, builder.withPort(4).withBindIndex(2).withPortAddress(0x0512)
+                .withCommandResponse(ArtTodData.COMMAND_RESPONSE_TOD_NAK).withUidTotal(0x0102).withBlockCount(3));
+        assertPackets(getExpectedData(4, 2, 0x05, 0x12, 0xFF, 0x0102, 3), builder);
+
+        ArtTodData artTodData = builder.build();
+        assertEquals(4, artTodData.getPort());
+        assertEquals(2, artTodData.getBindIndex());
+        assertEquals(0x0512, artTodData.getPortAddress());
+        assertEquals(0x0102, artTodData.getUidTotal());
+        assertEquals(3, artTodData.getBlockCount());
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setPort(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.setPort(5));
+        assertThrows(IllegalArgumentException.class, () -> builder.setBindIndex(256));
+        assertThrows(IllegalArgumentException.class, () -> builder.setPortAddress(0x8000));
+        assertThrows(IllegalArgumentException.class, () -> builder.setCommandResponse(1));
+        assertThrows(IllegalArgumentException.class, () -> builder.setUidTotal(0x10000));
+        assertThrows(IllegalArgumentException.class, () -> builder.setBlockCount(-1));
+    }
+
+    @Test
+    void uids() {
+
+        long[] uids = new long[]{Rdm.toUid(0x7A70, 1), Rdm.toUid(0x7A70, 0xFFFFFFFF), Rdm.toUid(0xFFFF, 0)};
+
+        ArtTodDataBuilder builder = new ArtTodDataBuilder();
+
+        assertArrayEquals(new long[0], builder.getUids());
+
+        builder.setUids(uids);
+        assertArrayEquals(uids, builder.getUids());
+        assertPackets(getExpectedData(1, 0, 0, 0, 0x00, 0, 0, uids), builder);
+
+        ArtTodData artTodData = builder.build();
+        assertEquals(3, artTodData.getUidCount());
+        assertEquals(uids[1], artTodData.getUid(1));
+        assertArrayEquals(uids, artTodData.getUids());
+
+        // Received packets are padded by the receive buffer
+        assertEquals(artTodData, builder.buildFromBytes(Arrays.copyOf(artTodData.getBytes(), 530)));
+        assertNull(builder.buildFromBytes(Arrays.copyOf(artTodData.getBytes(), 28 + 6 * 2)));
+
+        assertSame(builder, builder.withUids((long[]) null));
+        assertArrayEquals(new long[0], builder.getUids());
+        assertPackets(DEFAULT_PACKET, builder);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setUids(new long[201]));
+    }
+}
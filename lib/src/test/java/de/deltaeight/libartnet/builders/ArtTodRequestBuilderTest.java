@@ -0,0 +1,96 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtTodRequestBuilderTest extends AbstractPacketBuilderTest {
+
+    private static byte[] getExpectedData(int net, int... addresses) {
+        byte[] result = Arrays.copyOf(new byte[]{
+                0x41, 0x72, 0x74, 0x2D, 0x4E, 0x65, 0x74, 0x00, // Header
+                0x00, (byte) 0x80,                              // OpCode
+                0x00, 0x0E,                                     // Protocol version
+                0x00, 0x00,                                     // Filler
+                0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,       // Spare
+                (byte) net, 0x00, (byte) addresses.length       // Net, command, address count
+        }, 56);
+        for (int i = 0; i < addresses.length; i++) {
+            result[24 + i] = (byte) addresses[i];
+        }
+        return result;
+    }
+
+    @Test
+    void build() {
+        assertPackets(getExpectedData(0), new ArtTodRequestBuilder());
+    }
+
+    @Test
+    void netAddress() {
+
+        ArtTodRequestBuilder builder = new ArtTodRequestBuilder();
+
+        assertEquals(0, builder.getNetAddress());
+
+        builder.setNetAddress(127);
+        assertEquals(127, builder.getNetAddress());
+        assertPackets(getExpectedData(127), builder);
+
+        assertSame(builder, builder.withNetAddress(0));
+        assertEquals(0, builder.getNetAddress());
+        assertPackets(getExpectedData(0), builder);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setNetAddress(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.withNetAddress(128));
+    }
+
+    @Test
+    void addresses() {
+
+        ArtTodRequestBuilder builder = new ArtTodRequestBuilder();
+
+        assertArrayEquals(new int[0], builder.getAddresses());
+
+        builder.setAddresses(0x00, 0x12, 0xFF);
+        assertArrayEquals(new int[]{0x00, 0x12, 0xFF}, builder.getAddresses());
+        assertPackets(getExpectedData(0, 0x00, 0x12, 0xFF), builder);
+        assertArrayEquals(new int[]{0x00, 0x12, 0xFF}, builder.build().getPortAddresses());
+
+        assertSame(builder, builder.withPortAddresses(0x0301, 0x0302));
+        assertEquals(3, builder.getNetAddress());
+        assertPackets(getExpectedData(3, 0x01, 0x02), builder);
+        assertArrayEquals(new int[]{0x0301, 0x0302}, builder.build().getPortAddresses());
+
+        assertSame(builder, builder.withAddresses((int[]) null));
+        assertArrayEquals(new int[0], builder.getAddresses());
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setAddresses(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.setAddresses(256));
+        assertThrows(IllegalArgumentException.class, () -> builder.setAddresses(new int[33]));
+        assertThrows(IllegalArgumentException.class, () -> builder.setPortAddresses(0x0101, 0x0201));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.builders;
+
+import de.deltaeight.libartnet.packets.ArtTrigger;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtTriggerBuilderTest extends AbstractPacketBuilderTest {
+
+    private static final byte[] DEFAULT_PACKET = getExpectedData(0xFFFF, 0, 0);
+
+    private static byte[] getExpectedData(int oemCode, int key, int subKey, int... data) {
+
+        byte[] result = new byte[530];
+
+        System.arraycopy(new byte[]{
+                0x41, 0x72, 0x74, 0x2D, 0x4E, 0x65, 0x74, 0x00, // Header
+                0x00, (byte) 0x99,                              // OpCode
+                0x00, 0x0E,                                     // Protocol version
+                0x00, 0x00,                                     // Filler
+                (byte) (oemCode >> 8), (byte) oemCode,          // OEM code
+                (byte) key, (byte) subKey                       // Key, sub-key
+        }, 0, result, 0, 18);
+
+        for (int i = 0; i < data.length; i++) {
+            result[18 + i] = (byte) data[i];
+        }
+        return result;
+    }
+
+    @Test
+    void build() {
+        assertPackets(DEFAULT_PACKET, new ArtTriggerBuilder());
+    }
+
+    @Test
+    void oemCode() {
+
+        ArtTriggerBuilder builder = new ArtTriggerBuilder();
+
+        assertEquals(ArtTrigger.OEM_CODE_ALL, builder.getOemCode());
+
+        builder.setOemCode(0x1234);
+        assertEquals(0x1234, builder.getOemCode());
+        assertPackets(getExpectedData(0x1234, 0, 0), builder);
+
+        assertSame(builder, builder.withOemCode(ArtTrigger.OEM_CODE_ALL));
+        assertPackets(DEFAULT_PACKET, builder);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setOemCode(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.withOemCode(0x10000));
+    }
+
+    @Test
+    void keys() {
+
+        ArtTriggerBuilder builder = new ArtTriggerBuilder();
+
+        assertEquals(ArtTrigger.KEY_ASCII, builder.getKey());
+        assertEquals(0, builder.getSubKey());
+
+        builder.setKey(ArtTrigger.KEY_SHOW);
+        builder.setSubKey(255);
+        assertEquals(ArtTrigger.KEY_SHOW, builder.getKey());
+        assertEquals(255, builder.getSubKey());
+        assertPackets(getExpectedData(0xFFFF, 3, 255), builder);
+
+        assertSame(builder, builder.withKey(ArtTrigger.KEY_ASCII).withSubKey(0));
+        assertPackets(DEFAULT_PACKET, builder);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setKey(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.withKey(256));
+        assertThrows(IllegalArgumentException.class, () -> builder.setSubKey(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.withSubKey(256));
+    }
+
+    @Test
+    void data() {
+
+        ArtTriggerBuilder builder = new ArtTriggerBuilder();
+
+        assertArrayEquals(new byte[512], builder.getData());
+
+        builder.setData(new byte[]{1, 2, 3});
+        assertPackets(getExpectedData(0xFFFF, 0, 0, 1, 2, 3), builder);
+        assertArrayEquals(new byte[]{1, 2, 3}, Arrays.copyOf(builder.build().getData(), 3));
+
+        assertSame(builder, builder.withData(new byte[0]));
+        assertPackets(DEFAULT_PACKET, builder);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setData(null));
+        assertThrows(IllegalArgumentException.class, () -> builder.withData(new byte[513]));
+    }
+}
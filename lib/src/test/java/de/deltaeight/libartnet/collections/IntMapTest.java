@@ -0,0 +1,89 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntMapTest {
+
+    @Test
+    void putGetRemove() {
+
+        IntMap<String> map = new IntMap<>();
+
+        assertTrue(map.isEmpty());
+        assertNull(map.put(-1, "a"));
+        assertNull(map.put(0, "b"));
+        assertEquals("a", map.put(-1, "c"));
+
+        assertEquals(2, map.size());
+        assertEquals("c", map.get(-1));
+        assertEquals("b", map.get(0));
+        assertNull(map.get(1));
+        assertEquals("d", map.getOrDefault(1, "d"));
+        assertTrue(map.containsKey(0));
+        assertFalse(map.containsKey(1));
+
+        assertEquals("c", map.remove(-1));
+        assertNull(map.remove(-1));
+        assertEquals(1, map.size());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(0));
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(0, null));
+        assertThrows(IllegalArgumentException.class, () -> new IntMap<>(-1));
+    }
+
+    @Test
+    void matchesHashMap() {
+
+        IntMap<Integer> map = new IntMap<>(0);
+        HashMap<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(0);
+
+        for (int i = 0; i < 100000; i++) {
+            // Few distinct keys to provoke collisions and removals within probe sequences
+            int key = random.nextInt(512) * 1024;
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            } else {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        for (int key = 0; key < 512 * 1024; key += 1024) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+
+        HashMap<Integer, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongSetTest {
+
+    @Test
+    void addContainsRemove() {
+
+        LongSet set = new LongSet();
+
+        assertTrue(set.isEmpty());
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.add(-1));
+        assertTrue(set.add(0x7A7012345678L));
+
+        assertEquals(3, set.size());
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(-1));
+        assertTrue(set.contains(0x7A7012345678L));
+        assertFalse(set.contains(1));
+
+        assertArrayEquals(new long[]{-1, 0, 0x7A7012345678L}, set.toSortedArray());
+
+        List<Long> values = new ArrayList<>();
+        set.forEach(values::add);
+        assertEquals(3, values.size());
+
+        assertTrue(set.remove(0));
+        assertFalse(set.remove(0));
+        assertTrue(set.remove(-1));
+        assertEquals(1, set.size());
+
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(0x7A7012345678L));
+
+        assertThrows(IllegalArgumentException.class, () -> new LongSet(-1));
+    }
+
+    @Test
+    void matchesHashSet() {
+
+        LongSet set = new LongSet(0);
+        HashSet<Long> expected = new HashSet<>();
+        Random random = new Random(0);
+
+        for (int i = 0; i < 100000; i++) {
+            // Few distinct values to provoke collisions and removals within probe sequences
+            long value = random.nextInt(512) * 0x100000000L;
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(value), set.add(value));
+            } else {
+                assertEquals(expected.remove(value), set.remove(value));
+            }
+            assertEquals(expected.size(), set.size());
+        }
+
+        for (long value : expected) {
+            assertTrue(set.contains(value));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import de.deltaeight.libartnet.descriptors.PortAddress;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PortAddressArrayTest {
+
+    @Test
+    void setGetRemove() {
+
+        PortAddressArray<String> array = new PortAddressArray<>();
+
+        assertNull(array.set(0, "a"));
+        assertNull(array.set(PortAddress.MAX_VALUE, "b"));
+        assertEquals("a", array.set(0, "c"));
+
+        assertEquals("c", array.get(0));
+        assertEquals("b", array.get(PortAddress.MAX_VALUE));
+        assertNull(array.get(1));
+        assertNull(array.get(-1));
+        assertNull(array.get(PortAddress.COUNT));
+        assertEquals("d", array.getOrDefault(1, "d"));
+
+        assertEquals("e", array.computeIfAbsent(1, portAddress -> "e"));
+        assertEquals("e", array.computeIfAbsent(1, portAddress -> "f"));
+
+        ArrayList<Integer> portAddresses = new ArrayList<>();
+        array.forEach((portAddress, value) -> portAddresses.add(portAddress));
+        assertEquals(Arrays.asList(0, 1, PortAddress.MAX_VALUE), portAddresses);
+
+        assertEquals("c", array.remove(0));
+        assertNull(array.get(0));
+
+        array.clear();
+        assertNull(array.get(PortAddress.MAX_VALUE));
+
+        assertThrows(IllegalArgumentException.class, () -> array.set(-1, "a"));
+        assertThrows(IllegalArgumentException.class, () -> array.set(PortAddress.COUNT, "a"));
+    }
+}
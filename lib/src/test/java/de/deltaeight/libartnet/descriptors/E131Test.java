@@ -0,0 +1,101 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.descriptors;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class E131Test {
+
+    private static final byte[] EXPECTED_PACKET = {
+            // Root layer
+            0x00, 0x10, 0x00, 0x00, 0x41, 0x53, 0x43, 0x2D, 0x45, 0x31, 0x2E, 0x31, 0x37, 0x00, 0x00, 0x00,
+            0x70, 0x72, 0x00, 0x00, 0x00, 0x04,
+            0x01, 0x23, 0x45, 0x67, (byte) 0x89, (byte) 0xAB, (byte) 0xCD, (byte) 0xEF,
+            0x01, 0x23, 0x45, 0x67, (byte) 0x89, (byte) 0xAB, (byte) 0xCD, (byte) 0xEF,
+            // Framing layer
+            0x70, 0x5C, 0x00, 0x00, 0x00, 0x02,
+            0x4C, 0x69, 0x62, 0x41, 0x72, 0x74, 0x4E, 0x65, 0x74, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,
+            0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,
+            0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,
+            0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,
+            0x64, 0x00, 0x00, 0x2A, 0x00, 0x01, 0x02,
+            // DMP layer
+            0x70, 0x0F, 0x02, (byte) 0xA1, 0x00, 0x00, 0x00, 0x01, 0x00, 0x05, 0x00,
+            // Slots
+            0x01, 0x02, 0x03, 0x04
+    };
+
+    @Test
+    void encode() {
+
+        byte[] buffer = new byte[E131.MAX_LENGTH];
+        UUID cid = new UUID(0x0123456789ABCDEFL, 0x0123456789ABCDEFL);
+
+        E131.writeHeader(buffer, cid, "LibArtNet", E131.DEFAULT_PRIORITY, 0x0102);
+        System.arraycopy(new byte[]{1, 2, 3, 4}, 0, buffer, E131.DATA_OFFSET, 4);
+        E131.setSequence(buffer, 42);
+        int length = E131.writeSlotCount(buffer, 4);
+
+        byte[] packet = new byte[length];
+        System.arraycopy(buffer, 0, packet, 0, length);
+
+        assertArrayEquals(EXPECTED_PACKET, packet);
+
+        assertThrows(IllegalArgumentException.class, () -> E131.writeHeader(buffer, cid, "", 201, 1));
+        assertThrows(IllegalArgumentException.class, () -> E131.writeHeader(buffer, cid, "", 100, 0));
+        assertThrows(IllegalArgumentException.class, () -> E131.writeSlotCount(buffer, 513));
+    }
+
+    @Test
+    void decode() {
+
+        assertTrue(E131.isDataPacket(EXPECTED_PACKET, EXPECTED_PACKET.length));
+        assertFalse(E131.isDataPacket(EXPECTED_PACKET, EXPECTED_PACKET.length - 1));
+
+        assertEquals(4, E131.getSlotCount(EXPECTED_PACKET));
+        assertEquals(0x0102, E131.getUniverse(EXPECTED_PACKET));
+        assertEquals(100, E131.getPriority(EXPECTED_PACKET));
+        assertEquals(42, E131.getSequence(EXPECTED_PACKET));
+        assertEquals(0, E131.getOptions(EXPECTED_PACKET));
+
+        byte[] otherStartCode = EXPECTED_PACKET.clone();
+        otherStartCode[125] = (byte) 0xCC;
+        assertFalse(E131.isDataPacket(otherStartCode, otherStartCode.length));
+    }
+
+    @Test
+    void multicastAddress() throws UnknownHostException {
+        assertEquals(InetAddress.getByName("239.255.0.1"), E131.getMulticastAddress(1));
+        assertEquals(InetAddress.getByName("239.255.249.255"), E131.getMulticastAddress(E131.MAX_UNIVERSE));
+        assertThrows(IllegalArgumentException.class, () -> E131.getMulticastAddress(64000));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.descriptors;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OemCodeTest {
+
+    private static void assertProductEquals(Product expected, Product actual) {
+        assertEquals(expected.getOemCode(), actual.getOemCode());
+        assertEquals(expected.getProductCode(), actual.getProductCode());
+        assertEquals(expected.getManufacturer(), actual.getManufacturer());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getDmxOutputs(), actual.getDmxOutputs());
+        assertEquals(expected.getDmxInputs(), actual.getDmxInputs());
+        assertEquals(expected.isDmxPortsPhysical(), actual.isDmxPortsPhysical());
+        assertEquals(expected.supportsRdm(), actual.supportsRdm());
+        assertEquals(expected.getSupportEmail(), actual.getSupportEmail());
+        assertEquals(expected.getSupportName(), actual.getSupportName());
+    }
+
+    @Test
+    void binaryTableMatchesJson() {
+
+        Product[] products = new Gson().fromJson(new InputStreamReader(
+                OemCode.class.getResourceAsStream("OemCodes.json"), StandardCharsets.UTF_8), Product[].class);
+
+        assertTrue(products.length > 0);
+
+        for (Product product : products) {
+            Product byProductCode = OemCode.getProductByProductCode(product.getProductCode());
+            assertProductEquals(product, byProductCode);
+            assertSame(byProductCode, OemCode.getProductByProductCode(product.getProductCode()));
+            assertSame(byProductCode, OemCode.getProductByOemCode(product.getOemCode()));
+        }
+    }
+
+    @Test
+    void unknownProduct() {
+
+        Product unknownProduct = OemCode.getUnknownProduct();
+
+        assertSame(unknownProduct, OemCode.getProductByProductCode(-1));
+        assertSame(unknownProduct, OemCode.getProductByProductCode(0x10000));
+        assertSame(unknownProduct, OemCode.getProductByProductCode(unknownProduct.getProductCode()));
+        assertSame(unknownProduct, OemCode.getProductByOemCode("Unknown"));
+        assertSame(unknownProduct, OemCode.getProductByOemCode("OemDoesNotExist"));
+        assertSame(unknownProduct, OemCode.getProductByOemCode(null));
+    }
+
+    @Test
+    void loadInBackground() {
+        assertDoesNotThrow(OemCode::loadInBackground);
+        assertEquals("OemNetgate", OemCode.getProductByProductCode(1).getOemCode());
+    }
+}
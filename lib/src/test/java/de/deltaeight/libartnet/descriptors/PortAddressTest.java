@@ -0,0 +1,63 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.descriptors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PortAddressTest {
+
+    @Test
+    void packAndUnpack() {
+
+        int portAddress = PortAddress.pack(0x55, 0x0a, 0x03);
+
+        assertEquals(0x55a3, portAddress);
+        assertEquals(0x55, PortAddress.getNetAddress(portAddress));
+        assertEquals(0x0a, PortAddress.getSubnetAddress(portAddress));
+        assertEquals(0x03, PortAddress.getUniverseAddress(portAddress));
+
+        assertEquals(PortAddress.MAX_VALUE, PortAddress.pack(0xff, 0xff, 0xff));
+    }
+
+    @Test
+    void readAndWrite() {
+
+        byte[] bytes = new byte[4];
+
+        PortAddress.write(PortAddress.MAX_VALUE, bytes, 1);
+        assertArrayEquals(new byte[]{0x00, (byte) 0xff, 0x7f, 0x00}, bytes);
+        assertEquals(PortAddress.MAX_VALUE, PortAddress.read(bytes, 1));
+
+        bytes[2] = (byte) 0xff;
+        assertEquals(PortAddress.MAX_VALUE, PortAddress.read(bytes, 1));
+    }
+
+    @Test
+    void isValid() {
+        assertTrue(PortAddress.isValid(0));
+        assertTrue(PortAddress.isValid(PortAddress.MAX_VALUE));
+        assertFalse(PortAddress.isValid(-1));
+        assertFalse(PortAddress.isValid(PortAddress.COUNT));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.descriptors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RdmTest {
+
+    @Test
+    void uid() {
+
+        long uid = Rdm.toUid(0x7A70, 0x12345678);
+
+        assertEquals(0x7A7012345678L, uid);
+        assertEquals(0x7A70, Rdm.getManufacturerId(uid));
+        assertEquals(0x12345678, Rdm.getDeviceId(uid));
+        assertEquals("7A70:12345678", Rdm.toString(uid));
+
+        byte[] bytes = new byte[7];
+        Rdm.writeUid(uid, bytes, 1);
+        assertArrayEquals(new byte[]{0x00, 0x7A, 0x70, 0x12, 0x34, 0x56, 0x78}, bytes);
+        assertEquals(uid, Rdm.readUid(bytes, 1));
+        assertEquals(Rdm.BROADCAST_UID, Rdm.toUid(0xFFFF, 0xFFFFFFFF));
+    }
+
+    @Test
+    void message() {
+
+        byte[] buffer = new byte[Rdm.MAX_LENGTH + 1];
+        int length = Rdm.writeMessage(buffer, 1, Rdm.toUid(0x1234, 1), Rdm.toUid(0x7A70, 2), 0x1FF,
+                Rdm.RESPONSE_TYPE_ACK, 3, Rdm.GET_COMMAND_RESPONSE, 0x0060, new byte[]{0x01, 0x02, 0x03});
+
+        assertEquals(28, length);
+        assertEquals(length, Rdm.getLength(buffer, 1));
+        assertTrue(Rdm.isValid(buffer, 1, length));
+        assertFalse(Rdm.isValid(buffer, 1, length - 1));
+
+        assertEquals(Rdm.toUid(0x1234, 1), Rdm.getDestinationUid(buffer, 1));
+        assertEquals(Rdm.toUid(0x7A70, 2), Rdm.getSourceUid(buffer, 1));
+        assertEquals(0xFF, Rdm.getTransactionNumber(buffer, 1));
+        assertEquals(Rdm.RESPONSE_TYPE_ACK, Rdm.getPortIdOrResponseType(buffer, 1));
+        assertEquals(3, Rdm.getSubDevice(buffer, 1));
+        assertEquals(Rdm.GET_COMMAND_RESPONSE, Rdm.getCommandClass(buffer, 1));
+        assertEquals(0x0060, Rdm.getParameterId(buffer, 1));
+        assertArrayEquals(new byte[]{0x01, 0x02, 0x03}, Rdm.getParameterData(buffer, 1));
+
+        buffer[10]++;
+        assertFalse(Rdm.isValid(buffer, 1, length));
+
+        assertThrows(IllegalArgumentException.class, () -> Rdm.writeMessage(buffer, 0, 0, 0, 0, 0, 0,
+                Rdm.GET_COMMAND, 0, new byte[Rdm.MAX_PARAMETER_DATA_LENGTH + 1]));
+    }
+}
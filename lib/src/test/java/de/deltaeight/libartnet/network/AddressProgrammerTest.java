@@ -0,0 +1,159 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+import de.deltaeight.libartnet.builders.ArtAddressBuilder;
+import de.deltaeight.libartnet.builders.ArtPollReplyBuilder;
+import de.deltaeight.libartnet.packets.ArtAddress;
+import de.deltaeight.libartnet.packets.ArtPollReply;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AddressProgrammerTest {
+
+    private static final byte[] NODE_A = new byte[]{2, 0, 0, 1};
+    private static final byte[] NODE_B = new byte[]{2, 0, 0, 2};
+
+    private final LinkedBlockingQueue<ArtAddress> sentPackets = new LinkedBlockingQueue<>();
+
+    private AddressProgrammer getNewInstance() throws SocketException {
+
+        DatagramSocketMockup datagramSocketMockup = new DatagramSocketMockup();
+        datagramSocketMockup.setOnPacketSent(packet -> sentPackets.add(new ArtAddressBuilder()
+                .buildFromBytes(Arrays.copyOf(packet.getData(), packet.getLength()))));
+
+        ArtNetSender artNetSender = new ArtNetSender(datagramSocketMockup);
+        artNetSender.start();
+
+        return new AddressProgrammer(artNetSender, new ArtNetReceiver(new DatagramSocketMockup()));
+    }
+
+    @Test
+    void confirmation() {
+
+        ArtAddress artAddress = new ArtAddressBuilder().withOutputPortAddress(1, 0x0123).withShortName("A").build();
+        ArtPollReplyBuilder builder = new ArtPollReplyBuilder().withNetAddress(0x01).withSubnetAddress(0x02)
+                .withShortName("A");
+
+        assertFalse(AddressProgrammer.isConfirmedBy(artAddress, builder.build()));
+
+        builder.setOutputUniverseAddress(1, 0x03);
+        assertTrue(AddressProgrammer.isConfirmedBy(artAddress, builder.build()));
+
+        builder.setBindIndex(1);
+        assertTrue(AddressProgrammer.isConfirmedBy(artAddress, builder.build()));
+
+        builder.setBindIndex(2);
+        assertFalse(AddressProgrammer.isConfirmedBy(artAddress, builder.build()));
+
+        assertTrue(AddressProgrammer.isConfirmedBy(new ArtAddressBuilder().withBindIndex(2).build(), builder.build()));
+    }
+
+    @Test
+    void program() throws SocketException, UnknownHostException, InterruptedException, ExecutionException,
+            TimeoutException {
+
+        // The timeout never fires during this test, so the pending changes only depend on the replies
+        AddressProgrammer addressProgrammer = getNewInstance().withTimeout(60000).withRetries(0);
+
+        ArtAddress artAddress = new ArtAddressBuilder().withNetAddress(5).build();
+        HashMap<InetAddress, ArtAddress> artAddresses = new HashMap<>();
+        artAddresses.put(InetAddress.getByAddress(NODE_A), artAddress);
+        artAddresses.put(InetAddress.getByAddress(NODE_B), artAddress);
+
+        assertThrows(IllegalStateException.class, () -> addressProgrammer.program(artAddresses));
+
+        addressProgrammer.start();
+
+        CompletableFuture<AddressProgrammingResult> result = addressProgrammer.program(artAddresses);
+        assertEquals(artAddress, sentPackets.poll(3, TimeUnit.SECONDS));
+        assertEquals(artAddress, sentPackets.poll(3, TimeUnit.SECONDS));
+        assertEquals(2, addressProgrammer.getPending());
+
+        // Replies which do not show the change yet are ignored
+        ArtPollReplyBuilder builder = new ArtPollReplyBuilder().withIpAddress(NODE_A);
+        addressProgrammer.handle(builder.build());
+        assertEquals(2, addressProgrammer.getPending());
+
+        ArtPollReply artPollReplyA = builder.withNetAddress(5).build();
+        addressProgrammer.handle(artPollReplyA);
+        assertEquals(1, addressProgrammer.getPending());
+        assertFalse(result.isDone());
+
+        ArtPollReply artPollReplyB = new ArtPollReplyBuilder().withIpAddress(NODE_B).withNetAddress(5).build();
+        addressProgrammer.handle(artPollReplyB);
+        assertEquals(0, addressProgrammer.getPending());
+
+        AddressProgrammingResult programmingResult = result.get(3, TimeUnit.SECONDS);
+        assertTrue(programmingResult.isSuccessful());
+        assertSame(artPollReplyA, programmingResult.getConfirmed().get(InetAddress.getByAddress(NODE_A)));
+        assertSame(artPollReplyB, programmingResult.getConfirmed().get(InetAddress.getByAddress(NODE_B)));
+        assertTrue(programmingResult.getFailed().isEmpty());
+
+        addressProgrammer.stop();
+        assertThrows(IllegalStateException.class, addressProgrammer::stop);
+    }
+
+    @Test
+    void retry() throws SocketException, UnknownHostException, InterruptedException, ExecutionException,
+            TimeoutException {
+
+        AddressProgrammer addressProgrammer = getNewInstance().withTimeout(50).withRetries(1);
+        addressProgrammer.start();
+
+        ArtAddress artAddress = new ArtAddressBuilder().withNetAddress(5).build();
+        HashMap<InetAddress, ArtAddress> artAddresses = new HashMap<>();
+        artAddresses.put(InetAddress.getByAddress(NODE_B), artAddress);
+
+        CompletableFuture<AddressProgrammingResult> result = addressProgrammer.program(artAddresses);
+
+        // The unconfirmed node is sent its ArtAddress once more before it fails
+        assertEquals(artAddress, sentPackets.poll(3, TimeUnit.SECONDS));
+        assertEquals(artAddress, sentPackets.poll(3, TimeUnit.SECONDS));
+
+        AddressProgrammingResult programmingResult = result.get(3, TimeUnit.SECONDS);
+        assertFalse(programmingResult.isSuccessful());
+        assertTrue(programmingResult.getConfirmed().isEmpty());
+        assertTrue(programmingResult.getFailed().contains(InetAddress.getByAddress(NODE_B)));
+        assertEquals(0, addressProgrammer.getPending());
+        assertTrue(sentPackets.isEmpty());
+
+        addressProgrammer.stop();
+    }
+}
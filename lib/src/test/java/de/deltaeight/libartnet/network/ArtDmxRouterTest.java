@@ -0,0 +1,118 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import de.deltaeight.libartnet.builders.ArtDmxBuilder;
+import de.deltaeight.libartnet.packets.ArtDmx;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ArtDmxRouterTest {
+
+    @Test
+    void routes() throws SocketException, UnknownHostException {
+
+        InetAddress address = InetAddress.getByName("127.0.0.1");
+        ArtDmxRouter artDmxRouter = new ArtDmxRouter(new ArtNetSender(new DatagramSocketMockup()));
+
+        artDmxRouter.addRoute(1, 2, address);
+        artDmxRouter.addRoute(1, 2, address);
+        artDmxRouter.addRoute(1, 3, address);
+        assertEquals(2, artDmxRouter.getRouteCount(1));
+
+        artDmxRouter.removeRoute(1, 2, address);
+        assertEquals(1, artDmxRouter.getRouteCount(1));
+
+        artDmxRouter.removeRoutes(1);
+        assertEquals(0, artDmxRouter.getRouteCount(1));
+
+        assertThrows(IllegalArgumentException.class, () -> artDmxRouter.addRoute(0x8000, 1, address));
+        assertThrows(IllegalArgumentException.class, () -> artDmxRouter.addRoute(1, -1, address));
+        assertThrows(IllegalArgumentException.class, () -> artDmxRouter.addRoute(1, 2, null));
+    }
+
+    @Test
+    void forward() throws SocketException, UnknownHostException, InterruptedException {
+
+        LinkedBlockingQueue<byte[]> sentData = new LinkedBlockingQueue<>();
+
+        DatagramSocketMockup senderSocketMockup = new DatagramSocketMockup();
+        // Sent buffers are kept without copying, as they must not be reused for later packets
+        senderSocketMockup.setOnPacketSent(packet -> sentData.add(packet.getData()));
+
+        ArtNetSender artNetSender = new ArtNetSender(senderSocketMockup);
+        InetAddress address = InetAddress.getByName("127.0.0.1");
+
+        ArtDmxRouter artDmxRouter = new ArtDmxRouter(artNetSender)
+                .withRoute(0x0123, 0x7FFF, address)
+                .withRoute(0x0123, 0x0000, address);
+
+        DatagramSocketMockup receiverSocketMockup = new DatagramSocketMockup();
+        ArtNetReceiver artNetReceiver = new ArtNetReceiver(receiverSocketMockup).withArtDmxForwarder(artDmxRouter);
+
+        artNetSender.start();
+        artNetReceiver.start();
+
+        byte[] data = {1, 2, 3, 4};
+        receiverSocketMockup.injectPacket(new ArtDmxBuilder().withPortAddress(0x0042).withData(data).build());
+        receiverSocketMockup.injectPacket(new ArtDmxBuilder().withPortAddress(0x0123).withSequence(77).withData(data)
+                .build());
+
+        byte[] first = sentData.poll(3, TimeUnit.SECONDS);
+        byte[] second = sentData.poll(3, TimeUnit.SECONDS);
+
+        byte[] packetData = new ArtDmxBuilder().withPortAddress(0x0123).withData(data).build().getBytes();
+        artDmxRouter.forward(packetData, packetData.length);
+        artDmxRouter.forward(packetData, packetData.length);
+
+        for (int i = 0; i < 4; i++) {
+            assertNotNull(sentData.poll(3, TimeUnit.SECONDS));
+        }
+
+        artNetReceiver.stop();
+        artNetSender.stop();
+
+        assertNotNull(first);
+        assertNotNull(second);
+
+        ArtDmx firstArtDmx = new ArtDmxBuilder().buildFromBytes(first);
+        assertEquals(0x7FFF, firstArtDmx.getPortAddress());
+        assertEquals(1, firstArtDmx.getSequence());
+        assertArrayEquals(data, firstArtDmx.getData());
+
+        ArtDmx secondArtDmx = new ArtDmxBuilder().buildFromBytes(second);
+        assertEquals(0x0000, secondArtDmx.getPortAddress());
+        assertEquals(1, secondArtDmx.getSequence());
+        assertArrayEquals(data, secondArtDmx.getData());
+    }
+}
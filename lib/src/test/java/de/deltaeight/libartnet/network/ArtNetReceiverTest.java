@@ -25,16 +25,26 @@ import org.junit.jupiter.api.Test;
 
 import java.net.DatagramSocket;
 import java.net.SocketException;
+import java.util.Arrays;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
+import de.deltaeight.libartnet.builders.ArtCommandBuilder;
 import de.deltaeight.libartnet.builders.ArtDmxBuilder;
+import de.deltaeight.libartnet.builders.ArtFirmwareMasterBuilder;
 import de.deltaeight.libartnet.builders.ArtNetPacketBuilder;
 import de.deltaeight.libartnet.builders.ArtPollBuilder;
 import de.deltaeight.libartnet.builders.ArtPollReplyBuilder;
 import de.deltaeight.libartnet.builders.ArtTimeCodeBuilder;
+import de.deltaeight.libartnet.builders.ArtTodDataBuilder;
+import de.deltaeight.libartnet.builders.ArtTriggerBuilder;
+import de.deltaeight.libartnet.packets.ArtDmx;
 import de.deltaeight.libartnet.packets.ArtNetPacket;
+import de.deltaeight.libartnet.packets.ArtTodData;
+import de.deltaeight.libartnet.packets.ArtTrigger;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
@@ -87,6 +97,112 @@ class ArtNetReceiverTest extends AbstractNetworkHandlerTest<ArtNetReceiver> {
         testReceiveHandler(ArtNetReceiver::withArtPollReceiveHandler, new ArtPollBuilder());
         testReceiveHandler(ArtNetReceiver::withArtPollReplyReceiveHandler, new ArtPollReplyBuilder());
         testReceiveHandler(ArtNetReceiver::withArtTimeCodeReceiveHandler, new ArtTimeCodeBuilder());
+        testReceiveHandler(ArtNetReceiver::withArtTriggerReceiveHandler, new ArtTriggerBuilder());
+        testReceiveHandler(ArtNetReceiver::withArtCommandReceiveHandler, new ArtCommandBuilder());
+        testReceiveHandler(ArtNetReceiver::withArtFirmwareMasterReceiveHandler, new ArtFirmwareMasterBuilder());
+    }
+
+    @Test
+    void priorityDispatch() throws SocketException, InterruptedException {
+
+        AtomicReference<ArtTrigger> packetReference = new AtomicReference<>();
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        CountDownLatch blockedLatch = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(1);
+
+        DatagramSocketMockup datagramSocketMockup = new DatagramSocketMockup();
+        ExecutorService workingPool = Executors.newSingleThreadExecutor();
+
+        ArtNetReceiver artNetReceiver = new ArtNetReceiver(workingPool, datagramSocketMockup)
+                .withArtDmxReceiveHandler(packet -> {
+                    try {
+                        blockedLatch.countDown();
+                        blockingLatch.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                })
+                .withArtTriggerReceiveHandler(packet -> {
+                    packetReference.set(packet);
+                    latch.countDown();
+                });
+
+        artNetReceiver.start();
+
+        // Occupy the only thread of the working pool
+        datagramSocketMockup.injectPacket(new ArtDmxBuilder().build());
+        assertThat(blockedLatch.await(3, TimeUnit.SECONDS), is(true));
+
+        ArtTrigger packet = new ArtTriggerBuilder().withKey(ArtTrigger.KEY_MACRO).withSubKey(7).build();
+        datagramSocketMockup.injectPacket(packet);
+
+        assertThat(latch.await(3, TimeUnit.SECONDS), is(true));
+        assertThat(packet, is(equalTo(packetReference.get())));
+
+        blockingLatch.countDown();
+        artNetReceiver.stop();
+        workingPool.shutdown();
+    }
+
+    @Test
+    void artDmxRouting() throws SocketException, InterruptedException {
+
+        AtomicReference<ArtDmx> packetReference = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        DatagramSocketMockup datagramSocketMockup = new DatagramSocketMockup();
+
+        PacketReceiveHandler<ArtDmx> otherHandler = packet -> packetReference.set(null);
+
+        ArtNetReceiver artNetReceiver = new ArtNetReceiver(datagramSocketMockup)
+                .withArtDmxReceiveHandler(0x0123, packet -> {
+                    packetReference.set(packet);
+                    latch.countDown();
+                })
+                .withArtDmxReceiveHandler(0x0124, otherHandler)
+                .withoutArtDmxReceiveHandler(0x0124, otherHandler);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> artNetReceiver.addArtDmxReceiveHandler(0x8000, otherHandler));
+
+        artNetReceiver.start();
+
+        datagramSocketMockup.injectPacket(new ArtDmxBuilder().withPortAddress(0x0124).build());
+        ArtDmx packet = new ArtDmxBuilder().withPortAddress(0x0123).build();
+        datagramSocketMockup.injectPacket(packet);
+
+        assertThat(latch.await(3, TimeUnit.SECONDS), is(true));
+        assertThat(packet, is(equalTo(packetReference.get())));
+    }
+
+    @Test
+    void truncatedArtTodData() throws SocketException, InterruptedException {
+
+        AtomicReference<ArtTodData> packetReference = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        DatagramSocketMockup datagramSocketMockup = new DatagramSocketMockup();
+
+        ArtNetReceiver artNetReceiver = new ArtNetReceiver(datagramSocketMockup)
+                .withArtTodDataReceiveHandler(packet -> {
+                    packetReference.compareAndSet(null, packet);
+                    latch.countDown();
+                });
+
+        artNetReceiver.start();
+
+        // The UID count exceeds the datagram, which must not be padded with phantom UIDs
+        byte[] truncated = new ArtTodDataBuilder().withPortAddress(0x0124).withUids(1, 2, 3).build().getBytes();
+        datagramSocketMockup.injectData(Arrays.copyOf(truncated, 28 + 6));
+        Thread.sleep(100);
+
+        ArtTodData packet = new ArtTodDataBuilder().withPortAddress(0x0123).withUids(1).build();
+        datagramSocketMockup.injectPacket(packet);
+
+        assertThat(latch.await(3, TimeUnit.SECONDS), is(true));
+        assertThat(packet, is(equalTo(packetReference.get())));
+
+        artNetReceiver.stop();
     }
 
     @FunctionalInterface
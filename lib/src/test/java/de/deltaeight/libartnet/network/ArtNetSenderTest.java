@@ -26,13 +26,18 @@ import de.deltaeight.libartnet.packets.ArtDmx;
 import org.junit.jupiter.api.Test;
 
 import java.net.*;
+import java.util.Arrays;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.equalToObject;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ArtNetSenderTest extends AbstractNetworkHandlerTest<ArtNetSender> {
 
@@ -69,4 +74,57 @@ class ArtNetSenderTest extends AbstractNetworkHandlerTest<ArtNetSender> {
 
         artNetSender.stop();
     }
+
+    @Test
+    final void sendToMultipleDestinations() throws SocketException, UnknownHostException, InterruptedException {
+
+        LinkedBlockingQueue<InetAddress> addresses = new LinkedBlockingQueue<>();
+        LinkedBlockingQueue<byte[]> data = new LinkedBlockingQueue<>();
+
+        DatagramSocketMockup datagramSocketMockup = new DatagramSocketMockup();
+        datagramSocketMockup.setOnPacketSent(packet -> {
+            addresses.add(packet.getAddress());
+            data.add(packet.getData());
+        });
+
+        InetAddress[] destinations = {
+                InetAddress.getByName("2.0.0.1"),
+                InetAddress.getByName("2.0.0.2"),
+                InetAddress.getByName("2.0.0.3")
+        };
+
+        ArtDmx artDmx = new ArtDmxBuilder().build();
+
+        ArtNetSender artNetSender = new ArtNetSender(datagramSocketMockup);
+        artNetSender.start();
+        artNetSender.send(Arrays.asList(destinations), artDmx);
+
+        byte[] first = data.poll(3, TimeUnit.SECONDS);
+
+        for (InetAddress destination : destinations) {
+            assertThat(addresses.poll(3, TimeUnit.SECONDS), is(equalTo(destination)));
+        }
+
+        // Encoded once, the same bytes are reused for every destination
+        assertThat(data.poll(3, TimeUnit.SECONDS), is(sameInstance(first)));
+        assertThat(first, is(equalToObject(artDmx.getBytes())));
+
+        artNetSender.stop();
+    }
+
+    @Test
+    final void broadcastAddress() throws UnknownHostException {
+
+        InetAddress address = InetAddress.getByName("10.1.2.3");
+
+        assertThat(ArtNetSender.getBroadcastAddress(address, 8), is(equalTo(InetAddress.getByName("10.255.255.255"))));
+        assertThat(ArtNetSender.getBroadcastAddress(address, 24), is(equalTo(InetAddress.getByName("10.1.2.255"))));
+        assertThat(ArtNetSender.getBroadcastAddress(address, 32), is(equalTo(address)));
+        assertThat(ArtNetSender.getBroadcastAddress(address, 0),
+                is(equalTo(InetAddress.getByName("255.255.255.255"))));
+
+        assertThrows(IllegalArgumentException.class, () -> ArtNetSender.getBroadcastAddress(address, 33));
+        assertThrows(IllegalArgumentException.class,
+                () -> ArtNetSender.getBroadcastAddress(InetAddress.getByName("::1"), 8));
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import de.deltaeight.libartnet.builders.ArtPollBuilder;
+import de.deltaeight.libartnet.builders.ArtPollReplyBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArtPollResponderTest {
+
+    @Test
+    void replies() throws SocketException, UnknownHostException, InterruptedException {
+
+        LinkedBlockingQueue<DatagramPacket> sentPackets = new LinkedBlockingQueue<>();
+
+        DatagramSocketMockup senderSocket = new DatagramSocketMockup();
+        senderSocket.setOnPacketSent(sentPackets::add);
+
+        DatagramSocketMockup receiverSocket = new DatagramSocketMockup();
+
+        ArtNetSender artNetSender = new ArtNetSender(senderSocket);
+        ArtNetReceiver artNetReceiver = new ArtNetReceiver(receiverSocket);
+
+        ArtPollReplyBuilder firstBindIndex = new ArtPollReplyBuilder().withBindIndex(1);
+        ArtPollReplyBuilder secondBindIndex = new ArtPollReplyBuilder().withBindIndex(2);
+
+        ArtPollResponder artPollResponder = new ArtPollResponder(artNetSender, artNetReceiver,
+                InetAddress.getByName("2.255.255.255"))
+                .withArtPollReplyBuilder(firstBindIndex)
+                .withArtPollReplyBuilder(secondBindIndex)
+                .withMaxReplyDelay(0);
+
+        artNetSender.start();
+        artNetReceiver.start();
+        artPollResponder.start();
+
+        assertThrows(IllegalStateException.class, artPollResponder::start);
+
+        receiverSocket.injectPacket(new ArtPollBuilder().build());
+
+        DatagramPacket first = sentPackets.poll(3, TimeUnit.SECONDS);
+        DatagramPacket second = sentPackets.poll(3, TimeUnit.SECONDS);
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertArrayEquals(firstBindIndex.build().getBytes(), first.getData());
+        assertArrayEquals(secondBindIndex.build().getBytes(), second.getData());
+        assertEquals(InetAddress.getByName("2.255.255.255"), first.getAddress());
+        assertEquals(0x1936, first.getPort());
+
+        receiverSocket.injectPacket(new ArtPollBuilder().withSendArtPollReplyOnChanges(true).build());
+
+        assertSame(first, sentPackets.poll(3, TimeUnit.SECONDS));
+        assertSame(second, sentPackets.poll(3, TimeUnit.SECONDS));
+        assertTrue(artPollResponder.sendArtPollReplyOnChanges());
+
+        artPollResponder.update();
+        assertNull(sentPackets.poll(100, TimeUnit.MILLISECONDS));
+
+        secondBindIndex.setShortName("Changed");
+        artPollResponder.update();
+
+        assertSame(first, sentPackets.poll(3, TimeUnit.SECONDS));
+
+        DatagramPacket changed = sentPackets.poll(3, TimeUnit.SECONDS);
+        assertNotNull(changed);
+        assertNotSame(second, changed);
+        assertArrayEquals(secondBindIndex.build().getBytes(), changed.getData());
+
+        artPollResponder.stop();
+        artNetReceiver.stop();
+        artNetSender.stop();
+
+        assertThrows(IllegalStateException.class, artPollResponder::stop);
+
+        // An ArtPoll handled after stopping is ignored instead of hitting the shut down scheduler
+        artPollResponder.handle(new ArtPollBuilder().build());
+        assertNull(sentPackets.poll(100, TimeUnit.MILLISECONDS));
+    }
+}
@@ -32,7 +32,7 @@ class DatagramSocketMockup extends DatagramSocket {
 
     private final int localPort;
     private boolean throwIoException;
-    private ArtNetPacket injectArtNetPacket;
+    private byte[] injectData;
     private boolean closed;
     private PacketSentHandler onPacketSent;
 
@@ -66,11 +66,11 @@ class DatagramSocketMockup extends DatagramSocket {
                 if (throwIoException) {
                     throwIoException = false;
                     throw new IOException();
-                } else if (injectArtNetPacket != null) {
-                    packet.setData(injectArtNetPacket.getBytes());
+                } else if (injectData != null) {
+                    packet.setData(injectData);
                     packet.setPort(0x1936);
-                    packet.setLength(injectArtNetPacket.getBytes().length);
-                    injectArtNetPacket = null;
+                    packet.setLength(injectData.length);
+                    injectData = null;
                     wait = false;
                 }
                 if (wait) {
@@ -91,8 +91,17 @@ class DatagramSocketMockup extends DatagramSocket {
         closed = true;
     }
 
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
     void injectPacket(ArtNetPacket packet) {
-        injectArtNetPacket = packet;
+        injectData(packet.getBytes());
+    }
+
+    void injectData(byte[] data) {
+        injectData = data;
     }
 
     void setOnPacketSent(PacketSentHandler onPacketSent) {
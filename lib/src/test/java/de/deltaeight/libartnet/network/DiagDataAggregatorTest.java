@@ -0,0 +1,143 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import de.deltaeight.libartnet.builders.ArtDiagDataBuilder;
+import de.deltaeight.libartnet.descriptors.Priority;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DiagDataAggregatorTest {
+
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final InetAddress NODE_1 = getAddress(10);
+    private static final InetAddress NODE_2 = getAddress(11);
+
+    private static InetAddress getAddress(int lastByte) {
+        try {
+            return InetAddress.getByAddress(new byte[]{2, 0, 0, (byte) lastByte});
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] getPacketData(Priority priority, String data) {
+        return new ArtDiagDataBuilder().withPriority(priority).withData(data).build().getBytes();
+    }
+
+    private static boolean aggregate(DiagDataAggregator aggregator, InetAddress source, Priority priority,
+                                     String data, long now) {
+        byte[] packetData = getPacketData(priority, data);
+        return aggregator.aggregate(source, packetData, packetData.length, now);
+    }
+
+    @Test
+    void deduplication() {
+
+        DiagDataAggregator aggregator = new DiagDataAggregator().withDeduplicationInterval(1000);
+
+        assertTrue(aggregate(aggregator, NODE_1, Priority.Low, "Fan failure", 0));
+        assertFalse(aggregate(aggregator, NODE_1, Priority.Low, "Fan failure", 500 * MILLISECOND));
+        assertFalse(aggregate(aggregator, NODE_1, Priority.Low, "Fan failure", 600 * MILLISECOND));
+        assertTrue(aggregate(aggregator, NODE_1, Priority.High, "Fan failure", 700 * MILLISECOND));
+        assertTrue(aggregate(aggregator, NODE_2, Priority.Low, "Fan failure", 800 * MILLISECOND));
+        assertFalse(aggregate(aggregator, null, Priority.Low, "Fan failure", 900 * MILLISECOND));
+        assertTrue(aggregate(aggregator, NODE_1, Priority.Low, "Fan failure", 1500 * MILLISECOND));
+
+        List<DiagnosticMessage> messages = aggregator.getMessages();
+
+        assertEquals(4, messages.size());
+        assertEquals(NODE_1, messages.get(0).getSource());
+        assertEquals("Fan failure", messages.get(0).getArtDiagData().getData());
+        assertEquals(0, messages.get(0).getSuppressed());
+        assertEquals(Priority.High, messages.get(1).getArtDiagData().getPriority());
+        assertEquals(NODE_2, messages.get(2).getSource());
+        assertEquals(2, messages.get(3).getSuppressed());
+        assertEquals(2, aggregator.getSuppressedCount());
+    }
+
+    @Test
+    void rateLimit() {
+
+        DiagDataAggregator aggregator = new DiagDataAggregator().withRate(2).withDeduplicationInterval(0);
+
+        assertTrue(aggregate(aggregator, NODE_1, Priority.Low, "1", 0));
+        assertTrue(aggregate(aggregator, NODE_1, Priority.Low, "2", 0));
+        assertFalse(aggregate(aggregator, NODE_1, Priority.Low, "3", 0));
+        assertTrue(aggregate(aggregator, NODE_2, Priority.Low, "4", 0));
+        assertFalse(aggregate(aggregator, NODE_1, Priority.Low, "5", 400 * MILLISECOND));
+        assertTrue(aggregate(aggregator, NODE_1, Priority.Low, "6", 500 * MILLISECOND));
+
+        List<DiagnosticMessage> messages = aggregator.drain();
+
+        assertEquals(4, messages.size());
+        assertEquals("6", messages.get(3).getArtDiagData().getData());
+        assertEquals(2, messages.get(3).getSuppressed());
+        assertEquals(0, aggregator.size());
+    }
+
+    @Test
+    void ringBuffer() {
+
+        DiagDataAggregator aggregator = new DiagDataAggregator(3).withDeduplicationInterval(0);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(aggregate(aggregator, NODE_1, Priority.Low, String.valueOf(i), 0));
+        }
+
+        List<DiagnosticMessage> messages = aggregator.getMessages();
+
+        assertEquals(3, messages.size());
+        assertEquals("2", messages.get(0).getArtDiagData().getData());
+        assertEquals("4", messages.get(2).getArtDiagData().getData());
+        assertEquals(2, aggregator.getOverwrittenCount());
+        assertEquals(3, aggregator.getCapacity());
+    }
+
+    @Test
+    void minimumPriority() {
+
+        DiagDataAggregator aggregator = new DiagDataAggregator().withMinimumPriority(Priority.High);
+
+        assertFalse(aggregate(aggregator, NODE_1, Priority.Medium, "Info", 0));
+        assertTrue(aggregate(aggregator, NODE_1, Priority.Critical, "Overheat", 0));
+        assertEquals(1, aggregator.size());
+    }
+
+    @Test
+    void illegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new DiagDataAggregator(0));
+        assertThrows(IllegalArgumentException.class, () -> new DiagDataAggregator().setRate(0));
+        assertThrows(IllegalArgumentException.class, () -> new DiagDataAggregator().setDeduplicationInterval(-1));
+        assertThrows(IllegalArgumentException.class, () -> new DiagDataAggregator().setMinimumPriority(null));
+    }
+}
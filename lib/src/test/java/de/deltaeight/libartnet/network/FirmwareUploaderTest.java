@@ -0,0 +1,283 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+import de.deltaeight.libartnet.builders.ArtFirmwareMasterBuilder;
+import de.deltaeight.libartnet.builders.ArtFirmwareReplyBuilder;
+import de.deltaeight.libartnet.descriptors.FirmwareMasterType;
+import de.deltaeight.libartnet.descriptors.FirmwareReplyType;
+import de.deltaeight.libartnet.packets.ArtFirmwareMaster;
+import de.deltaeight.libartnet.packets.ArtFirmwareReply;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FirmwareUploaderTest {
+
+    private static final ArtFirmwareReply BLOCK_GOOD = new ArtFirmwareReplyBuilder().build();
+    private static final ArtFirmwareReply ALL_GOOD = new ArtFirmwareReplyBuilder()
+            .withType(FirmwareReplyType.FirmAllGood).build();
+    private static final ArtFirmwareReply FAIL = new ArtFirmwareReplyBuilder()
+            .withType(FirmwareReplyType.FirmFail).build();
+
+    private final LinkedBlockingQueue<InetAddress> destinations = new LinkedBlockingQueue<>();
+    private final LinkedBlockingQueue<ArtFirmwareMaster> sentPackets = new LinkedBlockingQueue<>();
+
+    private FirmwareUploader getNewInstance() throws SocketException {
+
+        DatagramSocketMockup datagramSocketMockup = new DatagramSocketMockup();
+        datagramSocketMockup.setOnPacketSent(packet -> {
+            destinations.add(packet.getAddress());
+            sentPackets.add(new ArtFirmwareMasterBuilder()
+                    .buildFromBytes(Arrays.copyOf(packet.getData(), packet.getLength())));
+        });
+
+        ArtNetSender artNetSender = new ArtNetSender(datagramSocketMockup);
+        artNetSender.start();
+
+        return new FirmwareUploader(artNetSender, new ArtNetReceiver(new DatagramSocketMockup()));
+    }
+
+    private static Path createFirmware(int length) throws IOException {
+        byte[] firmware = new byte[length];
+        for (int i = 0; i < length; i++) {
+            firmware[i] = (byte) i;
+        }
+        return Files.write(Files.createTempFile("firmware", ".alf"), firmware);
+    }
+
+    private ArtFirmwareMaster poll(InetAddress expectedDestination) throws InterruptedException {
+        assertEquals(expectedDestination, destinations.poll(3, TimeUnit.SECONDS));
+        return sentPackets.poll(3, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void masterTypes() {
+        assertEquals(FirmwareMasterType.FirmFirst, FirmwareMasterType.getFirmwareMasterType(false, 0, 3));
+        assertEquals(FirmwareMasterType.FirmCont, FirmwareMasterType.getFirmwareMasterType(false, 1, 3));
+        assertEquals(FirmwareMasterType.FirmLast, FirmwareMasterType.getFirmwareMasterType(false, 2, 3));
+        assertEquals(FirmwareMasterType.FirmLast, FirmwareMasterType.getFirmwareMasterType(false, 0, 1));
+        assertEquals(FirmwareMasterType.UbeaFirst, FirmwareMasterType.getFirmwareMasterType(true, 0, 3));
+        assertEquals(FirmwareMasterType.UbeaCont, FirmwareMasterType.getFirmwareMasterType(true, 1, 3));
+        assertEquals(FirmwareMasterType.UbeaLast, FirmwareMasterType.getFirmwareMasterType(true, 2, 3));
+    }
+
+    @Test
+    void upload() throws IOException, InterruptedException, ExecutionException, TimeoutException {
+
+        InetAddress nodeA = InetAddress.getByName("2.0.0.1");
+        InetAddress nodeB = InetAddress.getByName("2.0.0.2");
+        Path firmware = createFirmware(2500);
+
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        try {
+            FirmwareUploader uploader = getNewInstance().withListener(new FirmwareUploadListener() {
+
+                @Override
+                public void blockAcknowledged(InetAddress node, int acknowledged, int blockCount) {
+                    events.add(node.getHostAddress() + " " + acknowledged + "/" + blockCount);
+                }
+
+                @Override
+                public void uploadCompleted(InetAddress node) {
+                    events.add(node.getHostAddress() + " completed");
+                }
+
+                @Override
+                public void uploadFailed(InetAddress node, Throwable cause) {
+                    events.add(node.getHostAddress() + " failed");
+                }
+            });
+
+            assertThrows(IllegalStateException.class, () -> uploader.upload(nodeA, firmware));
+
+            uploader.start();
+
+            Map<InetAddress, CompletableFuture<Void>> futures = uploader.upload(Arrays.asList(nodeA, nodeB), firmware);
+            assertThrows(IllegalStateException.class, () -> uploader.upload(nodeA, firmware));
+
+            ArtFirmwareMaster block = poll(nodeA);
+            assertEquals(FirmwareMasterType.FirmFirst, block.getType());
+            assertEquals(0, block.getBlockId());
+            assertEquals(1250, block.getFirmwareLength());
+            assertEquals(7, block.getData()[7]);
+            assertEquals(FirmwareMasterType.FirmFirst, poll(nodeB).getType());
+            assertEquals(2, uploader.getPending());
+
+            // Replies from unknown nodes are ignored
+            uploader.handle(InetAddress.getByName("2.0.0.3"), BLOCK_GOOD);
+
+            uploader.handle(nodeA, BLOCK_GOOD);
+            block = poll(nodeA);
+            assertEquals(FirmwareMasterType.FirmCont, block.getType());
+            assertEquals(1, block.getBlockId());
+            assertEquals((byte) 1024, block.getData()[0]);
+
+            uploader.handle(nodeA, BLOCK_GOOD);
+            block = poll(nodeA);
+            assertEquals(FirmwareMasterType.FirmLast, block.getType());
+            assertArrayEquals(new byte[]{(byte) 2499, 0}, Arrays.copyOfRange(block.getData(), 451, 453));
+
+            uploader.handle(nodeB, FAIL);
+            uploader.handle(nodeA, ALL_GOOD);
+
+            futures.get(nodeA).get(3, TimeUnit.SECONDS);
+            ExecutionException exception = assertThrows(ExecutionException.class, futures.get(nodeB)::get);
+            assertTrue(exception.getCause() instanceof IOException);
+
+            assertEquals(0, uploader.getPending());
+            assertEquals(-1, uploader.getProgress(nodeA));
+            assertEquals(Arrays.asList("2.0.0.1 1/3", "2.0.0.1 2/3", "2.0.0.2 failed", "2.0.0.1 3/3",
+                    "2.0.0.1 completed"), events);
+            assertNull(sentPackets.poll(100, TimeUnit.MILLISECONDS));
+
+            uploader.stop();
+        } finally {
+            Files.deleteIfExists(firmware);
+        }
+    }
+
+    @Test
+    void retransmission() throws IOException, InterruptedException {
+
+        InetAddress node = InetAddress.getByName("2.0.0.1");
+        Path firmware = createFirmware(4096);
+
+        try {
+            FirmwareUploader uploader = getNewInstance().withTimeout(500).withRetries(1).withWindow(2);
+            uploader.start();
+
+            CompletableFuture<Void> future = uploader.upload(node, firmware);
+
+            assertEquals(0, poll(node).getBlockId());
+            assertEquals(1, poll(node).getBlockId());
+
+            // A reply acknowledges the oldest block and moves the window
+            uploader.handle(node, BLOCK_GOOD);
+            assertEquals(2, poll(node).getBlockId());
+            assertEquals(0.25, uploader.getProgress(node));
+
+            // Blocks in flight are sent again after the timeout
+            assertEquals(1, poll(node).getBlockId());
+            assertEquals(2, poll(node).getBlockId());
+
+            ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+            assertTrue(exception.getCause() instanceof TimeoutException);
+            assertFalse(uploader.getPending() > 0);
+
+            uploader.stop();
+        } finally {
+            Files.deleteIfExists(firmware);
+        }
+    }
+
+    @Test
+    void surplusReplies() throws IOException, InterruptedException, ExecutionException, TimeoutException {
+
+        InetAddress node = InetAddress.getByName("2.0.0.1");
+        Path firmware = createFirmware(4096);
+
+        try {
+            FirmwareUploader uploader = getNewInstance().withTimeout(500).withRetries(2);
+            uploader.start();
+
+            CompletableFuture<Void> future = uploader.upload(node, firmware);
+
+            assertEquals(0, poll(node).getBlockId());
+            assertEquals(0, poll(node).getBlockId());
+
+            // The late reply and the reply to the repeated block only acknowledge a single block
+            uploader.handle(node, BLOCK_GOOD);
+            assertNull(sentPackets.poll(100, TimeUnit.MILLISECONDS));
+            uploader.handle(node, BLOCK_GOOD);
+            assertEquals(1, poll(node).getBlockId());
+            assertEquals(0.25, uploader.getProgress(node));
+
+            uploader.handle(node, BLOCK_GOOD);
+            assertEquals(2, poll(node).getBlockId());
+            assertEquals(0.5, uploader.getProgress(node));
+
+            // Surplus replies which do not arrive until the timeout are considered lost
+            assertEquals(2, poll(node).getBlockId());
+            uploader.handle(node, BLOCK_GOOD);
+            assertEquals(3, poll(node).getBlockId());
+            assertEquals(0.75, uploader.getProgress(node));
+
+            uploader.handle(node, ALL_GOOD);
+            future.get(3, TimeUnit.SECONDS);
+
+            uploader.stop();
+        } finally {
+            Files.deleteIfExists(firmware);
+        }
+    }
+
+    @Test
+    void stop() throws IOException, InterruptedException {
+
+        InetAddress node = InetAddress.getByName("2.0.0.1");
+        Path firmware = createFirmware(10);
+        Path empty = Files.createTempFile("firmware", ".alf");
+
+        try {
+            FirmwareUploader uploader = getNewInstance();
+            uploader.start();
+
+            assertThrows(IOException.class, () -> uploader.upload(node, empty));
+
+            CompletableFuture<Void> future = uploader.upload(node, firmware);
+            assertEquals(FirmwareMasterType.FirmLast, poll(node).getType());
+
+            uploader.stop();
+
+            assertTrue(future.isCompletedExceptionally());
+            assertThrows(IllegalStateException.class, uploader::stop);
+            assertThrows(IllegalStateException.class, uploader::start);
+        } finally {
+            Files.deleteIfExists(firmware);
+            Files.deleteIfExists(empty);
+        }
+    }
+}
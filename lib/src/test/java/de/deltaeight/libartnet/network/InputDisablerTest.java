@@ -0,0 +1,117 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import de.deltaeight.libartnet.builders.ArtInputBuilder;
+import de.deltaeight.libartnet.builders.ArtPollReplyBuilder;
+import de.deltaeight.libartnet.descriptors.InputStatus;
+import de.deltaeight.libartnet.descriptors.PortType;
+import de.deltaeight.libartnet.packets.ArtInput;
+import de.deltaeight.libartnet.packets.ArtPollReply;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InputDisablerTest {
+
+    private static final PortType INPUT = new PortType(false, true, PortType.Protocol.DMX512);
+    private static final InputStatus DISABLED = new InputStatus(false, false, false, false, true, false);
+
+    @Test
+    void artInput() throws SocketException, UnknownHostException {
+
+        InputDisabler inputDisabler = new InputDisabler(new ArtNetSender(new DatagramSocketMockup()),
+                new NodeDiscovery(new ArtNetSender(new DatagramSocketMockup()),
+                        new ArtNetReceiver(new DatagramSocketMockup()), InetAddress.getByName("2.255.255.255")))
+                .withConsumedPortAddress(0x0102);
+
+        ArtPollReplyBuilder builder = new ArtPollReplyBuilder()
+                .withNetAddress(0x01)
+                .withPortType(0, INPUT)
+                .withInputUniverseAddress(0, 0x02)
+                .withPortType(1, INPUT)
+                .withInputUniverseAddress(1, 0x03)
+                .withPortType(2, new PortType(true, false, PortType.Protocol.DMX512));
+
+        ArtInput artInput = inputDisabler.getArtInput(builder.build());
+        assertArrayEquals(new boolean[]{false, true, false, false}, artInput.getInputsDisabled());
+        assertEquals(3, artInput.getNumberOfPorts());
+
+        // Nothing is sent if the node already disabled unconsumed inputs
+        assertNull(inputDisabler.getArtInput(builder.withInputStatus(1, DISABLED).build()));
+
+        // Consumed inputs are enabled again
+        inputDisabler.addConsumedPortAddress(0x0103);
+        assertArrayEquals(new boolean[4], inputDisabler.getArtInput(builder.build()).getInputsDisabled());
+
+        inputDisabler.removeConsumedPortAddress(0x0103);
+        assertFalse(inputDisabler.isConsumed(0x0103));
+        assertTrue(inputDisabler.isConsumed(0x0102));
+
+        assertThrows(IllegalArgumentException.class, () -> inputDisabler.addConsumedPortAddress(0x8000));
+    }
+
+    @Test
+    void apply() throws SocketException, UnknownHostException, InterruptedException {
+
+        LinkedBlockingQueue<byte[]> sentData = new LinkedBlockingQueue<>();
+
+        DatagramSocketMockup datagramSocketMockup = new DatagramSocketMockup();
+        datagramSocketMockup.setOnPacketSent(packet -> sentData.add(Arrays.copyOf(packet.getData(),
+                packet.getLength())));
+
+        ArtNetSender artNetSender = new ArtNetSender(datagramSocketMockup);
+        NodeDiscovery nodeDiscovery = new NodeDiscovery(artNetSender, new ArtNetReceiver(new DatagramSocketMockup()),
+                InetAddress.getByName("2.255.255.255"));
+        InputDisabler inputDisabler = new InputDisabler(artNetSender, nodeDiscovery);
+
+        nodeDiscovery.addListener(inputDisabler);
+        artNetSender.start();
+
+        ArtPollReply node = new ArtPollReplyBuilder().withIpAddress(new byte[]{2, 0, 0, 1}).withPortType(0, INPUT)
+                .build();
+        nodeDiscovery.handle(node);
+
+        ArtInput artInput = new ArtInputBuilder().buildFromBytes(sentData.poll(3, TimeUnit.SECONDS));
+        assertTrue(artInput.isInputDisabled(0));
+
+        // Applying again sends again as the node did not reply with its new status yet
+        assertEquals(1, inputDisabler.apply());
+        assertFalse(inputDisabler.apply(new ArtPollReplyBuilder().withPortType(0, INPUT).withInputStatus(0, DISABLED)
+                .build()));
+
+        artNetSender.stop();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import de.deltaeight.libartnet.builders.ArtPollBuilder;
+import de.deltaeight.libartnet.packets.ArtPoll;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InterfaceManagerTest {
+
+    private static ArtNetInterface createInterface(String address, String broadcastAddress, int prefixLength,
+                                                   DatagramSocketMockup socket) throws UnknownHostException {
+        return new ArtNetInterface(null, InetAddress.getByName(address), InetAddress.getByName(broadcastAddress),
+                prefixLength, new ForkJoinPool(1), new ArtNetSender(socket),
+                new ArtNetReceiver(socket));
+    }
+
+    @Test
+    void egress() throws SocketException, UnknownHostException {
+
+        InterfaceManager interfaceManager = new InterfaceManager();
+
+        ArtNetInterface primary = createInterface("2.0.0.1", "2.255.255.255", 8, new DatagramSocketMockup());
+        ArtNetInterface secondary = createInterface("10.0.0.1", "10.255.255.255", 8, new DatagramSocketMockup());
+        DatagramSocketMockup narrowSocket = new DatagramSocketMockup();
+        ArtNetInterface narrow = createInterface("10.1.0.1", "10.1.0.255", 24, narrowSocket);
+
+        interfaceManager.addInterface(primary);
+        interfaceManager.addInterface(secondary);
+        interfaceManager.addInterface(narrow);
+
+        assertEquals(3, interfaceManager.getInterfaces().size());
+
+        assertTrue(primary.contains(InetAddress.getByName("2.255.255.255")));
+        assertFalse(primary.contains(InetAddress.getByName("3.0.0.1")));
+
+        assertSame(primary, interfaceManager.getInterface(InetAddress.getByName("2.1.2.3")));
+        assertSame(secondary, interfaceManager.getInterface(InetAddress.getByName("10.2.0.1")));
+        assertSame(narrow, interfaceManager.getInterface(InetAddress.getByName("10.1.0.200")));
+        assertNull(interfaceManager.getInterface(InetAddress.getByName("192.168.0.1")));
+
+        // Removed interfaces are closed even if they were never started
+        interfaceManager.removeInterface(narrow);
+        assertSame(secondary, interfaceManager.getInterface(InetAddress.getByName("10.1.0.200")));
+        assertTrue(narrowSocket.isClosed());
+
+        assertFalse(interfaceManager.send(InetAddress.getByName("192.168.0.1"), new ArtPollBuilder().build()));
+        DatagramSocketMockup socket = new DatagramSocketMockup();
+        assertThrows(IllegalArgumentException.class, () -> createInterface("::1", "::1", 8, socket));
+    }
+
+    @Test
+    void ingressAndSend() throws SocketException, UnknownHostException, InterruptedException {
+
+        DatagramSocketMockup primarySocket = new DatagramSocketMockup();
+        DatagramSocketMockup secondarySocket = new DatagramSocketMockup();
+
+        LinkedBlockingQueue<InetAddress> sentAddresses = new LinkedBlockingQueue<>();
+        secondarySocket.setOnPacketSent(packet -> sentAddresses.add(packet.getAddress()));
+
+        ArtNetInterface primary = createInterface("2.0.0.1", "2.255.255.255", 8, primarySocket);
+        ArtNetInterface secondary = createInterface("10.0.0.1", "10.255.255.255", 8, secondarySocket);
+
+        AtomicReference<ArtNetInterface> ingress = new AtomicReference<>();
+        LinkedBlockingQueue<ArtPoll> received = new LinkedBlockingQueue<>();
+
+        InterfaceManager interfaceManager = new InterfaceManager()
+                .withArtPollReceiveHandler((artNetInterface, packet) -> {
+                    ingress.set(artNetInterface);
+                    received.add(packet);
+                });
+
+        interfaceManager.addInterface(primary);
+        interfaceManager.addInterface(secondary);
+        interfaceManager.start();
+
+        ArtPoll artPoll = new ArtPollBuilder().build();
+        secondarySocket.injectPacket(artPoll);
+
+        assertNotNull(received.poll(3, TimeUnit.SECONDS));
+        assertSame(secondary, ingress.get());
+
+        assertTrue(interfaceManager.send(InetAddress.getByName("10.255.255.255"), artPoll));
+        assertEquals(InetAddress.getByName("10.255.255.255"), sentAddresses.poll(3, TimeUnit.SECONDS));
+
+        interfaceManager.stop();
+
+        assertThrows(IllegalStateException.class, interfaceManager::stop);
+        assertThrows(IllegalStateException.class, interfaceManager::start);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import de.deltaeight.libartnet.builders.ArtPollBuilder;
+import de.deltaeight.libartnet.builders.ArtPollReplyBuilder;
+import de.deltaeight.libartnet.packets.ArtPollReply;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NodeDiscoveryTest {
+
+    private static final byte[] NODE_IP = new byte[]{2, 0, 0, 1};
+
+    private static NodeDiscovery getNewInstance() throws SocketException, UnknownHostException {
+        return new NodeDiscovery(new ArtNetSender(new DatagramSocketMockup()),
+                new ArtNetReceiver(new DatagramSocketMockup()), InetAddress.getByName("2.255.255.255"));
+    }
+
+    @Test
+    void events() throws SocketException, UnknownHostException {
+
+        List<String> events = new ArrayList<>();
+
+        NodeDiscovery nodeDiscovery = getNewInstance().withListener(new NodeDiscoveryListener() {
+
+            @Override
+            public void nodeAdded(ArtPollReply node) {
+                events.add("added " + node.getShortName());
+            }
+
+            @Override
+            public void nodeChanged(ArtPollReply previous, ArtPollReply current) {
+                events.add("changed " + previous.getShortName() + " " + current.getShortName());
+            }
+
+            @Override
+            public void nodeRemoved(ArtPollReply node) {
+                events.add("removed " + node.getShortName());
+            }
+        });
+
+        ArtPollReplyBuilder builder = new ArtPollReplyBuilder().withIpAddress(NODE_IP).withShortName("A");
+
+        nodeDiscovery.handle(builder.build());
+        nodeDiscovery.handle(builder.build());
+        nodeDiscovery.handle(builder.buildFromBytes(builder.build().getBytes()));
+
+        assertEquals(1, nodeDiscovery.getNodes().size());
+        assertSame(builder.build(), nodeDiscovery.getNode(NODE_IP, 0));
+        assertNull(nodeDiscovery.getNode(NODE_IP, 1));
+
+        nodeDiscovery.handle(builder.withShortName("B").build());
+        nodeDiscovery.handle(builder.withBindIndex(1).build());
+
+        assertEquals(2, nodeDiscovery.getNodes().size());
+
+        nodeDiscovery.evictNodes(System.nanoTime());
+        assertEquals(2, nodeDiscovery.getNodes().size());
+
+        nodeDiscovery.evictNodes(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(nodeDiscovery.getNodeTimeout() + 1));
+        assertTrue(nodeDiscovery.getNodes().isEmpty());
+
+        assertEquals("added A", events.get(0));
+        assertEquals("changed A B", events.get(1));
+        assertEquals("added B", events.get(2));
+        assertEquals("removed B", events.get(3));
+        assertEquals("removed B", events.get(4));
+        assertEquals(5, events.size());
+    }
+
+    @Test
+    void poll() throws SocketException, UnknownHostException, InterruptedException {
+
+        AtomicReference<byte[]> sentData = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        DatagramSocketMockup datagramSocketMockup = new DatagramSocketMockup();
+        datagramSocketMockup.setOnPacketSent(packet -> {
+            sentData.set(packet.getData());
+            latch.countDown();
+        });
+
+        ArtNetSender artNetSender = new ArtNetSender(datagramSocketMockup);
+        ArtNetReceiver artNetReceiver = new ArtNetReceiver(new DatagramSocketMockup());
+
+        NodeDiscovery nodeDiscovery = new NodeDiscovery(artNetSender, artNetReceiver,
+                InetAddress.getByName("2.255.255.255")).withPollInterval(100);
+
+        artNetSender.start();
+        nodeDiscovery.start();
+
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+        assertArrayEquals(new ArtPollBuilder().withSendArtPollReplyOnChanges(true).build().getBytes(), sentData.get());
+
+        assertThrows(IllegalStateException.class, nodeDiscovery::start);
+        assertThrows(IllegalStateException.class, () -> nodeDiscovery.setPollInterval(1000));
+
+        nodeDiscovery.stop();
+        artNetSender.stop();
+
+        assertThrows(IllegalStateException.class, nodeDiscovery::stop);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PixelMapperTest {
+
+    private static int[] getChannels(Universe universe) {
+        int[] result = new int[universe.getChannelCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = universe.get(i);
+        }
+        return result;
+    }
+
+    @Test
+    void serpentine() {
+
+        PixelMapper pixelMapper = new PixelMapper(3, 2, 0x0010, PixelMapper.PixelOrder.GRB, true, 4,
+                ForkJoinPool.commonPool());
+
+        // Row 0: 1, 2, 3 - row 1: 4, 5, 6 runs backwards, so the strip reads 1, 2, 3, 6, 5, 4
+        pixelMapper.map(new int[]{0x010000, 0x020000, 0x030000, 0x000400, 0x000500, 0x000600});
+
+        Universe[] universes = pixelMapper.getUniverses();
+
+        assertEquals(2, universes.length);
+        assertEquals(0x0010, universes[0].getPortAddress());
+        assertEquals(0x0011, universes[1].getPortAddress());
+        assertEquals(12, universes[0].getChannelCount());
+
+        assertArrayEquals(new int[]{0, 1, 0, 0, 2, 0, 0, 3, 0, 6, 0, 0}, getChannels(universes[0]));
+        assertArrayEquals(new int[]{5, 0, 0, 4, 0, 0, 0, 0, 0, 0, 0, 0}, getChannels(universes[1]));
+    }
+
+    @Test
+    void byteBufferAndWhite() {
+
+        PixelMapper pixelMapper = new PixelMapper(2, 1, 0, PixelMapper.PixelOrder.RGBW, false);
+
+        ByteBuffer framebuffer = ByteBuffer.allocateDirect(8).order(ByteOrder.LITTLE_ENDIAN);
+        framebuffer.putInt(0x04010203).putInt(0x08050607).flip();
+
+        pixelMapper.map(framebuffer);
+
+        Universe universe = pixelMapper.getUniverses()[0];
+        assertEquals(128, pixelMapper.getPixelsPerUniverse());
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6, 7, 8}, Arrays.copyOf(getChannels(universe), 8));
+    }
+
+    @Test
+    void parallel() {
+
+        int width = 170;
+        int height = 100;
+
+        int[] framebuffer = new int[width * height];
+        for (int i = 0; i < framebuffer.length; i++) {
+            framebuffer[i] = i * 31;
+        }
+
+        PixelMapper pixelMapper = new PixelMapper(width, height, 0, PixelMapper.PixelOrder.RGB, false);
+        pixelMapper.map(framebuffer);
+
+        Universe[] universes = pixelMapper.getUniverses();
+        assertEquals(height, universes.length);
+
+        for (int i = 0; i < framebuffer.length; i++) {
+            Universe universe = universes[i / 170];
+            int channel = i % 170 * 3;
+            assertEquals(framebuffer[i] >> 16 & 0xFF, universe.get(channel));
+            assertEquals(framebuffer[i] >> 8 & 0xFF, universe.get(channel + 1));
+            assertEquals(framebuffer[i] & 0xFF, universe.get(channel + 2));
+        }
+    }
+
+    @Test
+    void illegalArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PixelMapper(0, 1, 0, PixelMapper.PixelOrder.RGB, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PixelMapper(170, 2, 0x7FFF, PixelMapper.PixelOrder.RGB, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PixelMapper(1, 1, 0, PixelMapper.PixelOrder.RGB, false, 171, ForkJoinPool.commonPool()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PixelMapper(2, 2, 0, PixelMapper.PixelOrder.RGB, false).map(new int[3]));
+    }
+}
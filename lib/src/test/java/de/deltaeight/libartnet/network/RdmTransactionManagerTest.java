@@ -0,0 +1,208 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+import de.deltaeight.libartnet.builders.ArtRdmBuilder;
+import de.deltaeight.libartnet.descriptors.Rdm;
+import de.deltaeight.libartnet.packets.ArtRdm;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RdmTransactionManagerTest {
+
+    private static final long CONTROLLER_UID = Rdm.toUid(0x7A70, 1);
+    private static final long DEVICE_A = Rdm.toUid(0x1234, 1);
+    private static final long DEVICE_B = Rdm.toUid(0x1234, 2);
+
+    private final LinkedBlockingQueue<ArtRdm> sentPackets = new LinkedBlockingQueue<>();
+
+    private RdmTransactionManager getNewInstance() throws SocketException {
+
+        DatagramSocketMockup datagramSocketMockup = new DatagramSocketMockup();
+        datagramSocketMockup.setOnPacketSent(packet -> sentPackets.add(new ArtRdmBuilder()
+                .buildFromBytes(Arrays.copyOf(packet.getData(), packet.getLength()))));
+
+        ArtNetSender artNetSender = new ArtNetSender(datagramSocketMockup);
+        artNetSender.start();
+
+        return new RdmTransactionManager(artNetSender, new ArtNetReceiver(new DatagramSocketMockup()),
+                CONTROLLER_UID);
+    }
+
+    private static ArtRdm getResponse(ArtRdm request, int responseType, byte[] parameterData) {
+        byte[] message = new byte[Rdm.MAX_LENGTH];
+        int length = Rdm.writeMessage(message, 0, request.getSourceUid(), request.getDestinationUid(),
+                request.getTransactionNumber(), responseType, request.getSubDevice(), request.getCommandClass() + 1,
+                request.getParameterId(), parameterData);
+        return new ArtRdmBuilder().withPortAddress(request.getPortAddress())
+                .withRdmPacket(Arrays.copyOf(message, length)).build();
+    }
+
+    private ArtRdm nextPacket() throws InterruptedException {
+        ArtRdm result = sentPackets.poll(3, TimeUnit.SECONDS);
+        assertTrue(result != null);
+        return result;
+    }
+
+    @Test
+    void pipelining() throws SocketException, UnknownHostException, InterruptedException, ExecutionException {
+
+        InetAddress node = InetAddress.getByName("2.0.0.1");
+        RdmTransactionManager manager = getNewInstance();
+
+        assertThrows(IllegalStateException.class, () -> manager.get(node, 0, DEVICE_A, 0, 0x0060, null));
+
+        manager.start();
+
+        CompletableFuture<RdmResponse> first = manager.get(node, 0x0102, DEVICE_A, 0, 0x0060, null);
+        CompletableFuture<RdmResponse> second = manager.set(node, 0x0102, DEVICE_A, 0, 0x1000, new byte[]{1});
+        CompletableFuture<RdmResponse> third = manager.get(node, 0x0102, DEVICE_B, 0, 0x0060, null);
+
+        // Different UIDs are in flight at once, the second request to a UID waits for the first
+        ArtRdm requestA = nextPacket();
+        ArtRdm requestB = nextPacket();
+        assertNull(sentPackets.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(2, manager.getOutstanding());
+
+        assertEquals(0x0102, requestA.getPortAddress());
+        assertEquals(DEVICE_A, requestA.getDestinationUid());
+        assertEquals(CONTROLLER_UID, requestA.getSourceUid());
+        assertEquals(Rdm.GET_COMMAND, requestA.getCommandClass());
+        assertEquals(DEVICE_B, requestB.getDestinationUid());
+
+        manager.handle(getResponse(requestB, Rdm.RESPONSE_TYPE_ACK, new byte[]{0x05}));
+        assertEquals(DEVICE_B, third.get().getUid());
+        assertArrayEquals(new byte[]{0x05}, third.get().getParameterData());
+        assertFalse(first.isDone());
+
+        manager.handle(getResponse(requestA, Rdm.RESPONSE_TYPE_ACK, new byte[0]));
+        assertTrue(first.get().isAcknowledged());
+
+        ArtRdm requestC = nextPacket();
+        assertEquals(Rdm.SET_COMMAND, requestC.getCommandClass());
+        assertArrayEquals(new byte[]{1}, requestC.getParameterData());
+
+        // Stale transaction numbers are ignored
+        manager.handle(getResponse(requestA, Rdm.RESPONSE_TYPE_ACK, new byte[0]));
+        assertFalse(second.isDone());
+
+        manager.handle(getResponse(requestC, Rdm.RESPONSE_TYPE_NACK_REASON, new byte[]{0x00, 0x05}));
+        assertFalse(second.get().isAcknowledged());
+        assertEquals(5, second.get().getNackReason());
+        assertEquals(0, manager.getOutstanding());
+
+        manager.stop();
+    }
+
+    @Test
+    void overflow() throws SocketException, UnknownHostException, InterruptedException, ExecutionException {
+
+        InetAddress node = InetAddress.getByName("2.0.0.1");
+        RdmTransactionManager manager = getNewInstance();
+        manager.start();
+
+        CompletableFuture<RdmResponse> future = manager.get(node, 0, DEVICE_A, 0, 0x0050, null);
+
+        manager.handle(getResponse(nextPacket(), Rdm.RESPONSE_TYPE_ACK_OVERFLOW, new byte[]{1, 2}));
+        manager.handle(getResponse(nextPacket(), Rdm.RESPONSE_TYPE_ACK, new byte[]{3}));
+
+        assertArrayEquals(new byte[]{1, 2, 3}, future.get().getParameterData());
+
+        manager.stop();
+    }
+
+    @Test
+    void ackTimer() throws SocketException, UnknownHostException, InterruptedException, ExecutionException {
+
+        InetAddress node = InetAddress.getByName("2.0.0.1");
+        RdmTransactionManager manager = getNewInstance();
+        manager.start();
+
+        // GET requests are sent again after the delay
+        CompletableFuture<RdmResponse> get = manager.get(node, 0, DEVICE_A, 0, 0x0060, null);
+        manager.handle(getResponse(nextPacket(), Rdm.RESPONSE_TYPE_ACK_TIMER, new byte[]{0x00, 0x01}));
+
+        ArtRdm resent = nextPacket();
+        assertEquals(Rdm.GET_COMMAND, resent.getCommandClass());
+        assertEquals(0x0060, resent.getParameterId());
+
+        manager.handle(getResponse(resent, Rdm.RESPONSE_TYPE_ACK, new byte[]{0x05}));
+        assertArrayEquals(new byte[]{0x05}, get.get().getParameterData());
+
+        // SET requests are never sent twice
+        CompletableFuture<RdmResponse> set = manager.set(node, 0, DEVICE_A, 0, 0x1000, new byte[]{1});
+        manager.handle(getResponse(nextPacket(), Rdm.RESPONSE_TYPE_ACK_TIMER, new byte[]{0x00, 0x01}));
+
+        ExecutionException exception = assertThrows(ExecutionException.class, set::get);
+        assertTrue(exception.getCause() instanceof IOException);
+        assertNull(sentPackets.poll(300, TimeUnit.MILLISECONDS));
+        assertEquals(0, manager.getOutstanding());
+
+        manager.stop();
+    }
+
+    @Test
+    void timeout() throws SocketException, UnknownHostException, InterruptedException {
+
+        InetAddress node = InetAddress.getByName("2.0.0.1");
+        RdmTransactionManager manager = getNewInstance().withTimeout(50).withRetries(1).withTimeout(DEVICE_B, 5000);
+
+        assertEquals(50, manager.getTimeout(DEVICE_A));
+        assertEquals(5000, manager.getTimeout(DEVICE_B));
+
+        manager.start();
+
+        CompletableFuture<RdmResponse> timedOut = manager.get(node, 0, DEVICE_A, 0, 0x0060, null);
+        CompletableFuture<RdmResponse> cancelled = manager.get(node, 0, DEVICE_B, 0, 0x0060, null);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, timedOut::get);
+        assertTrue(exception.getCause() instanceof TimeoutException);
+
+        // Initial request for both devices and a single retry for the first one
+        assertEquals(3, sentPackets.size());
+        assertFalse(cancelled.isDone());
+
+        manager.stop();
+
+        assertThrows(CancellationException.class, cancelled::get);
+        assertThrows(IllegalStateException.class, manager::stop);
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import de.deltaeight.libartnet.builders.ArtDmxBuilder;
+import de.deltaeight.libartnet.descriptors.E131;
+import de.deltaeight.libartnet.packets.ArtDmx;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SacnBridgeTest {
+
+    private static byte[] createSacnPacket(UUID cid, int universe, byte[] slots) {
+        byte[] buffer = new byte[E131.MAX_LENGTH];
+        E131.writeHeader(buffer, cid, "Console", E131.DEFAULT_PRIORITY, universe);
+        System.arraycopy(slots, 0, buffer, E131.DATA_OFFSET, slots.length);
+        return Arrays.copyOf(buffer, E131.writeSlotCount(buffer, slots.length));
+    }
+
+    @Test
+    void artNetToSacn() throws IOException, InterruptedException {
+
+        LinkedBlockingQueue<DatagramPacket> sentPackets = new LinkedBlockingQueue<>();
+
+        DatagramSocketMockup senderSocketMockup = new DatagramSocketMockup();
+        // Sent packets are kept without copying, as their buffers must not be reused for later frames
+        senderSocketMockup.setOnPacketSent(sentPackets::add);
+
+        ArtNetSender artNetSender = new ArtNetSender(senderSocketMockup);
+        SacnBridge sacnBridge = new SacnBridge(new DatagramSocketMockup(E131.PORT), artNetSender, UUID.randomUUID(),
+                "LibArtNet").withArtNetToSacn(0x0010, 17, 150);
+
+        DatagramSocketMockup receiverSocketMockup = new DatagramSocketMockup();
+        ArtNetReceiver artNetReceiver = new ArtNetReceiver(receiverSocketMockup).withArtDmxForwarder(sacnBridge);
+
+        artNetSender.start();
+        artNetReceiver.start();
+
+        byte[] data = {1, 2, 3, 4, 5, 6};
+        receiverSocketMockup.injectPacket(new ArtDmxBuilder().withPortAddress(0x0010).withData(data).build());
+
+        DatagramPacket sent = sentPackets.poll(3, TimeUnit.SECONDS);
+
+        byte[] packetData = new ArtDmxBuilder().withPortAddress(0x0010).withData(data).build().getBytes();
+        sacnBridge.forward(packetData, packetData.length);
+        sacnBridge.forward(packetData, packetData.length);
+
+        assertNotNull(sentPackets.poll(3, TimeUnit.SECONDS));
+        assertNotNull(sentPackets.poll(3, TimeUnit.SECONDS));
+
+        artNetReceiver.stop();
+        artNetSender.stop();
+
+        assertNotNull(sent);
+        assertEquals(E131.getMulticastAddress(17), sent.getAddress());
+        assertEquals(E131.PORT, sent.getPort());
+
+        byte[] bytes = sent.getData();
+        assertTrue(E131.isDataPacket(bytes, sent.getLength()));
+        assertEquals(17, E131.getUniverse(bytes));
+        assertEquals(150, E131.getPriority(bytes));
+        assertEquals(1, E131.getSequence(bytes));
+        assertArrayEquals(data, Arrays.copyOfRange(bytes, E131.DATA_OFFSET, sent.getLength()));
+    }
+
+    @Test
+    void sacnToArtNet() throws IOException, InterruptedException {
+
+        LinkedBlockingQueue<byte[]> sentData = new LinkedBlockingQueue<>();
+
+        DatagramSocketMockup senderSocketMockup = new DatagramSocketMockup();
+        senderSocketMockup.setOnPacketSent(packet -> sentData.add(packet.getData().clone()));
+
+        ArtNetSender artNetSender = new ArtNetSender(senderSocketMockup);
+        UUID cid = UUID.randomUUID();
+        DatagramSocketMockup sacnSocketMockup = new DatagramSocketMockup(E131.PORT);
+        SacnBridge sacnBridge = new SacnBridge(sacnSocketMockup, artNetSender, cid, "LibArtNet")
+                .withSacnToArtNet(1, 0x0123, InetAddress.getByName("127.0.0.1"));
+
+        artNetSender.start();
+        sacnBridge.start();
+
+        // Own packets are ignored
+        sacnSocketMockup.injectData(createSacnPacket(cid, 1, new byte[]{9, 9, 9}));
+        Thread.sleep(100);
+        sacnSocketMockup.injectData(createSacnPacket(UUID.randomUUID(), 1, new byte[]{1, 2, 3}));
+
+        byte[] sent = sentData.poll(3, TimeUnit.SECONDS);
+
+        sacnBridge.stop();
+        artNetSender.stop();
+
+        assertNotNull(sent);
+
+        ArtDmx artDmx = new ArtDmxBuilder().buildFromBytes(sent);
+        assertEquals(0x0123, artDmx.getPortAddress());
+        assertEquals(512, artDmx.getData().length);
+        assertArrayEquals(new byte[]{1, 2, 3, 0}, Arrays.copyOf(artDmx.getData(), 4));
+    }
+
+    @Test
+    void outOfOrderSacnPackets() throws IOException, InterruptedException {
+
+        LinkedBlockingQueue<byte[]> sentData = new LinkedBlockingQueue<>();
+
+        DatagramSocketMockup senderSocketMockup = new DatagramSocketMockup();
+        senderSocketMockup.setOnPacketSent(packet -> sentData.add(packet.getData().clone()));
+
+        ArtNetSender artNetSender = new ArtNetSender(senderSocketMockup);
+        DatagramSocketMockup sacnSocketMockup = new DatagramSocketMockup(E131.PORT);
+        SacnBridge sacnBridge = new SacnBridge(sacnSocketMockup, artNetSender, UUID.randomUUID(), "LibArtNet")
+                .withSacnToArtNet(1, 0x0123, InetAddress.getByName("127.0.0.1"));
+
+        UUID cid = UUID.randomUUID();
+        byte[][] packets = {
+                createSacnPacket(cid, 1, new byte[]{1}),
+                createSacnPacket(cid, 1, new byte[]{2}),
+                createSacnPacket(cid, 1, new byte[]{3}),
+                createSacnPacket(cid, 1, new byte[]{4})
+        };
+        E131.setSequence(packets[0], 255);
+        E131.setSequence(packets[1], 254);
+        E131.setSequence(packets[2], 255);
+        E131.setSequence(packets[3], 0);
+
+        artNetSender.start();
+        sacnBridge.start();
+
+        byte[][] sent = new byte[2][];
+
+        sacnSocketMockup.injectData(packets[0]);
+        sent[0] = sentData.poll(3, TimeUnit.SECONDS);
+        for (int i = 1; i < packets.length; i++) {
+            Thread.sleep(100);
+            sacnSocketMockup.injectData(packets[i]);
+        }
+        sent[1] = sentData.poll(3, TimeUnit.SECONDS);
+
+        sacnBridge.stop();
+        artNetSender.stop();
+
+        assertNotNull(sent[0]);
+        assertNotNull(sent[1]);
+        assertEquals(1, new ArtDmxBuilder().buildFromBytes(sent[0]).getData()[0]);
+
+        // The reordered and the repeated packet are dropped, the sequence number wraps around
+        assertEquals(4, new ArtDmxBuilder().buildFromBytes(sent[1]).getData()[0]);
+        assertTrue(sentData.isEmpty());
+    }
+
+    @Test
+    void illegalArguments() throws IOException {
+
+        SacnBridge sacnBridge = new SacnBridge(new DatagramSocketMockup(E131.PORT),
+                new ArtNetSender(new DatagramSocketMockup()), UUID.randomUUID(), "LibArtNet");
+        InetAddress address = InetAddress.getByName("127.0.0.1");
+
+        assertThrows(IllegalArgumentException.class, () -> sacnBridge.addArtNetToSacn(0x8000, 1));
+        assertThrows(IllegalArgumentException.class, () -> sacnBridge.addArtNetToSacn(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> sacnBridge.addArtNetToSacn(0, 1, 201));
+        assertThrows(IllegalArgumentException.class, () -> sacnBridge.addSacnToArtNet(64000, 0, address));
+        assertThrows(IllegalArgumentException.class, () -> sacnBridge.addSacnToArtNet(1, 0x8000, address));
+        assertThrows(IllegalArgumentException.class, () -> sacnBridge.addSacnToArtNet(1, 0, null));
+    }
+}
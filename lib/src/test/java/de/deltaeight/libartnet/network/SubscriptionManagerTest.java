@@ -0,0 +1,167 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import de.deltaeight.libartnet.builders.ArtDmxBuilder;
+import de.deltaeight.libartnet.builders.ArtPollReplyBuilder;
+import de.deltaeight.libartnet.descriptors.PortType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SubscriptionManagerTest {
+
+    private static final PortType OUTPUT = new PortType(true, false, PortType.Protocol.DMX512);
+    private static final PortType INPUT = new PortType(false, true, PortType.Protocol.DMX512);
+
+    private static final byte[] NODE_A = new byte[]{10, 0, 0, 1};
+    private static final byte[] NODE_B = new byte[]{10, 0, 0, 2};
+
+    @Test
+    void subscriptions() throws UnknownHostException {
+
+        SubscriptionManager subscriptionManager = new SubscriptionManager();
+
+        assertTrue(subscriptionManager.getSubscribers(0).isEmpty());
+
+        subscriptionManager.handle(new ArtPollReplyBuilder()
+                .withIpAddress(NODE_A)
+                .withNetAddress(1)
+                .withSubnetAddress(2)
+                .withPortType(0, OUTPUT)
+                .withOutputUniverseAddress(0, 3)
+                .withPortType(1, INPUT)
+                .withOutputUniverseAddress(1, 4)
+                .build());
+
+        assertEquals(Collections.singleton(InetAddress.getByAddress(NODE_A)),
+                subscriptionManager.getSubscribers(1, 2, 3));
+        assertEquals(Collections.singleton(InetAddress.getByAddress(NODE_A)),
+                subscriptionManager.getSubscribers(0x0123));
+        assertTrue(subscriptionManager.getSubscribers(1, 2, 4).isEmpty());
+
+        subscriptionManager.handle(new ArtPollReplyBuilder()
+                .withIpAddress(NODE_B)
+                .withNetAddress(1)
+                .withSubnetAddress(2)
+                .withPortType(0, OUTPUT)
+                .withOutputUniverseAddress(0, 3)
+                .build());
+
+        Set<InetAddress> expected = new HashSet<>();
+        expected.add(InetAddress.getByAddress(NODE_A));
+        expected.add(InetAddress.getByAddress(NODE_B));
+
+        assertEquals(expected, subscriptionManager.getSubscribers(1, 2, 3));
+
+        // Node A repatches its output
+        subscriptionManager.handle(new ArtPollReplyBuilder()
+                .withIpAddress(NODE_A)
+                .withNetAddress(1)
+                .withSubnetAddress(2)
+                .withPortType(0, OUTPUT)
+                .withOutputUniverseAddress(0, 5)
+                .build());
+
+        assertEquals(Collections.singleton(InetAddress.getByAddress(NODE_B)),
+                subscriptionManager.getSubscribers(1, 2, 3));
+        assertEquals(Collections.singleton(InetAddress.getByAddress(NODE_A)),
+                subscriptionManager.getSubscribers(1, 2, 5));
+
+        subscriptionManager.removeNode(NODE_B, 0);
+        assertTrue(subscriptionManager.getSubscribers(1, 2, 3).isEmpty());
+
+        subscriptionManager.clear();
+        assertTrue(subscriptionManager.getSubscribers(1, 2, 5).isEmpty());
+    }
+
+    @Test
+    void bindIndices() throws UnknownHostException {
+
+        SubscriptionManager subscriptionManager = new SubscriptionManager();
+
+        ArtPollReplyBuilder builder = new ArtPollReplyBuilder()
+                .withIpAddress(NODE_A)
+                .withPortType(0, OUTPUT)
+                .withOutputUniverseAddress(0, 1);
+
+        subscriptionManager.handle(builder.withBindIndex(1).build());
+        subscriptionManager.handle(builder.withBindIndex(2).build());
+
+        subscriptionManager.removeNode(NODE_A, 1);
+
+        assertEquals(Collections.singleton(InetAddress.getByAddress(NODE_A)),
+                subscriptionManager.getSubscribers(0, 0, 1));
+
+        subscriptionManager.removeNode(NODE_A, 2);
+
+        assertTrue(subscriptionManager.getSubscribers(0, 0, 1).isEmpty());
+    }
+
+    @Test
+    void send() throws SocketException, InterruptedException {
+
+        SubscriptionManager subscriptionManager = new SubscriptionManager();
+
+        subscriptionManager.handle(new ArtPollReplyBuilder()
+                .withIpAddress(NODE_A)
+                .withPortType(0, OUTPUT)
+                .withOutputUniverseAddress(0, 1)
+                .build());
+
+        subscriptionManager.handle(new ArtPollReplyBuilder()
+                .withIpAddress(NODE_B)
+                .withPortType(0, OUTPUT)
+                .withOutputUniverseAddress(0, 2)
+                .build());
+
+        Set<InetAddress> receivers = Collections.synchronizedSet(new HashSet<>());
+        CountDownLatch latch = new CountDownLatch(1);
+
+        DatagramSocketMockup datagramSocketMockup = new DatagramSocketMockup();
+        datagramSocketMockup.setOnPacketSent(packet -> {
+            receivers.add(packet.getAddress());
+            latch.countDown();
+        });
+
+        ArtNetSender artNetSender = new ArtNetSender(datagramSocketMockup);
+        artNetSender.start();
+
+        assertTrue(artNetSender.send(subscriptionManager, new ArtDmxBuilder().withUniverseAddress(2).build()));
+
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+        assertEquals(Collections.singleton(subscriptionManager.getSubscribers(0, 0, 2).iterator().next()), receivers);
+
+        artNetSender.stop();
+    }
+}
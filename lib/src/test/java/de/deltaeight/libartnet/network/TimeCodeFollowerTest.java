@@ -0,0 +1,95 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import org.junit.jupiter.api.Test;
+
+import de.deltaeight.libartnet.builders.ArtTimeCodeBuilder;
+import de.deltaeight.libartnet.descriptors.TimeCodeType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TimeCodeFollowerTest {
+
+    private static final long FRAME = 40_000_000L;
+
+    @Test
+    void follow() {
+
+        TimeCodeFollower follower = new TimeCodeFollower();
+        ArtTimeCodeBuilder builder = new ArtTimeCodeBuilder().withType(TimeCodeType.EBU).withHours(1);
+
+        assertSame(TimeCodeFollower.Status.Stopped, follower.getStatus(0));
+        assertEquals(0, follower.currentPosition(0));
+        assertNull(follower.getType());
+
+        long start = TimeCodeGenerator.getFrameCount(TimeCodeType.EBU, 1, 0, 0, 0);
+
+        // Packets arrive with up to a quarter frame of jitter
+        for (int i = 0; i < 100; i++) {
+            builder.setSeconds(i / 25);
+            builder.setFrames(i % 25);
+            follower.handle(builder.build(), i * FRAME + (i % 2 == 0 ? 0 : FRAME / 4));
+        }
+
+        assertSame(TimeCodeType.EBU, follower.getType());
+        assertSame(TimeCodeFollower.Status.Locked, follower.getStatus(100 * FRAME));
+        assertEquals(start + 100.5, follower.currentPosition(100 * FRAME + FRAME / 2), 0.25);
+        assertEquals(0, follower.getJumpCount());
+
+        // Dropout
+        assertSame(TimeCodeFollower.Status.Freewheeling, follower.getStatus(110 * FRAME));
+        assertEquals(start + 110, follower.currentPosition(110 * FRAME), 0.25);
+        assertSame(TimeCodeFollower.Status.Stopped, follower.getStatus(200 * FRAME));
+        assertEquals(follower.currentPosition(200 * FRAME), follower.currentPosition(300 * FRAME));
+
+        // Jump
+        follower.handle(builder.withMinutes(30).build(), 101 * FRAME);
+        assertEquals(1, follower.getJumpCount());
+        assertEquals(TimeCodeGenerator.getFrameCount(TimeCodeType.EBU, 1, 30, 3, 24),
+                follower.currentPosition(101 * FRAME));
+    }
+
+    @Test
+    void wrapAroundMidnight() {
+
+        TimeCodeFollower follower = new TimeCodeFollower();
+        ArtTimeCodeBuilder builder = new ArtTimeCodeBuilder().withType(TimeCodeType.Film);
+
+        follower.handle(builder.withHours(23).withMinutes(59).withSeconds(59).withFrames(23).build(), 0);
+        follower.handle(builder.withHours(0).withMinutes(0).withSeconds(0).withFrames(0).build(), FRAME);
+
+        assertEquals(0, follower.getJumpCount());
+        assertEquals(0.5, follower.currentPosition(FRAME + FRAME / 2 + FRAME / 12), 0.25);
+    }
+
+    @Test
+    void illegalSettings() {
+        TimeCodeFollower follower = new TimeCodeFollower();
+        assertThrows(IllegalArgumentException.class, () -> follower.setJumpThreshold(0));
+        assertThrows(IllegalArgumentException.class, () -> follower.setDropoutTimeout(0));
+        assertThrows(IllegalArgumentException.class, () -> follower.setFreewheelTimeout(0));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import de.deltaeight.libartnet.builders.ArtTimeCodeBuilder;
+import de.deltaeight.libartnet.descriptors.TimeCodeType;
+import de.deltaeight.libartnet.packets.ArtTimeCode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeCodeGeneratorTest {
+
+    private static void assertNextFrame(TimeCodeType type, int hours, int minutes, int seconds, int frames) {
+
+        byte[] bytes = new ArtTimeCodeBuilder().withType(type).withHours(hours).withMinutes(minutes)
+                .withSeconds(seconds).withFrames(frames).writeTo(new byte[19]);
+        ArtTimeCodeBuilder.incrementFrame(bytes);
+
+        long frameCount = TimeCodeGenerator.getFrameCount(type, hours, minutes, seconds, frames);
+        long framesPerDay = TimeCodeGenerator.getFrameCount(type, 24, 0, 0, 0);
+
+        assertEquals((frameCount + 1) % framesPerDay,
+                TimeCodeGenerator.getFrameCount(type, bytes[17], bytes[16], bytes[15], bytes[14]));
+    }
+
+    @Test
+    void frameCount() {
+
+        assertEquals(0, TimeCodeGenerator.getFrameCount(TimeCodeType.Film, 0, 0, 0, 0));
+        assertEquals(24 * 3600, TimeCodeGenerator.getFrameCount(TimeCodeType.Film, 1, 0, 0, 0));
+        assertEquals(25 * 86400, TimeCodeGenerator.getFrameCount(TimeCodeType.EBU, 24, 0, 0, 0));
+        assertEquals(1800, TimeCodeGenerator.getFrameCount(TimeCodeType.SMPTE, 0, 1, 0, 0));
+
+        // Drop-frame timecode skips frames 0 and 1 every minute except every tenth
+        assertEquals(1800, TimeCodeGenerator.getFrameCount(TimeCodeType.DF, 0, 1, 0, 2));
+        assertEquals(17982, TimeCodeGenerator.getFrameCount(TimeCodeType.DF, 0, 10, 0, 0));
+        assertEquals(107892, TimeCodeGenerator.getFrameCount(TimeCodeType.DF, 1, 0, 0, 0));
+
+        // Frame counts and frames incremented in place agree on dropped frame numbers
+        for (TimeCodeType type : TimeCodeType.values()) {
+            assertNextFrame(type, 0, 0, 0, 0);
+            assertNextFrame(type, 0, 0, 59, type.getFramesPerSecond() - 1);
+            assertNextFrame(type, 0, 9, 0, 2);
+            assertNextFrame(type, 0, 9, 59, type.getFramesPerSecond() - 1);
+            assertNextFrame(type, 0, 10, 0, 0);
+            assertNextFrame(type, 0, 10, 0, 1);
+            assertNextFrame(type, 23, 59, 59, type.getFramesPerSecond() - 1);
+        }
+    }
+
+    @Test
+    void frameTime() throws SocketException, UnknownHostException {
+
+        TimeCodeGenerator generator = new TimeCodeGenerator(new ArtNetSender(new DatagramSocketMockup()),
+                InetAddress.getByName("127.0.0.1"), TimeCodeType.DF);
+
+        // 30000 frames at 29.97 fps take exactly 1001 seconds, without accumulating rounding errors
+        assertEquals(1_001_000_000_000L, generator.getFrameTime(30000));
+        assertEquals(30000, generator.getFrameIndex(1_001_000_000_000L));
+        assertEquals(29999, generator.getFrameIndex(1_000_999_999_999L));
+        assertEquals(3_599_996_400_000L, generator.getFrameTime(107892));
+        assertEquals(3_003_000_000_000_000L, generator.getFrameTime(90_000_000L));
+        assertEquals(0, generator.getFrameTime(0));
+    }
+
+    @Test
+    void generate() throws SocketException, UnknownHostException, InterruptedException {
+
+        LinkedBlockingQueue<byte[]> sentData = new LinkedBlockingQueue<>();
+
+        DatagramSocketMockup datagramSocketMockup = new DatagramSocketMockup();
+        // Sent buffers are kept without copying, as they must not be patched again afterwards
+        datagramSocketMockup.setOnPacketSent(packet -> sentData.add(packet.getData()));
+
+        ArtNetSender artNetSender = new ArtNetSender(datagramSocketMockup);
+
+        TimeCodeGenerator generator = new TimeCodeGenerator(artNetSender, InetAddress.getByName("127.0.0.1"),
+                TimeCodeType.EBU).withStartTime(1, 2, 3, 24);
+
+        assertThrows(IllegalArgumentException.class, () -> generator.setStartTime(0, 0, 0, 25));
+
+        artNetSender.start();
+        generator.start();
+
+        byte[] first = sentData.poll(3, TimeUnit.SECONDS);
+        byte[] second = sentData.poll(3, TimeUnit.SECONDS);
+
+        generator.stop();
+        artNetSender.stop();
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNotSame(first, second);
+
+        ArtTimeCodeBuilder builder = new ArtTimeCodeBuilder();
+        ArtTimeCode firstTimeCode = builder.buildFromBytes(first);
+        ArtTimeCode secondTimeCode = builder.buildFromBytes(second);
+
+        long firstFrame = TimeCodeGenerator.getFrameCount(TimeCodeType.EBU, firstTimeCode.getHours(),
+                firstTimeCode.getMinutes(), firstTimeCode.getSeconds(), firstTimeCode.getFrames());
+        long secondFrame = TimeCodeGenerator.getFrameCount(TimeCodeType.EBU, secondTimeCode.getHours(),
+                secondTimeCode.getMinutes(), secondTimeCode.getSeconds(), secondTimeCode.getFrames());
+
+        // Frames are skipped rather than sent late when the worker thread was delayed
+        assertSame(TimeCodeType.EBU, firstTimeCode.getType());
+        assertTrue(firstFrame >= TimeCodeGenerator.getFrameCount(TimeCodeType.EBU, 1, 2, 3, 24));
+        assertTrue(secondFrame > firstFrame);
+        assertTrue(secondTimeCode.getFrames() < 25);
+
+        assertThrows(IllegalStateException.class, generator::stop);
+    }
+}
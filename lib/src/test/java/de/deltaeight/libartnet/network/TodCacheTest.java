@@ -0,0 +1,211 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.deltaeight.libartnet.builders.ArtTodDataBuilder;
+import de.deltaeight.libartnet.packets.ArtTodData;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TodCacheTest {
+
+    private static final byte[] NODE_A = new byte[]{2, 0, 0, 1};
+    private static final byte[] NODE_B = new byte[]{2, 0, 0, 2};
+
+    private static ArtTodData getArtTodData(int portAddress, int uidTotal, int blockCount, long... uids) {
+        return new ArtTodDataBuilder()
+                .withPortAddress(portAddress)
+                .withUidTotal(uidTotal)
+                .withBlockCount(blockCount)
+                .withUids(uids)
+                .build();
+    }
+
+    @Test
+    void incrementalUpdates() throws UnknownHostException {
+
+        InetAddress nodeA = InetAddress.getByAddress(NODE_A);
+
+        List<String> events = new ArrayList<>();
+
+        TodCache todCache = new TodCache().withListener(new TodCacheListener() {
+
+            @Override
+            public void uidAdded(int portAddress, long uid) {
+                events.add("added " + portAddress + " " + uid);
+            }
+
+            @Override
+            public void uidRemoved(int portAddress, long uid) {
+                events.add("removed " + portAddress + " " + uid);
+            }
+        });
+
+        todCache.handle(nodeA, getArtTodData(1, 3, 0, 3, 1));
+        assertArrayEquals(new long[]{1, 3}, todCache.getUids(1));
+
+        todCache.handle(nodeA, getArtTodData(1, 3, 1, 2));
+        assertArrayEquals(new long[]{1, 2, 3}, todCache.getUids(1));
+        assertEquals(3, todCache.getUidCount(1));
+        assertTrue(todCache.contains(1, 2));
+        assertFalse(todCache.contains(2, 2));
+
+        // UIDs are kept while a new table is being received and removed once it is complete
+        todCache.handle(nodeA, getArtTodData(1, 2, 0, 2));
+        assertArrayEquals(new long[]{1, 2, 3}, todCache.getUids(1));
+        todCache.handle(nodeA, getArtTodData(1, 2, 1, 4));
+        assertArrayEquals(new long[]{2, 4}, todCache.getUids(1));
+
+        todCache.handle(nodeA, new ArtTodDataBuilder().withPortAddress(1)
+                .withCommandResponse(ArtTodData.COMMAND_RESPONSE_TOD_NAK).build());
+        assertArrayEquals(new long[]{2, 4}, todCache.getUids(1));
+
+        // Art-Net is IPv4 only
+        todCache.handle(InetAddress.getByName("::1"), getArtTodData(1, 1, 0, 6));
+        todCache.handle(null, getArtTodData(1, 1, 0, 6));
+        assertArrayEquals(new long[]{2, 4}, todCache.getUids(1));
+
+        todCache.handle(nodeA, getArtTodData(0x7FFF, 1, 0, 5));
+        assertArrayEquals(new int[]{1, 0x7FFF}, todCache.getPortAddresses());
+
+        todCache.handle(nodeA, getArtTodData(1, 0, 0));
+        assertArrayEquals(new long[0], todCache.getUids(1));
+        assertArrayEquals(new int[]{0x7FFF}, todCache.getPortAddresses());
+
+        assertEquals("added 1 3", events.get(0));
+        assertEquals("added 1 1", events.get(1));
+        assertEquals("added 1 2", events.get(2));
+        assertEquals("added 1 4", events.get(3));
+        assertEquals("removed 1 1", events.get(4));
+        assertEquals("removed 1 3", events.get(5));
+        assertEquals("added 32767 5", events.get(6));
+        assertEquals("removed 1 2", events.get(7));
+        assertEquals("removed 1 4", events.get(8));
+        assertEquals(9, events.size());
+
+        todCache.clear();
+        assertArrayEquals(new int[0], todCache.getPortAddresses());
+    }
+
+    @Test
+    void sharedPortAddress() throws UnknownHostException {
+
+        InetAddress nodeA = InetAddress.getByAddress(NODE_A);
+        InetAddress nodeB = InetAddress.getByAddress(NODE_B);
+
+        List<String> events = new ArrayList<>();
+
+        TodCache todCache = new TodCache().withListener(new TodCacheListener() {
+
+            @Override
+            public void uidAdded(int portAddress, long uid) {
+                events.add("added " + uid);
+            }
+
+            @Override
+            public void uidRemoved(int portAddress, long uid) {
+                events.add("removed " + uid);
+            }
+        });
+
+        // Nodes and bind indexes sharing a Port-Address keep their own tables
+        todCache.handle(nodeA, getArtTodData(1, 2, 0, 1, 3));
+        todCache.handle(nodeB, getArtTodData(1, 2, 0, 2, 3));
+        todCache.handle(nodeB, new ArtTodDataBuilder().withBindIndex(2).withPortAddress(1).withUidTotal(1)
+                .withUids(4).build());
+        assertArrayEquals(new long[]{1, 2, 3, 4}, todCache.getUids(1));
+
+        for (int i = 0; i < 3; i++) {
+            todCache.handle(nodeA, getArtTodData(1, 2, 0, 1, 3));
+            todCache.handle(nodeB, getArtTodData(1, 2, 0, 2, 3));
+            assertArrayEquals(new long[]{1, 2, 3, 4}, todCache.getUids(1));
+        }
+
+        // A UID is only removed once no node reports it any more
+        todCache.handle(nodeA, getArtTodData(1, 1, 0, 1));
+        assertArrayEquals(new long[]{1, 2, 3, 4}, todCache.getUids(1));
+        todCache.handle(nodeB, getArtTodData(1, 1, 0, 2));
+        assertArrayEquals(new long[]{1, 2, 4}, todCache.getUids(1));
+
+        assertEquals(5, events.size());
+        assertEquals("added 1", events.get(0));
+        assertEquals("added 3", events.get(1));
+        assertEquals("added 2", events.get(2));
+        assertEquals("added 4", events.get(3));
+        assertEquals("removed 3", events.get(4));
+
+        todCache.remove(1);
+        assertArrayEquals(new int[0], todCache.getPortAddresses());
+        assertArrayEquals(new long[0], todCache.getUids(1));
+    }
+
+    @Test
+    void snapshot() throws IOException {
+
+        InetAddress nodeA = InetAddress.getByAddress(NODE_A);
+        InetAddress nodeB = InetAddress.getByAddress(NODE_B);
+
+        Path path = Files.createTempFile("tod", ".bin");
+
+        try {
+            TodCache todCache = new TodCache();
+            todCache.handle(nodeA, getArtTodData(1, 2, 0, 0x7A7012345678L, 1));
+            todCache.handle(nodeA, getArtTodData(0x0203, 1, 0, 2));
+            todCache.handle(nodeB, getArtTodData(0x0203, 1, 0, 3));
+            todCache.save(path);
+
+            TodCache loaded = new TodCache();
+            loaded.handle(nodeA, getArtTodData(5, 1, 0, 5));
+            loaded.load(path);
+
+            assertArrayEquals(new int[]{1, 0x0203}, loaded.getPortAddresses());
+            assertArrayEquals(new long[]{1, 0x7A7012345678L}, loaded.getUids(1));
+            assertArrayEquals(new long[]{2, 3}, loaded.getUids(0x0203));
+
+            // Loaded tables are updated incrementally
+            loaded.handle(nodeA, getArtTodData(1, 1, 0, 1));
+            assertArrayEquals(new long[]{1}, loaded.getUids(1));
+            loaded.handle(nodeB, getArtTodData(0x0203, 0, 0));
+            assertArrayEquals(new long[]{2}, loaded.getUids(0x0203));
+
+            Files.write(path, new byte[]{1, 2, 3, 4});
+            assertThrows(IOException.class, () -> loaded.load(path));
+            assertArrayEquals(new long[]{1}, loaded.getUids(1));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * LibArtNet
+ *
+ * Art-Net(TM) Designed by and Copyright Artistic Licence Holdings Ltd
+ *
+ * Copyright (c) 2020 Julian Rabe
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.deltaeight.libartnet.network;
+
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import de.deltaeight.libartnet.builders.ArtDmxBuilder;
+import de.deltaeight.libartnet.packets.ArtDmx;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UniverseTest {
+
+    @Test
+    void writeAndSwap() {
+
+        Universe universe = new Universe(0x0123, 8);
+
+        universe.set(0, 0x1FF);
+        universe.setShort(1, 0x1234);
+        universe.set(3, new int[]{5, 6}, 0, 2);
+        universe.set(5, new byte[]{7, 8, 9}, 1, 2);
+
+        assertEquals(0xFF, universe.get(0));
+        assertEquals(0x12, universe.get(1));
+        assertEquals(0x34, universe.get(2));
+        assertEquals(6, universe.get(4));
+        assertEquals(9, universe.get(6));
+
+        universe.swap();
+
+        // The back buffer continues with the values of the published frame
+        assertEquals(0xFF, universe.get(0));
+
+        universe.setRgb(0, 0xAABBCC);
+        universe.setRgb(1, new int[]{0x010203}, 0, 1);
+        assertEquals(0xCC, universe.get(2));
+        assertEquals(0x03, universe.get(5));
+
+        universe.fill(0);
+        assertEquals(0, universe.get(7));
+
+        assertThrows(IllegalArgumentException.class, () -> universe.set(8, 0));
+        assertThrows(IllegalArgumentException.class, () -> universe.setRgb(2, 0));
+        assertThrows(IllegalArgumentException.class, () -> universe.set(7, new int[2], 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> new Universe(0x8000));
+        assertThrows(IllegalArgumentException.class, () -> new Universe(0, 3));
+    }
+
+    @Test
+    void send() throws SocketException, UnknownHostException, InterruptedException {
+
+        LinkedBlockingQueue<byte[]> sentData = new LinkedBlockingQueue<>();
+
+        DatagramSocketMockup datagramSocketMockup = new DatagramSocketMockup();
+        datagramSocketMockup.setOnPacketSent(packet -> sentData.add(packet.getData().clone()));
+
+        ArtNetSender artNetSender = new ArtNetSender(datagramSocketMockup);
+        artNetSender.start();
+
+        InetAddress address = InetAddress.getByName("127.0.0.1");
+        Universe universe = new Universe(0x7FFF, 4);
+
+        universe.set(0, new byte[]{1, 2, 3, 4}, 0, 4);
+        universe.swap();
+        universe.set(0, 9);
+        universe.send(artNetSender, address);
+
+        byte[] first = sentData.poll(3, TimeUnit.SECONDS);
+
+        universe.swap();
+        universe.send(artNetSender, address);
+
+        byte[] second = sentData.poll(3, TimeUnit.SECONDS);
+
+        artNetSender.stop();
+
+        assertNotNull(first);
+        assertNotNull(second);
+
+        ArtDmx firstArtDmx = new ArtDmxBuilder().buildFromBytes(first);
+        assertEquals(0x7FFF, firstArtDmx.getPortAddress());
+        assertEquals(1, firstArtDmx.getSequence());
+        assertArrayEquals(new byte[]{1, 2, 3, 4}, firstArtDmx.getData());
+
+        ArtDmx secondArtDmx = new ArtDmxBuilder().buildFromBytes(second);
+        assertEquals(2, secondArtDmx.getSequence());
+        assertArrayEquals(new byte[]{9, 2, 3, 4}, secondArtDmx.getData());
+    }
+}
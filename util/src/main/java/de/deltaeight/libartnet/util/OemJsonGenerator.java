@@ -21,8 +21,11 @@
 
 package de.deltaeight.libartnet.util;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.LinkedList;
@@ -35,8 +38,13 @@ import java.util.regex.Pattern;
  * This is a nifty tool to auto-generate the {@code OemCode} enum. All you need is {@code Art-NetOemCodes.h} from
  * Artistic License Ltd. which you can obtain
  * <a href="http://artisticlicence.com/WebSiteMaster/Software/Art-Net/Art-NetOemCodes.h">here</a>. You will then need
- * to put it into the resources of this package. {@link #main(String...)} will then generate the enum under
- * {@code lib/src/main/java/de/deltaeight/libartnet/descriptors/OemCode.java}.
+ * to put it into the resources of this package. {@link #main(String...)} will then generate {@code OemCodes.json} and
+ * the compact binary table {@code OemCodes.bin} under {@code lib/src/main/resources/de/deltaeight/libartnet/descriptors/}.
+ * <p>
+ * The binary table starts with the amount of products as {@code int}, followed by one record per product: product
+ * code, OEM code, manufacturer, name, DMX outputs, DMX inputs, flags ({@code 0x01} physical DMX ports, {@code 0x02}
+ * RDM support), support email and support name. Numbers are unsigned big endian {@code short}s, strings are UTF-8
+ * prefixed with their length as unsigned {@code short}.
  *
  * @author Julian Rabe
  */
@@ -62,14 +70,18 @@ public class OemJsonGenerator {
         StringJoiner parsedLines = new StringJoiner(",\n");
         LinkedList<String> unparsedLines = new LinkedList<>();
 
+        ByteArrayOutputStream binaryEntries = new ByteArrayOutputStream();
+        DataOutputStream binaryOutput = new DataOutputStream(binaryEntries);
+
         int productCounter = 0;
 
         for (String line : lines) {
 
-            String codeEntry = createCodeEntry(line);
+            Matcher matcher = pattern.matcher(line);
 
-            if (codeEntry != null) {
-                parsedLines.add(codeEntry);
+            if (matcher.matches()) {
+                parsedLines.add(createCodeEntry(matcher));
+                writeBinaryEntry(matcher, binaryOutput);
                 productCounter++;
             } else {
                 unparsedLines.add(line);
@@ -79,7 +91,15 @@ public class OemJsonGenerator {
         Files.write(Paths.get("lib/src/main/resources/de/deltaeight/libartnet/descriptors/OemCodes.json"),
                 ("[\n" + parsedLines.toString() + "\n]").getBytes());
 
-        System.out.println("Result written to OemCodes.json!");
+        ByteArrayOutputStream binaryTable = new ByteArrayOutputStream();
+        DataOutputStream tableOutput = new DataOutputStream(binaryTable);
+        tableOutput.writeInt(productCounter);
+        binaryEntries.writeTo(tableOutput);
+
+        Files.write(Paths.get("lib/src/main/resources/de/deltaeight/libartnet/descriptors/OemCodes.bin"),
+                binaryTable.toByteArray());
+
+        System.out.println("Result written to OemCodes.json and OemCodes.bin!");
         System.out.println("Products parsed: " + productCounter);
         System.out.println("Unparsed lines:  " + unparsedLines.size());
         System.out.println();
@@ -93,38 +113,52 @@ public class OemJsonGenerator {
         }
     }
 
-    private static String createCodeEntry(String line) {
+    private static boolean isDmxPortsPhysical(Matcher matcher) {
+        try {
+            return Integer.parseInt(matcher.group(7)) > 0;
+        } catch (NumberFormatException e) {
+            return matcher.group(7).equalsIgnoreCase("y")
+                    || matcher.group(7).equalsIgnoreCase("yes")
+                    || matcher.group(7).equalsIgnoreCase("physical");
+        }
+    }
 
-        Matcher matcher = pattern.matcher(line);
-        if (matcher.matches()) {
+    private static boolean supportsRdm(Matcher matcher) {
+        return matcher.group(8).equalsIgnoreCase("y")
+                || matcher.group(8).equalsIgnoreCase("yes")
+                || matcher.group(8).equalsIgnoreCase("rdm");
+    }
 
-            boolean dmxPortsPhysical;
-            try {
-                dmxPortsPhysical = Integer.parseInt(matcher.group(7)) > 0;
-            } catch (NumberFormatException e) {
-                dmxPortsPhysical = matcher.group(7).equalsIgnoreCase("y")
-                        || matcher.group(7).equalsIgnoreCase("yes")
-                        || matcher.group(7).equalsIgnoreCase("physical");
-            }
+    private static String createCodeEntry(Matcher matcher) {
+        return "    { " +
+                "\"oemCode\": \"" + matcher.group(1) + "\", " +
+                "\"productCode\": " + Integer.parseInt(matcher.group(2), 16) + ", " +
+                "\"manufacturer\": \"" + matcher.group(3) + "\", " +
+                "\"name\": \"" + matcher.group(4) + "\", " +
+                "\"dmxOutputs\": " + Integer.parseInt(matcher.group(5)) + ", " +
+                "\"dmxInputs\": " + Integer.parseInt(matcher.group(6)) + ", " +
+                "\"dmxPortsPhysical\": \"" + isDmxPortsPhysical(matcher) + "\", " +
+                "\"supportsRdm\": \"" + supportsRdm(matcher) + "\", " +
+                "\"supportEmail\": \"" + matcher.group(9) + "\", " +
+                "\"supportName\": \"" + matcher.group(10) + "\" " +
+                "}";
+    }
 
-            boolean supportsRdm = matcher.group(8).equalsIgnoreCase("y")
-                    || matcher.group(8).equalsIgnoreCase("yes")
-                    || matcher.group(8).equalsIgnoreCase("rdm");
-
-            return "    { " +
-                    "\"oemCode\": \"" + matcher.group(1) + "\", " +
-                    "\"productCode\": " + Integer.parseInt(matcher.group(2), 16) + ", " +
-                    "\"manufacturer\": \"" + matcher.group(3) + "\", " +
-                    "\"name\": \"" + matcher.group(4) + "\", " +
-                    "\"dmxOutputs\": " + Integer.parseInt(matcher.group(5)) + ", " +
-                    "\"dmxInputs\": " + Integer.parseInt(matcher.group(6)) + ", " +
-                    "\"dmxPortsPhysical\": \"" + dmxPortsPhysical + "\", " +
-                    "\"supportsRdm\": \"" + supportsRdm + "\", " +
-                    "\"supportEmail\": \"" + matcher.group(9) + "\", " +
-                    "\"supportName\": \"" + matcher.group(10) + "\" " +
-                    "}";
-        }
+    private static void writeBinaryEntry(Matcher matcher, DataOutputStream output) throws IOException {
+        output.writeShort(Integer.parseInt(matcher.group(2), 16));
+        writeString(matcher.group(1), output);
+        writeString(matcher.group(3), output);
+        writeString(matcher.group(4), output);
+        output.writeShort(Integer.parseInt(matcher.group(5)));
+        output.writeShort(Integer.parseInt(matcher.group(6)));
+        output.writeByte((isDmxPortsPhysical(matcher) ? 0x01 : 0x00) | (supportsRdm(matcher) ? 0x02 : 0x00));
+        writeString(matcher.group(9), output);
+        writeString(matcher.group(10), output);
+    }
 
-        return null;
+    private static void writeString(String string, DataOutputStream output) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeShort(bytes.length);
+        output.write(bytes);
     }
 }